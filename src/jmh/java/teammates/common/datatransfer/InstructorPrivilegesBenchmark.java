@@ -0,0 +1,89 @@
+package teammates.common.datatransfer;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import teammates.common.util.Const;
+
+/**
+ * Measures the throughput of checking the privileges of an instructor with section and session level privileges,
+ * as done for each response when the results of a session are viewed by the instructor.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class InstructorPrivilegesBenchmark {
+
+    private static final String SESSION_NAME = "Mid-term Peer Evaluation";
+
+    @Param({"10"})
+    private int numSections;
+
+    @Param({"2000"})
+    private int numResponses;
+
+    private InstructorPrivileges privileges;
+    private String[] giverSections;
+    private String[] recipientSections;
+
+    /**
+     * Prepares the privileges of a tutor restricted in some sections and sessions, and the sections of the responses.
+     */
+    @Setup
+    public void setUp() {
+        privileges = new InstructorPrivileges(Const.InstructorPermissionRoleNames.INSTRUCTOR_PERMISSION_ROLE_TUTOR);
+        for (int i = 0; i < numSections; i += 2) {
+            privileges.updatePrivilege("Section " + i, Const.InstructorPermissions.CAN_VIEW_STUDENT_IN_SECTIONS, false);
+            privileges.updatePrivilege("Section " + i, SESSION_NAME,
+                    Const.InstructorPermissions.CAN_VIEW_SESSION_IN_SECTIONS, false);
+        }
+
+        giverSections = new String[numResponses];
+        recipientSections = new String[numResponses];
+        for (int i = 0; i < numResponses; i++) {
+            giverSections[i] = "Section " + i % numSections;
+            recipientSections[i] = "Section " + (i + 1) % numSections;
+        }
+    }
+
+    /**
+     * Checks whether the instructor can view each response, based on the sections of its giver and recipient.
+     */
+    @Benchmark
+    public int checkResponseVisibility() {
+        int numVisible = 0;
+        for (int i = 0; i < numResponses; i++) {
+            if (privileges.isAllowedForPrivilege(giverSections[i], SESSION_NAME,
+                    Const.InstructorPermissions.CAN_VIEW_SESSION_IN_SECTIONS)
+                    && privileges.isAllowedForPrivilege(recipientSections[i], SESSION_NAME,
+                    Const.InstructorPermissions.CAN_VIEW_SESSION_IN_SECTIONS)) {
+                numVisible++;
+            }
+        }
+        return numVisible;
+    }
+
+    /**
+     * Checks whether the instructor can view the session in any section, as done when the session is listed.
+     */
+    @Benchmark
+    public boolean checkSessionVisibilityInAnySection() {
+        return privileges.isAllowedForPrivilegeAnySection(SESSION_NAME,
+                Const.InstructorPermissions.CAN_VIEW_SESSION_IN_SECTIONS);
+    }
+
+}
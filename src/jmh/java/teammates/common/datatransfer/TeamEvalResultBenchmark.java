@@ -0,0 +1,77 @@
+package teammates.common.datatransfer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the throughput of calculating the contribution question results of all teams of a course,
+ * as done for each contribution question when the results of a session are viewed.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TeamEvalResultBenchmark {
+
+    @Param({"50"})
+    private int numTeams;
+
+    @Param({"5"})
+    private int teamSize;
+
+    private List<int[][]> submissionValuesOfTeams;
+
+    /**
+     * Prepares the submissions of each team, including some not sure and not submitted values.
+     */
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        submissionValuesOfTeams = new ArrayList<>();
+        for (int team = 0; team < numTeams; team++) {
+            int[][] submissionValues = new int[teamSize][teamSize];
+            for (int giver = 0; giver < teamSize; giver++) {
+                for (int recipient = 0; recipient < teamSize; recipient++) {
+                    int roll = random.nextInt(20);
+                    if (roll == 0) {
+                        submissionValues[giver][recipient] = TeamEvalResult.NSU;
+                    } else if (roll == 1) {
+                        submissionValues[giver][recipient] = TeamEvalResult.NSB;
+                    } else {
+                        submissionValues[giver][recipient] = 50 + random.nextInt(16) * 10;
+                    }
+                }
+            }
+            submissionValuesOfTeams.add(submissionValues);
+        }
+    }
+
+    /**
+     * Calculates the results of each team.
+     */
+    @Benchmark
+    public List<TeamEvalResult> calculateTeamResults() {
+        List<TeamEvalResult> results = new ArrayList<>(numTeams);
+        for (int[][] submissionValues : submissionValuesOfTeams) {
+            results.add(new TeamEvalResult(submissionValues));
+        }
+        return results;
+    }
+
+}
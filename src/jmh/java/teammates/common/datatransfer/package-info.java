@@ -0,0 +1,4 @@
+/**
+ * Contains microbenchmarks for the data transfer objects.
+ */
+package teammates.common.datatransfer;
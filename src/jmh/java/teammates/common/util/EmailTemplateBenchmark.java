@@ -0,0 +1,113 @@
+package teammates.common.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import teammates.common.util.Templates.EmailTemplates;
+
+/**
+ * Measures the cost of populating the feedback session opening email for every student of a large course,
+ * as done by {@code EmailGenerator#generateFeedbackSessionOpeningEmails}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EmailTemplateBenchmark {
+
+    @Param({"200", "2000"})
+    private int numStudents;
+
+    private String template;
+    private String additionalContactInformation;
+    private List<String[]> keyValuePairsOfStudents;
+
+    /**
+     * Prepares the template and the values to be filled in for each student.
+     */
+    @Setup
+    public void setUp() {
+        template = EmailTemplates.USER_FEEDBACK_SESSION_OPENING.replace("${status}", "is now open");
+        additionalContactInformation = Templates.populateTemplate(
+                EmailTemplates.FRAGMENT_SESSION_ADDITIONAL_CONTACT_INFORMATION,
+                "${particulars}", "team/student data (e.g. wrong team, misspelled name)",
+                "${coOwnersEmails}", "Instructor One (instructor1@example.com)",
+                "${supportEmail}", "support@example.com");
+
+        keyValuePairsOfStudents = new ArrayList<>();
+        for (int i = 0; i < numStudents; i++) {
+            String submitUrl = "https://teammates.example.com/web/sessions/submission?courseid=CS2103T-AY2223S1"
+                    + "&fsname=Peer%20Evaluation%201&key=registrationkey" + i;
+            keyValuePairsOfStudents.add(new String[] {
+                    "${userName}", "Student " + i,
+                    "${courseName}", "Software Engineering",
+                    "${courseId}", "CS2103T-AY2223S1",
+                    "${feedbackSessionName}", "Peer Evaluation 1",
+                    "${deadline}", "Sun, 30 Oct 2022, 11:59 PM SGT",
+                    "${instructorPreamble}", "",
+                    "${sessionInstructions}", "<p>Please evaluate your team members.</p>",
+                    "${submitUrl}", submitUrl,
+                    "${reportUrl}", submitUrl.replace("submission", "result"),
+                    "${feedbackAction}", "submit, edit or view",
+                    "${additionalContactInformation}", additionalContactInformation,
+            });
+        }
+    }
+
+    /**
+     * Populates the template for each student by replacing one placeholder at a time.
+     */
+    @Benchmark
+    public List<String> replaceEachPlaceholder() {
+        List<String> emailBodies = new ArrayList<>(numStudents);
+        for (String[] keyValuePairs : keyValuePairsOfStudents) {
+            String emailBody = template;
+            for (int i = 0; i < keyValuePairs.length; i += 2) {
+                emailBody = emailBody.replace(keyValuePairs[i], keyValuePairs[i + 1]);
+            }
+            emailBodies.add(emailBody);
+        }
+        return emailBodies;
+    }
+
+    /**
+     * Compiles the template once, then populates it for each student in a single pass.
+     */
+    @Benchmark
+    public List<String> renderCompiledTemplate() {
+        CompiledTemplate compiledTemplate = CompiledTemplate.compile(template);
+        List<String> emailBodies = new ArrayList<>(numStudents);
+        for (String[] keyValuePairs : keyValuePairsOfStudents) {
+            emailBodies.add(compiledTemplate.render(keyValuePairs));
+        }
+        return emailBodies;
+    }
+
+    /**
+     * Populates the template for each student through {@link Templates#populateTemplate}, as done in production.
+     */
+    @Benchmark
+    public List<String> populateTemplate() {
+        List<String> emailBodies = new ArrayList<>(numStudents);
+        for (String[] keyValuePairs : keyValuePairsOfStudents) {
+            emailBodies.add(Templates.populateTemplate(template, keyValuePairs));
+        }
+        return emailBodies;
+    }
+
+}
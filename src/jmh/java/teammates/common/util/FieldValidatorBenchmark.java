@@ -0,0 +1,82 @@
+package teammates.common.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import teammates.common.datatransfer.attributes.StudentAttributes;
+
+/**
+ * Measures the throughput of validating the fields of the students enrolled into a course,
+ * as done by {@code EnrollStudentsAction} for an enrollment of up to 5,000 rows.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FieldValidatorBenchmark {
+
+    @Param({"200", "5000"})
+    private int numStudents;
+
+    private List<StudentAttributes> students;
+
+    /**
+     * Prepares the students to be enrolled, one in ten of which has invalid fields.
+     */
+    @Setup
+    public void setUp() {
+        students = new ArrayList<>();
+        for (int i = 0; i < numStudents; i++) {
+            boolean isInvalid = i % 10 == 0;
+            String email = isInvalid ? "student" + i + "@@example" : "student" + i + "@example.com";
+            String teamName = isInvalid ? "|Team " + i / 5 : "Team " + i / 5;
+            students.add(StudentAttributes.builder("CS2103T-AY2223S1", email)
+                    .withName("Student " + i)
+                    .withTeamName(teamName)
+                    .withSectionName("Section " + i / 20)
+                    .withComment("Joined the course late")
+                    .withGoogleId("student" + i + ".google")
+                    .build());
+        }
+    }
+
+    /**
+     * Validates all fields of each student.
+     */
+    @Benchmark
+    public List<List<String>> validateStudents() {
+        List<List<String>> invalidityInfos = new ArrayList<>(numStudents);
+        for (StudentAttributes student : students) {
+            invalidityInfos.add(student.getInvalidityInfo());
+        }
+        return invalidityInfos;
+    }
+
+    /**
+     * Validates the email of each student, which is checked against a regular expression.
+     */
+    @Benchmark
+    public List<String> validateEmails() {
+        List<String> invalidityInfos = new ArrayList<>(numStudents);
+        for (StudentAttributes student : students) {
+            invalidityInfos.add(FieldValidator.getInvalidityInfoForEmail(student.getEmail()));
+        }
+        return invalidityInfos;
+    }
+
+}
@@ -0,0 +1,101 @@
+package teammates.common.util;
+
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.google.common.reflect.TypeToken;
+
+import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
+import teammates.common.datatransfer.attributes.StudentAttributes;
+import teammates.common.datatransfer.questions.FeedbackTextResponseDetails;
+
+/**
+ * Measures the throughput of serializing and deserializing typical payloads with {@link JsonUtils}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JsonUtilsBenchmark {
+
+    private static final Type RESPONSE_LIST_TYPE = new TypeToken<List<FeedbackResponseAttributes>>() {}.getType();
+
+    @Param({"100", "1000"})
+    private int numEntities;
+
+    private List<StudentAttributes> students;
+    private List<FeedbackResponseAttributes> responses;
+    private String responsesJson;
+
+    /**
+     * Prepares a roster and a list of responses of the given size, and the JSON of the responses.
+     */
+    @Setup
+    public void setUp() {
+        students = new ArrayList<>();
+        responses = new ArrayList<>();
+        for (int i = 0; i < numEntities; i++) {
+            String email = "student" + i + "@example.com";
+            students.add(StudentAttributes.builder("CS2103T-AY2223S1", email)
+                    .withName("Student " + i)
+                    .withTeamName("Team " + i / 5)
+                    .withSectionName("Section " + i / 20)
+                    .withComment("")
+                    .build());
+
+            FeedbackResponseAttributes response = FeedbackResponseAttributes
+                    .builder("question1", email, "student" + (i + 1) % numEntities + "@example.com")
+                    .withCourseId("CS2103T-AY2223S1")
+                    .withFeedbackSessionName("Peer Evaluation 1")
+                    .withGiverSection("Section " + i / 20)
+                    .withRecipientSection("Section " + (i + 1) % numEntities / 20)
+                    .withResponseDetails(new FeedbackTextResponseDetails(
+                            "<p>Student " + i + " contributed well to the project and met every deadline.</p>"))
+                    .build();
+            response.setId("response" + i);
+            responses.add(response);
+        }
+        responsesJson = JsonUtils.toCompactJson(responses);
+    }
+
+    /**
+     * Serializes the roster, which consists of plain fields only.
+     */
+    @Benchmark
+    public String serializeStudents() {
+        return JsonUtils.toCompactJson(students);
+    }
+
+    /**
+     * Serializes the responses, which goes through the polymorphic response details adapter.
+     */
+    @Benchmark
+    public String serializeResponses() {
+        return JsonUtils.toCompactJson(responses);
+    }
+
+    /**
+     * Deserializes the responses, which goes through the polymorphic response details adapter.
+     */
+    @Benchmark
+    public List<FeedbackResponseAttributes> deserializeResponses() {
+        return JsonUtils.fromJson(responsesJson, RESPONSE_LIST_TYPE);
+    }
+
+}
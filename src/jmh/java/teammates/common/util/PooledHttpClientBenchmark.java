@@ -0,0 +1,105 @@
+package teammates.common.util;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.http.client.methods.CloseableHttpResponse;
+import org.apache.http.client.methods.HttpPost;
+import org.apache.http.entity.StringEntity;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.HttpClients;
+import org.apache.http.util.EntityUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * Measures the cost of sending a typical email request to a local stub server
+ * through the pooled client, compared to a new client per request.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Dsun.net.httpserver.nodelay=true")
+public class PooledHttpClientBenchmark {
+
+    private static final String EMAIL_JSON = "{\"to\":\"student@example.com\",\"subject\":\"Feedback session reminder\"}";
+
+    private HttpServer stubServer;
+    private String stubServerUrl;
+    private CloseableHttpClient pooledClient;
+
+    /**
+     * Starts the stub server and creates the pooled client.
+     */
+    @Setup
+    public void setUp() throws IOException {
+        stubServer = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        stubServer.createContext("/send", exchange -> {
+            try (InputStream requestBody = exchange.getRequestBody()) {
+                requestBody.readAllBytes();
+            }
+            byte[] response = "{\"message\":\"Queued\"}".getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(202, response.length);
+            try (OutputStream responseBody = exchange.getResponseBody()) {
+                responseBody.write(response);
+            }
+        });
+        stubServer.start();
+        stubServerUrl = "http://localhost:" + stubServer.getAddress().getPort() + "/send";
+        pooledClient = PooledHttpClient.createClient(PooledHttpClient.createConnectionManager(10, 5), 5000, 5000);
+    }
+
+    /**
+     * Closes the pooled client and stops the stub server.
+     */
+    @TearDown
+    public void tearDown() throws IOException {
+        pooledClient.close();
+        stubServer.stop(0);
+    }
+
+    /**
+     * Sends the request through a kept-alive connection of the pooled client.
+     */
+    @Benchmark
+    public int sendWithPooledClient() throws IOException {
+        return send(pooledClient);
+    }
+
+    /**
+     * Sends the request through a new client, as the external services used to do.
+     */
+    @Benchmark
+    public int sendWithClientPerRequest() throws IOException {
+        try (CloseableHttpClient client = HttpClients.createDefault()) {
+            return send(client);
+        }
+    }
+
+    private int send(CloseableHttpClient client) throws IOException {
+        HttpPost post = new HttpPost(stubServerUrl);
+        post.setEntity(new StringEntity(EMAIL_JSON, Const.ENCODING));
+        try (CloseableHttpResponse response = client.execute(post)) {
+            EntityUtils.consume(response.getEntity());
+            return response.getStatusLine().getStatusCode();
+        }
+    }
+
+}
@@ -0,0 +1,124 @@
+package teammates.common.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the throughput of sanitizing the rich-text and plain-text inputs saved with feedback responses,
+ * questions and session instructions.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SanitizationHelperBenchmark {
+
+    @Param({"100"})
+    private int numInputs;
+
+    private List<String> richTextInputs;
+    private List<String> plainTextInputs;
+    private List<String> commentInputs;
+    private long numInvocations;
+
+    /**
+     * Prepares the inputs, some of which contain markup that is removed or escaped by sanitization.
+     */
+    @Setup
+    public void setUp() {
+        richTextInputs = new ArrayList<>();
+        plainTextInputs = new ArrayList<>();
+        commentInputs = new ArrayList<>();
+        for (int i = 0; i < numInputs; i++) {
+            if (i % 4 == 0) {
+                richTextInputs.add("<p>Student " + i + " <script>alert('x')</script>did "
+                        + "<b onclick=\"steal()\">well</b> in the <a href=\"javascript:void(0)\">project</a>.</p>");
+                plainTextInputs.add("  Student " + i + " said \"5 > 3\" & left  ");
+            } else {
+                richTextInputs.add("<p>Student " + i + " contributed <strong>consistently</strong> to the project "
+                        + "and helped the team meet every deadline.</p><ul><li>Testing</li><li>Docs</li></ul>");
+                plainTextInputs.add("Student " + i + " contributed consistently to the project");
+            }
+            commentInputs.add("Thanks, student " + i + "! Please explain your choice of design (see slide 3);\n"
+                    + "it is not clear why the tests were skipped.");
+        }
+    }
+
+    /**
+     * Sanitizes the same inputs as rich text repeatedly, as done when text responses are read,
+     * or when question descriptions are saved again without changes.
+     */
+    @Benchmark
+    public List<String> sanitizeForRichText() {
+        List<String> sanitized = new ArrayList<>(numInputs);
+        for (String input : richTextInputs) {
+            sanitized.add(SanitizationHelper.sanitizeForRichText(input));
+        }
+        return sanitized;
+    }
+
+    /**
+     * Sanitizes inputs as rich text which have not been sanitized before, as done when new text responses
+     * and question descriptions are saved.
+     */
+    @Benchmark
+    public List<String> sanitizeNewRichText() {
+        List<String> sanitized = new ArrayList<>(numInputs);
+        for (String input : richTextInputs) {
+            sanitized.add(SanitizationHelper.sanitizeForRichText(input + numInvocations++));
+        }
+        return sanitized;
+    }
+
+    /**
+     * Sanitizes plain-text comments, which contain no markup, as rich text, as done when saving comments.
+     */
+    @Benchmark
+    public List<String> sanitizePlainTextCommentsForRichText() {
+        List<String> sanitized = new ArrayList<>(numInputs);
+        for (String input : commentInputs) {
+            sanitized.add(SanitizationHelper.sanitizeForRichText(input));
+        }
+        return sanitized;
+    }
+
+    /**
+     * Escapes the inputs for inserting into HTML, as done when generating emails.
+     */
+    @Benchmark
+    public List<String> sanitizeForHtml() {
+        List<String> sanitized = new ArrayList<>(numInputs);
+        for (String input : plainTextInputs) {
+            sanitized.add(SanitizationHelper.sanitizeForHtml(input));
+        }
+        return sanitized;
+    }
+
+    /**
+     * Removes extra whitespace from the inputs, as done for names and titles.
+     */
+    @Benchmark
+    public List<String> sanitizeName() {
+        List<String> sanitized = new ArrayList<>(numInputs);
+        for (String input : plainTextInputs) {
+            sanitized.add(SanitizationHelper.sanitizeName(input));
+        }
+        return sanitized;
+    }
+
+}
@@ -0,0 +1,98 @@
+package teammates.common.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import teammates.common.exception.InvalidParametersException;
+
+/**
+ * Measures the throughput of the cryptographic helpers, as used to generate the join links in the emails
+ * sent to every student of a large course, and to verify registration keys and user cookies.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(4)
+public class StringHelperBenchmark {
+
+    private static final String COURSE_ID = "CS2103T-AY2223S1";
+
+    @Param({"1000"})
+    private int numStudents;
+
+    private List<String> registrationKeys;
+
+    /**
+     * Prepares the registration key of each student.
+     */
+    @Setup
+    public void setUp() {
+        registrationKeys = new ArrayList<>(numStudents);
+        for (int i = 0; i < numStudents; i++) {
+            registrationKeys.add(StringHelper.encrypt(getUniqueId(i) + "%" + i));
+        }
+    }
+
+    private static String getUniqueId(int index) {
+        return "student" + index + "@example.com%" + COURSE_ID;
+    }
+
+    /**
+     * Generates the registration key and the join link of each student, as done when the students are enrolled
+     * and the join links are emailed to them.
+     */
+    @Benchmark
+    public List<String> generateJoinLinks() {
+        List<String> joinLinks = new ArrayList<>(numStudents);
+        for (int i = 0; i < numStudents; i++) {
+            String registrationKey = StringHelper.encrypt(getUniqueId(i) + "%" + i);
+            joinLinks.add(Config.getFrontEndAppUrl(Const.WebPageURIs.JOIN_PAGE)
+                    .withRegistrationKey(registrationKey)
+                    .withEntityType(Const.EntityType.STUDENT)
+                    .toString());
+        }
+        return joinLinks;
+    }
+
+    /**
+     * Decrypts the registration key of each student, as done when a student opens a join link.
+     */
+    @Benchmark
+    public List<String> decryptRegistrationKeys() throws InvalidParametersException {
+        List<String> decryptedKeys = new ArrayList<>(numStudents);
+        for (String registrationKey : registrationKeys) {
+            decryptedKeys.add(StringHelper.decrypt(registrationKey));
+        }
+        return decryptedKeys;
+    }
+
+    /**
+     * Signs the ID of each student, as done for the verification code of every user cookie.
+     */
+    @Benchmark
+    public List<String> generateSignatures() {
+        List<String> signatures = new ArrayList<>(numStudents);
+        for (int i = 0; i < numStudents; i++) {
+            signatures.add(StringHelper.generateSignature(getUniqueId(i)));
+        }
+        return signatures;
+    }
+
+}
@@ -0,0 +1,99 @@
+package teammates.common.util;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.google.common.reflect.TypeToken;
+
+import teammates.common.datatransfer.logs.LogSeverity;
+import teammates.common.datatransfer.logs.RequestLogDetails;
+import teammates.common.datatransfer.logs.RequestLogUser;
+import teammates.common.datatransfer.logs.SourceLocation;
+
+/**
+ * Measures the cost of producing the structured payload of a typical request log line.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StructuredLogWriterBenchmark {
+
+    private Map<String, Object> basePayload;
+    private RequestLogDetails details;
+
+    /**
+     * Prepares the payload of a typical request log line.
+     */
+    @Setup
+    public void setUp() {
+        basePayload = new LinkedHashMap<>();
+        basePayload.put("message", "[200] [35ms] [GET /webapi/course] GetCourseAction");
+        basePayload.put("severity", LogSeverity.INFO);
+        basePayload.put("logging.googleapis.com/sourceLocation",
+                new SourceLocation("teammates.ui.servlets.WebApiServlet", 112L, "invokeServlet"));
+        basePayload.put("logging.googleapis.com/trace", "projects/teammates/traces/0123456789abcdef");
+
+        Map<String, Object> requestParams = new HashMap<>();
+        requestParams.put("courseid", "CS2103T-AY2223S1");
+        requestParams.put("entitytype", "instructor");
+
+        Map<String, Object> requestHeaders = new HashMap<>();
+        requestHeaders.put("accept", "application/json, text/plain, */*");
+        requestHeaders.put("accept-language", "en-US,en;q=0.9");
+        requestHeaders.put("x-web-version", "8.0.0");
+
+        RequestLogUser userInfo = new RequestLogUser();
+        userInfo.setGoogleId("instructor.googleid");
+        userInfo.setEmail("instructor@example.com");
+
+        details = new RequestLogDetails();
+        details.setResponseStatus(200);
+        details.setResponseTime(35);
+        details.setRequestMethod("GET");
+        details.setRequestUrl("/webapi/course");
+        details.setUserAgent("Mozilla/5.0 (X11; Linux x86_64) AppleWebKit/537.36 (KHTML, like Gecko)");
+        details.setInstanceId("dev_server_instance_id");
+        details.setWebVersion("8.0.0");
+        details.setRequestParams(requestParams);
+        details.setRequestHeaders(requestHeaders);
+        details.setActionClass("GetCourseAction");
+        details.setUserInfo(userInfo);
+    }
+
+    /**
+     * Serializes the details, parses them back into a map, merges them into the base payload and serializes again.
+     */
+    @Benchmark
+    public String mergeByRoundTrip() {
+        Map<String, Object> payload = new HashMap<>(basePayload);
+        Map<String, Object> detailsSpecificPayload =
+                JsonUtils.fromJson(JsonUtils.toCompactJson(details), new TypeToken<Map<String, Object>>(){}.getType());
+        payload.putAll(detailsSpecificPayload);
+        return JsonUtils.toCompactJson(payload);
+    }
+
+    /**
+     * Streams the details and the base payload in a single pass.
+     */
+    @Benchmark
+    public String writeInSinglePass() {
+        return StructuredLogWriter.toJson(basePayload, details);
+    }
+
+}
@@ -0,0 +1,4 @@
+/**
+ * Contains microbenchmarks for the utility classes.
+ */
+package teammates.common.util;
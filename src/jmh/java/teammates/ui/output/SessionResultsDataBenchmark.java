@@ -0,0 +1,163 @@
+package teammates.ui.output;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import teammates.common.datatransfer.CourseRoster;
+import teammates.common.datatransfer.FeedbackParticipantType;
+import teammates.common.datatransfer.SessionResultsBundle;
+import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
+import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
+import teammates.common.datatransfer.attributes.InstructorAttributes;
+import teammates.common.datatransfer.attributes.StudentAttributes;
+import teammates.common.datatransfer.questions.FeedbackContributionQuestionDetails;
+import teammates.common.datatransfer.questions.FeedbackContributionResponseDetails;
+import teammates.common.datatransfer.questions.FeedbackQuestionDetails;
+import teammates.common.datatransfer.questions.FeedbackResponseDetails;
+import teammates.common.datatransfer.questions.FeedbackTextQuestionDetails;
+import teammates.common.datatransfer.questions.FeedbackTextResponseDetails;
+
+/**
+ * Measures the throughput of building the results of a peer evaluation session for an instructor,
+ * from a results bundle held in memory.
+ *
+ * <p>The session has a text question and a contribution question, both answered by every student
+ * for each member of their team.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SessionResultsDataBenchmark {
+
+    private static final String COURSE_ID = "CS2103T-AY2223S1";
+    private static final String SESSION_NAME = "Peer Evaluation 1";
+    private static final int TEAM_SIZE = 5;
+    private static final int NUM_STUDENTS_PER_SECTION = 20;
+
+    @Param({"100", "500"})
+    private int numStudents;
+
+    private SessionResultsBundle bundle;
+
+    /**
+     * Prepares the roster, the questions and the responses of the session.
+     */
+    @Setup
+    public void setUp() {
+        List<StudentAttributes> students = new ArrayList<>();
+        for (int i = 0; i < numStudents; i++) {
+            students.add(StudentAttributes.builder(COURSE_ID, getStudentEmail(i))
+                    .withName("Student " + i)
+                    .withTeamName("Team " + i / TEAM_SIZE)
+                    .withSectionName(getSectionName(i))
+                    .withComment("")
+                    .build());
+        }
+        List<InstructorAttributes> instructors = new ArrayList<>();
+        instructors.add(InstructorAttributes.builder(COURSE_ID, "instructor@example.com")
+                .withName("Instructor")
+                .build());
+        CourseRoster roster = new CourseRoster(students, instructors);
+
+        FeedbackQuestionAttributes textQuestion = createQuestion("question1", 1,
+                new FeedbackTextQuestionDetails("How did your teammate perform?"),
+                FeedbackParticipantType.OWN_TEAM_MEMBERS);
+        FeedbackQuestionAttributes contributionQuestion = createQuestion("question2", 2,
+                new FeedbackContributionQuestionDetails("How much did each member contribute?"),
+                FeedbackParticipantType.OWN_TEAM_MEMBERS_INCLUDING_SELF);
+        Map<String, FeedbackQuestionAttributes> questionsMap = new LinkedHashMap<>();
+        questionsMap.put(textQuestion.getId(), textQuestion);
+        questionsMap.put(contributionQuestion.getId(), contributionQuestion);
+
+        List<FeedbackResponseAttributes> responses = new ArrayList<>();
+        Map<String, Boolean> visibilityTable = new HashMap<>();
+        for (int giver = 0; giver < numStudents; giver++) {
+            int teamStart = giver / TEAM_SIZE * TEAM_SIZE;
+            for (int recipient = teamStart; recipient < Math.min(teamStart + TEAM_SIZE, numStudents); recipient++) {
+                if (recipient != giver) {
+                    responses.add(createResponse(textQuestion, giver, recipient,
+                            new FeedbackTextResponseDetails("<p>Student " + recipient + " did well.</p>")));
+                }
+                FeedbackContributionResponseDetails contributionDetails = new FeedbackContributionResponseDetails();
+                contributionDetails.setAnswer(70 + (giver + recipient) % 7 * 10);
+                responses.add(createResponse(contributionQuestion, giver, recipient, contributionDetails));
+            }
+        }
+        for (FeedbackResponseAttributes response : responses) {
+            visibilityTable.put(response.getId(), true);
+        }
+
+        bundle = new SessionResultsBundle(questionsMap, new HashMap<>(), new HashSet<>(), responses,
+                new ArrayList<>(), visibilityTable, visibilityTable, new HashMap<>(), new HashMap<>(), roster);
+    }
+
+    private static String getStudentEmail(int index) {
+        return "student" + index + "@example.com";
+    }
+
+    private static String getSectionName(int index) {
+        return "Section " + index / NUM_STUDENTS_PER_SECTION;
+    }
+
+    private static FeedbackQuestionAttributes createQuestion(String id, int questionNumber,
+            FeedbackQuestionDetails questionDetails, FeedbackParticipantType recipientType) {
+        List<FeedbackParticipantType> instructorsOnly = List.of(FeedbackParticipantType.INSTRUCTORS);
+        FeedbackQuestionAttributes question = FeedbackQuestionAttributes.builder()
+                .withCourseId(COURSE_ID)
+                .withFeedbackSessionName(SESSION_NAME)
+                .withQuestionNumber(questionNumber)
+                .withQuestionDetails(questionDetails)
+                .withGiverType(FeedbackParticipantType.STUDENTS)
+                .withRecipientType(recipientType)
+                .withNumberOfEntitiesToGiveFeedbackTo(TEAM_SIZE)
+                .withShowResponsesTo(instructorsOnly)
+                .withShowGiverNameTo(instructorsOnly)
+                .withShowRecipientNameTo(instructorsOnly)
+                .build();
+        question.setId(id);
+        return question;
+    }
+
+    private static FeedbackResponseAttributes createResponse(FeedbackQuestionAttributes question, int giver,
+            int recipient, FeedbackResponseDetails responseDetails) {
+        FeedbackResponseAttributes response = FeedbackResponseAttributes
+                .builder(question.getId(), getStudentEmail(giver), getStudentEmail(recipient))
+                .withCourseId(COURSE_ID)
+                .withFeedbackSessionName(SESSION_NAME)
+                .withGiverSection(getSectionName(giver))
+                .withRecipientSection(getSectionName(recipient))
+                .withResponseDetails(responseDetails)
+                .build();
+        response.setId(question.getId() + "%" + giver + "%" + recipient);
+        return response;
+    }
+
+    /**
+     * Builds the results of the session for an instructor, including the statistics of each question.
+     */
+    @Benchmark
+    public SessionResultsData initForInstructor() {
+        return SessionResultsData.initForInstructor(bundle);
+    }
+
+}
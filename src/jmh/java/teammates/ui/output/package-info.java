@@ -0,0 +1,4 @@
+/**
+ * Contains microbenchmarks for the construction of API outputs.
+ */
+package teammates.ui.output;
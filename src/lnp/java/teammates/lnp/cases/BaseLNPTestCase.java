@@ -22,9 +22,13 @@ import org.apache.jmeter.report.dashboard.ReportGenerator;
 import org.apache.jmeter.reporters.ResultCollector;
 import org.apache.jmeter.reporters.Summariser;
 import org.apache.jmeter.save.SaveService;
+import org.apache.jmeter.threads.ThreadGroup;
 import org.apache.jmeter.util.JMeterUtils;
 import org.apache.jorphan.collections.HashTree;
 import org.apache.jorphan.collections.ListedHashTree;
+import org.apache.jorphan.collections.SearchByClass;
+import org.testng.annotations.AfterSuite;
+import org.testng.annotations.BeforeSuite;
 
 import com.google.gson.Gson;
 import com.google.gson.JsonObject;
@@ -35,6 +39,8 @@ import teammates.common.exception.HttpRequestFailedException;
 import teammates.common.util.JsonUtils;
 import teammates.common.util.Logger;
 import teammates.lnp.util.BackDoor;
+import teammates.lnp.util.LNPInProcessServer;
+import teammates.lnp.util.LNPReport;
 import teammates.lnp.util.LNPResultsStatistics;
 import teammates.lnp.util.LNPSpecification;
 import teammates.lnp.util.LNPTestData;
@@ -56,6 +62,8 @@ public abstract class BaseLNPTestCase extends BaseTestCase {
 
     private static final int RESULT_COUNT = 3;
 
+    private static final LNPInProcessServer IN_PROCESS_SERVER = new LNPInProcessServer();
+
     final BackDoor backdoor = BackDoor.getInstance();
     String timeStamp;
     LNPSpecification specification;
@@ -117,6 +125,41 @@ public abstract class BaseLNPTestCase extends BaseTestCase {
                         this.getClass().getSimpleName(), this.timeStamp);
     }
 
+    /**
+     * Returns the path to the JSON test report file, relative to the project root directory.
+     */
+    private String getPathToTestReportFile() {
+        return String.format("%s/%sReport%s.json", TestProperties.LNP_TEST_RESULTS_FOLDER,
+                        this.getClass().getSimpleName(), this.timeStamp);
+    }
+
+    /**
+     * Returns the path to the JSON baseline results statistics file, relative to the project root directory.
+     */
+    private String getPathToBaselineStatisticsFile() {
+        return String.format("%s/%s.json", TestProperties.LNP_TEST_BASELINES_FOLDER, this.getClass().getSimpleName());
+    }
+
+    /**
+     * Starts the app in the same process as the tests if configured to do so.
+     */
+    @BeforeSuite
+    @SuppressWarnings("PMD.SignatureDeclareThrowsException") // the datastore emulator and the app throw Exception
+    public void startInProcessServer() throws Exception {
+        if (TestProperties.IS_IN_PROCESS) {
+            IN_PROCESS_SERVER.start();
+        }
+    }
+
+    /**
+     * Stops the app if it was started in the same process as the tests.
+     */
+    @AfterSuite(alwaysRun = true)
+    @SuppressWarnings("PMD.SignatureDeclareThrowsException") // the datastore emulator and the app throw Exception
+    public void stopInProcessServer() throws Exception {
+        IN_PROCESS_SERVER.stop();
+    }
+
     String createFileAndDirectory(String directory, String fileName) throws IOException {
         File dir = new File(directory);
         if (!dir.exists()) {
@@ -138,11 +181,9 @@ public abstract class BaseLNPTestCase extends BaseTestCase {
      * Creates the JSON data and writes it to the file specified by {@link #getJsonDataPath()}.
      */
     void createJsonDataFile(LNPTestData testData) throws IOException {
-        DataBundle jsonData = testData.generateJsonData();
-
         String pathToResultFile = createFileAndDirectory(TestProperties.LNP_TEST_DATA_FOLDER, getJsonDataPath());
         try (BufferedWriter bw = Files.newBufferedWriter(Paths.get(pathToResultFile))) {
-            bw.write(JsonUtils.toJson(jsonData));
+            testData.writeJsonData(bw);
             bw.flush();
         }
     }
@@ -193,6 +234,18 @@ public abstract class BaseLNPTestCase extends BaseTestCase {
         return gson.fromJson(endpointStats, LNPResultsStatistics.class);
     }
 
+    /**
+     * Returns the baseline results statistics of the test, or null if there is no baseline.
+     * @throws IOException if there is an error when loading the baseline file.
+     */
+    private LNPResultsStatistics getBaselineStatistics() throws IOException {
+        String pathToBaselineFile = getPathToBaselineStatisticsFile();
+        if (!new File(pathToBaselineFile).exists()) {
+            return null;
+        }
+        return JsonUtils.fromJson(FileHelper.readFile(pathToBaselineFile), LNPResultsStatistics.class);
+    }
+
     /**
      * Renames the default results statistics file to the name of the test.
      */
@@ -242,13 +295,44 @@ public abstract class BaseLNPTestCase extends BaseTestCase {
     }
 
     /**
-     * Display the L&P results on the console.
+     * Display the L&P results on the console, and save the report of the results alongside the results.
+     *
+     * <p>The results are compared against the baseline results of the test, if any.
+     * If configured to do so, the results instead replace the baseline results, but are still checked against
+     * the limits of the specification, so that a failing run is not recorded as the baseline.
      */
     protected void displayLnpResults() throws IOException {
         LNPResultsStatistics resultsStats = getResultsStatistics();
+        LNPResultsStatistics baselineStats = getBaselineStatistics();
 
         resultsStats.displayLnpResultsStatistics();
-        specification.verifyLnpTestSuccess(resultsStats);
+
+        LNPReport report = new LNPReport(getClass().getSimpleName(), resultsStats, baselineStats,
+                specification.getChecks(resultsStats, baselineStats));
+        FileHelper.saveFile(getPathToTestReportFile(), JsonUtils.toJson(report));
+
+        if (TestProperties.SHOULD_UPDATE_BASELINES) {
+            specification.verifyLnpTestSuccess(resultsStats);
+            createFileAndDirectory(TestProperties.LNP_TEST_BASELINES_FOLDER, "/" + getClass().getSimpleName() + ".json");
+            FileHelper.saveFile(getPathToBaselineStatisticsFile(), JsonUtils.toJson(resultsStats));
+            return;
+        }
+
+        specification.verifyLnpTestSuccess(resultsStats, baselineStats);
+    }
+
+    /**
+     * Sets the number of threads of every thread group in the test plan to the configured concurrency, if any.
+     */
+    private void applyConcurrency(HashTree testPlan) {
+        if (TestProperties.CONCURRENCY <= 0) {
+            return;
+        }
+        SearchByClass<ThreadGroup> threadGroupSearch = new SearchByClass<>(ThreadGroup.class);
+        testPlan.traverse(threadGroupSearch);
+        for (ThreadGroup threadGroup : threadGroupSearch.getSearchResults()) {
+            threadGroup.setNumThreads(TestProperties.CONCURRENCY);
+        }
     }
 
     /**
@@ -261,6 +345,7 @@ public abstract class BaseLNPTestCase extends BaseTestCase {
         setJmeterProperties();
 
         HashTree testPlan = getLnpTestPlan();
+        applyConcurrency(testPlan);
 
         if (shouldCreateJmxFile) {
             String pathToConfigFile = createFileAndDirectory(
@@ -314,7 +399,7 @@ public abstract class BaseLNPTestCase extends BaseTestCase {
     }
 
     /**
-     * Deletes the oldest excess result .jtl file and the statistics file, if there are more than RESULT_COUNT.
+     * Deletes the oldest excess result .jtl file, statistics file and report file, if there are more than RESULT_COUNT.
      */
     protected void cleanupResults() throws IOException {
         File[] fileList = new File(TestProperties.LNP_TEST_RESULTS_FOLDER)
@@ -330,12 +415,18 @@ public abstract class BaseLNPTestCase extends BaseTestCase {
 
         int jtlCounter = 0;
         int statisticsCounter = 0;
+        int reportCounter = 0;
         for (File file : fileList) {
             if (file.getName().contains("Statistics")) {
                 statisticsCounter++;
                 if (statisticsCounter > RESULT_COUNT) {
                     Files.delete(file.toPath());
                 }
+            } else if (file.getName().contains("Report")) {
+                reportCounter++;
+                if (reportCounter > RESULT_COUNT) {
+                    Files.delete(file.toPath());
+                }
             } else {
                 jtlCounter++;
                 if (jtlCounter > RESULT_COUNT) {
@@ -0,0 +1,714 @@
+package teammates.lnp.util;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+import com.google.gson.stream.JsonWriter;
+
+import teammates.common.datatransfer.DataBundle;
+import teammates.common.datatransfer.FeedbackParticipantType;
+import teammates.common.datatransfer.InstructorPrivileges;
+import teammates.common.datatransfer.attributes.AccountAttributes;
+import teammates.common.datatransfer.attributes.CourseAttributes;
+import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
+import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
+import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
+import teammates.common.datatransfer.attributes.InstructorAttributes;
+import teammates.common.datatransfer.attributes.StudentAttributes;
+import teammates.common.datatransfer.questions.FeedbackConstantSumQuestionDetails;
+import teammates.common.datatransfer.questions.FeedbackConstantSumResponseDetails;
+import teammates.common.datatransfer.questions.FeedbackContributionQuestionDetails;
+import teammates.common.datatransfer.questions.FeedbackContributionResponseDetails;
+import teammates.common.datatransfer.questions.FeedbackMcqQuestionDetails;
+import teammates.common.datatransfer.questions.FeedbackMcqResponseDetails;
+import teammates.common.datatransfer.questions.FeedbackMsqQuestionDetails;
+import teammates.common.datatransfer.questions.FeedbackMsqResponseDetails;
+import teammates.common.datatransfer.questions.FeedbackNumericalScaleQuestionDetails;
+import teammates.common.datatransfer.questions.FeedbackNumericalScaleResponseDetails;
+import teammates.common.datatransfer.questions.FeedbackQuestionDetails;
+import teammates.common.datatransfer.questions.FeedbackRankOptionsQuestionDetails;
+import teammates.common.datatransfer.questions.FeedbackRankOptionsResponseDetails;
+import teammates.common.datatransfer.questions.FeedbackRankRecipientsQuestionDetails;
+import teammates.common.datatransfer.questions.FeedbackRankRecipientsResponseDetails;
+import teammates.common.datatransfer.questions.FeedbackResponseDetails;
+import teammates.common.datatransfer.questions.FeedbackRubricQuestionDetails;
+import teammates.common.datatransfer.questions.FeedbackRubricResponseDetails;
+import teammates.common.datatransfer.questions.FeedbackTextQuestionDetails;
+import teammates.common.datatransfer.questions.FeedbackTextResponseDetails;
+import teammates.common.util.Const;
+import teammates.common.util.JsonUtils;
+
+/**
+ * Generates L&P test data bundles of a configurable scale.
+ *
+ * <p>Each course is divided into sections of teams of students, and has instructors and feedback sessions.
+ * The questions of each session are answered by students for themselves or their team members, and cycle
+ * through all question types. Each student submits the responses to each question with the configured
+ * probability.
+ *
+ * <p>The data generated depends only on the configuration, so that the same seed always produces the same data.
+ * The data can be written as JSON one entity at a time, so that data bundles which are too large to be held
+ * in memory can be generated.
+ */
+public final class LNPDataBundleGenerator {
+
+    private static final String EMAIL_DOMAIN = "@gmail.tmt";
+    private static final List<String> OPTIONS = List.of("Strongly disagree", "Disagree", "Agree", "Strongly agree");
+    private static final List<String> RUBRIC_CHOICES = List.of("Below expectations", "Meets expectations",
+            "Exceeds expectations");
+    private static final List<String> RUBRIC_SUB_QUESTIONS = List.of("Communication", "Quality of work");
+    private static final int POINTS_PER_RECIPIENT = 100;
+    private static final int CONTRIBUTION_STEP = 10;
+    private static final Instant DEFAULT_REFERENCE_TIME = Instant.parse("2024-01-01T00:00:00Z");
+
+    private final long seed;
+    private final String idPrefix;
+    private final Instant referenceTime;
+    private final int numCourses;
+    private final int numInstructorsPerCourse;
+    private final int numSectionsPerCourse;
+    private final int numTeamsPerSection;
+    private final int numStudentsPerTeam;
+    private final int numSessionsPerCourse;
+    private final int numQuestionsPerSession;
+    private final double responseRate;
+
+    private LNPDataBundleGenerator(Builder builder) {
+        this.seed = builder.seed;
+        this.idPrefix = builder.idPrefix;
+        this.referenceTime = builder.referenceTime;
+        this.numCourses = builder.numCourses;
+        this.numInstructorsPerCourse = builder.numInstructorsPerCourse;
+        this.numSectionsPerCourse = builder.numSectionsPerCourse;
+        this.numTeamsPerSection = builder.numTeamsPerSection;
+        this.numStudentsPerTeam = builder.numStudentsPerTeam;
+        this.numSessionsPerCourse = builder.numSessionsPerCourse;
+        this.numQuestionsPerSession = builder.numQuestionsPerSession;
+        this.responseRate = builder.responseRate;
+    }
+
+    /**
+     * Returns a builder for a generator which generates data with the given seed.
+     */
+    public static Builder builder(long seed) {
+        return new Builder(seed);
+    }
+
+    /**
+     * Generates the data bundle.
+     */
+    public DataBundle generate() {
+        DataBundle dataBundle = new DataBundle();
+
+        generateAccounts(dataBundle.accounts::put);
+        generateCourses(dataBundle.courses::put);
+        generateInstructors(dataBundle.instructors::put);
+        generateStudents(dataBundle.students::put);
+        generateFeedbackSessions(dataBundle.feedbackSessions::put);
+        generateFeedbackQuestions(dataBundle.feedbackQuestions::put);
+        generateFeedbackResponses(dataBundle.feedbackResponses::put);
+
+        return dataBundle;
+    }
+
+    /**
+     * Writes the data bundle as JSON to the writer, one entity at a time.
+     *
+     * <p>The data written is the same as the data bundle returned by {@link #generate()}.
+     */
+    public void writeJson(Writer writer) throws IOException {
+        JsonWriter jsonWriter = new JsonWriter(writer);
+        jsonWriter.beginObject();
+
+        writeEntities(jsonWriter, "accounts", this::generateAccounts);
+        writeEntities(jsonWriter, "courses", this::generateCourses);
+        writeEntities(jsonWriter, "instructors", this::generateInstructors);
+        writeEntities(jsonWriter, "students", this::generateStudents);
+        writeEntities(jsonWriter, "feedbackSessions", this::generateFeedbackSessions);
+        writeEntities(jsonWriter, "feedbackQuestions", this::generateFeedbackQuestions);
+        writeEntities(jsonWriter, "feedbackResponses", this::generateFeedbackResponses);
+
+        jsonWriter.endObject();
+        jsonWriter.flush();
+    }
+
+    private <T> void writeEntities(JsonWriter jsonWriter, String name, Consumer<BiConsumer<String, T>> generator)
+            throws IOException {
+        jsonWriter.name(name).beginObject();
+        try {
+            generator.accept((key, entity) -> {
+                try {
+                    jsonWriter.name(key);
+                    JsonUtils.toCompactJson(entity, entity.getClass(), jsonWriter);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        jsonWriter.endObject();
+    }
+
+    public int getNumCourses() {
+        return numCourses;
+    }
+
+    public int getNumInstructorsPerCourse() {
+        return numInstructorsPerCourse;
+    }
+
+    public int getNumSectionsPerCourse() {
+        return numSectionsPerCourse;
+    }
+
+    /**
+     * Returns the number of students in each course.
+     */
+    public int getNumStudentsPerCourse() {
+        return numSectionsPerCourse * numTeamsPerSection * numStudentsPerTeam;
+    }
+
+    public int getNumSessionsPerCourse() {
+        return numSessionsPerCourse;
+    }
+
+    public int getNumQuestionsPerSession() {
+        return numQuestionsPerSession;
+    }
+
+    /**
+     * Returns the ID of the course with the given index.
+     */
+    public String getCourseId(int courseIndex) {
+        return idPrefix + ".C" + courseIndex;
+    }
+
+    /**
+     * Returns the name of the feedback session with the given index, which is the same in every course.
+     */
+    public String getFeedbackSessionName(int sessionIndex) {
+        return "Session " + sessionIndex;
+    }
+
+    /**
+     * Returns the Google ID of the instructor with the given index in the course with the given index.
+     */
+    public String getInstructorGoogleId(int courseIndex, int instructorIndex) {
+        return idPrefix + ".c" + courseIndex + ".i" + instructorIndex;
+    }
+
+    /**
+     * Returns the email of the instructor with the given index in the course with the given index.
+     */
+    public String getInstructorEmail(int courseIndex, int instructorIndex) {
+        return getInstructorGoogleId(courseIndex, instructorIndex) + EMAIL_DOMAIN;
+    }
+
+    /**
+     * Returns the Google ID of the student with the given index in the course with the given index.
+     */
+    public String getStudentGoogleId(int courseIndex, int studentIndex) {
+        return idPrefix + ".c" + courseIndex + ".s" + studentIndex;
+    }
+
+    /**
+     * Returns the email of the student with the given index in the course with the given index.
+     */
+    public String getStudentEmail(int courseIndex, int studentIndex) {
+        return getStudentGoogleId(courseIndex, studentIndex) + EMAIL_DOMAIN;
+    }
+
+    /**
+     * Returns the name of the section of the student with the given index.
+     */
+    public String getSectionName(int studentIndex) {
+        return "Section " + studentIndex / (numTeamsPerSection * numStudentsPerTeam);
+    }
+
+    /**
+     * Returns the name of the team of the student with the given index.
+     */
+    public String getTeamName(int studentIndex) {
+        return "Team " + studentIndex / numStudentsPerTeam;
+    }
+
+    private void generateAccounts(BiConsumer<String, AccountAttributes> sink) {
+        for (int c = 0; c < numCourses; c++) {
+            for (int i = 0; i < numInstructorsPerCourse; i++) {
+                String googleId = getInstructorGoogleId(c, i);
+                sink.accept(googleId, AccountAttributes.builder(googleId)
+                        .withName("Instructor " + i + " of course " + c)
+                        .withEmail(getInstructorEmail(c, i))
+                        .build());
+            }
+            for (int s = 0; s < getNumStudentsPerCourse(); s++) {
+                String googleId = getStudentGoogleId(c, s);
+                sink.accept(googleId, AccountAttributes.builder(googleId)
+                        .withName("Student " + s + " of course " + c)
+                        .withEmail(getStudentEmail(c, s))
+                        .build());
+            }
+        }
+    }
+
+    private void generateCourses(BiConsumer<String, CourseAttributes> sink) {
+        for (int c = 0; c < numCourses; c++) {
+            sink.accept(getCourseId(c), CourseAttributes.builder(getCourseId(c))
+                    .withName("Load Testing Course " + c)
+                    .withTimezone("UTC")
+                    .withInstitute("TEAMMATES Test Institute")
+                    .build());
+        }
+    }
+
+    private void generateInstructors(BiConsumer<String, InstructorAttributes> sink) {
+        for (int c = 0; c < numCourses; c++) {
+            for (int i = 0; i < numInstructorsPerCourse; i++) {
+                String googleId = getInstructorGoogleId(c, i);
+                sink.accept(googleId, InstructorAttributes.builder(getCourseId(c), getInstructorEmail(c, i))
+                        .withGoogleId(googleId)
+                        .withName("Instructor " + i + " of course " + c)
+                        .withRole(Const.InstructorPermissionRoleNames.INSTRUCTOR_PERMISSION_ROLE_COOWNER)
+                        .withIsDisplayedToStudents(true)
+                        .withDisplayedName(Const.InstructorPermissionRoleNames.INSTRUCTOR_PERMISSION_ROLE_COOWNER)
+                        .withPrivileges(new InstructorPrivileges(
+                                Const.InstructorPermissionRoleNames.INSTRUCTOR_PERMISSION_ROLE_COOWNER))
+                        .build());
+            }
+        }
+    }
+
+    private void generateStudents(BiConsumer<String, StudentAttributes> sink) {
+        for (int c = 0; c < numCourses; c++) {
+            for (int s = 0; s < getNumStudentsPerCourse(); s++) {
+                sink.accept(getStudentGoogleId(c, s), StudentAttributes.builder(getCourseId(c), getStudentEmail(c, s))
+                        .withGoogleId(getStudentGoogleId(c, s))
+                        .withName("Student " + s + " of course " + c)
+                        .withComment("")
+                        .withSectionName(getSectionName(s))
+                        .withTeamName(getTeamName(s))
+                        .build());
+            }
+        }
+    }
+
+    private void generateFeedbackSessions(BiConsumer<String, FeedbackSessionAttributes> sink) {
+        for (int c = 0; c < numCourses; c++) {
+            for (int f = 0; f < numSessionsPerCourse; f++) {
+                sink.accept(getSessionKey(c, f), FeedbackSessionAttributes
+                        .builder(getFeedbackSessionName(f), getCourseId(c))
+                        .withCreatorEmail(getInstructorEmail(c, 0))
+                        .withInstructions("<p>Please answer all questions.</p>")
+                        .withTimeZone("UTC")
+                        .withSessionVisibleFromTime(referenceTime.minus(Duration.ofDays(7)))
+                        .withStartTime(referenceTime.minus(Duration.ofDays(1)))
+                        .withEndTime(referenceTime.plus(Duration.ofDays(7)))
+                        .withResultsVisibleFromTime(referenceTime.minus(Duration.ofDays(1)))
+                        .withGracePeriod(Duration.ofMinutes(15))
+                        .build());
+            }
+        }
+    }
+
+    private void generateFeedbackQuestions(BiConsumer<String, FeedbackQuestionAttributes> sink) {
+        List<FeedbackParticipantType> showResponsesTo =
+                List.of(FeedbackParticipantType.INSTRUCTORS, FeedbackParticipantType.RECEIVER);
+        List<FeedbackParticipantType> showGiverNameTo = List.of(FeedbackParticipantType.INSTRUCTORS);
+        for (int c = 0; c < numCourses; c++) {
+            for (int f = 0; f < numSessionsPerCourse; f++) {
+                for (int q = 1; q <= numQuestionsPerSession; q++) {
+                    QuestionKind questionKind = getQuestionKind(q);
+                    sink.accept(getSessionKey(c, f) + ".q" + q, FeedbackQuestionAttributes.builder()
+                            .withCourseId(getCourseId(c))
+                            .withFeedbackSessionName(getFeedbackSessionName(f))
+                            .withQuestionNumber(q)
+                            .withQuestionDescription("<p>" + questionKind + " question " + q + "</p>")
+                            .withQuestionDetails(createQuestionDetails(questionKind))
+                            .withGiverType(FeedbackParticipantType.STUDENTS)
+                            .withRecipientType(questionKind.recipientType)
+                            .withNumberOfEntitiesToGiveFeedbackTo(Const.MAX_POSSIBLE_RECIPIENTS)
+                            .withShowResponsesTo(showResponsesTo)
+                            .withShowGiverNameTo(showGiverNameTo)
+                            .withShowRecipientNameTo(showResponsesTo)
+                            .build());
+                }
+            }
+        }
+    }
+
+    private void generateFeedbackResponses(BiConsumer<String, FeedbackResponseAttributes> sink) {
+        Random random = new Random(seed);
+        for (int c = 0; c < numCourses; c++) {
+            for (int f = 0; f < numSessionsPerCourse; f++) {
+                for (int q = 1; q <= numQuestionsPerSession; q++) {
+                    QuestionKind questionKind = getQuestionKind(q);
+                    for (int giver = 0; giver < getNumStudentsPerCourse(); giver++) {
+                        if (random.nextDouble() >= responseRate) {
+                            continue;
+                        }
+                        List<Integer> recipients = getRecipients(questionKind.recipientType, giver);
+                        List<FeedbackResponseDetails> responseDetails =
+                                createResponseDetails(questionKind, recipients.size(), random);
+                        for (int r = 0; r < recipients.size(); r++) {
+                            int recipient = recipients.get(r);
+                            // the question number is replaced with the question ID when the data bundle is persisted
+                            sink.accept(getSessionKey(c, f) + ".q" + q + ".s" + giver + ".s" + recipient,
+                                    FeedbackResponseAttributes.builder(Integer.toString(q),
+                                            getStudentEmail(c, giver), getStudentEmail(c, recipient))
+                                            .withCourseId(getCourseId(c))
+                                            .withFeedbackSessionName(getFeedbackSessionName(f))
+                                            .withGiverSection(getSectionName(giver))
+                                            .withRecipientSection(getSectionName(recipient))
+                                            .withResponseDetails(responseDetails.get(r))
+                                            .build());
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    private String getSessionKey(int courseIndex, int sessionIndex) {
+        return getCourseId(courseIndex) + ".fs" + sessionIndex;
+    }
+
+    private static QuestionKind getQuestionKind(int questionNumber) {
+        QuestionKind[] questionKinds = QuestionKind.values();
+        return questionKinds[(questionNumber - 1) % questionKinds.length];
+    }
+
+    /**
+     * Returns the indexes of the students who receive the responses of the giver with the given index.
+     */
+    private List<Integer> getRecipients(FeedbackParticipantType recipientType, int giver) {
+        if (recipientType == FeedbackParticipantType.SELF) {
+            return List.of(giver);
+        }
+        List<Integer> recipients = new ArrayList<>();
+        int teamStart = giver / numStudentsPerTeam * numStudentsPerTeam;
+        for (int recipient = teamStart; recipient < teamStart + numStudentsPerTeam; recipient++) {
+            if (recipient != giver || recipientType == FeedbackParticipantType.OWN_TEAM_MEMBERS_INCLUDING_SELF) {
+                recipients.add(recipient);
+            }
+        }
+        return recipients;
+    }
+
+    private static FeedbackQuestionDetails createQuestionDetails(QuestionKind questionKind) {
+        switch (questionKind) {
+        case TEXT:
+            return new FeedbackTextQuestionDetails("How did your teammate perform?");
+        case MCQ:
+            FeedbackMcqQuestionDetails mcqDetails = new FeedbackMcqQuestionDetails("The project was well planned.");
+            mcqDetails.setMcqChoices(OPTIONS);
+            return mcqDetails;
+        case MSQ:
+            FeedbackMsqQuestionDetails msqDetails = new FeedbackMsqQuestionDetails("Which statements apply?");
+            msqDetails.setMsqChoices(OPTIONS);
+            return msqDetails;
+        case NUMSCALE:
+            return new FeedbackNumericalScaleQuestionDetails("Rate the work of your teammates.");
+        case CONSTSUM_OPTIONS:
+            FeedbackConstantSumQuestionDetails optionsDetails =
+                    new FeedbackConstantSumQuestionDetails("How much did each part of the project matter?");
+            optionsDetails.setConstSumOptions(OPTIONS);
+            optionsDetails.setPoints(POINTS_PER_RECIPIENT);
+            return optionsDetails;
+        case CONSTSUM_RECIPIENTS:
+            FeedbackConstantSumQuestionDetails recipientsDetails =
+                    new FeedbackConstantSumQuestionDetails("Split the credit among your team.");
+            recipientsDetails.setDistributeToRecipients(true);
+            recipientsDetails.setPointsPerOption(true);
+            recipientsDetails.setPoints(POINTS_PER_RECIPIENT);
+            return recipientsDetails;
+        case CONTRIB:
+            return new FeedbackContributionQuestionDetails("How much did each member contribute?");
+        case RUBRIC:
+            FeedbackRubricQuestionDetails rubricDetails = new FeedbackRubricQuestionDetails("Assess your teammate.");
+            rubricDetails.setRubricChoices(RUBRIC_CHOICES);
+            rubricDetails.setRubricSubQuestions(RUBRIC_SUB_QUESTIONS);
+            List<List<String>> rubricDescriptions = new ArrayList<>();
+            for (int i = 0; i < RUBRIC_SUB_QUESTIONS.size(); i++) {
+                rubricDescriptions.add(Collections.nCopies(RUBRIC_CHOICES.size(), ""));
+            }
+            rubricDetails.setRubricDescriptions(rubricDescriptions);
+            return rubricDetails;
+        case RANK_OPTIONS:
+            FeedbackRankOptionsQuestionDetails rankOptionsDetails =
+                    new FeedbackRankOptionsQuestionDetails("Rank the statements.");
+            rankOptionsDetails.setOptions(OPTIONS);
+            return rankOptionsDetails;
+        case RANK_RECIPIENTS:
+            return new FeedbackRankRecipientsQuestionDetails("Rank your team members.");
+        default:
+            throw new AssertionError("Unknown question kind: " + questionKind);
+        }
+    }
+
+    /**
+     * Returns the details of the responses of a giver to each of the recipients.
+     *
+     * <p>Answers which depend on each other, such as ranks and points to distribute, are consistent
+     * across the responses of the giver.
+     */
+    private static List<FeedbackResponseDetails> createResponseDetails(QuestionKind questionKind, int numRecipients,
+            Random random) {
+        List<Integer> ranks = getRandomPermutation(numRecipients, random);
+        List<Integer> points = getRandomDistribution(numRecipients, POINTS_PER_RECIPIENT, 1, random);
+        List<Integer> contributions = getRandomDistribution(numRecipients, POINTS_PER_RECIPIENT, CONTRIBUTION_STEP,
+                random);
+
+        List<FeedbackResponseDetails> responseDetails = new ArrayList<>();
+        for (int r = 0; r < numRecipients; r++) {
+            switch (questionKind) {
+            case TEXT:
+                responseDetails.add(new FeedbackTextResponseDetails(
+                        "<p>Response " + random.nextInt(Integer.MAX_VALUE) + ": met every deadline.</p>"));
+                break;
+            case MCQ:
+                FeedbackMcqResponseDetails mcqDetails = new FeedbackMcqResponseDetails();
+                mcqDetails.setAnswer(OPTIONS.get(random.nextInt(OPTIONS.size())));
+                responseDetails.add(mcqDetails);
+                break;
+            case MSQ:
+                List<String> msqAnswers = new ArrayList<>();
+                for (String option : OPTIONS) {
+                    if (random.nextBoolean()) {
+                        msqAnswers.add(option);
+                    }
+                }
+                if (msqAnswers.isEmpty()) {
+                    msqAnswers.add(OPTIONS.get(0));
+                }
+                FeedbackMsqResponseDetails msqDetails = new FeedbackMsqResponseDetails();
+                msqDetails.setAnswers(msqAnswers);
+                responseDetails.add(msqDetails);
+                break;
+            case NUMSCALE:
+                FeedbackNumericalScaleResponseDetails numScaleDetails = new FeedbackNumericalScaleResponseDetails();
+                numScaleDetails.setAnswer(1 + random.nextInt(9) * 0.5);
+                responseDetails.add(numScaleDetails);
+                break;
+            case CONSTSUM_OPTIONS:
+                FeedbackConstantSumResponseDetails optionsDetails = new FeedbackConstantSumResponseDetails();
+                optionsDetails.setAnswers(getRandomDistribution(OPTIONS.size(),
+                        POINTS_PER_RECIPIENT / OPTIONS.size(), 1, random));
+                responseDetails.add(optionsDetails);
+                break;
+            case CONSTSUM_RECIPIENTS:
+                FeedbackConstantSumResponseDetails recipientsDetails = new FeedbackConstantSumResponseDetails();
+                recipientsDetails.setAnswers(new ArrayList<>(List.of(points.get(r))));
+                responseDetails.add(recipientsDetails);
+                break;
+            case CONTRIB:
+                FeedbackContributionResponseDetails contributionDetails = new FeedbackContributionResponseDetails();
+                contributionDetails.setAnswer(contributions.get(r));
+                responseDetails.add(contributionDetails);
+                break;
+            case RUBRIC:
+                List<Integer> rubricAnswer = new ArrayList<>();
+                for (int i = 0; i < RUBRIC_SUB_QUESTIONS.size(); i++) {
+                    rubricAnswer.add(random.nextInt(RUBRIC_CHOICES.size()));
+                }
+                FeedbackRubricResponseDetails rubricDetails = new FeedbackRubricResponseDetails();
+                rubricDetails.setAnswer(rubricAnswer);
+                responseDetails.add(rubricDetails);
+                break;
+            case RANK_OPTIONS:
+                FeedbackRankOptionsResponseDetails rankOptionsDetails = new FeedbackRankOptionsResponseDetails();
+                rankOptionsDetails.setAnswers(getRandomPermutation(OPTIONS.size(), random));
+                responseDetails.add(rankOptionsDetails);
+                break;
+            case RANK_RECIPIENTS:
+                FeedbackRankRecipientsResponseDetails rankRecipientsDetails = new FeedbackRankRecipientsResponseDetails();
+                rankRecipientsDetails.setAnswer(ranks.get(r));
+                responseDetails.add(rankRecipientsDetails);
+                break;
+            default:
+                throw new AssertionError("Unknown question kind: " + questionKind);
+            }
+        }
+        return responseDetails;
+    }
+
+    /**
+     * Returns the ranks 1 to {@code size} in a random order.
+     */
+    private static List<Integer> getRandomPermutation(int size, Random random) {
+        List<Integer> permutation = new ArrayList<>();
+        for (int i = 1; i <= size; i++) {
+            permutation.add(i);
+        }
+        Collections.shuffle(permutation, random);
+        return permutation;
+    }
+
+    /**
+     * Returns {@code size} multiples of {@code step} between 0 and twice the average which sum up to
+     * {@code average * size}.
+     */
+    private static List<Integer> getRandomDistribution(int size, int average, int step, Random random) {
+        Integer[] distribution = new Integer[size];
+        Arrays.fill(distribution, average);
+        for (int i = 0; i < size * 2; i++) {
+            int from = random.nextInt(size);
+            int to = random.nextInt(size);
+            if (distribution[from] - step >= 0 && distribution[to] + step <= average * 2) {
+                distribution[from] -= step;
+                distribution[to] += step;
+            }
+        }
+        return new ArrayList<>(Arrays.asList(distribution));
+    }
+
+    /**
+     * The kinds of questions generated, each with the type of their recipients.
+     */
+    private enum QuestionKind {
+        // CHECKSTYLE.OFF:JavadocVariable self-explanatory
+        TEXT(FeedbackParticipantType.OWN_TEAM_MEMBERS),
+        MCQ(FeedbackParticipantType.SELF),
+        MSQ(FeedbackParticipantType.SELF),
+        NUMSCALE(FeedbackParticipantType.OWN_TEAM_MEMBERS_INCLUDING_SELF),
+        CONSTSUM_OPTIONS(FeedbackParticipantType.SELF),
+        CONSTSUM_RECIPIENTS(FeedbackParticipantType.OWN_TEAM_MEMBERS_INCLUDING_SELF),
+        CONTRIB(FeedbackParticipantType.OWN_TEAM_MEMBERS_INCLUDING_SELF),
+        RUBRIC(FeedbackParticipantType.OWN_TEAM_MEMBERS),
+        RANK_OPTIONS(FeedbackParticipantType.SELF),
+        RANK_RECIPIENTS(FeedbackParticipantType.OWN_TEAM_MEMBERS_INCLUDING_SELF);
+        // CHECKSTYLE.ON:JavadocVariable
+
+        private final FeedbackParticipantType recipientType;
+
+        QuestionKind(FeedbackParticipantType recipientType) {
+            this.recipientType = recipientType;
+        }
+    }
+
+    /**
+     * Builder class to configure the scale of the data generated by {@link LNPDataBundleGenerator}.
+     */
+    public static final class Builder {
+        private final long seed;
+        private String idPrefix = "LnP";
+        private Instant referenceTime = DEFAULT_REFERENCE_TIME;
+        private int numCourses = 1;
+        private int numInstructorsPerCourse = 1;
+        private int numSectionsPerCourse = 1;
+        private int numTeamsPerSection = 25;
+        private int numStudentsPerTeam = 4;
+        private int numSessionsPerCourse = 1;
+        private int numQuestionsPerSession = 10;
+        private double responseRate = 1.0;
+
+        private Builder(long seed) {
+            this.seed = seed;
+        }
+
+        /**
+         * Sets the prefix of the IDs of all entities generated, to avoid clashing with other data.
+         */
+        public Builder withIdPrefix(String idPrefix) {
+            assert idPrefix != null;
+
+            this.idPrefix = idPrefix;
+            return this;
+        }
+
+        /**
+         * Sets the time relative to which the sessions are open.
+         *
+         * <p>Defaults to a fixed time, so that the data does not depend on when it is generated. Tests which
+         * need the sessions to be open when they run should set this to the current time.
+         */
+        public Builder withReferenceTime(Instant referenceTime) {
+            assert referenceTime != null;
+
+            this.referenceTime = referenceTime;
+            return this;
+        }
+
+        public Builder withNumCourses(int numCourses) {
+            assert numCourses > 0;
+
+            this.numCourses = numCourses;
+            return this;
+        }
+
+        public Builder withNumInstructorsPerCourse(int numInstructorsPerCourse) {
+            assert numInstructorsPerCourse > 0;
+
+            this.numInstructorsPerCourse = numInstructorsPerCourse;
+            return this;
+        }
+
+        public Builder withNumSectionsPerCourse(int numSectionsPerCourse) {
+            assert numSectionsPerCourse > 0;
+
+            this.numSectionsPerCourse = numSectionsPerCourse;
+            return this;
+        }
+
+        public Builder withNumTeamsPerSection(int numTeamsPerSection) {
+            assert numTeamsPerSection > 0;
+
+            this.numTeamsPerSection = numTeamsPerSection;
+            return this;
+        }
+
+        public Builder withNumStudentsPerTeam(int numStudentsPerTeam) {
+            assert numStudentsPerTeam > 0;
+
+            this.numStudentsPerTeam = numStudentsPerTeam;
+            return this;
+        }
+
+        public Builder withNumSessionsPerCourse(int numSessionsPerCourse) {
+            assert numSessionsPerCourse > 0;
+
+            this.numSessionsPerCourse = numSessionsPerCourse;
+            return this;
+        }
+
+        public Builder withNumQuestionsPerSession(int numQuestionsPerSession) {
+            assert numQuestionsPerSession > 0;
+
+            this.numQuestionsPerSession = numQuestionsPerSession;
+            return this;
+        }
+
+        /**
+         * Sets the probability that a student submits the responses to a question.
+         */
+        public Builder withResponseRate(double responseRate) {
+            assert responseRate >= 0 && responseRate <= 1;
+
+            this.responseRate = responseRate;
+            return this;
+        }
+
+        /**
+         * Builds the generator.
+         *
+         * <p>Sections larger than {@link Const#SECTION_SIZE_LIMIT} are rejected, as they cannot be enrolled.
+         */
+        public LNPDataBundleGenerator build() {
+            assert numTeamsPerSection * numStudentsPerTeam <= Const.SECTION_SIZE_LIMIT
+                    : "A section cannot have more than " + Const.SECTION_SIZE_LIMIT + " students";
+
+            return new LNPDataBundleGenerator(this);
+        }
+    }
+
+}
@@ -0,0 +1,82 @@
+package teammates.lnp.util;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.time.Instant;
+
+import org.testng.annotations.Test;
+
+import teammates.common.datatransfer.DataBundle;
+import teammates.common.util.JsonUtils;
+import teammates.test.BaseTestCase;
+
+/**
+ * SUT: {@link LNPDataBundleGenerator}.
+ */
+public class LNPDataBundleGeneratorTest extends BaseTestCase {
+
+    @Test
+    public void testGenerate_sameSeed_shouldGenerateSameData() throws IOException {
+        ______TS("same seed and configuration");
+
+        LNPDataBundleGenerator generator = createGenerator(42);
+        LNPDataBundleGenerator sameGenerator = createGenerator(42);
+
+        assertEquals(JsonUtils.toJson(generator.generate()), JsonUtils.toJson(sameGenerator.generate()));
+        assertEquals(writeJson(generator), writeJson(sameGenerator));
+
+        ______TS("different seed");
+
+        LNPDataBundleGenerator otherGenerator = createGenerator(43);
+
+        assertNotEquals(JsonUtils.toJson(generator.generate()), JsonUtils.toJson(otherGenerator.generate()));
+    }
+
+    @Test
+    public void testWriteJson_shouldWriteGeneratedData() throws IOException {
+        LNPDataBundleGenerator generator = createGenerator(42);
+
+        DataBundle written = JsonUtils.fromJson(writeJson(generator), DataBundle.class);
+
+        assertEquals(JsonUtils.toJson(generator.generate()), JsonUtils.toJson(written));
+    }
+
+    @Test
+    public void testGenerate_shouldGenerateConfiguredScale() {
+        LNPDataBundleGenerator generator = LNPDataBundleGenerator.builder(42)
+                .withReferenceTime(Instant.now())
+                .withNumCourses(2)
+                .withNumSectionsPerCourse(2)
+                .withNumTeamsPerSection(3)
+                .withNumStudentsPerTeam(4)
+                .withNumSessionsPerCourse(2)
+                .withNumQuestionsPerSession(5)
+                .withResponseRate(0)
+                .build();
+
+        DataBundle dataBundle = generator.generate();
+
+        assertEquals(2, dataBundle.courses.size());
+        assertEquals(2 * 2 * 3 * 4, dataBundle.students.size());
+        assertEquals(2 * 2, dataBundle.feedbackSessions.size());
+        assertEquals(2 * 2 * 5, dataBundle.feedbackQuestions.size());
+        assertTrue(dataBundle.feedbackResponses.isEmpty());
+        dataBundle.feedbackSessions.values().forEach(session -> assertTrue(session.isOpened()));
+    }
+
+    private LNPDataBundleGenerator createGenerator(long seed) {
+        return LNPDataBundleGenerator.builder(seed)
+                .withNumTeamsPerSection(5)
+                .withNumStudentsPerTeam(4)
+                .withNumQuestionsPerSession(10)
+                .withResponseRate(0.5)
+                .build();
+    }
+
+    private String writeJson(LNPDataBundleGenerator generator) throws IOException {
+        StringWriter writer = new StringWriter();
+        generator.writeJson(writer);
+        return writer.toString();
+    }
+
+}
@@ -0,0 +1,70 @@
+package teammates.lnp.util;
+
+import org.eclipse.jetty.server.Server;
+import org.eclipse.jetty.webapp.WebAppContext;
+
+import com.google.cloud.datastore.testing.LocalDatastoreHelper;
+
+import teammates.common.util.Config;
+import teammates.common.util.Logger;
+
+/**
+ * Runs the app in the same process as the L&P tests, against a local datastore emulator.
+ *
+ * <p>The app is served in the same way as by the dev server, so that the L&P tests can be run without a server
+ * being started separately.
+ */
+public final class LNPInProcessServer {
+
+    private static final Logger log = Logger.getLogger();
+
+    private static final String WAR_PATH = "src/main/webapp";
+
+    // Added by name, as the L&P tests must not depend on the UI component
+    private static final String DEV_SERVER_LOGIN_SERVLET = "teammates.ui.servlets.DevServerLoginServlet";
+
+    private final LocalDatastoreHelper localDatastoreHelper = LocalDatastoreHelper.newBuilder()
+            .setConsistency(1.0)
+            .setPort(Config.APP_LOCALDATASTORE_PORT)
+            .setStoreOnDisk(false)
+            .build();
+    private Server server;
+
+    /**
+     * Starts the local datastore emulator, and then the app on the port of the app under test.
+     */
+    @SuppressWarnings("PMD.SignatureDeclareThrowsException") // the datastore emulator and the app throw Exception
+    public void start() throws Exception {
+        if (server != null) {
+            return;
+        }
+        localDatastoreHelper.start();
+
+        WebAppContext webapp = new WebAppContext();
+        webapp.setContextPath("/");
+        webapp.setWar(WAR_PATH);
+        webapp.addServlet(DEV_SERVER_LOGIN_SERVLET, "/devServerLogin");
+
+        server = new Server(Integer.parseInt(TestProperties.TEAMMATES_PORT));
+        server.setHandler(webapp);
+        server.start();
+        log.info("Started the app in process at " + TestProperties.TEAMMATES_URL);
+    }
+
+    /**
+     * Stops the app, and then the local datastore emulator.
+     */
+    @SuppressWarnings("PMD.SignatureDeclareThrowsException") // the datastore emulator and the app throw Exception
+    public void stop() throws Exception {
+        if (server == null) {
+            return;
+        }
+        try {
+            server.stop();
+        } finally {
+            server = null;
+            localDatastoreHelper.stop();
+        }
+    }
+
+}
@@ -0,0 +1,69 @@
+package teammates.lnp.util;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Represents the machine-readable report of a L&P test run, which is saved as JSON alongside the test results.
+ */
+public final class LNPReport {
+
+    private final String testName;
+    private final Instant timestamp;
+    private final boolean inProcess;
+    private final int concurrency;
+    private final LNPResultsStatistics statistics;
+    private final LNPResultsStatistics baseline;
+    private final List<LNPSpecification.Check> checks;
+    private final boolean passed;
+
+    /**
+     * Creates a report of the current run of the test, with the checks of its results against the specification.
+     *
+     * @param baseline the baseline results of the test, or null if there is no baseline.
+     */
+    public LNPReport(String testName, LNPResultsStatistics statistics, LNPResultsStatistics baseline,
+            List<LNPSpecification.Check> checks) {
+        this.testName = testName;
+        this.timestamp = Instant.now();
+        this.inProcess = TestProperties.IS_IN_PROCESS;
+        this.concurrency = TestProperties.CONCURRENCY;
+        this.statistics = statistics;
+        this.baseline = baseline;
+        this.checks = checks;
+        this.passed = checks.stream().allMatch(LNPSpecification.Check::isPassed);
+    }
+
+    public String getTestName() {
+        return testName;
+    }
+
+    public Instant getTimestamp() {
+        return timestamp;
+    }
+
+    public boolean isInProcess() {
+        return inProcess;
+    }
+
+    public int getConcurrency() {
+        return concurrency;
+    }
+
+    public LNPResultsStatistics getStatistics() {
+        return statistics;
+    }
+
+    public LNPResultsStatistics getBaseline() {
+        return baseline;
+    }
+
+    public List<LNPSpecification.Check> getChecks() {
+        return checks;
+    }
+
+    public boolean isPassed() {
+        return passed;
+    }
+
+}
@@ -4,12 +4,17 @@ import org.testng.Reporter;
 
 /**
  * Represents the L&P test results statistics.
+ *
+ * <p>Response times are in milliseconds and the throughput is in requests per second.
  */
 public class LNPResultsStatistics {
 
     private double errorPct;
     private double meanResTime;
+    private double medianResTime;
     private double pct1ResTime; // 90th percentile
+    private double pct2ResTime; // 95th percentile
+    private double pct3ResTime; // 99th percentile
     private double throughput;
     private int errorCount;
     private int sampleCount;
@@ -29,6 +34,34 @@ public class LNPResultsStatistics {
         return this.errorPct;
     }
 
+    public double getMedianResTime() {
+        return medianResTime;
+    }
+
+    public double getPct1ResTime() {
+        return pct1ResTime;
+    }
+
+    public double getPct2ResTime() {
+        return pct2ResTime;
+    }
+
+    public double getPct3ResTime() {
+        return pct3ResTime;
+    }
+
+    public double getThroughput() {
+        return throughput;
+    }
+
+    public int getErrorCount() {
+        return errorCount;
+    }
+
+    public int getSampleCount() {
+        return sampleCount;
+    }
+
     /**
      * Reorganise existing result statistics into one line with labels.
      */
@@ -36,7 +69,10 @@ public class LNPResultsStatistics {
         return "\n#Req: " + sampleCount
                 + ",  Throughput: " + String.format("%.2f", throughput) + "/s"
                 + ",  Avg resp time: " + String.format("%.2f", meanResTime / 1000) + "s"
+                + ",  Median: " + String.format("%.2f", medianResTime / 1000) + "s"
                 + ",  90th percentile: " + String.format("%.2f", pct1ResTime / 1000) + "s"
+                + ",  95th percentile: " + String.format("%.2f", pct2ResTime / 1000) + "s"
+                + ",  99th percentile: " + String.format("%.2f", pct3ResTime / 1000) + "s"
                 + ",  Err: " + errorCount + " (" + String.format("%.2f", errorPct) + "%)";
     }
 }
@@ -1,5 +1,8 @@
 package teammates.lnp.util;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * Stores the specifications for a LNP test, and verifies whether the results meet the criteria.
  */
@@ -17,7 +20,11 @@ public final class LNPSpecification {
      */
     private double meanResTimeLimit;
 
-    private String resultsErrorMessage = "";
+    /**
+     * Maximum allowable regression (as a ratio, e.g. 0.2 for 20%) of the response times and the throughput
+     * from the baseline results of the test.
+     */
+    private double maxRegressionFromBaseline = 0.25;
 
     // This class should always be constructed using builder() instead of constructor
     private LNPSpecification() {
@@ -29,34 +36,98 @@ public final class LNPSpecification {
      *                         the result statistics from running this test.
      */
     public void verifyLnpTestSuccess(LNPResultsStatistics resultStatistics) {
-        checkErrorLimit(resultStatistics.getErrorPct());
-        checkMeanResTimeLimit(resultStatistics.getMeanResTime());
+        verifyLnpTestSuccess(resultStatistics, null);
+    }
+
+    /**
+     * Verify the LNP results statistics with the specified threshold, and against the baseline results if given.
+     * @param resultStatistics {@link LNPResultsStatistics} object that contains
+     *                         the result statistics from running this test.
+     * @param baselineStatistics the baseline result statistics of this test, or null if there is no baseline.
+     */
+    public void verifyLnpTestSuccess(LNPResultsStatistics resultStatistics, LNPResultsStatistics baselineStatistics) {
+        StringBuilder resultsErrorMessage = new StringBuilder();
+        for (Check check : getChecks(resultStatistics, baselineStatistics)) {
+            if (!check.isPassed()) {
+                resultsErrorMessage.append(check.getMessage());
+            }
+        }
+
+        if (resultsErrorMessage.length() > 0) {
+            throw new AssertionError(resultsErrorMessage.toString());
+        }
+    }
 
-        if (!resultsErrorMessage.isEmpty()) {
-            throw new AssertionError(resultsErrorMessage);
+    /**
+     * Returns the result of every check of the LNP results statistics against the specified thresholds,
+     * and against the baseline results if given.
+     */
+    public List<Check> getChecks(LNPResultsStatistics resultStatistics, LNPResultsStatistics baselineStatistics) {
+        List<Check> checks = new ArrayList<>();
+        checks.add(checkErrorLimit(resultStatistics.getErrorPct()));
+        checks.add(checkMeanResTimeLimit(resultStatistics.getMeanResTime()));
+
+        if (baselineStatistics != null) {
+            checks.add(checkResTimeRegression("Avg resp time",
+                    resultStatistics.getMeanResTime(), baselineStatistics.getMeanResTime()));
+            checks.add(checkResTimeRegression("95th percentile resp time",
+                    resultStatistics.getPct2ResTime(), baselineStatistics.getPct2ResTime()));
+            checks.add(checkThroughputRegression(
+                    resultStatistics.getThroughput(), baselineStatistics.getThroughput()));
         }
+        return checks;
     }
 
     /**
      * Checks if the mean response time exceeds the specified time limit.
      */
-    private void checkMeanResTimeLimit(double meanResTime) {
+    private Check checkMeanResTimeLimit(double meanResTime) {
         if (meanResTimeLimit < meanResTime / 1000) {
             double exceededMeanResTime = meanResTime / 1000 - meanResTimeLimit;
-            resultsErrorMessage += "Avg resp time is " + String.format("%.2f", exceededMeanResTime)
-                    + "s higher than the specified threshold.";
+            return Check.failed("Avg resp time (s)", meanResTime / 1000, meanResTimeLimit,
+                    "Avg resp time is " + String.format("%.2f", exceededMeanResTime)
+                    + "s higher than the specified threshold. ");
         }
+        return Check.passed("Avg resp time (s)", meanResTime / 1000, meanResTimeLimit);
     }
 
     /**
      * Checks if the error rate exceeds the specified error percentage limit.
      */
-    private void checkErrorLimit(double errorPct) {
+    private Check checkErrorLimit(double errorPct) {
         if (errorRateLimit < errorPct) {
             double exceededErrorRate = errorPct - errorRateLimit;
-            resultsErrorMessage += "Error rate is " + String.format("%.2f", exceededErrorRate)
-                    + "% higher than the specified threshold. ";
+            return Check.failed("Error rate (%)", errorPct, errorRateLimit,
+                    "Error rate is " + String.format("%.2f", exceededErrorRate)
+                    + "% higher than the specified threshold. ");
+        }
+        return Check.passed("Error rate (%)", errorPct, errorRateLimit);
+    }
+
+    /**
+     * Checks if the response time regresses from the baseline by more than the allowed ratio.
+     */
+    private Check checkResTimeRegression(String metric, double resTime, double baselineResTime) {
+        double limit = baselineResTime * (1 + maxRegressionFromBaseline);
+        if (limit < resTime) {
+            return Check.failed(metric + " (ms)", resTime, limit,
+                    metric + " is " + String.format("%.2f", resTime / baselineResTime * 100 - 100)
+                    + "% higher than the baseline. ");
         }
+        return Check.passed(metric + " (ms)", resTime, limit);
+    }
+
+    /**
+     * Checks if the throughput regresses from the baseline by more than the allowed ratio.
+     */
+    private Check checkThroughputRegression(double throughput, double baselineThroughput) {
+        double limit = baselineThroughput * (1 - maxRegressionFromBaseline);
+        if (throughput < limit) {
+            return Check.failed("Throughput (/s)", throughput, limit,
+                    "Throughput is " + String.format("%.2f", 100 - throughput / baselineThroughput * 100)
+                    + "% lower than the baseline. ");
+        }
+        return Check.passed("Throughput (/s)", throughput, limit);
     }
 
     /**
@@ -87,8 +158,61 @@ public final class LNPSpecification {
             return this;
         }
 
+        public Builder withMaxRegressionFromBaseline(double maxRegressionFromBaseline) {
+            specification.maxRegressionFromBaseline = maxRegressionFromBaseline;
+            return this;
+        }
+
         public LNPSpecification build() {
             return specification;
         }
     }
+
+    /**
+     * The result of checking one metric of the LNP results statistics against its limit.
+     */
+    public static final class Check {
+
+        private final String metric;
+        private final double actual;
+        private final double limit;
+        private final boolean passed;
+        private final String message;
+
+        private Check(String metric, double actual, double limit, boolean passed, String message) {
+            this.metric = metric;
+            this.actual = actual;
+            this.limit = limit;
+            this.passed = passed;
+            this.message = message;
+        }
+
+        private static Check passed(String metric, double actual, double limit) {
+            return new Check(metric, actual, limit, true, "");
+        }
+
+        private static Check failed(String metric, double actual, double limit, String message) {
+            return new Check(metric, actual, limit, false, message);
+        }
+
+        public String getMetric() {
+            return metric;
+        }
+
+        public double getActual() {
+            return actual;
+        }
+
+        public double getLimit() {
+            return limit;
+        }
+
+        public boolean isPassed() {
+            return passed;
+        }
+
+        public String getMessage() {
+            return message;
+        }
+    }
 }
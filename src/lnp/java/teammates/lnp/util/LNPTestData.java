@@ -1,5 +1,7 @@
 package teammates.lnp.util;
 
+import java.io.IOException;
+import java.io.Writer;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -13,6 +15,7 @@ import teammates.common.datatransfer.attributes.FeedbackResponseCommentAttribute
 import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
 import teammates.common.datatransfer.attributes.InstructorAttributes;
 import teammates.common.datatransfer.attributes.StudentAttributes;
+import teammates.common.util.JsonUtils;
 
 /**
  * L&P test data generator.
@@ -73,6 +76,16 @@ public abstract class LNPTestData {
         return dataBundle;
     }
 
+    /**
+     * Writes the JSON data bundle containing the data relevant for the performance test.
+     *
+     * <p>Test data which is too large to be held in memory as a whole can override this to stream the data,
+     * e.g. with {@link LNPDataBundleGenerator#writeJson(Writer)}.
+     */
+    public void writeJsonData(Writer writer) throws IOException {
+        writer.write(JsonUtils.toJson(generateJsonData()));
+    }
+
     /**
      * Returns list of header fields for the data in the CSV file to be generated.
      *
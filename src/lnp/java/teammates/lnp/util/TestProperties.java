@@ -20,6 +20,9 @@ public final class TestProperties {
     /** The directory where the L&P test results are stored. */
     public static final String LNP_TEST_RESULTS_FOLDER = "src/lnp/resources/results";
 
+    /** The directory where the baseline results of the L&P tests are stored. */
+    public static final String LNP_TEST_BASELINES_FOLDER = "src/lnp/resources/baselines";
+
     /** The value of "test.jmeter.home" in test.properties file. */
     public static final String JMETER_HOME;
 
@@ -41,6 +44,15 @@ public final class TestProperties {
     /** The value of "test.backdoor.key" in test.properties file. */
     public static final String BACKDOOR_KEY;
 
+    /** Indicates whether the app is started in the same process as the L&P tests. */
+    public static final boolean IS_IN_PROCESS;
+
+    /** The value of "test.lnp.concurrency" in test.properties file, or 0 if each test uses its own concurrency. */
+    public static final int CONCURRENCY;
+
+    /** Indicates whether the baseline results are to be replaced by the results of the tests. */
+    public static final boolean SHOULD_UPDATE_BASELINES;
+
     static {
         Properties prop = new Properties();
         try {
@@ -53,6 +65,10 @@ public final class TestProperties {
             CSRF_KEY = prop.getProperty("test.csrf.key");
             BACKDOOR_KEY = prop.getProperty("test.backdoor.key");
 
+            IS_IN_PROCESS = Boolean.parseBoolean(prop.getProperty("test.lnp.inprocess", "false"));
+            CONCURRENCY = Integer.parseInt(prop.getProperty("test.lnp.concurrency", "0"));
+            SHOULD_UPDATE_BASELINES = Boolean.parseBoolean(prop.getProperty("test.lnp.baseline.update", "false"));
+
             JMETER_HOME = prop.getProperty("test.jmeter.home").toLowerCase();
             JMETER_PROPERTIES_PATH = prop.getProperty("test.jmeter.properties", "").toLowerCase();
 
@@ -0,0 +1,133 @@
+package teammates.common.datatransfer;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import com.google.common.collect.Interner;
+import com.google.common.collect.Interners;
+
+/**
+ * Immutable compiled form of {@link InstructorPrivileges}, used to look up the privileges of an instructor.
+ *
+ * <p>The permission set of each level is stored as a bitmask given by {@link InstructorPermissionSet#toBitmask()},
+ * so that a lookup is a few hash lookups and a bitwise AND instead of a walk through nested permission sets.
+ * The section and session names are interned, as the same names are used by all instructors of a course.
+ */
+final class CompiledInstructorPrivileges {
+
+    private static final Interner<String> KEY_INTERNER = Interners.newWeakInterner();
+
+    private final int courseLevel;
+    private final Map<String, Integer> sectionLevel;
+    private final Map<String, Map<String, Integer>> sessionLevel;
+
+    /**
+     * The privileges for a session in at least one section, for the sessions with session level privileges.
+     */
+    private final Map<String, Integer> sessionLevelAnySection;
+
+    /**
+     * The privileges for a session without session level privileges in at least one section.
+     */
+    private final int sectionLevelAnySection;
+
+    CompiledInstructorPrivileges(InstructorPermissionSet courseLevel,
+            Map<String, InstructorPermissionSet> sectionLevel,
+            Map<String, Map<String, InstructorPermissionSet>> sessionLevel) {
+        this.courseLevel = courseLevel.toBitmask();
+
+        Map<String, Integer> sectionMasks = new HashMap<>();
+        sectionLevel.forEach((sectionName, permissionSet) ->
+                sectionMasks.put(intern(sectionName), permissionSet.toBitmask()));
+        this.sectionLevel = Collections.unmodifiableMap(sectionMasks);
+
+        Map<String, Map<String, Integer>> sessionMasks = new HashMap<>();
+        sessionLevel.forEach((sectionName, sessions) -> {
+            Map<String, Integer> masks = new HashMap<>();
+            sessions.forEach((sessionName, permissionSet) ->
+                    masks.put(intern(sessionName), permissionSet.toBitmask()));
+            sessionMasks.put(intern(sectionName), Collections.unmodifiableMap(masks));
+        });
+        this.sessionLevel = Collections.unmodifiableMap(sessionMasks);
+
+        // only the sections with section or session level privileges are considered for "any section"
+        int anySectionMask = 0;
+        for (String sectionName : this.sectionLevel.keySet()) {
+            anySectionMask |= getSectionLevel(sectionName);
+        }
+        for (String sectionName : this.sessionLevel.keySet()) {
+            anySectionMask |= getSectionLevel(sectionName);
+        }
+        this.sectionLevelAnySection = anySectionMask;
+
+        Map<String, Integer> sessionAnySectionMasks = new HashMap<>();
+        for (Map<String, Integer> sessions : this.sessionLevel.values()) {
+            for (String sessionName : sessions.keySet()) {
+                sessionAnySectionMasks.computeIfAbsent(sessionName, this::computeSessionLevelAnySection);
+            }
+        }
+        this.sessionLevelAnySection = Collections.unmodifiableMap(sessionAnySectionMasks);
+    }
+
+    private static String intern(String key) {
+        return key == null ? null : KEY_INTERNER.intern(key);
+    }
+
+    private int computeSessionLevelAnySection(String sessionName) {
+        int mask = 0;
+        for (String sectionName : sectionLevel.keySet()) {
+            mask |= getSessionLevel(sectionName, sessionName);
+        }
+        for (String sectionName : sessionLevel.keySet()) {
+            mask |= getSessionLevel(sectionName, sessionName);
+        }
+        return mask;
+    }
+
+    private int getSectionLevel(String sectionName) {
+        return sectionLevel.getOrDefault(sectionName, courseLevel);
+    }
+
+    private int getSessionLevel(String sectionName, String sessionName) {
+        Map<String, Integer> sessions = sessionLevel.get(sectionName);
+        if (sessions == null) {
+            return getSectionLevel(sectionName);
+        }
+        Integer mask = sessions.get(sessionName);
+        return mask == null ? getSectionLevel(sectionName) : mask;
+    }
+
+    /**
+     * Returns true if the privilege specified by privilegeName is allowed in course level.
+     */
+    boolean isAllowed(String privilegeName) {
+        return (courseLevel & InstructorPermissionSet.getBit(privilegeName)) != 0;
+    }
+
+    /**
+     * Returns true if the privilege specified by privilegeName is allowed in sectionName,
+     * falling back to course level if there are no privileges specific to the section.
+     */
+    boolean isAllowed(String sectionName, String privilegeName) {
+        return (getSectionLevel(sectionName) & InstructorPermissionSet.getBit(privilegeName)) != 0;
+    }
+
+    /**
+     * Returns true if the privilege specified by privilegeName is allowed for sessionName in sectionName,
+     * falling back to section level if there are no privileges specific to the session.
+     */
+    boolean isAllowed(String sectionName, String sessionName, String privilegeName) {
+        return (getSessionLevel(sectionName, sessionName) & InstructorPermissionSet.getBit(privilegeName)) != 0;
+    }
+
+    /**
+     * Returns true if the privilege specified by privilegeName is allowed for sessionName in any section
+     * with section or session level privileges.
+     */
+    boolean isAllowedAnySection(String sessionName, String privilegeName) {
+        int mask = sessionLevelAnySection.getOrDefault(sessionName, sectionLevelAnySection);
+        return (mask & InstructorPermissionSet.getBit(privilegeName)) != 0;
+    }
+
+}
@@ -119,6 +119,51 @@ public class InstructorPermissionSet {
         }
     }
 
+    /**
+     * Returns the bit of the privilege specified by privilegeName in {@link #toBitmask()},
+     * or 0 if the privilege name is invalid.
+     */
+    static int getBit(String privilegeName) {
+        switch (privilegeName) {
+        case Const.InstructorPermissions.CAN_MODIFY_COURSE:
+            return 1;
+        case Const.InstructorPermissions.CAN_MODIFY_INSTRUCTOR:
+            return 1 << 1;
+        case Const.InstructorPermissions.CAN_MODIFY_SESSION:
+            return 1 << 2;
+        case Const.InstructorPermissions.CAN_MODIFY_STUDENT:
+            return 1 << 3;
+        case Const.InstructorPermissions.CAN_VIEW_STUDENT_IN_SECTIONS:
+            return 1 << 4;
+        case Const.InstructorPermissions.CAN_VIEW_SESSION_IN_SECTIONS:
+            return 1 << 5;
+        case Const.InstructorPermissions.CAN_SUBMIT_SESSION_IN_SECTIONS:
+            return 1 << 6;
+        case Const.InstructorPermissions.CAN_MODIFY_SESSION_COMMENT_IN_SECTIONS:
+            return 1 << 7;
+        default:
+            return 0;
+        }
+    }
+
+    /**
+     * Returns the allowed privileges as a bitmask of the bits given by {@link #getBit(String)}.
+     */
+    int toBitmask() {
+        int bitmask = 0;
+        bitmask |= canModifyCourse ? getBit(Const.InstructorPermissions.CAN_MODIFY_COURSE) : 0;
+        bitmask |= canModifyInstructor ? getBit(Const.InstructorPermissions.CAN_MODIFY_INSTRUCTOR) : 0;
+        bitmask |= canModifySession ? getBit(Const.InstructorPermissions.CAN_MODIFY_SESSION) : 0;
+        bitmask |= canModifyStudent ? getBit(Const.InstructorPermissions.CAN_MODIFY_STUDENT) : 0;
+        bitmask |= canViewStudentInSections ? getBit(Const.InstructorPermissions.CAN_VIEW_STUDENT_IN_SECTIONS) : 0;
+        bitmask |= canViewSessionInSections ? getBit(Const.InstructorPermissions.CAN_VIEW_SESSION_IN_SECTIONS) : 0;
+        bitmask |= canSubmitSessionInSections
+                ? getBit(Const.InstructorPermissions.CAN_SUBMIT_SESSION_IN_SECTIONS) : 0;
+        bitmask |= canModifySessionCommentsInSections
+                ? getBit(Const.InstructorPermissions.CAN_MODIFY_SESSION_COMMENT_IN_SECTIONS) : 0;
+        return bitmask;
+    }
+
     void put(String privilegeName, boolean value) {
         switch (privilegeName) {
         case Const.InstructorPermissions.CAN_MODIFY_COURSE:
@@ -95,6 +95,12 @@ public final class InstructorPrivileges {
     private final Map<String, InstructorPermissionSet> sectionLevel;
     private final Map<String, Map<String, InstructorPermissionSet>> sessionLevel;
 
+    /**
+     * Compiled form of the privileges used for lookups, built on first use and discarded on any change.
+     * It is not part of the stored or serialized format.
+     */
+    private transient CompiledInstructorPrivileges compiled;
+
     public InstructorPrivileges() {
         this.courseLevel = new InstructorPermissionSet();
         this.sectionLevel = new LinkedHashMap<>();
@@ -217,6 +223,7 @@ public final class InstructorPrivileges {
     }
 
     private void setDefaultPrivileges(InstructorPermissionSet defaultPrivileges) {
+        compiled = null;
         courseLevel.setCanModifyCourse(defaultPrivileges.isCanModifyCourse());
         courseLevel.setCanModifyInstructor(defaultPrivileges.isCanModifyInstructor());
         courseLevel.setCanModifySession(defaultPrivileges.isCanModifySession());
@@ -263,6 +270,7 @@ public final class InstructorPrivileges {
         if (!isPrivilegeNameValid(privilegeName)) {
             return;
         }
+        compiled = null;
         this.courseLevel.put(privilegeName, isAllowed);
     }
 
@@ -279,6 +287,7 @@ public final class InstructorPrivileges {
         if (!isPrivilegeNameValidForSessionLevel(privilegeName)) {
             return;
         }
+        compiled = null;
         verifyExistenceOfsectionName(sectionName);
         this.sessionLevel.get(sectionName).computeIfAbsent(sessionName, key -> new InstructorPermissionSet())
                                           .put(privilegeName, isAllowed);
@@ -292,6 +301,7 @@ public final class InstructorPrivileges {
     }
 
     void addSectionWithDefaultPrivileges(String sectionName) {
+        compiled = null;
         this.sectionLevel.putIfAbsent(sectionName, getOverallPrivilegesForSections());
     }
 
@@ -355,44 +365,35 @@ public final class InstructorPrivileges {
 
         assert isPrivilegeNameValid(privilegeName);
 
-        return this.courseLevel.get(privilegeName);
+        return getCompiled().isAllowed(privilegeName);
     }
 
     private boolean isAllowedInSectionLevel(String sectionName, String privilegeName) {
 
         assert isPrivilegeNameValid(privilegeName);
 
-        if (!this.sectionLevel.containsKey(sectionName)) {
-            return isAllowedInCourseLevel(privilegeName);
-        }
-
-        return this.sectionLevel.get(sectionName).get(privilegeName);
+        return getCompiled().isAllowed(sectionName, privilegeName);
     }
 
     private boolean isAllowedInSessionLevel(String sectionName, String sessionName, String privilegeName) {
 
         assert isPrivilegeNameValid(privilegeName);
 
-        if (!this.sessionLevel.containsKey(sectionName)
-                || !this.sessionLevel.get(sectionName).containsKey(sessionName)) {
-            return isAllowedInSectionLevel(sectionName, privilegeName);
-        }
-
-        return this.sessionLevel.get(sectionName).get(sessionName).get(privilegeName);
+        return getCompiled().isAllowed(sectionName, sessionName, privilegeName);
     }
 
     private boolean isAllowedInSessionLevelAnySection(String sessionName, String privilegeName) {
 
         assert isPrivilegeNameValid(privilegeName);
 
-        Set<String> sections = new LinkedHashSet<>(this.sessionLevel.keySet());
-        sections.addAll(this.sectionLevel.keySet());
-        for (String sectionName : sections) {
-            if (isAllowedInSessionLevel(sectionName, sessionName, privilegeName)) {
-                return true;
-            }
+        return getCompiled().isAllowedAnySection(sessionName, privilegeName);
+    }
+
+    private CompiledInstructorPrivileges getCompiled() {
+        if (compiled == null) {
+            compiled = new CompiledInstructorPrivileges(courseLevel, sectionLevel, sessionLevel);
         }
-        return false;
+        return compiled;
     }
 
     /**
@@ -402,6 +403,7 @@ public final class InstructorPrivileges {
      * prerequisite privileges if they have not been granted yet.
      */
     public void validatePrivileges() {
+        compiled = null;
         if (this.courseLevel.isCanModifySessionCommentsInSections()) {
             this.courseLevel.setCanViewSessionInSections(true);
         }
@@ -10,10 +10,16 @@ import teammates.common.datatransfer.logs.GeneralLogEntry;
 public class QueryLogsResults {
     private final List<GeneralLogEntry> logEntries;
     private final boolean hasNextPage;
+    private final String nextPageToken;
 
     public QueryLogsResults(List<GeneralLogEntry> logEntries, boolean hasNextPage) {
+        this(logEntries, hasNextPage, null);
+    }
+
+    public QueryLogsResults(List<GeneralLogEntry> logEntries, boolean hasNextPage, String nextPageToken) {
         this.logEntries = logEntries;
         this.hasNextPage = hasNextPage;
+        this.nextPageToken = nextPageToken;
     }
 
     public List<GeneralLogEntry> getLogEntries() {
@@ -23,4 +29,11 @@ public class QueryLogsResults {
     public boolean getHasNextPage() {
         return hasNextPage;
     }
+
+    /**
+     * Returns the token which continues the query from the end of these results, if supported by the log service.
+     */
+    public String getNextPageToken() {
+        return nextPageToken;
+    }
 }
@@ -71,6 +71,21 @@ public final class CourseAttributes extends EntityAttributes<Course> implements
         return new Builder(courseId);
     }
 
+    /**
+     * Gets a deep copy of this object.
+     */
+    public CourseAttributes getCopy() {
+        CourseAttributes courseAttributes = new CourseAttributes(this.id);
+
+        courseAttributes.name = this.name;
+        courseAttributes.timeZone = this.timeZone;
+        courseAttributes.institute = this.institute;
+        courseAttributes.createdAt = this.createdAt;
+        courseAttributes.deletedAt = this.deletedAt;
+
+        return courseAttributes;
+    }
+
     public String getId() {
         return id;
     }
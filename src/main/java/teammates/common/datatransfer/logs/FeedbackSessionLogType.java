@@ -1,5 +1,8 @@
 package teammates.common.datatransfer.logs;
 
+import java.util.HashMap;
+import java.util.Map;
+
 import com.fasterxml.jackson.annotation.JsonValue;
 
 /**
@@ -12,6 +15,14 @@ public enum FeedbackSessionLogType {
     VIEW_RESULT("view result");
     // CHECKSTYLE.ON:JavadocVariable
 
+    private static final Map<String, FeedbackSessionLogType> LOG_TYPES_BY_LABEL = new HashMap<>();
+
+    static {
+        for (FeedbackSessionLogType logType : values()) {
+            LOG_TYPES_BY_LABEL.put(logType.label, logType);
+        }
+    }
+
     @JsonValue
     private final String label;
 
@@ -24,15 +35,10 @@ public enum FeedbackSessionLogType {
     }
 
     /**
-     * Returns the enum value of a log type given its label.
+     * Returns the enum value of a log type given its label, or null if there is no log type with the label.
      */
     public static FeedbackSessionLogType valueOfLabel(String label) {
-        for (FeedbackSessionLogType logType : values()) {
-            if (logType.label.equals(label)) {
-                return logType;
-            }
-        }
-        return null;
+        return LOG_TYPES_BY_LABEL.get(label);
     }
 
 }
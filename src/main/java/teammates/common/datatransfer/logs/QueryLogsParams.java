@@ -20,6 +20,7 @@ public final class QueryLogsParams {
     private String extraFilters;
     private String order;
     private Integer pageSize;
+    private String pageToken;
 
     private QueryLogsParams(long startTime, long endTime) {
         this.startTime = startTime;
@@ -97,6 +98,10 @@ public final class QueryLogsParams {
         return pageSize;
     }
 
+    public String getPageToken() {
+        return pageToken;
+    }
+
     /**
      * Builder for {@link QueryLogsParams}.
      */
@@ -177,6 +182,11 @@ public final class QueryLogsParams {
             return this;
         }
 
+        public Builder withPageToken(String pageToken) {
+            queryLogsParams.pageToken = pageToken;
+            return this;
+        }
+
         public QueryLogsParams build() {
             return queryLogsParams;
         }
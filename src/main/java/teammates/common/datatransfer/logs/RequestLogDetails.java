@@ -11,6 +11,10 @@ public class RequestLogDetails extends LogDetails {
 
     private int responseStatus;
     private long responseTime;
+    private int numSavedReads;
+    private int numDatastoreCalls;
+    @Nullable
+    private String datastoreCallSummary;
     private String requestMethod;
     private String requestUrl;
     private String userAgent;
@@ -48,6 +52,30 @@ public class RequestLogDetails extends LogDetails {
         this.responseTime = responseTime;
     }
 
+    public int getNumSavedReads() {
+        return numSavedReads;
+    }
+
+    public void setNumSavedReads(int numSavedReads) {
+        this.numSavedReads = numSavedReads;
+    }
+
+    public int getNumDatastoreCalls() {
+        return numDatastoreCalls;
+    }
+
+    public void setNumDatastoreCalls(int numDatastoreCalls) {
+        this.numDatastoreCalls = numDatastoreCalls;
+    }
+
+    public String getDatastoreCallSummary() {
+        return datastoreCallSummary;
+    }
+
+    public void setDatastoreCallSummary(String datastoreCallSummary) {
+        this.datastoreCallSummary = datastoreCallSummary;
+    }
+
     public String getRequestMethod() {
         return requestMethod;
     }
@@ -0,0 +1,132 @@
+package teammates.common.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BooleanSupplier;
+import java.util.logging.Handler;
+import java.util.logging.LogRecord;
+
+/**
+ * {@link Handler} which hands log records over to a background thread, which then publishes them
+ * to the delegate handler, so that request threads do not wait for the log output to be written.
+ *
+ * <p>Whether records are handed over is checked for every record, so that the check can depend on
+ * configuration which is not loaded yet when the handler is created. The background thread is only started
+ * when the first record is handed over.
+ *
+ * <p>The queue of pending records is bounded. When it is full, records are published synchronously instead,
+ * i.e. no record is dropped but their order may not be preserved under heavy load.
+ */
+class AsyncLogHandler extends Handler {
+
+    private static final long POLL_TIMEOUT_MILLIS = 100L;
+    private static final long CLOSE_TIMEOUT_MILLIS = 1000L;
+
+    private final Handler delegate;
+    private final BooleanSupplier isAsyncEnabled;
+    private final BlockingQueue<LogRecord> pendingRecords;
+    private final Thread publisherThread;
+    private final AtomicBoolean isStarted = new AtomicBoolean();
+    private final AtomicBoolean isClosed = new AtomicBoolean();
+    private final AtomicLong numQueuedRecords = new AtomicLong();
+    private final Object publishedLock = new Object();
+    private long numPublishedRecords;
+
+    AsyncLogHandler(Handler delegate, int capacity, BooleanSupplier isAsyncEnabled) {
+        this.delegate = delegate;
+        this.isAsyncEnabled = isAsyncEnabled;
+        this.pendingRecords = new ArrayBlockingQueue<>(capacity);
+        this.publisherThread = new Thread(this::publishPendingRecords, "async-log-handler");
+        this.publisherThread.setDaemon(true);
+    }
+
+    @Override
+    public void publish(LogRecord record) {
+        if (!isLoggable(record)) {
+            return;
+        }
+        if (!isClosed.get() && isAsyncEnabled.getAsBoolean()) {
+            if (isStarted.compareAndSet(false, true)) {
+                publisherThread.start();
+            }
+            numQueuedRecords.incrementAndGet();
+            if (pendingRecords.offer(record)) {
+                return;
+            }
+            numQueuedRecords.decrementAndGet();
+        }
+        delegate.publish(record);
+    }
+
+    @Override
+    public boolean isLoggable(LogRecord record) {
+        return delegate.isLoggable(record);
+    }
+
+    /**
+     * Waits until all records queued so far have been published, then flushes the delegate handler.
+     */
+    @Override
+    public void flush() {
+        long numRecordsToPublish = numQueuedRecords.get();
+        synchronized (publishedLock) {
+            while (numPublishedRecords < numRecordsToPublish && !isClosed.get()) {
+                try {
+                    publishedLock.wait(POLL_TIMEOUT_MILLIS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+            }
+        }
+        delegate.flush();
+    }
+
+    /**
+     * Stops the background thread, then publishes all pending records and closes the delegate handler.
+     */
+    @Override
+    public void close() {
+        isClosed.set(true);
+        if (isStarted.get()) {
+            publisherThread.interrupt();
+            try {
+                publisherThread.join(CLOSE_TIMEOUT_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        List<LogRecord> records = new ArrayList<>();
+        pendingRecords.drainTo(records);
+        for (LogRecord record : records) {
+            delegate.publish(record);
+        }
+        delegate.close();
+    }
+
+    private void publishPendingRecords() {
+        while (!isClosed.get()) {
+            LogRecord record;
+            try {
+                record = pendingRecords.poll(POLL_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                return;
+            }
+            if (record == null) {
+                continue;
+            }
+            delegate.publish(record);
+            synchronized (publishedLock) {
+                numPublishedRecords++;
+                publishedLock.notifyAll();
+            }
+        }
+    }
+
+}
@@ -0,0 +1,142 @@
+package teammates.common.util;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A template which has been parsed once into literal segments and placeholder slots of the form {@code ${name}},
+ * so that it can be populated many times without rescanning the template for every placeholder.
+ *
+ * <p>Populating a compiled template gives the same result as replacing each placeholder in turn
+ * (see {@link Templates#populateTemplate(String, String...)}): placeholders without a given value are kept as is,
+ * and placeholders in a value are filled by the key-value pairs which come after it.
+ *
+ * <p>Instances are immutable and can be shared between threads.
+ */
+public final class CompiledTemplate {
+
+    private static final String PLACEHOLDER_START = "${";
+    private static final char PLACEHOLDER_END = '}';
+
+    private final String template;
+    private final String[] literals;
+    private final String[] placeholders;
+    private final int literalsLength;
+
+    private CompiledTemplate(String template, List<String> literals, List<String> placeholders) {
+        this.template = template;
+        this.literals = literals.toArray(new String[0]);
+        this.placeholders = placeholders.toArray(new String[0]);
+        this.literalsLength = literals.stream().mapToInt(String::length).sum();
+    }
+
+    /**
+     * Parses the given template into literal segments and placeholder slots.
+     */
+    public static CompiledTemplate compile(String template) {
+        List<String> literals = new ArrayList<>();
+        List<String> placeholders = new ArrayList<>();
+
+        int literalStart = 0;
+        int placeholderStart = template.indexOf(PLACEHOLDER_START);
+        while (placeholderStart >= 0) {
+            int placeholderEnd = template.indexOf(PLACEHOLDER_END, placeholderStart + PLACEHOLDER_START.length());
+            if (placeholderEnd < 0) {
+                break;
+            }
+            int nextPlaceholderStart = template.indexOf(PLACEHOLDER_START, placeholderStart + 1);
+            if (nextPlaceholderStart >= 0 && nextPlaceholderStart < placeholderEnd) {
+                // not a placeholder as it is not closed before the next one starts
+                placeholderStart = nextPlaceholderStart;
+                continue;
+            }
+            literals.add(template.substring(literalStart, placeholderStart));
+            placeholders.add(template.substring(placeholderStart, placeholderEnd + 1));
+            literalStart = placeholderEnd + 1;
+            placeholderStart = template.indexOf(PLACEHOLDER_START, literalStart);
+        }
+        literals.add(template.substring(literalStart));
+
+        return new CompiledTemplate(template, literals, placeholders);
+    }
+
+    /**
+     * Returns true if {@code key} is a single placeholder of the form {@code ${name}}.
+     */
+    static boolean isPlaceholder(String key) {
+        return key.startsWith(PLACEHOLDER_START)
+                && key.indexOf(PLACEHOLDER_END) == key.length() - 1
+                && key.lastIndexOf(PLACEHOLDER_START) == 0;
+    }
+
+    /**
+     * Returns the original template.
+     */
+    public String getTemplate() {
+        return template;
+    }
+
+    /**
+     * Populates the template by filling the placeholder slots with the given value strings.
+     *
+     * @param keyValuePairs Array of a variable, even number of key-value pairs:
+     *                   { "${key1}", "val1", "${key2}", "val2", ... }
+     * @return The populated template
+     */
+    public String render(String... keyValuePairs) {
+        assert keyValuePairs.length % 2 == 0 : "The number of elements in keyValuePairs passed in must be even";
+
+        int estimatedLength = literalsLength;
+        for (int i = 1; i < keyValuePairs.length; i += 2) {
+            estimatedLength += keyValuePairs[i].length();
+        }
+        StringBuilder out = new StringBuilder(estimatedLength);
+        appendTo(out, keyValuePairs, 0);
+        return out.toString();
+    }
+
+    /**
+     * Populates the template like {@link #render(String...)}, appending the result to {@code out}.
+     */
+    public void appendTo(StringBuilder out, String... keyValuePairs) {
+        assert keyValuePairs.length % 2 == 0 : "The number of elements in keyValuePairs passed in must be even";
+
+        appendTo(out, keyValuePairs, 0);
+    }
+
+    private void appendTo(StringBuilder out, String[] keyValuePairs, int firstKeyIndex) {
+        for (int i = 0; i < placeholders.length; i++) {
+            out.append(literals[i]);
+            int keyIndex = indexOfKey(placeholders[i], keyValuePairs, firstKeyIndex);
+            if (keyIndex < 0) {
+                out.append(placeholders[i]);
+            } else {
+                appendValue(out, keyValuePairs, keyIndex);
+            }
+        }
+        out.append(literals[placeholders.length]);
+    }
+
+    private static int indexOfKey(String placeholder, String[] keyValuePairs, int firstKeyIndex) {
+        for (int i = firstKeyIndex; i < keyValuePairs.length; i += 2) {
+            if (placeholder.equals(keyValuePairs[i])) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static void appendValue(StringBuilder out, String[] keyValuePairs, int keyIndex) {
+        String value = keyValuePairs[keyIndex + 1];
+        assert value != null : "The value of " + keyValuePairs[keyIndex] + " cannot be null";
+
+        int nextKeyIndex = keyIndex + 2;
+        if (nextKeyIndex < keyValuePairs.length && value.contains(PLACEHOLDER_START)) {
+            // e.g. a template fragment, whose placeholders are filled by the subsequent key-value pairs
+            compile(value).appendTo(out, keyValuePairs, nextKeyIndex);
+        } else {
+            out.append(value);
+        }
+    }
+
+}
@@ -4,7 +4,9 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Properties;
 
 /**
@@ -97,6 +99,30 @@ public final class Config {
     /** The value of the "app.maintenance" in build.properties file. */
     public static final boolean MAINTENANCE;
 
+    /** The value of the "app.enable.async.logging" in build.properties file. */
+    public static final boolean ENABLE_ASYNC_LOGGING;
+
+    /** The value of the "app.datastore.call.budget" in build.properties file. */
+    public static final int DATASTORE_CALL_BUDGET;
+
+    /** The value of the "app.datastore.call.budget.overrides" in build.properties file. */
+    public static final Map<String, Integer> DATASTORE_CALL_BUDGET_OVERRIDES;
+
+    /** The value of the "app.http.max.connections" in build.properties file. */
+    public static final int HTTP_MAX_CONNECTIONS;
+
+    /** The value of the "app.http.max.connections.per.host" in build.properties file. */
+    public static final int HTTP_MAX_CONNECTIONS_PER_HOST;
+
+    /** The value of the "app.http.connect.timeout.millis" in build.properties file. */
+    public static final int HTTP_CONNECT_TIMEOUT_MILLIS;
+
+    /** The value of the "app.http.socket.timeout.millis" in build.properties file. */
+    public static final int HTTP_SOCKET_TIMEOUT_MILLIS;
+
+    /** The value of the "app.enable.session.event.scheduler" in build.properties file. */
+    public static final boolean ENABLE_SESSION_EVENT_SCHEDULER;
+
     /** The value of the "app.localdatastore.port" in build-dev.properties file. */
     public static final int APP_LOCALDATASTORE_PORT;
 
@@ -106,6 +132,12 @@ public final class Config {
     /** The value of the "app.taskqueue.active" in build-dev.properties file. */
     public static final boolean TASKQUEUE_ACTIVE;
 
+    /** The value of the "app.taskqueue.workers" in build-dev.properties file. */
+    public static final int TASKQUEUE_WORKERS;
+
+    /** The value of the "app.taskqueue.journal" in build-dev.properties file. */
+    public static final String TASKQUEUE_JOURNAL;
+
     // Other properties
 
     /** Indicates whether the current server is dev server. */
@@ -170,12 +202,30 @@ public final class Config {
         ENABLE_DATASTORE_BACKUP = Boolean.parseBoolean(
                 getProperty(properties, devProperties, "app.enable.datastore.backup", "false"));
         MAINTENANCE = Boolean.parseBoolean(getProperty(properties, devProperties, "app.maintenance", "false"));
+        ENABLE_ASYNC_LOGGING = Boolean.parseBoolean(
+                getProperty(properties, devProperties, "app.enable.async.logging", "false"));
+        DATASTORE_CALL_BUDGET = Integer.parseInt(
+                getProperty(properties, devProperties, "app.datastore.call.budget", "100"));
+        DATASTORE_CALL_BUDGET_OVERRIDES = Collections.unmodifiableMap(parseDatastoreCallBudgetOverrides(
+                getProperty(properties, devProperties, "app.datastore.call.budget.overrides", "")));
+        HTTP_MAX_CONNECTIONS = Integer.parseInt(
+                getProperty(properties, devProperties, "app.http.max.connections", "50"));
+        HTTP_MAX_CONNECTIONS_PER_HOST = Integer.parseInt(
+                getProperty(properties, devProperties, "app.http.max.connections.per.host", "20"));
+        HTTP_CONNECT_TIMEOUT_MILLIS = Integer.parseInt(
+                getProperty(properties, devProperties, "app.http.connect.timeout.millis", "10000"));
+        HTTP_SOCKET_TIMEOUT_MILLIS = Integer.parseInt(
+                getProperty(properties, devProperties, "app.http.socket.timeout.millis", "30000"));
+        ENABLE_SESSION_EVENT_SCHEDULER = Boolean.parseBoolean(
+                getProperty(properties, devProperties, "app.enable.session.event.scheduler", "false"));
 
         // The following properties are not used in production server.
         // So they will only be read from build-dev.properties file.
         APP_LOCALDATASTORE_PORT = Integer.parseInt(devProperties.getProperty("app.localdatastore.port", "8484"));
         ENABLE_DEVSERVER_LOGIN = Boolean.parseBoolean(devProperties.getProperty("app.enable.devserver.login", "false"));
         TASKQUEUE_ACTIVE = Boolean.parseBoolean(devProperties.getProperty("app.taskqueue.active", "true"));
+        TASKQUEUE_WORKERS = Integer.parseInt(devProperties.getProperty("app.taskqueue.workers", "4"));
+        TASKQUEUE_JOURNAL = devProperties.getProperty("app.taskqueue.journal", "");
     }
 
     private Config() {
@@ -215,6 +265,33 @@ public final class Config {
         return getProperty(properties, devProperties, key, null);
     }
 
+    /**
+     * Parses a comma-separated list of {@code <action class>:<budget>} pairs.
+     */
+    static Map<String, Integer> parseDatastoreCallBudgetOverrides(String overrides) {
+        Map<String, Integer> budgets = new HashMap<>();
+        for (String override : overrides.split(",")) {
+            String[] actionClassAndBudget = override.trim().split(":");
+            if (actionClassAndBudget.length != 2) {
+                continue;
+            }
+            try {
+                budgets.put(actionClassAndBudget[0].trim(), Integer.parseInt(actionClassAndBudget[1].trim()));
+            } catch (NumberFormatException e) {
+                log.warning("Invalid datastore call budget for " + actionClassAndBudget[0] + ": "
+                        + actionClassAndBudget[1]);
+            }
+        }
+        return budgets;
+    }
+
+    /**
+     * Returns the number of datastore calls a request to the given action class is expected to make at most.
+     */
+    public static int getDatastoreCallBudget(String actionClass) {
+        return DATASTORE_CALL_BUDGET_OVERRIDES.getOrDefault(actionClass, DATASTORE_CALL_BUDGET);
+    }
+
     /**
      * Returns the port number at which the system will be run in.
      */
@@ -122,6 +122,7 @@ public final class Const {
         public static final String FEEDBACK_SESSION_LOG_TYPE = "fsltype";
         public static final String FEEDBACK_SESSION_LOG_STARTTIME = "fslstarttime";
         public static final String FEEDBACK_SESSION_LOG_ENDTIME = "fslendtime";
+        public static final String FEEDBACK_SESSION_LOG_IS_SUMMARY = "fslissummary";
 
         public static final String FEEDBACK_QUESTION_ID = "questionid";
         public static final String SINGLE_RECIPIENT_ID_FOR_SUBMISSION = "singlerecipientidforsubmission";
@@ -181,6 +182,10 @@ public final class Const {
         public static final String QUERY_LOGS_EXTRA_FILTERS = "extrafilters";
         public static final String QUERY_LOGS_ORDER = "order";
 
+        public static final String USAGE_STATISTICS_MAX_POINTS = "maxpoints";
+
+        public static final String METRICS_FORMAT = "format";
+
         public static final String LIMIT = "limit";
 
         public static final String NOTIFICATION_ID = "notificationid";
@@ -369,6 +374,7 @@ public final class Const {
         public static final String SESSION_LOGS = URI_PREFIX + "/logs/session";
         public static final String LOGS = URI_PREFIX + "/logs/query";
         public static final String ACTION_CLASS = URI_PREFIX + "/actionclass";
+        public static final String METRICS = URI_PREFIX + "/metrics";
         public static final String USER_COOKIE = URI_PREFIX + "/cookie";
     }
 
@@ -400,6 +406,11 @@ public final class Const {
     public static class TaskQueue {
         public static final String URI_PREFIX = "/worker";
 
+        public static final String FEEDBACK_SESSION_AUTOMATED_EMAIL_QUEUE_NAME =
+                "feedback-session-automated-email-queue";
+        public static final String FEEDBACK_SESSION_AUTOMATED_EMAIL_WORKER_URL =
+                URI_PREFIX + "/feedbackSessionAutomatedEmail";
+
         public static final String FEEDBACK_SESSION_PUBLISHED_EMAIL_QUEUE_NAME =
                 "feedback-session-published-email-queue";
         public static final String FEEDBACK_SESSION_PUBLISHED_EMAIL_WORKER_URL =
@@ -428,6 +439,7 @@ public final class Const {
 
         public static final String SEND_EMAIL_QUEUE_NAME = "send-email-queue";
         public static final String SEND_EMAIL_WORKER_URL = URI_PREFIX + "/sendEmail";
+        public static final String SEND_EMAIL_BATCH_WORKER_URL = URI_PREFIX + "/sendEmailBatch";
 
         public static final String STUDENT_COURSE_JOIN_EMAIL_QUEUE_NAME = "student-course-join-email-queue";
         public static final String STUDENT_COURSE_JOIN_EMAIL_WORKER_URL = URI_PREFIX + "/studentCourseJoinEmail";
@@ -0,0 +1,94 @@
+package teammates.common.util;
+
+import java.security.GeneralSecurityException;
+
+import javax.crypto.BadPaddingException;
+import javax.crypto.Cipher;
+import javax.crypto.IllegalBlockSizeException;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+/**
+ * Holds the ciphers and MACs used with the app's encryption key.
+ *
+ * <p>Looking up and initializing a {@link Cipher} or {@link Mac} costs far more than using it on the short
+ * values encrypted by the app, e.g. registration keys and CSRF tokens. As the instances are not thread-safe,
+ * each thread keeps its own instances, which are initialized once with the pre-built keys and then reused.
+ */
+final class CryptoHelper {
+
+    private static final String CIPHER_TRANSFORMATION = "AES/ECB/PKCS5Padding";
+    private static final String MAC_ALGORITHM = "HmacSHA1";
+
+    private static final SecretKeySpec CIPHER_KEY =
+            new SecretKeySpec(StringHelper.hexStringToByteArray(Config.ENCRYPTION_KEY), "AES");
+    private static final SecretKeySpec MAC_KEY =
+            new SecretKeySpec(StringHelper.hexStringToByteArray(Config.ENCRYPTION_KEY), MAC_ALGORITHM);
+
+    private static final ThreadLocal<Cipher> ENCRYPT_CIPHER =
+            ThreadLocal.withInitial(() -> createCipher(Cipher.ENCRYPT_MODE));
+    private static final ThreadLocal<Cipher> DECRYPT_CIPHER =
+            ThreadLocal.withInitial(() -> createCipher(Cipher.DECRYPT_MODE));
+    private static final ThreadLocal<Mac> MAC = ThreadLocal.withInitial(CryptoHelper::createMac);
+
+    private CryptoHelper() {
+        // utility class
+    }
+
+    private static Cipher createCipher(int mode) {
+        try {
+            Cipher cipher = Cipher.getInstance(CIPHER_TRANSFORMATION);
+            cipher.init(mode, CIPHER_KEY);
+            return cipher;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Failed to initialize " + CIPHER_TRANSFORMATION, e);
+        }
+    }
+
+    private static Mac createMac() {
+        try {
+            Mac mac = Mac.getInstance(MAC_ALGORITHM);
+            mac.init(MAC_KEY);
+            return mac;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Failed to initialize " + MAC_ALGORITHM, e);
+        }
+    }
+
+    /**
+     * Encrypts the given bytes with the app's encryption key.
+     */
+    static byte[] encrypt(byte[] plaintext) throws IllegalBlockSizeException, BadPaddingException {
+        Cipher cipher = ENCRYPT_CIPHER.get();
+        try {
+            // doFinal resets the cipher to its initialized state, ready for the next use
+            return cipher.doFinal(plaintext);
+        } catch (IllegalBlockSizeException | BadPaddingException | RuntimeException e) {
+            // do not reuse a cipher which may be left in an unknown state
+            ENCRYPT_CIPHER.remove();
+            throw e;
+        }
+    }
+
+    /**
+     * Decrypts the given bytes with the app's encryption key.
+     */
+    static byte[] decrypt(byte[] ciphertext) throws IllegalBlockSizeException, BadPaddingException {
+        Cipher cipher = DECRYPT_CIPHER.get();
+        try {
+            return cipher.doFinal(ciphertext);
+        } catch (IllegalBlockSizeException | BadPaddingException | RuntimeException e) {
+            DECRYPT_CIPHER.remove();
+            throw e;
+        }
+    }
+
+    /**
+     * Computes the HMAC SHA-1 of the given bytes with the app's encryption key.
+     */
+    static byte[] sign(byte[] data) {
+        // doFinal resets the MAC to its initialized state, ready for the next use
+        return MAC.get().doFinal(data);
+    }
+
+}
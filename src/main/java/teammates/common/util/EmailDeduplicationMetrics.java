@@ -0,0 +1,109 @@
+package teammates.common.util;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.ToLongFunction;
+
+/**
+ * Aggregates the metrics of the deduplication of emails sent by this instance, per email type.
+ *
+ * <p>Only emails with an idempotency key are counted. The metrics are kept in memory and are reset
+ * when the instance restarts.
+ */
+public final class EmailDeduplicationMetrics {
+
+    private static final ConcurrentMap<EmailType, EmailTypeMetrics> EMAIL_TYPE_METRICS = new ConcurrentHashMap<>();
+
+    private EmailDeduplicationMetrics() {
+        // utility class
+    }
+
+    /**
+     * Records that an email of the given type is allowed to be sent.
+     */
+    public static void recordEmailAllowed(EmailType emailType) {
+        getOrCreate(emailType).numEmailsAllowed.incrementAndGet();
+    }
+
+    /**
+     * Records that an email of the given type is not sent because it has been sent recently.
+     */
+    public static void recordDuplicateSuppressed(EmailType emailType) {
+        getOrCreate(emailType).numDuplicatesSuppressed.incrementAndGet();
+    }
+
+    private static EmailTypeMetrics getOrCreate(EmailType emailType) {
+        return EMAIL_TYPE_METRICS.computeIfAbsent(emailType, EmailTypeMetrics::new);
+    }
+
+    /**
+     * Returns the metrics of all email types which have been deduplicated, sorted by email type.
+     */
+    public static List<EmailTypeMetrics> getAllEmailTypeMetrics() {
+        List<EmailTypeMetrics> allMetrics = new ArrayList<>(EMAIL_TYPE_METRICS.values());
+        allMetrics.sort(Comparator.comparing(EmailTypeMetrics::getEmailType));
+        return allMetrics;
+    }
+
+    /**
+     * Returns the metrics of all email types in the Prometheus text exposition format.
+     */
+    public static String toPrometheusText() {
+        List<EmailTypeMetrics> allMetrics = getAllEmailTypeMetrics();
+        StringBuilder sb = new StringBuilder();
+        appendCounter(sb, allMetrics, "teammates_keyed_emails_allowed_total",
+                "Number of emails with an idempotency key which are allowed to be sent.",
+                EmailTypeMetrics::getNumEmailsAllowed);
+        appendCounter(sb, allMetrics, "teammates_email_duplicates_suppressed_total",
+                "Number of emails not sent because an email with the same idempotency key was sent recently.",
+                EmailTypeMetrics::getNumDuplicatesSuppressed);
+        return sb.toString();
+    }
+
+    private static void appendCounter(StringBuilder sb, List<EmailTypeMetrics> allMetrics, String name, String help,
+                                      ToLongFunction<EmailTypeMetrics> counter) {
+        sb.append("# HELP ").append(name).append(' ').append(help).append('\n')
+                .append("# TYPE ").append(name).append(" counter\n");
+        for (EmailTypeMetrics metrics : allMetrics) {
+            sb.append(name).append("{type=\"").append(metrics.getEmailType()).append("\"} ")
+                    .append(counter.applyAsLong(metrics)).append('\n');
+        }
+    }
+
+    /**
+     * Discards the metrics of all email types.
+     */
+    public static void reset() {
+        EMAIL_TYPE_METRICS.clear();
+    }
+
+    /**
+     * The deduplication metrics of a single email type.
+     */
+    public static final class EmailTypeMetrics {
+        private final EmailType emailType;
+        private final AtomicLong numEmailsAllowed = new AtomicLong();
+        private final AtomicLong numDuplicatesSuppressed = new AtomicLong();
+
+        private EmailTypeMetrics(EmailType emailType) {
+            this.emailType = emailType;
+        }
+
+        public EmailType getEmailType() {
+            return emailType;
+        }
+
+        public long getNumEmailsAllowed() {
+            return numEmailsAllowed.get();
+        }
+
+        public long getNumDuplicatesSuppressed() {
+            return numDuplicatesSuppressed.get();
+        }
+    }
+
+}
@@ -19,6 +19,7 @@ public class EmailWrapper {
     private String subject;
     private String content;
     private boolean isCopy;
+    private String idempotencyKey;
 
     public EmailType getType() {
         return type;
@@ -105,4 +106,18 @@ public class EmailWrapper {
         this.isCopy = isCopy;
     }
 
+    public String getIdempotencyKey() {
+        return idempotencyKey;
+    }
+
+    /**
+     * Sets the key which identifies the email across retries of its sending, or null if the email is
+     * not to be deduplicated.
+     *
+     * <p>Emails with the same key are sent at most once within a period of time.
+     */
+    public void setIdempotencyKey(String idempotencyKey) {
+        this.idempotencyKey = idempotencyKey;
+    }
+
 }
@@ -13,6 +13,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.function.BiPredicate;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 import teammates.common.datatransfer.FeedbackParticipantType;
@@ -267,6 +268,13 @@ public final class FieldValidator {
      */
     public static final String REGEX_GOOGLE_ID_NON_EMAIL = "[a-zA-Z0-9_.-]+";
 
+    // The patterns are compiled once as compiling them, especially with CANON_EQ, costs far more than matching.
+    // The flags are the same as the ones used by StringHelper#isMatching.
+    private static final Pattern PATTERN_NAME = Pattern.compile(REGEX_NAME, Pattern.CANON_EQ);
+    private static final Pattern PATTERN_COURSE_ID = Pattern.compile(REGEX_COURSE_ID, Pattern.CANON_EQ);
+    private static final Pattern PATTERN_EMAIL = Pattern.compile(REGEX_EMAIL, Pattern.CANON_EQ);
+    private static final Pattern PATTERN_GOOGLE_ID_NON_EMAIL = Pattern.compile(REGEX_GOOGLE_ID_NON_EMAIL, Pattern.CANON_EQ);
+
     private FieldValidator() {
         // utility class
         // Intentional private constructor to prevent instantiation.
@@ -324,9 +332,6 @@ public final class FieldValidator {
 
         assert googleId != null;
 
-        boolean isValidFullEmail = isValidEmailAddress(googleId);
-        boolean isValidEmailWithoutDomain = StringHelper.isMatching(googleId, REGEX_GOOGLE_ID_NON_EMAIL);
-
         if (googleId.isEmpty()) {
             return getPopulatedEmptyStringErrorMessage(GOOGLE_ID_ERROR_MESSAGE_EMPTY_STRING,
                                             GOOGLE_ID_FIELD_NAME, GOOGLE_ID_MAX_LENGTH);
@@ -335,7 +340,7 @@ public final class FieldValidator {
         } else if (googleId.length() > GOOGLE_ID_MAX_LENGTH) {
             return getPopulatedErrorMessage(GOOGLE_ID_ERROR_MESSAGE, googleId, GOOGLE_ID_FIELD_NAME,
                                             REASON_TOO_LONG, GOOGLE_ID_MAX_LENGTH);
-        } else if (!(isValidFullEmail || isValidEmailWithoutDomain)) {
+        } else if (!PATTERN_GOOGLE_ID_NON_EMAIL.matcher(googleId).matches() && !isValidEmailAddress(googleId)) {
             return getPopulatedErrorMessage(GOOGLE_ID_ERROR_MESSAGE, googleId, GOOGLE_ID_FIELD_NAME,
                                             REASON_INCORRECT_FORMAT, GOOGLE_ID_MAX_LENGTH);
         }
@@ -364,7 +369,7 @@ public final class FieldValidator {
             return getPopulatedErrorMessage(COURSE_ID_ERROR_MESSAGE, courseId, COURSE_ID_FIELD_NAME,
                                             REASON_TOO_LONG, COURSE_ID_MAX_LENGTH);
         }
-        if (!StringHelper.isMatching(courseId, REGEX_COURSE_ID)) {
+        if (!PATTERN_COURSE_ID.matcher(courseId).matches()) {
             return getPopulatedErrorMessage(COURSE_ID_ERROR_MESSAGE, courseId, COURSE_ID_FIELD_NAME,
                                             REASON_INCORRECT_FORMAT, COURSE_ID_MAX_LENGTH);
         }
@@ -529,13 +534,13 @@ public final class FieldValidator {
                 return getPopulatedErrorMessage(INVALID_NAME_ERROR_MESSAGE, value,
                                                 fieldName, REASON_START_WITH_NON_ALPHANUMERIC_CHAR);
             }
-            if (!StringHelper.isMatching(value.substring(1), REGEX_NAME)) {
+            if (!PATTERN_NAME.matcher(value).region(1, value.length()).matches()) {
                 return getPopulatedErrorMessage(INVALID_NAME_ERROR_MESSAGE, value, fieldName,
                                                 REASON_CONTAINS_INVALID_CHAR);
             }
             return "";
         }
-        if (!StringHelper.isMatching(value, REGEX_NAME)) {
+        if (!PATTERN_NAME.matcher(value).matches()) {
             return getPopulatedErrorMessage(INVALID_NAME_ERROR_MESSAGE, value, fieldName,
                                             REASON_CONTAINS_INVALID_CHAR);
         }
@@ -977,7 +982,8 @@ public final class FieldValidator {
     }
 
     private static boolean isUntrimmed(String value) {
-        return value.length() != value.trim().length();
+        // Same as comparing the length of the value before and after String#trim, without trimming the value
+        return !value.isEmpty() && (value.charAt(0) <= ' ' || value.charAt(value.length() - 1) <= ' ');
     }
 
     /**
@@ -986,7 +992,7 @@ public final class FieldValidator {
      * @return true if it is a valid email address, else false.
      */
     private static boolean isValidEmailAddress(String email) {
-        return StringHelper.isMatching(email, REGEX_EMAIL);
+        return email.indexOf('@') >= 0 && PATTERN_EMAIL.matcher(email).matches();
     }
 
     /**
@@ -0,0 +1,110 @@
+package teammates.common.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import com.google.common.hash.HashFunction;
+import com.google.common.hash.Hashing;
+
+/**
+ * Remembers the idempotency keys of operations which have been performed recently, so that an operation
+ * which is requested again within the time-to-live of its key (e.g. by a retried task) can be skipped.
+ *
+ * <p>Keys are kept as 64-bit fingerprints in the order they are acquired, so that each key takes constant space
+ * regardless of its length and expired keys can be discarded from the oldest onwards. When the store is full,
+ * the oldest keys are discarded even if they have not expired.
+ *
+ * <p>The store is local to this instance; operations requested on different instances are not deduplicated.
+ */
+public final class IdempotencyStore {
+
+    private static final HashFunction FINGERPRINT_FUNCTION = Hashing.murmur3_128();
+
+    private final long ttlMillis;
+    private final int maxSize;
+    private final Object lock = new Object();
+
+    /**
+     * The expiry time of each fingerprint, in acquiring order.
+     */
+    private final LinkedHashMap<Long, Long> expiryTimes = new LinkedHashMap<>();
+
+    /**
+     * Creates a store which remembers each key for {@code ttlMillis}, and at most {@code maxSize} keys at a time.
+     */
+    public IdempotencyStore(long ttlMillis, int maxSize) {
+        assert ttlMillis > 0;
+        assert maxSize > 0;
+
+        this.ttlMillis = ttlMillis;
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Acquires the key at the given time.
+     *
+     * @return true if the key is acquired, or false if it has already been acquired and has not expired
+     */
+    public boolean tryAcquire(String key, long nowMillis) {
+        long fingerprint = getFingerprint(key);
+        synchronized (lock) {
+            removeExpired(nowMillis);
+            if (expiryTimes.containsKey(fingerprint)) {
+                return false;
+            }
+            if (expiryTimes.size() >= maxSize) {
+                Iterator<Long> oldest = expiryTimes.keySet().iterator();
+                oldest.next();
+                oldest.remove();
+            }
+            expiryTimes.put(fingerprint, nowMillis + ttlMillis);
+            return true;
+        }
+    }
+
+    /**
+     * Releases the key, e.g. because the operation failed and should be allowed to be retried.
+     */
+    public void release(String key) {
+        long fingerprint = getFingerprint(key);
+        synchronized (lock) {
+            expiryTimes.remove(fingerprint);
+        }
+    }
+
+    /**
+     * Returns the number of keys currently remembered, including expired keys which have not been discarded yet.
+     */
+    public int size() {
+        synchronized (lock) {
+            return expiryTimes.size();
+        }
+    }
+
+    /**
+     * Discards all keys.
+     */
+    public void clear() {
+        synchronized (lock) {
+            expiryTimes.clear();
+        }
+    }
+
+    private void removeExpired(long nowMillis) {
+        Iterator<Map.Entry<Long, Long>> iterator = expiryTimes.entrySet().iterator();
+        while (iterator.hasNext()) {
+            if (iterator.next().getValue() > nowMillis) {
+                // the remaining keys are acquired later and expire later
+                return;
+            }
+            iterator.remove();
+        }
+    }
+
+    private static long getFingerprint(String key) {
+        return FINGERPRINT_FUNCTION.hashString(key, StandardCharsets.UTF_8).asLong();
+    }
+
+}
@@ -15,6 +15,7 @@ import com.google.gson.JsonParser;
 import com.google.gson.JsonPrimitive;
 import com.google.gson.JsonSerializationContext;
 import com.google.gson.JsonSerializer;
+import com.google.gson.stream.JsonWriter;
 
 import teammates.common.datatransfer.logs.LogDetails;
 import teammates.common.datatransfer.logs.LogEvent;
@@ -27,6 +28,10 @@ import teammates.common.datatransfer.questions.FeedbackResponseDetails;
  */
 public final class JsonUtils {
 
+    // Gson instances are thread-safe and expensive to create, so they are created once and reused
+    private static final Gson COMPACT_GSON = getGsonInstance(false);
+    private static final Gson PRETTY_GSON = getGsonInstance(true);
+
     private JsonUtils() {
         // utility class
     }
@@ -56,7 +61,7 @@ public final class JsonUtils {
      * @see Gson#toJson(Object, Type)
      */
     public static String toJson(Object src, Type typeOfSrc) {
-        return getGsonInstance(true).toJson(src, typeOfSrc);
+        return PRETTY_GSON.toJson(src, typeOfSrc);
     }
 
     /**
@@ -65,7 +70,7 @@ public final class JsonUtils {
      * @see Gson#toJson(Object)
      */
     public static String toJson(Object src) {
-        return getGsonInstance(true).toJson(src);
+        return PRETTY_GSON.toJson(src);
     }
 
     /**
@@ -74,7 +79,7 @@ public final class JsonUtils {
      * @see Gson#toJson(Object)
      */
     public static String toCompactJson(Object src) {
-        return getGsonInstance(false).toJson(src);
+        return COMPACT_GSON.toJson(src);
     }
 
     /**
@@ -84,7 +89,16 @@ public final class JsonUtils {
      * @see Gson#toJson(Object, Appendable)
      */
     public static void toCompactJson(Object src, Appendable writer) {
-        getGsonInstance(false).toJson(src, writer);
+        COMPACT_GSON.toJson(src, writer);
+    }
+
+    /**
+     * Serializes the specified object into its equivalent JSON and streams it into a {@link JsonWriter}.
+     *
+     * @see Gson#toJson(Object, Type, JsonWriter)
+     */
+    public static void toCompactJson(Object src, Type typeOfSrc, JsonWriter writer) {
+        COMPACT_GSON.toJson(src, typeOfSrc, writer);
     }
 
     /**
@@ -93,7 +107,7 @@ public final class JsonUtils {
      * @see Gson#fromJson(String, Type)
      */
     public static <T> T fromJson(String json, Type typeOfT) {
-        return getGsonInstance(false).fromJson(json, typeOfT);
+        return COMPACT_GSON.fromJson(json, typeOfT);
     }
 
     /**
@@ -102,7 +116,7 @@ public final class JsonUtils {
      * @see Gson#fromJson(String, Class)
      */
     public static <T> T fromJson(String json, Class<T> classOfT) {
-        return getGsonInstance(false).fromJson(json, classOfT);
+        return COMPACT_GSON.fromJson(json, classOfT);
     }
 
     /**
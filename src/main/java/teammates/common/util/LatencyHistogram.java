@@ -0,0 +1,101 @@
+package teammates.common.util;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Records latency values (in millis) into log-linear buckets, in the style of an HDR histogram.
+ *
+ * <p>Values below 32 are recorded exactly; larger values are recorded with a relative error
+ * of at most 1/16. Values above {@link #MAX_TRACKABLE_VALUE} are recorded in the highest bucket.
+ *
+ * <p>Recording is thread-safe and does not allocate memory.
+ */
+public final class LatencyHistogram {
+
+    /**
+     * The highest latency value (in millis) that can be distinguished, a little over an hour.
+     */
+    public static final long MAX_TRACKABLE_VALUE = (1L << 22) - 1;
+
+    private static final int SUB_BUCKET_BITS = 4;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    private static final int LINEAR_BUCKET_COUNT = SUB_BUCKET_COUNT * 2;
+    private static final int LINEAR_BUCKET_BITS = SUB_BUCKET_BITS + 1;
+    private static final int BUCKET_COUNT = bucketIndexOf(MAX_TRACKABLE_VALUE) + 1;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+    private final AtomicLong totalCount = new AtomicLong();
+    private final AtomicLong totalValue = new AtomicLong();
+    private final AtomicLong maxValue = new AtomicLong();
+
+    /**
+     * Records a latency value (in millis). Negative values are recorded as zero.
+     */
+    public void record(long value) {
+        long boundedValue = Math.min(Math.max(value, 0L), MAX_TRACKABLE_VALUE);
+        counts.incrementAndGet(bucketIndexOf(boundedValue));
+        totalCount.incrementAndGet();
+        totalValue.addAndGet(boundedValue);
+        maxValue.accumulateAndGet(boundedValue, Math::max);
+    }
+
+    public long getTotalCount() {
+        return totalCount.get();
+    }
+
+    public long getTotalValue() {
+        return totalValue.get();
+    }
+
+    public long getMaxValue() {
+        return maxValue.get();
+    }
+
+    /**
+     * Returns the value at the given percentile (between 0 and 100) of all recorded values,
+     * or zero if no value has been recorded.
+     *
+     * <p>The returned value is the highest value equivalent to the bucket the percentile falls into,
+     * capped at the maximum recorded value.
+     */
+    public long getValueAtPercentile(double percentile) {
+        assert percentile >= 0 && percentile <= 100;
+
+        long count = totalCount.get();
+        if (count == 0) {
+            return 0L;
+        }
+        long countAtPercentile = Math.max(1L, (long) Math.ceil(percentile / 100 * count));
+        long cumulativeCount = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            cumulativeCount += counts.get(i);
+            if (cumulativeCount >= countAtPercentile) {
+                return Math.min(highestValueOfBucket(i), maxValue.get());
+            }
+        }
+        return maxValue.get();
+    }
+
+    private static int bucketIndexOf(long value) {
+        if (value < LINEAR_BUCKET_COUNT) {
+            return (int) value;
+        }
+        int highestBit = 63 - Long.numberOfLeadingZeros(value);
+        int shift = highestBit - SUB_BUCKET_BITS;
+        int subBucket = (int) (value >>> shift) - SUB_BUCKET_COUNT;
+        return LINEAR_BUCKET_COUNT + (highestBit - LINEAR_BUCKET_BITS) * SUB_BUCKET_COUNT + subBucket;
+    }
+
+    private static long highestValueOfBucket(int index) {
+        if (index < LINEAR_BUCKET_COUNT) {
+            return index;
+        }
+        int offset = index - LINEAR_BUCKET_COUNT;
+        int highestBit = offset / SUB_BUCKET_COUNT + LINEAR_BUCKET_BITS;
+        int shift = highestBit - SUB_BUCKET_BITS;
+        long subBucket = offset % SUB_BUCKET_COUNT + SUB_BUCKET_COUNT;
+        return ((subBucket + 1) << shift) - 1;
+    }
+
+}
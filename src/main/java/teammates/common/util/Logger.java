@@ -4,14 +4,12 @@ import java.io.PrintWriter;
 import java.io.StringWriter;
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
 import javax.servlet.http.HttpServletRequest;
 
-import com.google.common.reflect.TypeToken;
-
 import teammates.common.datatransfer.logs.ExceptionLogDetails;
 import teammates.common.datatransfer.logs.InstanceLogDetails;
 import teammates.common.datatransfer.logs.LogDetails;
@@ -34,7 +32,7 @@ public final class Logger {
         String loggerName = logRequester == null ? "null" : logRequester.getClassName();
         this.standardLog = java.util.logging.Logger.getLogger(loggerName + "-out");
         this.standardLog.setUseParentHandlers(false);
-        this.standardLog.addHandler(new StdOutConsoleHandler());
+        this.standardLog.addHandler(StandardLogHandlerHolder.INSTANCE);
 
         this.errorLog = java.util.logging.Logger.getLogger(loggerName + "-err");
     }
@@ -85,16 +83,12 @@ public final class Logger {
 
         String message = "Instance " + instanceEvent.toLowerCase() + ": " + shortenedInstanceId;
 
-        Map<String, Object> payload = new HashMap<>();
+        Map<String, Object> payload = new LinkedHashMap<>();
         payload.put("message", message);
         payload.put("severity", LogSeverity.INFO);
 
-        Map<String, Object> detailsSpecificPayload =
-                JsonUtils.fromJson(JsonUtils.toCompactJson(details), new TypeToken<Map<String, Object>>(){}.getType());
-        payload.putAll(detailsSpecificPayload);
-
         // Need to use println as the logger is disabled when the instance is shutting down
-        System.out.println(JsonUtils.toCompactJson(payload));
+        System.out.println(StructuredLogWriter.toJson(payload, details));
     }
 
     /**
@@ -115,6 +109,9 @@ public final class Logger {
         RequestLogDetails details = new RequestLogDetails();
         details.setResponseStatus(statusCode);
         details.setResponseTime(timeElapsed);
+        details.setNumSavedReads(RequestTracer.getNumSavedReads());
+        details.setNumDatastoreCalls(RequestTracer.getNumDatastoreCalls());
+        details.setDatastoreCallSummary(RequestTracer.getDatastoreCallSummary());
         details.setRequestMethod(method);
         details.setRequestUrl(requestUrl);
         details.setUserAgent(request.getHeader("User-Agent"));
@@ -147,11 +144,7 @@ public final class Logger {
                     + JsonUtils.toCompactJson(details);
         } else {
             Map<String, Object> payload = getBaseCloudLoggingPayload(message, LogSeverity.INFO);
-            Map<String, Object> detailsSpecificPayload =
-                    JsonUtils.fromJson(JsonUtils.toCompactJson(details), new TypeToken<Map<String, Object>>(){}.getType());
-            payload.putAll(detailsSpecificPayload);
-
-            logMessage = JsonUtils.toCompactJson(payload);
+            logMessage = StructuredLogWriter.toJson(payload, details);
         }
         standardLog.info(logMessage);
     }
@@ -230,11 +223,7 @@ public final class Logger {
             details.setLoggerSourceLocation(loggerSourceLocation);
         }
 
-        Map<String, Object> detailsSpecificPayload =
-                JsonUtils.fromJson(JsonUtils.toCompactJson(details), new TypeToken<Map<String, Object>>(){}.getType());
-        payload.putAll(detailsSpecificPayload);
-
-        return JsonUtils.toCompactJson(payload);
+        return StructuredLogWriter.toJson(payload, details);
     }
 
     /**
@@ -298,7 +287,7 @@ public final class Logger {
     }
 
     private Map<String, Object> getBaseCloudLoggingPayload(String message, LogSeverity severity) {
-        Map<String, Object> payload = new HashMap<>();
+        Map<String, Object> payload = new LinkedHashMap<>();
         payload.put("message", message);
         payload.put("severity", severity);
 
@@ -335,4 +324,21 @@ public final class Logger {
         return null;
     }
 
+    /**
+     * Holds the handler shared by all standard logs.
+     *
+     * <p>Whether asynchronous logging is enabled is read for every record rather than when a logger is created,
+     * as {@link Config} itself creates a logger while its fields are being initialized.
+     */
+    private static class StandardLogHandlerHolder {
+        private static final int MAX_PENDING_RECORDS = 10_000;
+        private static final AsyncLogHandler INSTANCE = new AsyncLogHandler(
+                new StdOutConsoleHandler(), MAX_PENDING_RECORDS, () -> Config.ENABLE_ASYNC_LOGGING);
+
+        static {
+            // Publish any pending log line before the instance shuts down
+            Runtime.getRuntime().addShutdownHook(new Thread(INSTANCE::close));
+        }
+    }
+
 }
@@ -0,0 +1,149 @@
+package teammates.common.util;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.ToLongFunction;
+
+/**
+ * Aggregates the metrics of HTTP requests made by this instance to external services, per host.
+ *
+ * <p>The metrics are kept in memory and are reset when the instance restarts.
+ */
+public final class OutboundRequestMetrics {
+
+    private static final double[] REPORTED_PERCENTILES = { 50, 90, 99 };
+
+    private static final ConcurrentMap<String, HostMetrics> HOST_METRICS = new ConcurrentHashMap<>();
+
+    private OutboundRequestMetrics() {
+        // utility class
+    }
+
+    /**
+     * Records that a response with the given status code is received from the given host.
+     */
+    public static void recordResponse(String host, int statusCode, long latencyMillis) {
+        HostMetrics metrics = getOrCreate(host);
+        metrics.latencyHistogram.record(latencyMillis);
+        if (statusCode >= 400) {
+            metrics.numErrorResponses.incrementAndGet();
+        }
+    }
+
+    /**
+     * Records that a request to the given host failed without a response, e.g. because of a timeout.
+     */
+    public static void recordFailure(String host) {
+        getOrCreate(host).numFailures.incrementAndGet();
+    }
+
+    /**
+     * Records that a new connection is opened to the given host.
+     */
+    public static void recordConnectionOpened(String host) {
+        getOrCreate(host).numConnectionsOpened.incrementAndGet();
+    }
+
+    private static HostMetrics getOrCreate(String host) {
+        return HOST_METRICS.computeIfAbsent(host, HostMetrics::new);
+    }
+
+    /**
+     * Returns the metrics of all hosts which have been sent requests, sorted by host.
+     */
+    public static List<HostMetrics> getAllHostMetrics() {
+        List<HostMetrics> allMetrics = new ArrayList<>(HOST_METRICS.values());
+        allMetrics.sort(Comparator.comparing(HostMetrics::getHost));
+        return allMetrics;
+    }
+
+    /**
+     * Returns the metrics of all hosts in the Prometheus text exposition format.
+     */
+    public static String toPrometheusText() {
+        List<HostMetrics> allMetrics = getAllHostMetrics();
+        StringBuilder sb = new StringBuilder();
+
+        sb.append("# HELP teammates_outbound_request_latency_milliseconds Latency of requests to external hosts.\n"
+                + "# TYPE teammates_outbound_request_latency_milliseconds summary\n");
+        for (HostMetrics metrics : allMetrics) {
+            LatencyHistogram histogram = metrics.getLatencyHistogram();
+            for (double percentile : REPORTED_PERCENTILES) {
+                sb.append("teammates_outbound_request_latency_milliseconds{host=\"").append(metrics.getHost())
+                        .append("\",quantile=\"").append(percentile / 100).append("\"} ")
+                        .append(histogram.getValueAtPercentile(percentile)).append('\n');
+            }
+            sb.append("teammates_outbound_request_latency_milliseconds_sum{host=\"").append(metrics.getHost())
+                    .append("\"} ").append(histogram.getTotalValue()).append('\n');
+            sb.append("teammates_outbound_request_latency_milliseconds_count{host=\"").append(metrics.getHost())
+                    .append("\"} ").append(histogram.getTotalCount()).append('\n');
+        }
+
+        appendCounter(sb, allMetrics, "teammates_outbound_error_responses_total",
+                "Number of responses with an error status code from external hosts.",
+                HostMetrics::getNumErrorResponses);
+        appendCounter(sb, allMetrics, "teammates_outbound_request_failures_total",
+                "Number of requests to external hosts which failed without a response.", HostMetrics::getNumFailures);
+        appendCounter(sb, allMetrics, "teammates_outbound_connections_opened_total",
+                "Number of connections opened to external hosts.", HostMetrics::getNumConnectionsOpened);
+
+        return sb.toString();
+    }
+
+    private static void appendCounter(StringBuilder sb, List<HostMetrics> allMetrics, String name, String help,
+                                      ToLongFunction<HostMetrics> counter) {
+        sb.append("# HELP ").append(name).append(' ').append(help).append('\n')
+                .append("# TYPE ").append(name).append(" counter\n");
+        for (HostMetrics metrics : allMetrics) {
+            sb.append(name).append("{host=\"").append(metrics.getHost()).append("\"} ")
+                    .append(counter.applyAsLong(metrics)).append('\n');
+        }
+    }
+
+    /**
+     * Discards the metrics of all hosts.
+     */
+    public static void reset() {
+        HOST_METRICS.clear();
+    }
+
+    /**
+     * The metrics of requests to a single host.
+     */
+    public static final class HostMetrics {
+        private final String host;
+        private final LatencyHistogram latencyHistogram = new LatencyHistogram();
+        private final AtomicLong numErrorResponses = new AtomicLong();
+        private final AtomicLong numFailures = new AtomicLong();
+        private final AtomicLong numConnectionsOpened = new AtomicLong();
+
+        private HostMetrics(String host) {
+            this.host = host;
+        }
+
+        public String getHost() {
+            return host;
+        }
+
+        public LatencyHistogram getLatencyHistogram() {
+            return latencyHistogram;
+        }
+
+        public long getNumErrorResponses() {
+            return numErrorResponses.get();
+        }
+
+        public long getNumFailures() {
+            return numFailures.get();
+        }
+
+        public long getNumConnectionsOpened() {
+            return numConnectionsOpened.get();
+        }
+    }
+
+}
@@ -0,0 +1,137 @@
+package teammates.common.util;
+
+import java.util.concurrent.TimeUnit;
+
+import org.apache.http.HttpHost;
+import org.apache.http.HttpRequestInterceptor;
+import org.apache.http.HttpResponseInterceptor;
+import org.apache.http.client.HttpRequestRetryHandler;
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.client.protocol.HttpClientContext;
+import org.apache.http.config.Registry;
+import org.apache.http.config.RegistryBuilder;
+import org.apache.http.conn.ConnectionKeepAliveStrategy;
+import org.apache.http.conn.HttpConnectionFactory;
+import org.apache.http.conn.ManagedHttpClientConnection;
+import org.apache.http.conn.routing.HttpRoute;
+import org.apache.http.conn.socket.ConnectionSocketFactory;
+import org.apache.http.conn.socket.PlainConnectionSocketFactory;
+import org.apache.http.conn.ssl.SSLConnectionSocketFactory;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.DefaultConnectionKeepAliveStrategy;
+import org.apache.http.impl.client.DefaultHttpRequestRetryHandler;
+import org.apache.http.impl.client.HttpClients;
+import org.apache.http.impl.conn.ManagedHttpClientConnectionFactory;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.apache.http.pool.PoolStats;
+import org.apache.http.protocol.HttpContext;
+
+/**
+ * Holds the HTTP client shared by all outbound requests to external services.
+ *
+ * <p>Connections are kept alive in a bounded pool, so that consecutive requests to the same host
+ * reuse a connection instead of paying for the connection setup and TLS handshake every time.
+ * The latency and outcome of every request are recorded in {@link OutboundRequestMetrics}.
+ *
+ * <p>The pool size and timeouts are configured in build.properties.
+ */
+public final class PooledHttpClient {
+
+    private static final String REQUEST_START_TIME = "teammates.outbound.request.start";
+    private static final long DEFAULT_KEEP_ALIVE_MILLIS = 60_000L;
+    private static final int VALIDATE_AFTER_INACTIVITY_MILLIS = 2_000;
+
+    private static final PoolingHttpClientConnectionManager CONNECTION_MANAGER = createConnectionManager(
+            Config.HTTP_MAX_CONNECTIONS, Config.HTTP_MAX_CONNECTIONS_PER_HOST);
+    private static final CloseableHttpClient CLIENT = createClient(
+            CONNECTION_MANAGER, Config.HTTP_CONNECT_TIMEOUT_MILLIS, Config.HTTP_SOCKET_TIMEOUT_MILLIS);
+
+    private PooledHttpClient() {
+        // utility class
+    }
+
+    /**
+     * Returns the shared HTTP client.
+     *
+     * <p>The client must not be closed. Responses must be closed or fully consumed,
+     * so that their connections are returned to the pool.
+     */
+    public static CloseableHttpClient getClient() {
+        return CLIENT;
+    }
+
+    /**
+     * Returns the number of leased, available and pending connections of the pool.
+     */
+    public static PoolStats getPoolStats() {
+        return CONNECTION_MANAGER.getTotalStats();
+    }
+
+    static PoolingHttpClientConnectionManager createConnectionManager(int maxConnections, int maxConnectionsPerHost) {
+        Registry<ConnectionSocketFactory> socketFactoryRegistry = RegistryBuilder.<ConnectionSocketFactory>create()
+                .register("http", PlainConnectionSocketFactory.getSocketFactory())
+                .register("https", SSLConnectionSocketFactory.getSocketFactory())
+                .build();
+        HttpConnectionFactory<HttpRoute, ManagedHttpClientConnection> connectionFactory = (route, config) -> {
+            OutboundRequestMetrics.recordConnectionOpened(route.getTargetHost().getHostName());
+            return ManagedHttpClientConnectionFactory.INSTANCE.create(route, config);
+        };
+
+        PoolingHttpClientConnectionManager connectionManager =
+                new PoolingHttpClientConnectionManager(socketFactoryRegistry, connectionFactory);
+        connectionManager.setMaxTotal(maxConnections);
+        connectionManager.setDefaultMaxPerRoute(maxConnectionsPerHost);
+        connectionManager.setValidateAfterInactivity(VALIDATE_AFTER_INACTIVITY_MILLIS);
+        return connectionManager;
+    }
+
+    static CloseableHttpClient createClient(PoolingHttpClientConnectionManager connectionManager,
+                                            int connectTimeoutMillis, int socketTimeoutMillis) {
+        RequestConfig requestConfig = RequestConfig.custom()
+                .setConnectTimeout(connectTimeoutMillis)
+                .setConnectionRequestTimeout(connectTimeoutMillis)
+                .setSocketTimeout(socketTimeoutMillis)
+                .build();
+
+        ConnectionKeepAliveStrategy keepAliveStrategy = (response, context) -> {
+            // keep connections alive for as long as the server allows, if it says so
+            long keepAliveMillis = DefaultConnectionKeepAliveStrategy.INSTANCE.getKeepAliveDuration(response, context);
+            return keepAliveMillis > 0
+                    ? Math.min(keepAliveMillis, DEFAULT_KEEP_ALIVE_MILLIS)
+                    : DEFAULT_KEEP_ALIVE_MILLIS;
+        };
+
+        HttpRequestRetryHandler retryHandler = (exception, executionCount, context) -> {
+            OutboundRequestMetrics.recordFailure(getTargetHostName(context));
+            return DefaultHttpRequestRetryHandler.INSTANCE.retryRequest(exception, executionCount, context);
+        };
+
+        HttpRequestInterceptor startTimeRecorder = (request, context) -> {
+            context.setAttribute(REQUEST_START_TIME, System.nanoTime());
+        };
+        HttpResponseInterceptor responseRecorder = (response, context) -> {
+            Object startTime = context.getAttribute(REQUEST_START_TIME);
+            long latencyMillis = startTime == null
+                    ? 0 : TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - (long) startTime);
+            OutboundRequestMetrics.recordResponse(getTargetHostName(context),
+                    response.getStatusLine().getStatusCode(), latencyMillis);
+        };
+
+        return HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(requestConfig)
+                .setKeepAliveStrategy(keepAliveStrategy)
+                .setRetryHandler(retryHandler)
+                .evictExpiredConnections()
+                .evictIdleConnections(DEFAULT_KEEP_ALIVE_MILLIS, TimeUnit.MILLISECONDS)
+                .addInterceptorFirst(startTimeRecorder)
+                .addInterceptorLast(responseRecorder)
+                .build();
+    }
+
+    private static String getTargetHostName(HttpContext context) {
+        HttpHost targetHost = HttpClientContext.adapt(context).getTargetHost();
+        return targetHost == null ? "unknown" : targetHost.getHostName();
+    }
+
+}
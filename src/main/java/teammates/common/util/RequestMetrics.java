@@ -0,0 +1,150 @@
+package teammates.common.util;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Aggregates the metrics of HTTP requests served by this instance, per action class.
+ *
+ * <p>The metrics are kept in memory and are reset when the instance restarts.
+ */
+public final class RequestMetrics {
+
+    private static final double[] REPORTED_PERCENTILES = { 50, 90, 99 };
+    private static final int MAX_STATUS_CODE = 599;
+
+    private static final ConcurrentMap<String, ActionMetrics> ACTION_METRICS = new ConcurrentHashMap<>();
+
+    private RequestMetrics() {
+        // utility class
+    }
+
+    /**
+     * Records that a request to the given action class has started.
+     */
+    public static void recordRequestStart(String actionClass) {
+        getOrCreate(actionClass).inFlightCount.incrementAndGet();
+    }
+
+    /**
+     * Records that a request to the given action class has completed.
+     */
+    public static void recordRequestEnd(String actionClass, int statusCode, long latencyMillis) {
+        ActionMetrics metrics = getOrCreate(actionClass);
+        metrics.inFlightCount.decrementAndGet();
+        metrics.latencyHistogram.record(latencyMillis);
+        if (statusCode >= 0 && statusCode <= MAX_STATUS_CODE) {
+            metrics.statusCodeCounts.incrementAndGet(statusCode);
+        }
+    }
+
+    private static ActionMetrics getOrCreate(String actionClass) {
+        return ACTION_METRICS.computeIfAbsent(actionClass, ActionMetrics::new);
+    }
+
+    /**
+     * Returns the metrics of all action classes which have received requests, sorted by action class.
+     */
+    public static List<ActionMetrics> getAllActionMetrics() {
+        List<ActionMetrics> allMetrics = new ArrayList<>(ACTION_METRICS.values());
+        allMetrics.sort(Comparator.comparing(ActionMetrics::getActionClass));
+        return allMetrics;
+    }
+
+    /**
+     * Returns the metrics of all action classes in the Prometheus text exposition format.
+     */
+    public static String toPrometheusText() {
+        List<ActionMetrics> allMetrics = getAllActionMetrics();
+        StringBuilder sb = new StringBuilder();
+
+        sb.append("# HELP teammates_request_latency_milliseconds Latency of requests per action class.\n"
+                + "# TYPE teammates_request_latency_milliseconds summary\n");
+        for (ActionMetrics metrics : allMetrics) {
+            LatencyHistogram histogram = metrics.getLatencyHistogram();
+            for (double percentile : REPORTED_PERCENTILES) {
+                sb.append("teammates_request_latency_milliseconds{action=\"").append(metrics.getActionClass())
+                        .append("\",quantile=\"").append(percentile / 100).append("\"} ")
+                        .append(histogram.getValueAtPercentile(percentile)).append('\n');
+            }
+            sb.append("teammates_request_latency_milliseconds_sum{action=\"").append(metrics.getActionClass())
+                    .append("\"} ").append(histogram.getTotalValue()).append('\n');
+            sb.append("teammates_request_latency_milliseconds_count{action=\"").append(metrics.getActionClass())
+                    .append("\"} ").append(histogram.getTotalCount()).append('\n');
+        }
+
+        sb.append("# HELP teammates_requests_total Number of completed requests per action class and status code.\n"
+                + "# TYPE teammates_requests_total counter\n");
+        for (ActionMetrics metrics : allMetrics) {
+            for (Map.Entry<Integer, Long> entry : metrics.getStatusCodeCounts().entrySet()) {
+                sb.append("teammates_requests_total{action=\"").append(metrics.getActionClass())
+                        .append("\",status=\"").append(entry.getKey()).append("\"} ")
+                        .append(entry.getValue()).append('\n');
+            }
+        }
+
+        sb.append("# HELP teammates_requests_in_flight Number of requests currently being served per action class.\n"
+                + "# TYPE teammates_requests_in_flight gauge\n");
+        for (ActionMetrics metrics : allMetrics) {
+            sb.append("teammates_requests_in_flight{action=\"").append(metrics.getActionClass())
+                    .append("\"} ").append(metrics.getInFlightCount()).append('\n');
+        }
+
+        return sb.toString();
+    }
+
+    /**
+     * Discards the metrics of all action classes.
+     */
+    public static void reset() {
+        ACTION_METRICS.clear();
+    }
+
+    /**
+     * The metrics of requests to a single action class.
+     */
+    public static final class ActionMetrics {
+        private final String actionClass;
+        private final LatencyHistogram latencyHistogram = new LatencyHistogram();
+        private final AtomicLongArray statusCodeCounts = new AtomicLongArray(MAX_STATUS_CODE + 1);
+        private final AtomicInteger inFlightCount = new AtomicInteger();
+
+        private ActionMetrics(String actionClass) {
+            this.actionClass = actionClass;
+        }
+
+        public String getActionClass() {
+            return actionClass;
+        }
+
+        public LatencyHistogram getLatencyHistogram() {
+            return latencyHistogram;
+        }
+
+        public int getInFlightCount() {
+            return inFlightCount.get();
+        }
+
+        /**
+         * Returns the number of completed requests per status code, omitting status codes with no requests.
+         */
+        public Map<Integer, Long> getStatusCodeCounts() {
+            Map<Integer, Long> counts = new TreeMap<>();
+            for (int statusCode = 0; statusCode <= MAX_STATUS_CODE; statusCode++) {
+                long count = statusCodeCounts.get(statusCode);
+                if (count > 0) {
+                    counts.put(statusCode, count);
+                }
+            }
+            return counts;
+        }
+    }
+
+}
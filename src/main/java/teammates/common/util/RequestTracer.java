@@ -2,6 +2,12 @@ package teammates.common.util;
 
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 import teammates.common.exception.DeadlineExceededException;
 
@@ -12,6 +18,10 @@ public final class RequestTracer {
 
     private static final ThreadLocal<RequestTrace> THREAD_LOCAL = new ThreadLocal<>();
 
+    private static final int MAX_STACK_SAMPLE_DEPTH = 15;
+
+    private static final Logger log = Logger.getLogger();
+
     private RequestTracer() {
         // utility class
     }
@@ -71,6 +81,149 @@ public final class RequestTracer {
         return Instant.now().toEpochMilli() - trace.initTimestamp;
     }
 
+    /**
+     * Returns the value memoized under the given key for the current request,
+     * loading it with {@code loader} if it has not been memoized yet.
+     *
+     * <p>If there is no current request, the value is loaded without memoization.
+     * Null values are memoized as well.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> T memoize(String key, Supplier<T> loader) {
+        RequestTrace trace = THREAD_LOCAL.get();
+        if (trace == null) {
+            return loader.get();
+        }
+        if (trace.memo.containsKey(key)) {
+            trace.numSavedReads++;
+            return (T) trace.memo.get(key);
+        }
+        T value = loader.get();
+        trace.memo.put(key, value);
+        return value;
+    }
+
+    /**
+     * Discards all values memoized for the current request.
+     *
+     * <p>This should be called whenever the database is modified within the request.
+     */
+    public static void clearMemo() {
+        RequestTrace trace = THREAD_LOCAL.get();
+        if (trace == null) {
+            return;
+        }
+        trace.memo.clear();
+    }
+
+    /**
+     * Returns the number of reads served from the memo of the current request.
+     */
+    public static int getNumSavedReads() {
+        RequestTrace trace = THREAD_LOCAL.get();
+        if (trace == null) {
+            return 0;
+        }
+        return trace.numSavedReads;
+    }
+
+    /**
+     * Sets the number of datastore calls the current request is expected to make at most.
+     *
+     * <p>A warning with a sample of the stack is logged when the request makes more calls than this.
+     * A non-positive budget disables the check.
+     */
+    public static void setDatastoreCallBudget(int budget) {
+        RequestTrace trace = THREAD_LOCAL.get();
+        if (trace == null) {
+            return;
+        }
+        trace.datastoreCallBudget = budget;
+    }
+
+    /**
+     * Records a datastore read of entities of the given type made by the current request,
+     * whose latency is not known, e.g. as the read is a query which is run lazily.
+     */
+    public static void recordDatastoreRead(String entityType) {
+        recordDatastoreCall(entityType, false, 0L);
+    }
+
+    /**
+     * Records a datastore read of entities of the given type made by the current request,
+     * which took {@code latencyMillis} to complete.
+     */
+    public static void recordDatastoreRead(String entityType, long latencyMillis) {
+        recordDatastoreCall(entityType, false, latencyMillis);
+    }
+
+    /**
+     * Records a datastore write (save or delete) of entities of the given type made by the current request,
+     * which took {@code latencyMillis} to complete.
+     */
+    public static void recordDatastoreWrite(String entityType, long latencyMillis) {
+        recordDatastoreCall(entityType, true, latencyMillis);
+    }
+
+    private static void recordDatastoreCall(String entityType, boolean isWrite, long latencyMillis) {
+        RequestTrace trace = THREAD_LOCAL.get();
+        if (trace == null) {
+            return;
+        }
+        DatastoreCallCount count = trace.datastoreCallCounts.computeIfAbsent(entityType, k -> new DatastoreCallCount());
+        if (isWrite) {
+            count.numWrites++;
+            count.writeLatencyMillis += latencyMillis;
+        } else {
+            count.numReads++;
+            count.readLatencyMillis += latencyMillis;
+        }
+        trace.numDatastoreCalls++;
+
+        if (trace.datastoreCallBudget > 0 && trace.numDatastoreCalls == trace.datastoreCallBudget + 1) {
+            // Only the call which exceeds the budget is sampled, as it is usually made from within the offending loop
+            log.warning(String.format("Datastore call budget of %d exceeded by %s call of %s. Stack sample:%n%s",
+                    trace.datastoreCallBudget, isWrite ? "write" : "read", entityType, getStackSample()));
+        }
+    }
+
+    private static String getStackSample() {
+        return Arrays.stream(Thread.currentThread().getStackTrace())
+                .filter(ste -> ste.getClassName().startsWith("teammates")
+                        && !ste.getClassName().equals(RequestTracer.class.getName()))
+                .limit(MAX_STACK_SAMPLE_DEPTH)
+                .map(ste -> String.format("    at %s.%s(%s:%s)",
+                        ste.getClassName(), ste.getMethodName(), ste.getFileName(), ste.getLineNumber()))
+                .collect(Collectors.joining(System.lineSeparator()));
+    }
+
+    /**
+     * Returns the number of datastore calls made by the current request.
+     */
+    public static int getNumDatastoreCalls() {
+        RequestTrace trace = THREAD_LOCAL.get();
+        if (trace == null) {
+            return 0;
+        }
+        return trace.numDatastoreCalls;
+    }
+
+    /**
+     * Returns a summary of the datastore calls made by the current request per entity type,
+     * e.g. {@code Course: 1r/3ms, CourseStudent: 20r/40ms 2w/15ms}, or null if no call has been made.
+     *
+     * <p>The read latency only includes the reads whose latency is known.
+     */
+    public static String getDatastoreCallSummary() {
+        RequestTrace trace = THREAD_LOCAL.get();
+        if (trace == null || trace.datastoreCallCounts.isEmpty()) {
+            return null;
+        }
+        return trace.datastoreCallCounts.entrySet().stream()
+                .map(entry -> entry.getKey() + ": " + entry.getValue())
+                .collect(Collectors.joining(", "));
+    }
+
     /**
      * Initializes the request with an ID and the timeout value (in seconds).
      */
@@ -78,11 +231,25 @@ public final class RequestTracer {
         THREAD_LOCAL.set(new RequestTrace(traceId, spanId, timeoutInSeconds));
     }
 
+    /**
+     * Removes the information of the current request from the current thread.
+     *
+     * <p>For use in tests only, as the request threads are initialized afresh by {@link #init} for every request.
+     */
+    static void clear() {
+        THREAD_LOCAL.remove();
+    }
+
     private static class RequestTrace {
         private final String traceId;
         private final String spanId;
         private final long initTimestamp;
         private final long timeoutTimestamp;
+        private final Map<String, Object> memo = new HashMap<>();
+        private final Map<String, DatastoreCallCount> datastoreCallCounts = new TreeMap<>();
+        private int numSavedReads;
+        private int numDatastoreCalls;
+        private int datastoreCallBudget;
 
         private RequestTrace(String traceId, String spanId, int timeoutInSeconds) {
             this.traceId = traceId;
@@ -92,4 +259,26 @@ public final class RequestTracer {
         }
     }
 
+    private static class DatastoreCallCount {
+        private int numReads;
+        private long readLatencyMillis;
+        private int numWrites;
+        private long writeLatencyMillis;
+
+        @Override
+        public String toString() {
+            StringBuilder sb = new StringBuilder();
+            if (numReads > 0) {
+                sb.append(numReads).append("r/").append(readLatencyMillis).append("ms");
+            }
+            if (numWrites > 0) {
+                if (sb.length() > 0) {
+                    sb.append(' ');
+                }
+                sb.append(numWrites).append("w/").append(writeLatencyMillis).append("ms");
+            }
+            return sb.toString();
+        }
+    }
+
 }
@@ -5,6 +5,9 @@ import java.net.URLEncoder;
 import org.owasp.html.HtmlPolicyBuilder;
 import org.owasp.html.PolicyFactory;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
 /**
  * Class contains methods to sanitize user provided
  * parameters so that they conform to our data format
@@ -34,6 +37,20 @@ public final class SanitizationHelper {
                 .allowStyling()
                 .toFactory();
 
+    /**
+     * Maximum total length of the rich text, before and after sanitization, kept in {@link #richTextCache}.
+     */
+    private static final long MAX_CACHED_RICH_TEXT_LENGTH = 4_000_000L;
+
+    /**
+     * Caches the output of {@link #richTextPolicy} keyed by its input, as the same rich text is usually sanitized
+     * many times, e.g. every time a response is read, or whenever a question is saved again by a cascade.
+     */
+    private static final Cache<String, String> richTextCache = CacheBuilder.newBuilder()
+            .maximumWeight(MAX_CACHED_RICH_TEXT_LENGTH)
+            .weigher((String content, String sanitizedContent) -> content.length() + sanitizedContent.length())
+            .build();
+
     private SanitizationHelper() {
         // utility class
     }
@@ -96,7 +113,36 @@ public final class SanitizationHelper {
         if (content == null) {
             return null;
         }
-        return richTextPolicy.sanitize(sanitizeTextField(content));
+        String trimmedContent = sanitizeTextField(content);
+        if (!isChangeableByRichTextPolicy(trimmedContent)) {
+            return trimmedContent;
+        }
+
+        String sanitizedContent = richTextCache.getIfPresent(trimmedContent);
+        if (sanitizedContent == null) {
+            sanitizedContent = richTextPolicy.sanitize(trimmedContent);
+            richTextCache.put(trimmedContent, sanitizedContent);
+        }
+        return sanitizedContent;
+    }
+
+    /**
+     * Returns false if the content is certain to be left unchanged by {@link #richTextPolicy},
+     * i.e. it contains neither markup nor any character which the policy encodes or removes.
+     *
+     * <p>Plain-text letters, digits, spaces, tabs, line feeds and common punctuation are left unchanged.
+     */
+    private static boolean isChangeableByRichTextPolicy(String content) {
+        for (int i = 0; i < content.length(); i++) {
+            char c = content.charAt(i);
+            boolean isUnchangedChar = c < 0x80
+                    ? (c >= ' ' && c < 0x7f && "\"&'+<=>@`{}".indexOf(c) < 0) || c == '\t' || c == '\n'
+                    : Character.isLetterOrDigit(c);
+            if (!isUnchangedChar) {
+                return true;
+            }
+        }
+        return false;
     }
 
     /**
@@ -0,0 +1,108 @@
+package teammates.common.util;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import com.google.gson.stream.JsonWriter;
+
+import teammates.common.datatransfer.logs.LogDetails;
+
+/**
+ * Writes structured log payloads, i.e. a base payload merged with the fields of a {@link LogDetails}, as compact JSON.
+ *
+ * <p>The fields of the log details are streamed directly into the payload in a single pass,
+ * instead of being serialized, parsed back into a map, merged and serialized again.
+ */
+final class StructuredLogWriter {
+
+    private StructuredLogWriter() {
+        // utility class
+    }
+
+    /**
+     * Returns the JSON of the base payload merged with the fields of the log details.
+     *
+     * <p>If a field is present in both, the value in the log details takes precedence.
+     */
+    static String toJson(Map<String, Object> basePayload, LogDetails details) {
+        StringWriter out = new StringWriter();
+        try (PayloadJsonWriter writer = new PayloadJsonWriter(out, basePayload)) {
+            if (details == null) {
+                writer.beginObject();
+                writer.endObject();
+            } else {
+                JsonUtils.toCompactJson(details, details.getClass(), writer);
+            }
+        } catch (IOException e) {
+            // not expected as the JSON is written to a string
+            throw new UncheckedIOException(e);
+        }
+        return out.toString();
+    }
+
+    /**
+     * {@link JsonWriter} which appends the fields of the base payload to the outermost object,
+     * skipping those which have already been written.
+     */
+    private static class PayloadJsonWriter extends JsonWriter {
+
+        private final Map<String, Object> basePayload;
+        private final Set<String> writtenNames = new HashSet<>();
+        private String lastName;
+        private int depth;
+
+        PayloadJsonWriter(Writer out, Map<String, Object> basePayload) {
+            super(out);
+            this.basePayload = basePayload;
+        }
+
+        @Override
+        public JsonWriter beginObject() throws IOException {
+            depth++;
+            return super.beginObject();
+        }
+
+        @Override
+        public JsonWriter name(String name) throws IOException {
+            if (depth == 1) {
+                writtenNames.add(name);
+                lastName = name;
+            }
+            return super.name(name);
+        }
+
+        @Override
+        public JsonWriter nullValue() throws IOException {
+            if (depth == 1 && !getSerializeNulls()) {
+                // the null field will be omitted, so the base payload field of the same name should be kept
+                writtenNames.remove(lastName);
+            }
+            return super.nullValue();
+        }
+
+        @Override
+        public JsonWriter endObject() throws IOException {
+            if (depth == 1) {
+                writeBasePayload();
+            }
+            depth--;
+            return super.endObject();
+        }
+
+        private void writeBasePayload() throws IOException {
+            for (Map.Entry<String, Object> field : basePayload.entrySet()) {
+                if (field.getValue() == null || writtenNames.contains(field.getKey())) {
+                    continue;
+                }
+                name(field.getKey());
+                JsonUtils.toCompactJson(field.getValue(), field.getValue().getClass(), this);
+            }
+        }
+    }
+
+}
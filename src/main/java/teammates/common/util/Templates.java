@@ -14,6 +14,9 @@ public final class Templates {
     /**
      * Populates the HTML templates by replacing variables in the template string
      * with the given value strings.
+     *
+     * <p>If all variables are placeholders of the form {@code ${name}}, the template is populated in a single pass
+     * (see {@link CompiledTemplate}). Templates which are populated repeatedly should be compiled once instead.
      * @param template The template html to be populated
      * @param keyValuePairs Array of a variable, even number of key-value pairs:
      *                   { "key1", "val1", "key2", "val2", ... }
@@ -21,6 +24,9 @@ public final class Templates {
      */
     public static String populateTemplate(String template, String... keyValuePairs) {
         assert keyValuePairs.length % 2 == 0 : "The number of elements in keyValuePairs passed in must be even";
+        if (areAllPlaceholders(keyValuePairs)) {
+            return CompiledTemplate.compile(template).render(keyValuePairs);
+        }
         String populatedTemplate = template;
         for (int i = 0; i < keyValuePairs.length; i += 2) {
             populatedTemplate = populatedTemplate.replace(keyValuePairs[i], keyValuePairs[i + 1]);
@@ -28,6 +34,15 @@ public final class Templates {
         return populatedTemplate;
     }
 
+    private static boolean areAllPlaceholders(String... keyValuePairs) {
+        for (int i = 0; i < keyValuePairs.length; i += 2) {
+            if (!CompiledTemplate.isPlaceholder(keyValuePairs[i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     /**
      * Collection of templates of emails to be sent by the system.
      */
@@ -0,0 +1,218 @@
+package teammates.common.util;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A hierarchical timing wheel which holds keys to be fired at given times.
+ *
+ * <p>Each level of the wheel is a ring of buckets, where a bucket of one level spans a full turn of the level below.
+ * A key is put in the lowest level whose turn covers its fire time, and is moved down a level whenever
+ * the wheel reaches its bucket, so that scheduling, rescheduling and cancelling a key take constant time
+ * regardless of how far ahead its fire time is. Keys beyond the turn of the highest level are kept aside
+ * and revisited whenever the highest level completes a turn.
+ *
+ * <p>A key is fired once the wheel is advanced past its fire time, at most one tick late.
+ *
+ * <p>This class is not thread-safe.
+ *
+ * @param <K> the type of the keys
+ */
+public final class TimingWheel<K> {
+
+    private final long tickMillis;
+    private final int wheelSize;
+    private final List<List<Set<Entry<K>>>> levels = new ArrayList<>();
+    private final Set<Entry<K>> overflow = new LinkedHashSet<>();
+    private final List<Entry<K>> dueEntries = new ArrayList<>();
+    private final Map<K, Entry<K>> entries = new HashMap<>();
+
+    /**
+     * The last tick which the wheel has been advanced to.
+     */
+    private long currentTick;
+
+    /**
+     * Creates a timing wheel which starts at the given time.
+     *
+     * @param tickMillis the duration of a tick of the lowest level
+     * @param wheelSize the number of buckets of each level
+     * @param numLevels the number of levels, which together cover {@code tickMillis * wheelSize ^ numLevels}
+     * @param startMillis the time of the start of the wheel, in epoch milliseconds
+     */
+    public TimingWheel(long tickMillis, int wheelSize, int numLevels, long startMillis) {
+        assert tickMillis > 0;
+        assert wheelSize > 1;
+        assert numLevels > 0;
+
+        this.tickMillis = tickMillis;
+        this.wheelSize = wheelSize;
+        for (int i = 0; i < numLevels; i++) {
+            List<Set<Entry<K>>> buckets = new ArrayList<>(wheelSize);
+            for (int j = 0; j < wheelSize; j++) {
+                buckets.add(new LinkedHashSet<>());
+            }
+            levels.add(buckets);
+        }
+        this.currentTick = Math.floorDiv(startMillis, tickMillis);
+    }
+
+    /**
+     * Schedules the key to be fired after the given time, replacing any earlier schedule of the same key.
+     *
+     * <p>A key whose fire time has passed is fired on the next advance of the wheel.
+     */
+    public void schedule(K key, long fireAtMillis) {
+        cancel(key);
+        Entry<K> entry = new Entry<>(key, Math.floorDiv(fireAtMillis, tickMillis) + 1);
+        entries.put(key, entry);
+        place(entry);
+    }
+
+    /**
+     * Cancels the schedule of the key, if any.
+     *
+     * @return true if the key was scheduled
+     */
+    public boolean cancel(K key) {
+        Entry<K> entry = entries.remove(key);
+        if (entry == null) {
+            return false;
+        }
+        if (entry.bucket == null) {
+            dueEntries.remove(entry);
+        } else {
+            entry.bucket.remove(entry);
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if the key is scheduled and has not been fired yet.
+     */
+    public boolean isScheduled(K key) {
+        return entries.containsKey(key);
+    }
+
+    /**
+     * Returns the number of keys which are scheduled and have not been fired yet.
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * Advances the wheel to the given time.
+     *
+     * @return the keys whose fire time has passed, in the order of their fire time
+     */
+    public List<K> advanceTo(long nowMillis) {
+        List<K> firedKeys = new ArrayList<>();
+        fireDueEntries(firedKeys);
+
+        long targetTick = Math.floorDiv(nowMillis, tickMillis);
+        if (entries.isEmpty() && targetTick > currentTick) {
+            // nothing to fire on the way
+            currentTick = targetTick;
+        }
+        while (currentTick < targetTick) {
+            currentTick++;
+            cascade();
+
+            Set<Entry<K>> bucket = levels.get(0).get(getBucketIndex(currentTick));
+            List<Entry<K>> bucketEntries = new ArrayList<>(bucket);
+            bucket.clear();
+            for (Entry<K> entry : bucketEntries) {
+                entry.bucket = null;
+                place(entry);
+            }
+            fireDueEntries(firedKeys);
+        }
+        return firedKeys;
+    }
+
+    /**
+     * Moves down the entries of the higher levels whose bucket starts at the current tick.
+     */
+    private void cascade() {
+        long ticksPerTurn = 1;
+        for (int i = 0; i < levels.size(); i++) {
+            ticksPerTurn *= wheelSize;
+        }
+        if (currentTick % ticksPerTurn == 0) {
+            List<Entry<K>> overflowEntries = new ArrayList<>(overflow);
+            overflow.clear();
+            overflowEntries.forEach(this::replace);
+        }
+
+        long ticksPerBucket = ticksPerTurn / wheelSize;
+        for (int level = levels.size() - 1; level > 0; level--) {
+            if (currentTick % ticksPerBucket == 0) {
+                Set<Entry<K>> bucket = levels.get(level).get(getBucketIndex(currentTick / ticksPerBucket));
+                List<Entry<K>> bucketEntries = new ArrayList<>(bucket);
+                bucket.clear();
+                bucketEntries.forEach(this::replace);
+            }
+            ticksPerBucket /= wheelSize;
+        }
+    }
+
+    private void replace(Entry<K> entry) {
+        entry.bucket = null;
+        place(entry);
+    }
+
+    private void place(Entry<K> entry) {
+        long ticksAhead = entry.fireTick - currentTick;
+        if (ticksAhead <= 0) {
+            dueEntries.add(entry);
+            return;
+        }
+
+        long ticksPerBucket = 1;
+        for (List<Set<Entry<K>>> buckets : levels) {
+            if (ticksAhead < ticksPerBucket * wheelSize) {
+                addToBucket(buckets.get(getBucketIndex(entry.fireTick / ticksPerBucket)), entry);
+                return;
+            }
+            ticksPerBucket *= wheelSize;
+        }
+        addToBucket(overflow, entry);
+    }
+
+    private void addToBucket(Set<Entry<K>> bucket, Entry<K> entry) {
+        entry.bucket = bucket;
+        bucket.add(entry);
+    }
+
+    private int getBucketIndex(long slot) {
+        return (int) Math.floorMod(slot, (long) wheelSize);
+    }
+
+    private void fireDueEntries(List<K> firedKeys) {
+        for (Entry<K> entry : dueEntries) {
+            entries.remove(entry.key, entry);
+            firedKeys.add(entry.key);
+        }
+        dueEntries.clear();
+    }
+
+    /**
+     * A scheduled key, together with the bucket it is currently in.
+     */
+    private static final class Entry<K> {
+        private final K key;
+        private final long fireTick;
+        private Set<Entry<K>> bucket;
+
+        private Entry(K key, long fireTick) {
+            this.key = key;
+            this.fireTick = fireTick;
+        }
+    }
+
+}
@@ -15,6 +15,7 @@ import teammates.common.datatransfer.attributes.DeadlineExtensionAttributes;
 import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
 import teammates.common.datatransfer.attributes.InstructorAttributes;
 import teammates.common.datatransfer.attributes.StudentAttributes;
+import teammates.common.util.CompiledTemplate;
 import teammates.common.util.Config;
 import teammates.common.util.Const;
 import teammates.common.util.EmailType;
@@ -57,6 +58,12 @@ public final class EmailGenerator {
 
     private static final long SESSION_LINK_RECOVERY_DURATION_IN_DAYS = 90;
 
+    // fragments which are populated once for every session
+    private static final CompiledTemplate FRAGMENT_SINGLE_FEEDBACK_SESSION_LINKS =
+            CompiledTemplate.compile(EmailTemplates.FRAGMENT_SINGLE_FEEDBACK_SESSION_LINKS);
+    private static final CompiledTemplate FRAGMENT_SESSION_LINKS_RECOVERY_ACCESS_LINKS_BY_SESSION =
+            CompiledTemplate.compile(EmailTemplates.FRAGMENT_SESSION_LINKS_RECOVERY_ACCESS_LINKS_BY_SESSION);
+
     private static final EmailGenerator instance = new EmailGenerator();
 
     private final CoursesLogic coursesLogic = CoursesLogic.inst();
@@ -110,9 +117,9 @@ public final class EmailGenerator {
                 ? FEEDBACK_STATUS_SESSION_OPENING
                 : FEEDBACK_STATUS_SESSION_CLOSING;
 
-        String template = emailType == EmailType.FEEDBACK_OPENING
+        CompiledTemplate template = CompiledTemplate.compile(emailType == EmailType.FEEDBACK_OPENING
                 ? EmailTemplates.USER_FEEDBACK_SESSION_OPENING.replace("${status}", status)
-                : EmailTemplates.USER_FEEDBACK_SESSION.replace("${status}", status);
+                : EmailTemplates.USER_FEEDBACK_SESSION.replace("${status}", status));
 
         return generateFeedbackSessionEmailBases(course, session, students, instructors, instructorsToNotify, template,
                 emailType, FEEDBACK_ACTION_SUBMIT_EDIT_OR_VIEW);
@@ -223,7 +230,8 @@ public final class EmailGenerator {
             List<InstructorAttributes> instructorsToRemind, InstructorAttributes instructorToNotify) {
 
         CourseAttributes course = coursesLogic.getCourse(session.getCourseId());
-        String template = EmailTemplates.USER_FEEDBACK_SESSION.replace("${status}", FEEDBACK_STATUS_SESSION_OPEN);
+        CompiledTemplate template = CompiledTemplate.compile(
+                EmailTemplates.USER_FEEDBACK_SESSION.replace("${status}", FEEDBACK_STATUS_SESSION_OPEN));
         List<InstructorAttributes> instructorToNotifyAsList = new ArrayList<>();
         if (instructorToNotify != null) {
             instructorToNotifyAsList.add(instructorToNotify);
@@ -311,13 +319,12 @@ public final class EmailGenerator {
 
             Instant endTime = TimeHelper.getMidnightAdjustedInstantBasedOnZone(
                     fsa.getEndTime(), fsa.getTimeZone(), false);
-            linksFragmentValue.append(Templates.populateTemplate(
-                    EmailTemplates.FRAGMENT_SINGLE_FEEDBACK_SESSION_LINKS,
+            FRAGMENT_SINGLE_FEEDBACK_SESSION_LINKS.appendTo(linksFragmentValue,
                     "${feedbackSessionName}", fsa.getFeedbackSessionName(),
                     "${deadline}", TimeHelper.formatInstant(endTime, fsa.getTimeZone(), DATETIME_DISPLAY_FORMAT)
                             + (fsa.isClosed() ? " (Passed)" : ""),
                     "${submitUrl}", submitUrlHtml,
-                    "${reportUrl}", reportUrlHtml));
+                    "${reportUrl}", reportUrlHtml);
         }
 
         if (linksFragmentValue.length() == 0) {
@@ -428,11 +435,10 @@ public final class EmailGenerator {
                     continue;
                 }
 
-                linksFragmentValue.append(Templates.populateTemplate(
-                        EmailTemplates.FRAGMENT_SESSION_LINKS_RECOVERY_ACCESS_LINKS_BY_SESSION,
+                FRAGMENT_SESSION_LINKS_RECOVERY_ACCESS_LINKS_BY_SESSION.appendTo(linksFragmentValue,
                         "${sessionName}", session.getFeedbackSessionName(),
                         "${submitUrl}", submitUrlHtml,
-                        "${reportUrl}", reportUrlHtml));
+                        "${reportUrl}", reportUrlHtml);
 
                 linkFragmentsMap.putIfAbsent(courseId, linksFragmentValue);
             }
@@ -526,7 +532,8 @@ public final class EmailGenerator {
             }
         }
 
-        String template = EmailTemplates.USER_FEEDBACK_SESSION.replace("${status}", FEEDBACK_STATUS_SESSION_CLOSING);
+        CompiledTemplate template = CompiledTemplate.compile(
+                EmailTemplates.USER_FEEDBACK_SESSION.replace("${status}", FEEDBACK_STATUS_SESSION_CLOSING));
         EmailType type = EmailType.FEEDBACK_CLOSING;
         String feedbackAction = FEEDBACK_ACTION_SUBMIT_EDIT_OR_VIEW;
         List<EmailWrapper> emails = new ArrayList<>();
@@ -600,8 +607,8 @@ public final class EmailGenerator {
             action = FEEDBACK_ACTION_SUBMIT_EDIT_OR_VIEW;
         }
 
-        return generateFeedbackSessionEmailBases(course, session, students, instructors, instructorsToNotify, template,
-                emailType, action);
+        return generateFeedbackSessionEmailBases(course, session, students, instructors, instructorsToNotify,
+                CompiledTemplate.compile(template), emailType, action);
     }
 
     /**
@@ -670,12 +677,12 @@ public final class EmailGenerator {
                 TimeHelper.getMidnightAdjustedInstantBasedOnZone(oldEndTime, session.getTimeZone(), false);
         Instant newEndTimeFormatted =
                 TimeHelper.getMidnightAdjustedInstantBasedOnZone(endTime, session.getTimeZone(), false);
-        String template = EmailTemplates.USER_DEADLINE_EXTENSION
+        CompiledTemplate template = CompiledTemplate.compile(EmailTemplates.USER_DEADLINE_EXTENSION
                 .replace("${status}", status)
                 .replace("${oldEndTime}", SanitizationHelper.sanitizeForHtml(
                         TimeHelper.formatInstant(oldEndTimeFormatted, session.getTimeZone(), DATETIME_DISPLAY_FORMAT)))
                 .replace("${newEndTime}", SanitizationHelper.sanitizeForHtml(
-                        TimeHelper.formatInstant(newEndTimeFormatted, session.getTimeZone(), DATETIME_DISPLAY_FORMAT)));
+                        TimeHelper.formatInstant(newEndTimeFormatted, session.getTimeZone(), DATETIME_DISPLAY_FORMAT))));
         String feedbackAction = FEEDBACK_ACTION_SUBMIT_EDIT_OR_VIEW;
 
         if (isInstructor) {
@@ -697,32 +704,30 @@ public final class EmailGenerator {
 
     private List<EmailWrapper> generateFeedbackSessionEmailBases(
             CourseAttributes course, FeedbackSessionAttributes session, List<StudentAttributes> students,
-            List<InstructorAttributes> instructors, List<InstructorAttributes> instructorsToNotify, String template,
-            EmailType type, String feedbackAction) {
-        StringBuilder studentAdditionalContactBuilder = new StringBuilder();
-        StringBuilder instructorAdditionalContactBuilder = new StringBuilder();
-        studentAdditionalContactBuilder.append(getAdditionalContactInformationFragment(course, false));
-        instructorAdditionalContactBuilder.append(getAdditionalContactInformationFragment(course, true));
+            List<InstructorAttributes> instructors, List<InstructorAttributes> instructorsToNotify,
+            CompiledTemplate template, EmailType type, String feedbackAction) {
+        String studentAdditionalContactInformation = getAdditionalContactInformationFragment(course, false);
+        String instructorAdditionalContactInformation = getAdditionalContactInformationFragment(course, true);
 
         List<EmailWrapper> emails = new ArrayList<>();
         for (StudentAttributes student : students) {
             emails.add(generateFeedbackSessionEmailBaseForStudents(course, session, student,
-                    template, type, feedbackAction, studentAdditionalContactBuilder.toString()));
+                    template, type, feedbackAction, studentAdditionalContactInformation));
         }
         for (InstructorAttributes instructor : instructors) {
             emails.add(generateFeedbackSessionEmailBaseForInstructors(course, session, instructor,
-                    template, type, feedbackAction, instructorAdditionalContactBuilder.toString()));
+                    template, type, feedbackAction, instructorAdditionalContactInformation));
         }
         for (InstructorAttributes instructor : instructorsToNotify) {
             emails.add(generateFeedbackSessionEmailBaseForNotifiedInstructors(course, session, instructor,
-                    template, type, feedbackAction, studentAdditionalContactBuilder.toString()));
+                    template, type, feedbackAction, studentAdditionalContactInformation));
         }
         return emails;
     }
 
     private EmailWrapper generateFeedbackSessionEmailBaseForStudents(
-            CourseAttributes course, FeedbackSessionAttributes session, StudentAttributes student, String template,
-            EmailType type, String feedbackAction, String additionalContactInformation) {
+            CourseAttributes course, FeedbackSessionAttributes session, StudentAttributes student,
+            CompiledTemplate template, EmailType type, String feedbackAction, String additionalContactInformation) {
         String submitUrl = Config.getFrontEndAppUrl(Const.WebPageURIs.SESSION_SUBMISSION_PAGE)
                 .withCourseId(course.getId())
                 .withSessionName(session.getFeedbackSessionName())
@@ -737,7 +742,7 @@ public final class EmailGenerator {
 
         Instant endTime = TimeHelper.getMidnightAdjustedInstantBasedOnZone(
                 session.getDeadline(), session.getTimeZone(), false);
-        String emailBody = Templates.populateTemplate(template,
+        String emailBody = template.render(
                 "${userName}", SanitizationHelper.sanitizeForHtml(student.getName()),
                 "${courseName}", SanitizationHelper.sanitizeForHtml(course.getName()),
                 "${courseId}", SanitizationHelper.sanitizeForHtml(course.getId()),
@@ -761,7 +766,7 @@ public final class EmailGenerator {
 
     private EmailWrapper generateFeedbackSessionEmailBaseForInstructors(
             CourseAttributes course, FeedbackSessionAttributes session, InstructorAttributes instructor,
-            String template, EmailType type, String feedbackAction, String additionalContactInformation) {
+            CompiledTemplate template, EmailType type, String feedbackAction, String additionalContactInformation) {
         String submitUrl = Config.getFrontEndAppUrl(Const.WebPageURIs.SESSION_SUBMISSION_PAGE)
                 .withCourseId(course.getId())
                 .withSessionName(session.getFeedbackSessionName())
@@ -778,7 +783,7 @@ public final class EmailGenerator {
 
         Instant endTime = TimeHelper.getMidnightAdjustedInstantBasedOnZone(
                 session.getDeadline(), session.getTimeZone(), false);
-        String emailBody = Templates.populateTemplate(template,
+        String emailBody = template.render(
                 "${userName}", SanitizationHelper.sanitizeForHtml(instructor.getName()),
                 "${courseName}", SanitizationHelper.sanitizeForHtml(course.getName()),
                 "${courseId}", SanitizationHelper.sanitizeForHtml(course.getId()),
@@ -802,10 +807,10 @@ public final class EmailGenerator {
 
     private EmailWrapper generateFeedbackSessionEmailBaseForNotifiedInstructors(
             CourseAttributes course, FeedbackSessionAttributes session, InstructorAttributes instructor,
-            String template, EmailType type, String feedbackAction, String additionalContactInformation) {
+            CompiledTemplate template, EmailType type, String feedbackAction, String additionalContactInformation) {
         Instant endTime = TimeHelper.getMidnightAdjustedInstantBasedOnZone(
                 session.getEndTime(), session.getTimeZone(), false);
-        String emailBody = Templates.populateTemplate(template,
+        String emailBody = template.render(
                 "${userName}", SanitizationHelper.sanitizeForHtml(instructor.getName()),
                 "${courseName}", SanitizationHelper.sanitizeForHtml(course.getName()),
                 "${courseId}", SanitizationHelper.sanitizeForHtml(course.getId()),
@@ -1,13 +1,18 @@
 package teammates.logic.api;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.apache.http.HttpStatus;
 
 import teammates.common.datatransfer.logs.EmailSentLogDetails;
 import teammates.common.exception.EmailSendingException;
 import teammates.common.util.Config;
 import teammates.common.util.Const;
+import teammates.common.util.EmailDeduplicationMetrics;
 import teammates.common.util.EmailSendingStatus;
 import teammates.common.util.EmailWrapper;
+import teammates.common.util.IdempotencyStore;
 import teammates.common.util.Logger;
 import teammates.logic.external.EmailSenderService;
 import teammates.logic.external.EmptyEmailService;
@@ -22,8 +27,15 @@ public class EmailSender {
 
     private static final Logger log = Logger.getLogger();
 
+    /**
+     * The period within which emails with the same idempotency key are sent at most once.
+     */
+    private static final long IDEMPOTENCY_KEY_TTL_MILLIS = 2L * 24 * 60 * 60 * 1000;
+    private static final int MAX_IDEMPOTENCY_KEYS = 100_000;
+
     private static final EmailSender instance = new EmailSender();
     private final EmailSenderService service;
+    private final IdempotencyStore sentEmailKeys = new IdempotencyStore(IDEMPOTENCY_KEY_TTL_MILLIS, MAX_IDEMPOTENCY_KEYS);
 
     EmailSender() {
         if (Config.IS_DEV_SERVER) {
@@ -63,6 +75,78 @@ public class EmailSender {
             caughtE = e;
             status = new EmailSendingStatus(e.getStatusCode(), e.getMessage());
         }
+        logEmailSent(message, status, caughtE);
+
+        return status;
+    }
+
+    /**
+     * Sends the given {@code messages} with as few requests to the email service as possible
+     * and generates a log report for each of them.
+     *
+     * @return The HTTP status of each email, in the same order as {@code messages}.
+     */
+    public List<EmailSendingStatus> sendEmails(List<EmailWrapper> messages) {
+        List<EmailWrapper> messagesToSend = new ArrayList<>();
+        for (EmailWrapper message : messages) {
+            if (!isTestingAccount(message.getRecipient())) {
+                messagesToSend.add(message);
+            }
+        }
+
+        List<EmailSendingStatus> sentStatuses =
+                messagesToSend.isEmpty() ? new ArrayList<>() : service.sendEmails(messagesToSend);
+        assert sentStatuses.size() == messagesToSend.size();
+
+        List<EmailSendingStatus> statuses = new ArrayList<>();
+        int sentIndex = 0;
+        for (EmailWrapper message : messages) {
+            if (isTestingAccount(message.getRecipient())) {
+                statuses.add(new EmailSendingStatus(HttpStatus.SC_OK, "Not sending email to test account"));
+                continue;
+            }
+            EmailSendingStatus status = sentStatuses.get(sentIndex);
+            sentIndex++;
+            logEmailSent(message, status, null);
+            statuses.add(status);
+        }
+        return statuses;
+    }
+
+    /**
+     * Claims the sending of the given {@code message}, to be called before the message is sent.
+     *
+     * <p>Messages without an idempotency key can always be claimed. A message whose idempotency key
+     * has been claimed recently by this instance is a duplicate, e.g. of a message sent by an earlier attempt
+     * of a retried task, and should not be sent again.
+     *
+     * @return false if the message is a duplicate
+     */
+    public boolean claimSending(EmailWrapper message) {
+        String idempotencyKey = message.getIdempotencyKey();
+        if (idempotencyKey == null) {
+            return true;
+        }
+        if (sentEmailKeys.tryAcquire(idempotencyKey, System.currentTimeMillis())) {
+            EmailDeduplicationMetrics.recordEmailAllowed(message.getType());
+            return true;
+        }
+        EmailDeduplicationMetrics.recordDuplicateSuppressed(message.getType());
+        log.info("Not sending duplicate email: " + idempotencyKey);
+        return false;
+    }
+
+    /**
+     * Releases the claim on the sending of the given {@code message} which has failed to send,
+     * so that the message can be sent again when it is retried.
+     */
+    public void releaseSending(EmailWrapper message) {
+        if (message.getIdempotencyKey() != null) {
+            sentEmailKeys.release(message.getIdempotencyKey());
+        }
+    }
+
+    private void logEmailSent(EmailWrapper message, EmailSendingStatus status, EmailSendingException caughtE) {
         if (!status.isSuccess()) {
             if (caughtE == null) {
                 log.severe("Email failed to send: " + status.getMessage());
@@ -82,8 +166,6 @@ public class EmailSender {
             details.setEmailStatusMessage(status.getMessage());
         }
         log.event("Email sent: " + message.getType(), details);
-
-        return status;
     }
 
     private boolean isTestingAccount(String email) {
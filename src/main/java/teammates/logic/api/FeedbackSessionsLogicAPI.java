@@ -2,9 +2,11 @@ package teammates.logic.api;
 
 import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
 import teammates.common.datatransfer.attributes.InstructorAttributes;
+import teammates.common.datatransfer.attributes.StudentAttributes;
 import teammates.common.exception.EntityAlreadyExistsException;
 import teammates.common.exception.EntityDoesNotExistException;
 import teammates.common.exception.InvalidParametersException;
+import teammates.common.util.EmailType;
 import teammates.logic.core.FeedbackSessionsLogic;
 
 import java.time.Instant;
@@ -50,6 +52,26 @@ public class FeedbackSessionsLogicAPI {
         return feedbackSessionsLogic.isFeedbackSessionAttemptedByStudent(fsa, userEmail, userTeam);
     }
 
+    /**
+     * Gets the students who have not attempted a feedback session.
+     */
+    public List<StudentAttributes> getStudentsWhoHaveNotAttempted(
+            FeedbackSessionAttributes fsa, List<StudentAttributes> students) {
+        assert fsa != null;
+        assert students != null;
+        return feedbackSessionsLogic.getStudentsWhoHaveNotAttempted(fsa, students);
+    }
+
+    /**
+     * Gets the instructors who have not attempted a feedback session.
+     */
+    public List<InstructorAttributes> getInstructorsWhoHaveNotAttempted(
+            FeedbackSessionAttributes fsa, List<InstructorAttributes> instructors) {
+        assert fsa != null;
+        assert instructors != null;
+        return feedbackSessionsLogic.getInstructorsWhoHaveNotAttempted(fsa, instructors);
+    }
+
     /**
      * Creates a feedback session.
      *
@@ -274,4 +296,16 @@ public class FeedbackSessionsLogicAPI {
     public List<FeedbackSessionAttributes> getFeedbackSessionsWhichNeedOpenEmailsToBeSent() {
         return feedbackSessionsLogic.getFeedbackSessionsWhichNeedOpenEmailsToBeSent();
     }
+
+    /**
+     * Returns true if the automated email of the given type is due to be sent for the session now.
+     *
+     * @see FeedbackSessionsLogic#isAutomatedEmailDue(FeedbackSessionAttributes, EmailType)
+     */
+    public boolean isAutomatedEmailDue(FeedbackSessionAttributes session, EmailType emailType) {
+        assert session != null;
+        assert emailType != null;
+
+        return feedbackSessionsLogic.isAutomatedEmailDue(session, emailType);
+    }
 }
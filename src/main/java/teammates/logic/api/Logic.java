@@ -168,6 +168,34 @@ public class Logic {
         return usageStatisticsLogic.getUsageStatisticsForTimeRange(startTime, endTime);
     }
 
+    /**
+     * Gets the list of statistics objects of the given time period covering the time range, sorted by start time.
+     *
+     * @see UsageStatisticsLogic#getUsageStatisticsForTimeRange(Instant, Instant, int)
+     */
+    public List<UsageStatisticsAttributes> getUsageStatisticsForTimeRange(Instant startTime, Instant endTime,
+                                                                          int timePeriod) {
+        assert startTime != null;
+        assert endTime != null;
+        assert startTime.toEpochMilli() < endTime.toEpochMilli();
+
+        return usageStatisticsLogic.getUsageStatisticsForTimeRange(startTime, endTime, timePeriod);
+    }
+
+    /**
+     * Gets the shortest time period of statistics objects with which the time range is covered
+     * by at most the given number of statistics objects.
+     *
+     * @see UsageStatisticsLogic#getTimePeriodForTimeRange(Instant, Instant, int)
+     */
+    public int getUsageStatisticsTimePeriodForTimeRange(Instant startTime, Instant endTime, int maxNumStatistics) {
+        assert startTime != null;
+        assert endTime != null;
+        assert maxNumStatistics > 0;
+
+        return usageStatisticsLogic.getTimePeriodForTimeRange(startTime, endTime, maxNumStatistics);
+    }
+
     public UsageStatisticsAttributes calculateEntitiesStatisticsForTimeRange(Instant startTime, Instant endTime) {
         assert startTime != null;
         assert endTime != null;
@@ -175,6 +203,26 @@ public class Logic {
         return usageStatisticsLogic.calculateEntitiesStatisticsForTimeRange(startTime, endTime);
     }
 
+    /**
+     * Gets the statistics of created entities for the given time range from the counters of created entities.
+     *
+     * @see UsageStatisticsLogic#getEntitiesStatisticsForTimeRange(Instant, Instant)
+     */
+    public UsageStatisticsAttributes getEntitiesStatisticsForTimeRange(Instant startTime, Instant endTime) {
+        assert startTime != null;
+        assert endTime != null;
+        assert startTime.toEpochMilli() < endTime.toEpochMilli();
+        return usageStatisticsLogic.getEntitiesStatisticsForTimeRange(startTime, endTime);
+    }
+
+    /**
+     * Deletes the counters of created entities of all periods starting before the given time.
+     */
+    public void deleteUsageStatisticsCountersBefore(Instant time) {
+        assert time != null;
+        usageStatisticsLogic.deleteCountersBefore(time);
+    }
+
     public void createUsageStatistics(UsageStatisticsAttributes attributes)
             throws EntityAlreadyExistsException, InvalidParametersException {
         usageStatisticsLogic.createUsageStatistics(attributes);
@@ -65,6 +65,7 @@ public class LogsProcessor {
     public int getNumberOfLogsForEvent(Instant startTime, Instant endTime, LogEvent logEvent, String extraFilters) {
         int total = 0;
         long logStartTime = startTime.toEpochMilli();
+        String pageToken = null;
 
         while (true) {
             QueryLogsParams logsParams = QueryLogsParams.builder(logStartTime, endTime.toEpochMilli())
@@ -72,15 +73,19 @@ public class LogsProcessor {
                     .withExtraFilters(extraFilters)
                     .withOrder("asc")
                     .withPageSize(300)
+                    .withPageToken(pageToken)
                     .build();
             QueryLogsResults logFetchResults = queryLogs(logsParams);
             List<GeneralLogEntry> logs = logFetchResults.getLogEntries();
             total += logs.size();
-            if (logFetchResults.getHasNextPage()) {
-                logStartTime = logs.get(logs.size() - 1).getTimestamp();
-            } else {
+            if (!logFetchResults.getHasNextPage()) {
                 break;
             }
+            pageToken = logFetchResults.getNextPageToken();
+            if (pageToken == null) {
+                // the log service does not support page tokens; logs with the same timestamp as the last log are skipped
+                logStartTime = logs.get(logs.size() - 1).getTimestamp();
+            }
         }
         return total;
     }
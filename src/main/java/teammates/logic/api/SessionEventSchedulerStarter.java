@@ -0,0 +1,35 @@
+package teammates.logic.api;
+
+import javax.servlet.ServletContextEvent;
+import javax.servlet.ServletContextListener;
+
+import teammates.common.util.Config;
+import teammates.common.util.Logger;
+import teammates.logic.core.SessionEventScheduler;
+
+/**
+ * Setup in web.xml to start the scheduler of automated session emails at application startup, if enabled.
+ *
+ * <p>Due emails are handed to the task queue, whose worker checks again whether the email is due.
+ */
+public class SessionEventSchedulerStarter implements ServletContextListener {
+
+    private static final Logger log = Logger.getLogger();
+
+    @Override
+    public void contextInitialized(ServletContextEvent event) {
+        // Invoked by Jetty at application startup.
+        if (!Config.ENABLE_SESSION_EVENT_SCHEDULER) {
+            return;
+        }
+        TaskQueuer taskQueuer = TaskQueuer.inst();
+        SessionEventScheduler.inst().start(taskQueuer::scheduleFeedbackSessionAutomatedEmail);
+        log.info("Started session event scheduler");
+    }
+
+    @Override
+    public void contextDestroyed(ServletContextEvent event) {
+        SessionEventScheduler.inst().stop();
+    }
+
+}
@@ -1,5 +1,7 @@
 package teammates.logic.api;
 
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -7,13 +9,16 @@ import java.util.Map;
 import teammates.common.util.Config;
 import teammates.common.util.Const.ParamsNames;
 import teammates.common.util.Const.TaskQueue;
+import teammates.common.util.EmailType;
 import teammates.common.util.EmailWrapper;
+import teammates.common.util.JsonUtils;
 import teammates.common.util.Logger;
 import teammates.common.util.TaskWrapper;
 import teammates.logic.external.GoogleCloudTasksService;
 import teammates.logic.external.LocalTaskQueueService;
 import teammates.logic.external.TaskQueueService;
 import teammates.ui.request.FeedbackSessionRemindRequest;
+import teammates.ui.request.SendEmailBatchRequest;
 import teammates.ui.request.SendEmailRequest;
 
 /**
@@ -21,6 +26,18 @@ import teammates.ui.request.SendEmailRequest;
  */
 public class TaskQueuer {
 
+    /**
+     * The maximum number of emails sent by one task.
+     */
+    static final int EMAIL_BATCH_SIZE = 50;
+
+    /**
+     * The maximum total size in bytes of the serialized emails sent by one task.
+     *
+     * <p>Cloud Tasks rejects tasks larger than 1 MB; the rest is left for the request wrapper and headers.
+     */
+    static final int EMAIL_BATCH_MAX_BYTES = 900 * 1024;
+
     private static final Logger log = Logger.getLogger();
 
     private static final TaskQueuer instance = new TaskQueuer();
@@ -38,6 +55,20 @@ public class TaskQueuer {
         return instance;
     }
 
+    /**
+     * Starts running tasks in the application, if tasks are run by the application itself, e.g. in dev server.
+     */
+    public void start() {
+        service.start();
+    }
+
+    /**
+     * Stops running tasks in the application, if tasks are run by the application itself, e.g. in dev server.
+     */
+    public void stop() {
+        service.stop();
+    }
+
     // The following methods are facades to the actual logic for adding tasks to the queue.
     // Using this method, the actual logic can still be black-boxed
     // while at the same time allowing this API to be mocked during test.
@@ -94,6 +125,25 @@ public class TaskQueuer {
                 TaskQueue.FEEDBACK_SESSION_REMIND_PARTICULAR_USERS_EMAIL_WORKER_URL, new HashMap<>(), remindRequest);
     }
 
+    /**
+     * Schedules for the automated emails of the given type (e.g. opening, closing) to be generated and sent
+     * for the specified feedback session.
+     *
+     * @param courseId the course ID of the feedback session
+     * @param feedbackSessionName the name of the feedback session
+     * @param emailType the type of the automated emails
+     */
+    public void scheduleFeedbackSessionAutomatedEmail(String courseId, String feedbackSessionName,
+                                                      EmailType emailType) {
+        Map<String, String> paramMap = new HashMap<>();
+        paramMap.put(ParamsNames.COURSE_ID, courseId);
+        paramMap.put(ParamsNames.FEEDBACK_SESSION_NAME, feedbackSessionName);
+        paramMap.put(ParamsNames.EMAIL_TYPE, emailType.name());
+
+        addTask(TaskQueue.FEEDBACK_SESSION_AUTOMATED_EMAIL_QUEUE_NAME,
+                TaskQueue.FEEDBACK_SESSION_AUTOMATED_EMAIL_WORKER_URL, paramMap, null);
+    }
+
     /**
      * Schedules for feedback session published email to be sent.
      *
@@ -182,6 +232,9 @@ public class TaskQueuer {
     /**
      * Schedules for the given list of emails to be sent.
      *
+     * <p>The emails are sent in batches of up to {@value #EMAIL_BATCH_SIZE} emails
+     * and up to {@value #EMAIL_BATCH_MAX_BYTES} bytes each.
+     *
      * @param emails the list of emails to be sent
      */
     public void scheduleEmailsForSending(List<EmailWrapper> emails) {
@@ -189,16 +242,60 @@ public class TaskQueuer {
             return;
         }
 
-        // Equally spread out the emails to be sent over 1 hour
+        List<List<EmailWrapper>> batches = partitionIntoBatches(emails);
+
+        // Equally spread out the batches to be sent over 1 hour
         // Sets interval to a maximum of 5 seconds if the interval is too large
         int oneHourInMillis = 60 * 60 * 1000;
-        int emailIntervalMillis = Math.min(5000, oneHourInMillis / emails.size());
+        int batchIntervalMillis = Math.min(5000, oneHourInMillis / batches.size());
+
+        int numberOfBatchesSent = 0;
+        for (List<EmailWrapper> batch : batches) {
+            long batchDelayTimer = (long) numberOfBatchesSent * (long) batchIntervalMillis;
+            if (batch.size() == 1) {
+                scheduleEmailForSending(batch.get(0), batchDelayTimer);
+            } else {
+                scheduleEmailBatchForSending(batch, batchDelayTimer);
+            }
+            numberOfBatchesSent++;
+        }
+    }
+
+    /**
+     * Splits the given emails into batches, keeping their order, such that each batch has at most
+     * {@value #EMAIL_BATCH_SIZE} emails and at most {@value #EMAIL_BATCH_MAX_BYTES} bytes of serialized emails.
+     *
+     * <p>An email which is larger than the byte limit by itself is put in a batch of its own.
+     */
+    static List<List<EmailWrapper>> partitionIntoBatches(List<EmailWrapper> emails) {
+        List<List<EmailWrapper>> batches = new ArrayList<>();
+        List<EmailWrapper> currentBatch = new ArrayList<>();
+        long currentBatchBytes = 0;
+        for (EmailWrapper email : emails) {
+            int emailBytes = JsonUtils.toCompactJson(email).getBytes(StandardCharsets.UTF_8).length;
+            if (!currentBatch.isEmpty() && (currentBatch.size() >= EMAIL_BATCH_SIZE
+                    || currentBatchBytes + emailBytes > EMAIL_BATCH_MAX_BYTES)) {
+                batches.add(currentBatch);
+                currentBatch = new ArrayList<>();
+                currentBatchBytes = 0;
+            }
+            currentBatch.add(email);
+            currentBatchBytes += emailBytes;
+        }
+        batches.add(currentBatch);
+        return batches;
+    }
 
-        int numberOfEmailsSent = 0;
+    /**
+     * Schedules for the given list of emails, which have failed to send as part of a batch, to be sent again.
+     *
+     * <p>Each email is sent by its own task, so that it is retried independently of the others.
+     *
+     * @param emails the list of emails to be sent
+     */
+    public void scheduleEmailsForRetry(List<EmailWrapper> emails) {
         for (EmailWrapper email : emails) {
-            long emailDelayTimer = (long) numberOfEmailsSent * (long) emailIntervalMillis;
-            scheduleEmailForSending(email, emailDelayTimer);
-            numberOfEmailsSent++;
+            scheduleEmailForSending(email, 0);
         }
     }
 
@@ -269,4 +366,17 @@ public class TaskQueuer {
         }
     }
 
+    private void scheduleEmailBatchForSending(List<EmailWrapper> emails, long batchDelayTimer) {
+        try {
+            SendEmailBatchRequest request = new SendEmailBatchRequest(emails);
+
+            addDeferredTask(TaskQueue.SEND_EMAIL_QUEUE_NAME, TaskQueue.SEND_EMAIL_BATCH_WORKER_URL,
+                            new HashMap<>(), request, batchDelayTimer);
+        } catch (Exception e) {
+            log.severe("Error when adding email batch to task queue: " + e.getMessage() + "\n"
+                       + "Number of emails: " + emails.size() + "\n"
+                       + "First email subject: " + emails.get(0).getSubject());
+        }
+    }
+
 }
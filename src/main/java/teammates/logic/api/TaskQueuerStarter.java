@@ -0,0 +1,25 @@
+package teammates.logic.api;
+
+import javax.servlet.ServletContextEvent;
+import javax.servlet.ServletContextListener;
+
+/**
+ * Setup in web.xml to start and stop running tasks in the application, if tasks are run by the application itself.
+ *
+ * <p>In dev server, this runs the tasks kept from the previous run at startup, and keeps the tasks which are not
+ * run yet when the server stops.
+ */
+public class TaskQueuerStarter implements ServletContextListener {
+
+    @Override
+    public void contextInitialized(ServletContextEvent event) {
+        // Invoked by Jetty at application startup.
+        TaskQueuer.inst().start();
+    }
+
+    @Override
+    public void contextDestroyed(ServletContextEvent event) {
+        TaskQueuer.inst().stop();
+    }
+
+}
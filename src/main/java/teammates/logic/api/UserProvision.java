@@ -3,8 +3,7 @@ package teammates.logic.api;
 import teammates.common.datatransfer.UserInfo;
 import teammates.common.datatransfer.UserInfoCookie;
 import teammates.common.util.Config;
-import teammates.logic.core.InstructorsLogic;
-import teammates.logic.core.StudentsLogic;
+import teammates.logic.core.UserRolesCache;
 
 /**
  * Handles logic related to username and user role provisioning.
@@ -13,8 +12,7 @@ public class UserProvision {
 
     private static final UserProvision instance = new UserProvision();
 
-    private final InstructorsLogic instructorsLogic = InstructorsLogic.inst();
-    private final StudentsLogic studentsLogic = StudentsLogic.inst();
+    private final UserRolesCache userRolesCache = UserRolesCache.inst();
 
     UserProvision() {
         // prevent initialization
@@ -36,8 +34,8 @@ public class UserProvision {
 
         String userId = user.id;
         user.isAdmin = Config.APP_ADMINS.contains(userId);
-        user.isInstructor = instructorsLogic.isInstructorInAnyCourse(userId);
-        user.isStudent = studentsLogic.isStudentInAnyCourse(userId);
+        user.isInstructor = userRolesCache.isInstructorInAnyCourse(userId);
+        user.isStudent = userRolesCache.isStudentInAnyCourse(userId);
         user.isMaintainer = Config.APP_MAINTAINERS.contains(user.getId());
         return user;
     }
@@ -56,8 +54,8 @@ public class UserProvision {
     public UserInfo getMasqueradeUser(String googleId) {
         UserInfo userInfo = new UserInfo(googleId);
         userInfo.isAdmin = false;
-        userInfo.isInstructor = instructorsLogic.isInstructorInAnyCourse(googleId);
-        userInfo.isStudent = studentsLogic.isStudentInAnyCourse(googleId);
+        userInfo.isInstructor = userRolesCache.isInstructorInAnyCourse(googleId);
+        userInfo.isStudent = userRolesCache.isStudentInAnyCourse(googleId);
         userInfo.isMaintainer = Config.APP_MAINTAINERS.contains(googleId);
         return userInfo;
     }
@@ -19,6 +19,8 @@ public final class AccountRequestsLogic {
 
     private final AccountRequestsDb accountRequestsDb = AccountRequestsDb.inst();
 
+    private UsageStatisticsLogic usageStatisticsLogic;
+
     private AccountRequestsLogic() {
         // prevent initialization
     }
@@ -28,7 +30,7 @@ public final class AccountRequestsLogic {
     }
 
     void initLogicDependencies() {
-        // No dependency to other logic class
+        usageStatisticsLogic = UsageStatisticsLogic.inst();
     }
 
     /**
@@ -52,7 +54,10 @@ public final class AccountRequestsLogic {
      */
     public AccountRequestAttributes createAccountRequest(AccountRequestAttributes accountRequest)
             throws InvalidParametersException, EntityAlreadyExistsException {
-        return accountRequestsDb.createEntity(accountRequest);
+        AccountRequestAttributes createdAccountRequest = accountRequestsDb.createEntity(accountRequest);
+        usageStatisticsLogic.recordEntityCreated(UsageStatisticsLogic.CountedEntityType.ACCOUNT_REQUEST,
+                createdAccountRequest.getCreatedAt());
+        return createdAccountRequest;
     }
 
     /**
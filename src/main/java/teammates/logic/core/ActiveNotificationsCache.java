@@ -0,0 +1,100 @@
+package teammates.logic.core;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+import teammates.common.datatransfer.NotificationTargetUser;
+import teammates.common.datatransfer.attributes.NotificationAttributes;
+
+/**
+ * Caches the active notifications of each target user type.
+ *
+ * <p>The active notifications are fetched on every page load of every student and instructor, while they change
+ * rarely. Each snapshot holds all notifications which have not ended yet, so that notifications which start or end
+ * after the snapshot is taken are shown or hidden on time without a refresh.
+ *
+ * <p>Snapshots are versioned: any change to the notifications bumps the version, which discards all snapshots,
+ * including those being loaded concurrently with the change. Snapshots also expire after a short time,
+ * to pick up changes made through other instances of the app.
+ */
+public final class ActiveNotificationsCache {
+
+    private static final Duration TIME_TO_LIVE = Duration.ofSeconds(60);
+
+    private static final ActiveNotificationsCache instance = new ActiveNotificationsCache();
+
+    private final AtomicLong version = new AtomicLong();
+    private final Map<NotificationTargetUser, Snapshot> snapshots = new ConcurrentHashMap<>();
+
+    private NotificationsLogic notificationsLogic;
+
+    private ActiveNotificationsCache() {
+        // prevent initialization
+    }
+
+    public static ActiveNotificationsCache inst() {
+        return instance;
+    }
+
+    void initLogicDependencies() {
+        notificationsLogic = NotificationsLogic.inst();
+    }
+
+    /**
+     * Gets the notifications for {@code targetUser} which are active at the moment, latest start time first.
+     */
+    public List<NotificationAttributes> getActiveNotifications(NotificationTargetUser targetUser) {
+        assert targetUser != null;
+
+        Instant now = Instant.now();
+        Snapshot snapshot = snapshots.get(targetUser);
+        if (snapshot == null || !snapshot.isValid(version.get(), now)) {
+            // the version is read before loading, so that a change made during the load invalidates the snapshot
+            snapshot = new Snapshot(version.get(), now.plus(TIME_TO_LIVE),
+                    notificationsLogic.getUnexpiredNotificationsByTargetUser(targetUser));
+            snapshots.put(targetUser, snapshot);
+        }
+        return snapshot.getActiveNotifications(now);
+    }
+
+    /**
+     * Discards the snapshots of all target users.
+     *
+     * <p>Used whenever notifications are created, updated or deleted.
+     */
+    void invalidateAll() {
+        version.incrementAndGet();
+        snapshots.clear();
+    }
+
+    private static class Snapshot {
+        private final long version;
+        private final Instant expiryTime;
+        private final List<NotificationAttributes> unexpiredNotifications;
+
+        private Snapshot(long version, Instant expiryTime, List<NotificationAttributes> unexpiredNotifications) {
+            this.version = version;
+            this.expiryTime = expiryTime;
+            this.unexpiredNotifications = unexpiredNotifications;
+        }
+
+        private boolean isValid(long currentVersion, Instant now) {
+            return version == currentVersion && now.isBefore(expiryTime);
+        }
+
+        private List<NotificationAttributes> getActiveNotifications(Instant now) {
+            // copies are returned as callers may modify the notifications
+            return unexpiredNotifications.stream()
+                    .filter(notification -> notification.getStartTime().isBefore(now)
+                            && notification.getEndTime().isAfter(now))
+                    .map(NotificationAttributes::getCopy)
+                    .collect(Collectors.toList());
+        }
+    }
+
+}
@@ -18,6 +18,7 @@ import teammates.common.exception.EntityDoesNotExistException;
 import teammates.common.exception.InvalidParametersException;
 import teammates.common.util.Const;
 import teammates.common.util.Logger;
+import teammates.common.util.RequestTracer;
 import teammates.storage.api.CoursesDb;
 
 /**
@@ -50,6 +51,7 @@ public final class CoursesLogic {
     private InstructorsLogic instructorsLogic;
     private StudentsLogic studentsLogic;
     private DeadlineExtensionsLogic deadlineExtensionsLogic;
+    private UsageStatisticsLogic usageStatisticsLogic;
 
     private CoursesLogic() {
         // prevent initialization
@@ -68,6 +70,7 @@ public final class CoursesLogic {
         instructorsLogic = InstructorsLogic.inst();
         studentsLogic = StudentsLogic.inst();
         deadlineExtensionsLogic = DeadlineExtensionsLogic.inst();
+        usageStatisticsLogic = UsageStatisticsLogic.inst();
     }
 
     /**
@@ -88,7 +91,10 @@ public final class CoursesLogic {
      */
     CourseAttributes createCourse(CourseAttributes courseToCreate)
             throws InvalidParametersException, EntityAlreadyExistsException {
-        return coursesDb.createEntity(courseToCreate);
+        CourseAttributes createdCourse = coursesDb.createEntity(courseToCreate);
+        usageStatisticsLogic.recordEntityCreated(UsageStatisticsLogic.CountedEntityType.COURSE,
+                createdCourse.getCreatedAt());
+        return createdCourse;
     }
 
     /**
@@ -130,7 +136,8 @@ public final class CoursesLogic {
      * Gets the course with the specified ID.
      */
     public CourseAttributes getCourse(String courseId) {
-        return coursesDb.getCourse(courseId);
+        CourseAttributes course = RequestTracer.memoize("course:" + courseId, () -> coursesDb.getCourse(courseId));
+        return course == null ? null : course.getCopy();
     }
 
     /**
@@ -59,6 +59,9 @@ public final class DataBundleLogic {
     private final FeedbackResponseCommentsDb fcDb = FeedbackResponseCommentsDb.inst();
     private final NotificationsDb nfDb = NotificationsDb.inst();
 
+    private final UserRolesCache userRolesCache = UserRolesCache.inst();
+    private final ActiveNotificationsCache activeNotificationsCache = ActiveNotificationsCache.inst();
+
     private DataBundleLogic() {
         // prevent initialization
     }
@@ -112,6 +115,7 @@ public final class DataBundleLogic {
         List<CourseAttributes> newCourses = coursesDb.putEntities(courses);
         List<InstructorAttributes> newInstructors = instructorsDb.putEntities(instructors);
         List<StudentAttributes> newStudents = studentsDb.putEntities(students);
+        userRolesCache.invalidateAll();
         List<FeedbackSessionAttributes> newFeedbackSessions = fbDb.putEntities(sessions);
         List<DeadlineExtensionAttributes> newDeadlineExtensions = deadlineExtensionsDb.putEntities(deadlineExtensions);
 
@@ -121,6 +125,7 @@ public final class DataBundleLogic {
         List<FeedbackResponseAttributes> newFeedbackResponses = frDb.putEntities(responses);
         List<FeedbackResponseCommentAttributes> newFeedbackResponseComments = fcDb.putEntities(responseComments);
         List<NotificationAttributes> newNotifications = nfDb.putEntities(notifications);
+        activeNotificationsCache.invalidateAll();
 
         updateDataBundleValue(newAccounts, dataBundle.accounts);
         updateDataBundleValue(newAccountRequests, dataBundle.accountRequests);
@@ -382,6 +387,7 @@ public final class DataBundleLogic {
         dataBundle.notifications.values().forEach(notification -> {
             nfDb.deleteNotification(notification.getNotificationId());
         });
+        activeNotificationsCache.invalidateAll();
     }
 
     private void deleteCourses(Collection<CourseAttributes> courses) {
@@ -400,6 +406,7 @@ public final class DataBundleLogic {
                 fbDb.deleteFeedbackSessions(query);
                 studentsDb.deleteStudents(query);
                 instructorsDb.deleteInstructors(query);
+                userRolesCache.invalidateAll();
                 deadlineExtensionsDb.deleteDeadlineExtensions(query);
 
                 coursesDb.deleteCourse(courseId);
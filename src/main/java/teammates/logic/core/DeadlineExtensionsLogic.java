@@ -18,6 +18,8 @@ public final class DeadlineExtensionsLogic {
 
     private final DeadlineExtensionsDb deDb = DeadlineExtensionsDb.inst();
 
+    private SessionEventScheduler sessionEventScheduler;
+
     private DeadlineExtensionsLogic() {
         // prevent initialization
     }
@@ -26,6 +28,10 @@ public final class DeadlineExtensionsLogic {
         return instance;
     }
 
+    void initLogicDependencies() {
+        sessionEventScheduler = SessionEventScheduler.inst();
+    }
+
     /**
      * Updates a deadline extension.
      *
@@ -39,14 +45,19 @@ public final class DeadlineExtensionsLogic {
     public DeadlineExtensionAttributes updateDeadlineExtension(DeadlineExtensionAttributes.UpdateOptions updateOptions)
             throws InvalidParametersException, EntityDoesNotExistException {
 
+        DeadlineExtensionAttributes updatedDeadlineExtension;
         // reset sentClosingEmail if the session deadline is updated and sentClosingEmailOption is not explicitly set
         if (updateOptions.isEndTimeOptionPresent() && !updateOptions.isSentClosingEmailOptionPresent()) {
-            return deDb.updateDeadlineExtension(DeadlineExtensionAttributes.updateOptionsBuilder(updateOptions)
-                    .withSentClosingEmail(false)
-                    .build());
+            updatedDeadlineExtension = deDb.updateDeadlineExtension(
+                    DeadlineExtensionAttributes.updateOptionsBuilder(updateOptions)
+                            .withSentClosingEmail(false)
+                            .build());
+        } else {
+            updatedDeadlineExtension = deDb.updateDeadlineExtension(updateOptions);
         }
 
-        return deDb.updateDeadlineExtension(updateOptions);
+        sessionEventScheduler.registerDeadlineExtension(updatedDeadlineExtension);
+        return updatedDeadlineExtension;
     }
 
     /**
@@ -66,7 +77,9 @@ public final class DeadlineExtensionsLogic {
      */
     public DeadlineExtensionAttributes createDeadlineExtension(DeadlineExtensionAttributes deadlineExtension)
             throws InvalidParametersException, EntityAlreadyExistsException {
-        return deDb.createEntity(deadlineExtension);
+        DeadlineExtensionAttributes createdDeadlineExtension = deDb.createEntity(deadlineExtension);
+        sessionEventScheduler.registerDeadlineExtension(createdDeadlineExtension);
+        return createdDeadlineExtension;
     }
 
     /**
@@ -77,6 +90,7 @@ public final class DeadlineExtensionsLogic {
     public void deleteDeadlineExtension(
             String courseId, String feedbackSessionName, String userEmail, boolean isInstructor) {
         deDb.deleteDeadlineExtension(courseId, feedbackSessionName, userEmail, isInstructor);
+        sessionEventScheduler.unregisterDeadlineExtension(courseId, feedbackSessionName, userEmail, isInstructor);
     }
 
     /**
@@ -124,4 +138,12 @@ public final class DeadlineExtensionsLogic {
         return deDb.getDeadlineExtensionsPossiblyNeedingClosingEmail();
     }
 
+    /**
+     * Gets a list of deadline extensions with end time in the future
+     * and possibly need a closing email to be sent.
+     */
+    public List<DeadlineExtensionAttributes> getUpcomingDeadlineExtensionsPossiblyNeedingClosingEmail() {
+        return deDb.getUpcomingDeadlineExtensionsPossiblyNeedingClosingEmail();
+    }
+
 }
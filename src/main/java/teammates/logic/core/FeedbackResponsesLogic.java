@@ -48,6 +48,7 @@ public final class FeedbackResponsesLogic {
     private FeedbackResponseCommentsLogic frcLogic;
     private InstructorsLogic instructorsLogic;
     private StudentsLogic studentsLogic;
+    private UsageStatisticsLogic usageStatisticsLogic;
 
     private FeedbackResponsesLogic() {
         // prevent initialization
@@ -62,6 +63,7 @@ public final class FeedbackResponsesLogic {
         frcLogic = FeedbackResponseCommentsLogic.inst();
         instructorsLogic = InstructorsLogic.inst();
         studentsLogic = StudentsLogic.inst();
+        usageStatisticsLogic = UsageStatisticsLogic.inst();
     }
 
     /**
@@ -80,7 +82,10 @@ public final class FeedbackResponsesLogic {
      */
     public FeedbackResponseAttributes createFeedbackResponse(FeedbackResponseAttributes fra)
             throws InvalidParametersException, EntityAlreadyExistsException {
-        return frDb.createEntity(fra);
+        FeedbackResponseAttributes createdResponse = frDb.createEntity(fra);
+        usageStatisticsLogic.recordEntityCreated(UsageStatisticsLogic.CountedEntityType.RESPONSE,
+                createdResponse.getCreatedAt());
+        return createdResponse;
     }
 
     /**
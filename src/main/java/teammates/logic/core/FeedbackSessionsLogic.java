@@ -3,21 +3,27 @@ package teammates.logic.core;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import teammates.common.datatransfer.AttributesDeletionQuery;
 import teammates.common.datatransfer.FeedbackParticipantType;
 import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
 import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
 import teammates.common.datatransfer.attributes.InstructorAttributes;
+import teammates.common.datatransfer.attributes.StudentAttributes;
 import teammates.common.exception.EntityAlreadyExistsException;
 import teammates.common.exception.EntityDoesNotExistException;
 import teammates.common.exception.InvalidParametersException;
 import teammates.common.util.Const;
+import teammates.common.util.EmailType;
 import teammates.common.util.Logger;
+import teammates.common.util.RequestTracer;
 import teammates.common.util.TimeHelper;
 import teammates.storage.api.FeedbackSessionsDb;
 
@@ -38,8 +44,8 @@ public final class FeedbackSessionsLogic {
     private static final String ERROR_FS_ALREADY_UNPUBLISH = "Error unpublishing feedback session: "
                                                              + "Session has already been unpublished.";
 
-    private static final int NUMBER_OF_HOURS_BEFORE_CLOSING_ALERT = 24;
-    private static final int NUMBER_OF_HOURS_BEFORE_OPENING_SOON_ALERT = 24;
+    static final int NUMBER_OF_HOURS_BEFORE_CLOSING_ALERT = 24;
+    static final int NUMBER_OF_HOURS_BEFORE_OPENING_SOON_ALERT = 24;
 
     private static final FeedbackSessionsLogic instance = new FeedbackSessionsLogic();
 
@@ -52,6 +58,7 @@ public final class FeedbackSessionsLogic {
     private InstructorsLogic instructorsLogic;
     private StudentsLogic studentsLogic;
     private DeadlineExtensionsLogic deLogic;
+    private SessionEventScheduler sessionEventScheduler;
 
     private FeedbackSessionsLogic() {
         // prevent initialization
@@ -69,6 +76,7 @@ public final class FeedbackSessionsLogic {
         instructorsLogic = InstructorsLogic.inst();
         studentsLogic = StudentsLogic.inst();
         deLogic = DeadlineExtensionsLogic.inst();
+        sessionEventScheduler = SessionEventScheduler.inst();
     }
 
     /**
@@ -80,7 +88,9 @@ public final class FeedbackSessionsLogic {
      */
     public FeedbackSessionAttributes createFeedbackSession(FeedbackSessionAttributes fsa)
             throws InvalidParametersException, EntityAlreadyExistsException {
-        return fsDb.createEntity(fsa);
+        FeedbackSessionAttributes createdSession = fsDb.createEntity(fsa);
+        sessionEventScheduler.registerSession(createdSession);
+        return createdSession;
     }
 
     /**
@@ -96,7 +106,9 @@ public final class FeedbackSessionsLogic {
      * @return null if not found or in recycle bin.
      */
     public FeedbackSessionAttributes getFeedbackSession(String feedbackSessionName, String courseId) {
-        return fsDb.getFeedbackSession(courseId, feedbackSessionName);
+        FeedbackSessionAttributes session = RequestTracer.memoize("session:" + courseId + ":" + feedbackSessionName,
+                () -> fsDb.getFeedbackSession(courseId, feedbackSessionName));
+        return session == null ? null : session.getCopy();
     }
 
     /**
@@ -175,10 +187,7 @@ public final class FeedbackSessionsLogic {
         List<FeedbackSessionAttributes> sessionsToSendEmailsFor = new ArrayList<>();
 
         for (FeedbackSessionAttributes session : sessions) {
-            // automated emails are required only for custom publish times
-            if (session.isPublished()
-                    && !TimeHelper.isSpecialTime(session.getResultsVisibleFromTime())
-                    && !coursesLogic.getCourse(session.getCourseId()).isCourseDeleted()) {
+            if (isAutomatedEmailDue(session, EmailType.FEEDBACK_PUBLISHED)) {
                 sessionsToSendEmailsFor.add(session);
             }
         }
@@ -197,7 +206,7 @@ public final class FeedbackSessionsLogic {
         log.info(String.format("Number of sessions under consideration: %d", sessions.size()));
 
         for (FeedbackSessionAttributes session : sessions) {
-            if (session.isOpened() && !coursesLogic.getCourse(session.getCourseId()).isCourseDeleted()) {
+            if (isAutomatedEmailDue(session, EmailType.FEEDBACK_OPENING)) {
                 sessionsToSendEmailsFor.add(session);
             }
         }
@@ -257,6 +266,57 @@ public final class FeedbackSessionsLogic {
         return !fqLogic.hasFeedbackQuestionsForInstructors(fsa, fsa.isCreator(userEmail));
     }
 
+    /**
+     * Gets the students who have not attempted a feedback session.
+     *
+     * <p>This gives the same result as filtering the students with
+     * {@link #isFeedbackSessionAttemptedByStudent(FeedbackSessionAttributes, String, String)},
+     * but the questions and the givers of the session are only queried once.</p>
+     */
+    public List<StudentAttributes> getStudentsWhoHaveNotAttempted(
+            FeedbackSessionAttributes fsa, List<StudentAttributes> students) {
+        String feedbackSessionName = fsa.getFeedbackSessionName();
+        String courseId = fsa.getCourseId();
+
+        if (!fqLogic.sessionHasQuestions(feedbackSessionName, courseId)) {
+            // if there are no questions for student, session is attempted
+            return new ArrayList<>();
+        }
+        boolean hasIndividualQuestions = fqLogic.sessionHasQuestionsForGiverType(
+                feedbackSessionName, courseId, FeedbackParticipantType.STUDENTS);
+        Set<String> giverSet = frLogic.getGiverSetThatAnswerFeedbackSession(courseId, feedbackSessionName);
+
+        return students.stream()
+                .filter(student -> !giverSet.contains(hasIndividualQuestions ? student.getEmail() : student.getTeam()))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Gets the instructors who have not attempted a feedback session.
+     *
+     * <p>This gives the same result as filtering the instructors with
+     * {@link #isFeedbackSessionAttemptedByInstructor(FeedbackSessionAttributes, String)},
+     * but the questions and the givers of the session are only queried once.</p>
+     */
+    public List<InstructorAttributes> getInstructorsWhoHaveNotAttempted(
+            FeedbackSessionAttributes fsa, List<InstructorAttributes> instructors) {
+        boolean hasQuestionsForInstructors = fqLogic.hasFeedbackQuestionsForInstructors(fsa, false);
+        boolean hasQuestionsForCreator = hasQuestionsForInstructors || fqLogic.sessionHasQuestionsForGiverType(
+                fsa.getFeedbackSessionName(), fsa.getCourseId(), FeedbackParticipantType.SELF);
+        if (!hasQuestionsForCreator) {
+            // if there is no question for instructor, session is attempted
+            return new ArrayList<>();
+        }
+        Set<String> giverSet =
+                frLogic.getGiverSetThatAnswerFeedbackSession(fsa.getCourseId(), fsa.getFeedbackSessionName());
+
+        return instructors.stream()
+                .filter(instructor -> !giverSet.contains(instructor.getEmail()))
+                .filter(instructor -> fsa.isCreator(instructor.getEmail())
+                        ? hasQuestionsForCreator : hasQuestionsForInstructors)
+                .collect(Collectors.toList());
+    }
+
     /**
      * Updates the details of a feedback session by {@link FeedbackSessionAttributes.UpdateOptions}.
      *
@@ -311,7 +371,9 @@ public final class FeedbackSessionsLogic {
             newUpdateOptions.withSentPublishedEmail(newSession.isPublished());
         }
 
-        return fsDb.updateFeedbackSession(newUpdateOptions.build());
+        FeedbackSessionAttributes updatedSession = fsDb.updateFeedbackSession(newUpdateOptions.build());
+        sessionEventScheduler.registerSession(updatedSession);
+        return updatedSession;
     }
 
     /**
@@ -426,8 +488,7 @@ public final class FeedbackSessionsLogic {
         log.info(String.format("Number of sessions under consideration: %d", sessions.size()));
 
         for (FeedbackSessionAttributes session : sessions) {
-            if (session.isOpeningWithinTimeLimit(NUMBER_OF_HOURS_BEFORE_OPENING_SOON_ALERT)
-                    && !coursesLogic.getCourse(session.getCourseId()).isCourseDeleted()) {
+            if (isAutomatedEmailDue(session, EmailType.FEEDBACK_OPENING_SOON)) {
                 requiredSessions.add(session);
             }
         }
@@ -447,8 +508,7 @@ public final class FeedbackSessionsLogic {
         log.info(String.format("Number of sessions under consideration: %d", sessions.size()));
 
         for (FeedbackSessionAttributes session : sessions) {
-            if (session.isClosingWithinTimeLimit(NUMBER_OF_HOURS_BEFORE_CLOSING_ALERT)
-                    && !coursesLogic.getCourse(session.getCourseId()).isCourseDeleted()) {
+            if (isAutomatedEmailDue(session, EmailType.FEEDBACK_CLOSING)) {
                 requiredSessions.add(session);
             }
         }
@@ -467,9 +527,7 @@ public final class FeedbackSessionsLogic {
         log.info(String.format("Number of sessions under consideration: %d", sessions.size()));
 
         for (FeedbackSessionAttributes session : sessions) {
-            // is session closed in the past 1 hour
-            if (session.isClosedWithinPastHour()
-                    && !coursesLogic.getCourse(session.getCourseId()).isCourseDeleted()) {
+            if (isAutomatedEmailDue(session, EmailType.FEEDBACK_CLOSED)) {
                 requiredSessions.add(session);
             }
         }
@@ -478,6 +536,64 @@ public final class FeedbackSessionsLogic {
         return requiredSessions;
     }
 
+    /**
+     * Gets a list of undeleted feedback sessions which possibly need an opening soon, open, closing, closed
+     * or published email to be sent, i.e. the sessions which are considered by any of the methods above.
+     */
+    public List<FeedbackSessionAttributes> getFeedbackSessionsPossiblyNeedingAutomatedEmails() {
+        Map<String, FeedbackSessionAttributes> sessions = new LinkedHashMap<>();
+        Stream.of(fsDb.getFeedbackSessionsPossiblyNeedingOpeningSoonEmail(),
+                fsDb.getFeedbackSessionsPossiblyNeedingOpenEmail(),
+                fsDb.getFeedbackSessionsPossiblyNeedingClosingEmail(),
+                fsDb.getFeedbackSessionsPossiblyNeedingClosedEmail(),
+                fsDb.getFeedbackSessionsPossiblyNeedingPublishedEmail())
+                .flatMap(List::stream)
+                .forEach(session -> sessions.putIfAbsent(
+                        session.getCourseId() + "%" + session.getFeedbackSessionName(), session));
+        return new ArrayList<>(sessions.values());
+    }
+
+    /**
+     * Returns true if the automated email of the given type is due to be sent for the session now,
+     * i.e. it has not been sent, is enabled, and the current time is within the time window of the email.
+     *
+     * <p>The email type must be one of the opening soon, opening, closing, closed or published email types.
+     */
+    public boolean isAutomatedEmailDue(FeedbackSessionAttributes session, EmailType emailType) {
+        if (session.isSessionDeleted()) {
+            return false;
+        }
+
+        boolean isDue;
+        switch (emailType) {
+        case FEEDBACK_OPENING_SOON:
+            isDue = !session.isSentOpeningSoonEmail()
+                    && session.isOpeningWithinTimeLimit(NUMBER_OF_HOURS_BEFORE_OPENING_SOON_ALERT);
+            break;
+        case FEEDBACK_OPENING:
+            isDue = !session.isSentOpenEmail() && session.isOpened();
+            break;
+        case FEEDBACK_CLOSING:
+            isDue = !session.isSentClosingEmail() && session.isClosingEmailEnabled()
+                    && session.isClosingWithinTimeLimit(NUMBER_OF_HOURS_BEFORE_CLOSING_ALERT);
+            break;
+        case FEEDBACK_CLOSED:
+            isDue = !session.isSentClosedEmail() && session.isClosingEmailEnabled()
+                    && session.isClosedWithinPastHour();
+            break;
+        case FEEDBACK_PUBLISHED:
+            // automated emails are required only for custom publish times
+            isDue = !session.isSentPublishedEmail() && session.isPublishedEmailEnabled()
+                    && session.isPublished()
+                    && !TimeHelper.isSpecialTime(session.getResultsVisibleFromTime());
+            break;
+        default:
+            throw new AssertionError("Unexpected email type " + emailType);
+        }
+
+        return isDue && !coursesLogic.getCourse(session.getCourseId()).isCourseDeleted();
+    }
+
     /**
      * Deletes a feedback session cascade to its associated questions, responses, deadline extensions and comments.
      */
@@ -492,6 +608,7 @@ public final class FeedbackSessionsLogic {
         deLogic.deleteDeadlineExtensions(query);
 
         fsDb.deleteFeedbackSession(feedbackSessionName, courseId);
+        sessionEventScheduler.unregisterSession(courseId, feedbackSessionName);
     }
 
     /**
@@ -508,7 +625,9 @@ public final class FeedbackSessionsLogic {
     public Instant moveFeedbackSessionToRecycleBin(String feedbackSessionName, String courseId)
             throws EntityDoesNotExistException {
 
-        return fsDb.softDeleteFeedbackSession(feedbackSessionName, courseId);
+        Instant deletedTime = fsDb.softDeleteFeedbackSession(feedbackSessionName, courseId);
+        sessionEventScheduler.unregisterSession(courseId, feedbackSessionName);
+        return deletedTime;
     }
 
     /**
@@ -517,6 +636,10 @@ public final class FeedbackSessionsLogic {
     public void restoreFeedbackSessionFromRecycleBin(String feedbackSessionName, String courseId)
             throws EntityDoesNotExistException {
         fsDb.restoreDeletedFeedbackSession(feedbackSessionName, courseId);
+        FeedbackSessionAttributes restoredSession = fsDb.getFeedbackSession(courseId, feedbackSessionName);
+        if (restoredSession != null) {
+            sessionEventScheduler.registerSession(restoredSession);
+        }
     }
 
     /**
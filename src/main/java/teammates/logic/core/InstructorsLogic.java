@@ -18,6 +18,7 @@ import teammates.common.exception.InvalidParametersException;
 import teammates.common.exception.SearchServiceException;
 import teammates.common.util.Const;
 import teammates.common.util.Logger;
+import teammates.common.util.RequestTracer;
 import teammates.storage.api.InstructorsDb;
 
 /**
@@ -39,6 +40,8 @@ public final class InstructorsLogic {
     private FeedbackQuestionsLogic fqLogic;
     private FeedbackSessionsLogic fsLogic;
     private DeadlineExtensionsLogic deLogic;
+    private UserRolesCache userRolesCache;
+    private UsageStatisticsLogic usageStatisticsLogic;
 
     private InstructorsLogic() {
         // prevent initialization
@@ -54,6 +57,8 @@ public final class InstructorsLogic {
         frcLogic = FeedbackResponseCommentsLogic.inst();
         fsLogic = FeedbackSessionsLogic.inst();
         deLogic = DeadlineExtensionsLogic.inst();
+        userRolesCache = UserRolesCache.inst();
+        usageStatisticsLogic = UsageStatisticsLogic.inst();
     }
 
     /**
@@ -85,7 +90,11 @@ public final class InstructorsLogic {
      */
     public InstructorAttributes createInstructor(InstructorAttributes instructorToAdd)
             throws InvalidParametersException, EntityAlreadyExistsException {
-        return instructorsDb.createEntity(instructorToAdd);
+        InstructorAttributes createdInstructor = instructorsDb.createEntity(instructorToAdd);
+        userRolesCache.invalidate(createdInstructor.getGoogleId());
+        usageStatisticsLogic.recordEntityCreated(UsageStatisticsLogic.CountedEntityType.INSTRUCTOR,
+                createdInstructor.getCreatedAt());
+        return createdInstructor;
     }
 
     /**
@@ -133,7 +142,9 @@ public final class InstructorsLogic {
      * Gets an instructor by unique constraint courseId-googleId.
      */
     public InstructorAttributes getInstructorForGoogleId(String courseId, String googleId) {
-        return instructorsDb.getInstructorForGoogleId(courseId, googleId);
+        InstructorAttributes instructor = RequestTracer.memoize("instructor:" + courseId + ":" + googleId,
+                () -> instructorsDb.getInstructorForGoogleId(courseId, googleId));
+        return instructor == null ? null : instructor.getCopy();
     }
 
     /**
@@ -300,7 +311,10 @@ public final class InstructorsLogic {
         verifyAtLeastOneInstructorIsDisplayed(originalInstructor.getCourseId(), isOriginalInstructorDisplayed,
                 newInstructor.isDisplayedToStudents());
 
-        return instructorsDb.updateInstructorByEmail(updateOptions);
+        InstructorAttributes updatedInstructor = instructorsDb.updateInstructorByEmail(updateOptions);
+        userRolesCache.invalidate(originalInstructor.getGoogleId());
+        userRolesCache.invalidate(updatedInstructor.getGoogleId());
+        return updatedInstructor;
     }
 
     /**
@@ -308,6 +322,7 @@ public final class InstructorsLogic {
      */
     public void deleteInstructors(AttributesDeletionQuery query) {
         instructorsDb.deleteInstructors(query);
+        userRolesCache.invalidateAll();
     }
 
     /**
@@ -323,6 +338,7 @@ public final class InstructorsLogic {
 
         frLogic.deleteFeedbackResponsesInvolvedEntityOfCourseCascade(courseId, email);
         instructorsDb.deleteInstructor(courseId, email);
+        userRolesCache.invalidate(instructorAttributes.getGoogleId());
         fsLogic.deleteFeedbackSessionsDeadlinesForInstructor(courseId, email);
         deLogic.deleteDeadlineExtensions(courseId, email, true);
     }
@@ -359,6 +375,7 @@ public final class InstructorsLogic {
      * Resets the associated googleId of an instructor.
      */
     public void resetInstructorGoogleId(String originalEmail, String courseId) throws EntityDoesNotExistException {
+        InstructorAttributes originalInstructor = instructorsDb.getInstructorForEmail(courseId, originalEmail);
         try {
             instructorsDb.updateInstructorByEmail(
                     InstructorAttributes.updateOptionsWithEmailBuilder(courseId, originalEmail)
@@ -367,6 +384,9 @@ public final class InstructorsLogic {
         } catch (InvalidParametersException e) {
             assert false : "Unexpected invalid parameter.";
         }
+        if (originalInstructor != null) {
+            userRolesCache.invalidate(originalInstructor.getGoogleId());
+        }
     }
 
     /**
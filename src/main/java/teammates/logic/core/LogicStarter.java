@@ -18,27 +18,35 @@ public class LogicStarter implements ServletContextListener {
     public static void initializeDependencies() {
         AccountRequestsLogic accountRequestsLogic = AccountRequestsLogic.inst();
         AccountsLogic accountsLogic = AccountsLogic.inst();
+        ActiveNotificationsCache activeNotificationsCache = ActiveNotificationsCache.inst();
         CoursesLogic coursesLogic = CoursesLogic.inst();
+        DeadlineExtensionsLogic deLogic = DeadlineExtensionsLogic.inst();
         FeedbackQuestionsLogic fqLogic = FeedbackQuestionsLogic.inst();
         FeedbackResponsesLogic frLogic = FeedbackResponsesLogic.inst();
         FeedbackResponseCommentsLogic frcLogic = FeedbackResponseCommentsLogic.inst();
         FeedbackSessionsLogic fsLogic = FeedbackSessionsLogic.inst();
         InstructorsLogic instructorsLogic = InstructorsLogic.inst();
         NotificationsLogic notificationsLogic = NotificationsLogic.inst();
+        SessionEventScheduler sessionEventScheduler = SessionEventScheduler.inst();
         StudentsLogic studentsLogic = StudentsLogic.inst();
         UsageStatisticsLogic usageStatisticsLogic = UsageStatisticsLogic.inst();
+        UserRolesCache userRolesCache = UserRolesCache.inst();
 
         accountRequestsLogic.initLogicDependencies();
         accountsLogic.initLogicDependencies();
+        activeNotificationsCache.initLogicDependencies();
         coursesLogic.initLogicDependencies();
+        deLogic.initLogicDependencies();
         fqLogic.initLogicDependencies();
         frLogic.initLogicDependencies();
         frcLogic.initLogicDependencies();
         fsLogic.initLogicDependencies();
         instructorsLogic.initLogicDependencies();
         notificationsLogic.initLogicDependencies();
+        sessionEventScheduler.initLogicDependencies();
         studentsLogic.initLogicDependencies();
         usageStatisticsLogic.initLogicDependencies();
+        userRolesCache.initLogicDependencies();
 
         log.info("Initialized dependencies between logic classes");
     }
@@ -47,11 +55,12 @@ public class LogicStarter implements ServletContextListener {
     public void contextInitialized(ServletContextEvent event) {
         // Invoked by Jetty at application startup.
         initializeDependencies();
+        UsageStatisticsLogic.inst().startCounting();
     }
 
     @Override
     public void contextDestroyed(ServletContextEvent event) {
-        // Nothing to do
+        UsageStatisticsLogic.inst().stopCounting();
     }
 
 }
@@ -17,6 +17,7 @@ public final class NotificationsLogic {
     private static final NotificationsLogic instance = new NotificationsLogic();
 
     private final NotificationsDb notificationsDb = NotificationsDb.inst();
+    private final ActiveNotificationsCache activeNotificationsCache = ActiveNotificationsCache.inst();
 
     private NotificationsLogic() {
         // prevent initialization
@@ -49,10 +50,23 @@ public final class NotificationsLogic {
     /**
      * Gets a list of notifications.
      *
+     * <p>The notifications are read from {@link ActiveNotificationsCache}, which may not reflect changes
+     * made through other instances of the app for a short time.
+     *
      * @return a list of notifications with the specified {@code targetUser}.
      */
     public List<NotificationAttributes> getActiveNotificationsByTargetUser(NotificationTargetUser targetUser) {
-        return notificationsDb.getActiveNotificationsByTargetUser(targetUser);
+        return activeNotificationsCache.getActiveNotifications(targetUser);
+    }
+
+    /**
+     * Gets the notifications for {@code targetUser} which have not ended yet, including the ones yet to start,
+     * from the database.
+     *
+     * <p>Used to load the snapshots of {@link ActiveNotificationsCache}.
+     */
+    List<NotificationAttributes> getUnexpiredNotificationsByTargetUser(NotificationTargetUser targetUser) {
+        return notificationsDb.getUnexpiredNotificationsByTargetUser(targetUser);
     }
 
     /**
@@ -64,7 +78,9 @@ public final class NotificationsLogic {
      */
     public NotificationAttributes createNotification(NotificationAttributes notification)
             throws InvalidParametersException, EntityAlreadyExistsException {
-        return notificationsDb.createEntity(notification);
+        NotificationAttributes createdNotification = notificationsDb.createEntity(notification);
+        activeNotificationsCache.invalidateAll();
+        return createdNotification;
     }
 
     /**
@@ -76,7 +92,9 @@ public final class NotificationsLogic {
      */
     public NotificationAttributes updateNotification(NotificationAttributes.UpdateOptions updateOptions)
             throws InvalidParametersException, EntityDoesNotExistException {
-        return notificationsDb.updateNotification(updateOptions);
+        NotificationAttributes updatedNotification = notificationsDb.updateNotification(updateOptions);
+        activeNotificationsCache.invalidateAll();
+        return updatedNotification;
     }
 
     /**
@@ -86,6 +104,7 @@ public final class NotificationsLogic {
      */
     public void deleteNotification(String notificationId) {
         notificationsDb.deleteNotification(notificationId);
+        activeNotificationsCache.invalidateAll();
     }
 
     /**
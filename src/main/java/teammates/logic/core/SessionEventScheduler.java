@@ -0,0 +1,363 @@
+package teammates.logic.core;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import teammates.common.datatransfer.attributes.DeadlineExtensionAttributes;
+import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
+import teammates.common.util.EmailType;
+import teammates.common.util.Logger;
+import teammates.common.util.TimeHelper;
+import teammates.common.util.TimingWheel;
+import teammates.storage.api.OfyHelper;
+
+/**
+ * Keeps track of the instants at which the automated emails of feedback sessions and deadline extensions
+ * are due to be sent, and dispatches each email type of a session when its instant is reached.
+ *
+ * <p>The instants are held in a {@link TimingWheel}, which is rebuilt from the datastore when the scheduler
+ * is started and updated whenever a session or deadline extension is written, so that the sessions
+ * do not need to be queried repeatedly to find the ones whose emails are due.
+ *
+ * <p>The wheel is held in memory of each instance. A dispatched event is only a hint: the receiver of the event
+ * is expected to check again whether the email is due, so that an event which is outdated (e.g. because another
+ * instance has changed the session) or dispatched by more than one instance does no harm.
+ */
+public final class SessionEventScheduler {
+
+    private static final long TICK_MILLIS = 1000L;
+    private static final int WHEEL_SIZE = 64;
+    private static final int NUM_WHEEL_LEVELS = 4;
+
+    /**
+     * Events which are due further in the past than this are not scheduled,
+     * consistent with the window of the queries for sessions which possibly need automated emails.
+     */
+    private static final Duration MAX_EVENT_AGE = Duration.ofDays(2);
+
+    private static final EmailType[] SESSION_EMAIL_TYPES = {
+            EmailType.FEEDBACK_OPENING_SOON,
+            EmailType.FEEDBACK_OPENING,
+            EmailType.FEEDBACK_CLOSING,
+            EmailType.FEEDBACK_CLOSED,
+            EmailType.FEEDBACK_PUBLISHED,
+    };
+
+    private static final Logger log = Logger.getLogger();
+
+    private static final SessionEventScheduler instance = new SessionEventScheduler();
+
+    private final Object lock = new Object();
+
+    /**
+     * The scheduled events of each session, including the events of its deadline extensions.
+     */
+    private final Map<String, Set<SessionEvent>> eventsBySession = new HashMap<>();
+
+    private FeedbackSessionsLogic fsLogic;
+    private DeadlineExtensionsLogic deLogic;
+
+    private TimingWheel<SessionEvent> wheel;
+    private SessionEventDispatcher dispatcher;
+    private ScheduledExecutorService executor;
+
+    private SessionEventScheduler() {
+        // prevent initialization
+    }
+
+    public static SessionEventScheduler inst() {
+        return instance;
+    }
+
+    void initLogicDependencies() {
+        fsLogic = FeedbackSessionsLogic.inst();
+        deLogic = DeadlineExtensionsLogic.inst();
+    }
+
+    /**
+     * Starts the scheduler: the events are loaded from the datastore in the background,
+     * and due events are dispatched to {@code dispatcher} every second from then on.
+     */
+    public void start(SessionEventDispatcher dispatcher) {
+        synchronized (lock) {
+            if (executor != null) {
+                return;
+            }
+            initWheel(System.currentTimeMillis(), dispatcher);
+            executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "session-event-scheduler");
+                thread.setDaemon(true);
+                return thread;
+            });
+            executor.execute(() -> OfyHelper.runWithContext(this::rebuild));
+            executor.scheduleAtFixedRate(() -> {
+                try {
+                    dispatchDueEvents(System.currentTimeMillis());
+                } catch (RuntimeException e) {
+                    log.severe("Failed to dispatch session events", e);
+                }
+            }, TICK_MILLIS, TICK_MILLIS, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Stops the scheduler and discards the scheduled events.
+     */
+    public void stop() {
+        synchronized (lock) {
+            if (executor != null) {
+                executor.shutdownNow();
+                executor = null;
+            }
+            wheel = null;
+            dispatcher = null;
+            eventsBySession.clear();
+        }
+    }
+
+    void initWheel(long startMillis, SessionEventDispatcher dispatcher) {
+        synchronized (lock) {
+            this.wheel = new TimingWheel<>(TICK_MILLIS, WHEEL_SIZE, NUM_WHEEL_LEVELS, startMillis);
+            this.dispatcher = dispatcher;
+            this.eventsBySession.clear();
+        }
+    }
+
+    /**
+     * Loads the events of the sessions and deadline extensions which possibly need automated emails.
+     */
+    private void rebuild() {
+        try {
+            List<FeedbackSessionAttributes> sessions = fsLogic.getFeedbackSessionsPossiblyNeedingAutomatedEmails();
+            sessions.forEach(this::registerSession);
+            List<DeadlineExtensionAttributes> deadlineExtensions =
+                    deLogic.getUpcomingDeadlineExtensionsPossiblyNeedingClosingEmail();
+            deadlineExtensions.forEach(this::registerDeadlineExtension);
+            log.info("Scheduled events of " + sessions.size() + " sessions and "
+                    + deadlineExtensions.size() + " deadline extensions");
+        } catch (RuntimeException e) {
+            log.severe("Failed to load session events; automated emails are only sent by the cron jobs", e);
+        }
+    }
+
+    /**
+     * Schedules the automated email events of the session according to its current state,
+     * replacing the events scheduled for an earlier state of the session.
+     */
+    void registerSession(FeedbackSessionAttributes session) {
+        synchronized (lock) {
+            if (wheel == null) {
+                return;
+            }
+            if (session.isSessionDeleted()) {
+                unregisterSession(session.getCourseId(), session.getFeedbackSessionName());
+                return;
+            }
+            for (EmailType emailType : SESSION_EMAIL_TYPES) {
+                SessionEvent event = new SessionEvent(session.getCourseId(), session.getFeedbackSessionName(),
+                        emailType, null, false);
+                schedule(event, getEventTime(session, emailType));
+            }
+        }
+    }
+
+    /**
+     * Cancels the events of the session and its deadline extensions.
+     */
+    void unregisterSession(String courseId, String feedbackSessionName) {
+        synchronized (lock) {
+            if (wheel == null) {
+                return;
+            }
+            Set<SessionEvent> events = eventsBySession.remove(getSessionKey(courseId, feedbackSessionName));
+            if (events != null) {
+                events.forEach(wheel::cancel);
+            }
+        }
+    }
+
+    /**
+     * Schedules the closing email event of the deadline extension according to its current state.
+     */
+    void registerDeadlineExtension(DeadlineExtensionAttributes deadlineExtension) {
+        synchronized (lock) {
+            if (wheel == null) {
+                return;
+            }
+            SessionEvent event = new SessionEvent(deadlineExtension.getCourseId(),
+                    deadlineExtension.getFeedbackSessionName(), EmailType.FEEDBACK_CLOSING,
+                    deadlineExtension.getUserEmail(), deadlineExtension.getIsInstructor());
+            Instant eventTime = deadlineExtension.getSentClosingEmail()
+                    ? null
+                    : deadlineExtension.getEndTime()
+                            .minus(Duration.ofHours(FeedbackSessionsLogic.NUMBER_OF_HOURS_BEFORE_CLOSING_ALERT));
+            schedule(event, eventTime);
+        }
+    }
+
+    /**
+     * Cancels the closing email event of the deadline extension.
+     */
+    void unregisterDeadlineExtension(
+            String courseId, String feedbackSessionName, String userEmail, boolean isInstructor) {
+        synchronized (lock) {
+            if (wheel == null) {
+                return;
+            }
+            SessionEvent event = new SessionEvent(courseId, feedbackSessionName, EmailType.FEEDBACK_CLOSING,
+                    userEmail, isInstructor);
+            schedule(event, null);
+        }
+    }
+
+    /**
+     * Dispatches the email types of the sessions whose events are due at the given time.
+     *
+     * <p>The events of the deadline extensions of a session are dispatched as the closing email type
+     * of the session, at most once per session and email type.
+     */
+    void dispatchDueEvents(long nowMillis) {
+        Set<SessionEvent> dueSessionEvents = new LinkedHashSet<>();
+        SessionEventDispatcher currentDispatcher;
+        synchronized (lock) {
+            if (wheel == null) {
+                return;
+            }
+            for (SessionEvent event : wheel.advanceTo(nowMillis)) {
+                removeFromSessionEvents(event);
+                dueSessionEvents.add(new SessionEvent(event.courseId, event.feedbackSessionName,
+                        event.emailType, null, false));
+            }
+            currentDispatcher = dispatcher;
+        }
+
+        // tasks are added outside of the lock so that session writes are not blocked by them
+        for (SessionEvent event : dueSessionEvents) {
+            currentDispatcher.dispatch(event.courseId, event.feedbackSessionName, event.emailType);
+        }
+    }
+
+    private void schedule(SessionEvent event, Instant eventTime) {
+        if (eventTime == null || eventTime.isBefore(Instant.now().minus(MAX_EVENT_AGE))) {
+            wheel.cancel(event);
+            removeFromSessionEvents(event);
+            return;
+        }
+        wheel.schedule(event, eventTime.toEpochMilli());
+        eventsBySession.computeIfAbsent(getSessionKey(event.courseId, event.feedbackSessionName),
+                key -> new HashSet<>()).add(event);
+    }
+
+    private void removeFromSessionEvents(SessionEvent event) {
+        String sessionKey = getSessionKey(event.courseId, event.feedbackSessionName);
+        Set<SessionEvent> events = eventsBySession.get(sessionKey);
+        if (events == null) {
+            return;
+        }
+        events.remove(event);
+        if (events.isEmpty()) {
+            eventsBySession.remove(sessionKey);
+        }
+    }
+
+    /**
+     * Returns the instant at which the automated email of the given type is due for the session,
+     * or null if the email is not to be sent.
+     */
+    private Instant getEventTime(FeedbackSessionAttributes session, EmailType emailType) {
+        switch (emailType) {
+        case FEEDBACK_OPENING_SOON:
+            return session.isSentOpeningSoonEmail()
+                    ? null
+                    : session.getStartTime()
+                            .minus(Duration.ofHours(FeedbackSessionsLogic.NUMBER_OF_HOURS_BEFORE_OPENING_SOON_ALERT));
+        case FEEDBACK_OPENING:
+            return session.isSentOpenEmail() ? null : session.getStartTime();
+        case FEEDBACK_CLOSING:
+            return session.isSentClosingEmail() || !session.isClosingEmailEnabled()
+                    ? null
+                    : session.getEndTime()
+                            .minus(Duration.ofHours(FeedbackSessionsLogic.NUMBER_OF_HOURS_BEFORE_CLOSING_ALERT));
+        case FEEDBACK_CLOSED:
+            return session.isSentClosedEmail() || !session.isClosingEmailEnabled()
+                    ? null
+                    : session.getEndTime().plus(Duration.ofMinutes(session.getGracePeriodMinutes()));
+        case FEEDBACK_PUBLISHED:
+            return session.isSentPublishedEmail() || !session.isPublishedEmailEnabled()
+                    || TimeHelper.isSpecialTime(session.getResultsVisibleFromTime())
+                    ? null
+                    : session.getResultsVisibleFromTime();
+        default:
+            throw new AssertionError("Unexpected email type " + emailType);
+        }
+    }
+
+    private static String getSessionKey(String courseId, String feedbackSessionName) {
+        return courseId + "%" + feedbackSessionName;
+    }
+
+    /**
+     * Receives the email types of sessions which are due to be sent.
+     */
+    @FunctionalInterface
+    public interface SessionEventDispatcher {
+
+        /**
+         * Handles the due automated email of the given type of the session.
+         */
+        void dispatch(String courseId, String feedbackSessionName, EmailType emailType);
+
+    }
+
+    /**
+     * An automated email of a session, or of a deadline extension of the session if {@code userEmail} is present.
+     */
+    private static final class SessionEvent {
+        private final String courseId;
+        private final String feedbackSessionName;
+        private final EmailType emailType;
+        private final String userEmail;
+        private final boolean isInstructor;
+
+        private SessionEvent(String courseId, String feedbackSessionName, EmailType emailType,
+                             String userEmail, boolean isInstructor) {
+            this.courseId = courseId;
+            this.feedbackSessionName = feedbackSessionName;
+            this.emailType = emailType;
+            this.userEmail = userEmail;
+            this.isInstructor = isInstructor;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (this == other) {
+                return true;
+            }
+            if (!(other instanceof SessionEvent)) {
+                return false;
+            }
+            SessionEvent otherEvent = (SessionEvent) other;
+            return courseId.equals(otherEvent.courseId)
+                    && feedbackSessionName.equals(otherEvent.feedbackSessionName)
+                    && emailType == otherEvent.emailType
+                    && Objects.equals(userEmail, otherEvent.userEmail)
+                    && isInstructor == otherEvent.isInstructor;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(courseId, feedbackSessionName, emailType, userEmail, isInstructor);
+        }
+    }
+
+}
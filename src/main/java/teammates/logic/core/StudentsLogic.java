@@ -3,7 +3,10 @@ package teammates.logic.core;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.Set;
 import java.util.StringJoiner;
 
 import teammates.common.datatransfer.AttributesDeletionQuery;
@@ -42,6 +45,8 @@ public final class StudentsLogic {
     private FeedbackResponsesLogic frLogic;
     private FeedbackSessionsLogic fsLogic;
     private DeadlineExtensionsLogic deLogic;
+    private UserRolesCache userRolesCache;
+    private UsageStatisticsLogic usageStatisticsLogic;
 
     private StudentsLogic() {
         // prevent initialization
@@ -55,6 +60,8 @@ public final class StudentsLogic {
         frLogic = FeedbackResponsesLogic.inst();
         fsLogic = FeedbackSessionsLogic.inst();
         deLogic = DeadlineExtensionsLogic.inst();
+        userRolesCache = UserRolesCache.inst();
+        usageStatisticsLogic = UsageStatisticsLogic.inst();
     }
 
     /**
@@ -66,7 +73,11 @@ public final class StudentsLogic {
      */
     public StudentAttributes createStudent(StudentAttributes studentData)
             throws InvalidParametersException, EntityAlreadyExistsException {
-        return studentsDb.createEntity(studentData);
+        StudentAttributes createdStudent = studentsDb.createEntity(studentData);
+        userRolesCache.invalidate(createdStudent.getGoogleId());
+        usageStatisticsLogic.recordEntityCreated(UsageStatisticsLogic.CountedEntityType.STUDENT,
+                createdStudent.getCreatedAt());
+        return createdStudent;
     }
 
     /**
@@ -237,6 +248,8 @@ public final class StudentsLogic {
             throws InvalidParametersException, EntityDoesNotExistException, EntityAlreadyExistsException {
         StudentAttributes originalStudent = getStudentForEmail(updateOptions.getCourseId(), updateOptions.getEmail());
         StudentAttributes updatedStudent = studentsDb.updateStudent(updateOptions);
+        userRolesCache.invalidate(originalStudent.getGoogleId());
+        userRolesCache.invalidate(updatedStudent.getGoogleId());
 
         // cascade email change, if any
         if (!originalStudent.getEmail().equals(updatedStudent.getEmail())) {
@@ -322,15 +335,17 @@ public final class StudentsLogic {
 
     private List<StudentAttributes> getMergedList(List<StudentAttributes> studentList, String courseId) {
 
-        List<StudentAttributes> mergedList = new ArrayList<>();
         List<StudentAttributes> studentsInCourse = getStudentsForCourse(courseId);
+        List<StudentAttributes> mergedList = new ArrayList<>(studentList.size() + studentsInCourse.size());
+        Set<String> mergedEmails = new HashSet<>();
 
         for (StudentAttributes student : studentList) {
             mergedList.add(student);
+            mergedEmails.add(student.getEmail().toLowerCase(Locale.ROOT));
         }
 
         for (StudentAttributes student : studentsInCourse) {
-            if (!isInEnrollList(student, mergedList)) {
+            if (mergedEmails.add(student.getEmail().toLowerCase(Locale.ROOT))) {
                 mergedList.add(student);
             }
         }
@@ -392,24 +407,24 @@ public final class StudentsLogic {
         StringJoiner errorMessage = new StringJoiner(" ");
         StudentAttributes.sortByTeamName(mergedList);
 
-        List<String> invalidTeamList = new ArrayList<>();
+        Set<String> invalidTeams = new HashSet<>();
         for (int i = 1; i < mergedList.size(); i++) {
             StudentAttributes currentStudent = mergedList.get(i);
             StudentAttributes previousStudent = mergedList.get(i - 1);
             if (currentStudent.getTeam().equals(previousStudent.getTeam())
                     && !currentStudent.getSection().equals(previousStudent.getSection())
-                    && !invalidTeamList.contains(currentStudent.getTeam())) {
+                    && !invalidTeams.contains(currentStudent.getTeam())) {
 
                 errorMessage.add(String.format(ERROR_INVALID_TEAM_NAME,
                         currentStudent.getTeam(),
                         previousStudent.getSection(),
                         currentStudent.getSection()));
 
-                invalidTeamList.add(currentStudent.getTeam());
+                invalidTeams.add(currentStudent.getTeam());
             }
         }
 
-        if (!invalidTeamList.isEmpty()) {
+        if (!invalidTeams.isEmpty()) {
             errorMessage.add(ERROR_INVALID_TEAM_NAME_INSTRUCTION);
         }
 
@@ -445,6 +460,7 @@ public final class StudentsLogic {
             frLogic.deleteFeedbackResponsesInvolvedEntityOfCourseCascade(student.getCourse(), student.getTeam());
         }
         studentsDb.deleteStudent(courseId, studentEmail);
+        userRolesCache.invalidate(student.getGoogleId());
         fsLogic.deleteFeedbackSessionsDeadlinesForStudent(courseId, studentEmail);
         deLogic.deleteDeadlineExtensions(courseId, studentEmail, false);
 
@@ -473,6 +489,7 @@ public final class StudentsLogic {
      */
     public void deleteStudents(AttributesDeletionQuery query) {
         studentsDb.deleteStudents(query);
+        userRolesCache.invalidateAll();
         updateStudentResponsesAfterDeletion(query.getCourseId());
     }
 
@@ -485,16 +502,6 @@ public final class StudentsLogic {
         studentsDb.putDocument(student);
     }
 
-    private boolean isInEnrollList(StudentAttributes student,
-            List<StudentAttributes> studentInfoList) {
-        for (StudentAttributes studentInfo : studentInfoList) {
-            if (studentInfo.getEmail().equalsIgnoreCase(student.getEmail())) {
-                return true;
-            }
-        }
-        return false;
-    }
-
     private boolean isTeamChanged(String originalTeam, String newTeam) {
         return newTeam != null && originalTeam != null
                 && !originalTeam.equals(newTeam);
@@ -1,11 +1,26 @@
 package teammates.logic.core;
 
+import java.time.DayOfWeek;
+import java.time.Duration;
 import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 
 import teammates.common.datatransfer.attributes.UsageStatisticsAttributes;
 import teammates.common.exception.EntityAlreadyExistsException;
 import teammates.common.exception.InvalidParametersException;
+import teammates.common.util.Logger;
+import teammates.storage.api.OfyHelper;
 import teammates.storage.api.UsageStatisticsDb;
 
 /**
@@ -16,10 +31,63 @@ import teammates.storage.api.UsageStatisticsDb;
  */
 public final class UsageStatisticsLogic {
 
+    /**
+     * The time period of hourly statistics objects, in minutes.
+     */
+    public static final int HOURLY_TIME_PERIOD = 60;
+
+    /**
+     * The time period of daily statistics objects, in minutes. Days start at midnight UTC.
+     */
+    public static final int DAILY_TIME_PERIOD = 24 * 60;
+
+    /**
+     * The time period of weekly statistics objects, in minutes. Weeks start on Monday at midnight UTC.
+     */
+    public static final int WEEKLY_TIME_PERIOD = 7 * 24 * 60;
+
+    /**
+     * The length of the period of each counter of created entities, in minutes.
+     */
+    static final int COUNTER_TIME_PERIOD = 5;
+
+    /**
+     * The number of shards of each counter of created entities.
+     */
+    static final int NUM_COUNTER_SHARDS = 20;
+
+    /**
+     * The number of recorded entities at which the counters are flushed without waiting for the next regular flush.
+     */
+    static final int MAX_PENDING_ENTITIES = 100;
+
+    private static final long COUNTER_TIME_PERIOD_MILLIS = Duration.ofMinutes(COUNTER_TIME_PERIOD).toMillis();
+
+    private static final long FLUSH_INTERVAL_MILLIS = Duration.ofSeconds(30).toMillis();
+
+    /**
+     * The time after counting is started on an instance during which instances of the previous version,
+     * which do not count created entities, may still be serving requests.
+     */
+    private static final Duration COUNTING_START_MARGIN = Duration.ofMinutes(15);
+
+    private static final Logger log = Logger.getLogger();
+
     private static final UsageStatisticsLogic instance = new UsageStatisticsLogic();
 
     private final UsageStatisticsDb usageStatisticsDb = UsageStatisticsDb.inst();
 
+    private final Object countsLock = new Object();
+
+    /**
+     * The numbers of created entities which are not added to the counters yet, by the start time of their period.
+     */
+    private Map<Long, int[]> pendingCounts = new HashMap<>();
+    private int numPendingEntities;
+    private boolean isFlushRequested;
+
+    private ScheduledExecutorService flushExecutor;
+
     private AccountRequestsLogic accountRequestsLogic;
     private CoursesLogic coursesLogic;
     private FeedbackResponsesLogic feedbackResponsesLogic;
@@ -44,13 +112,269 @@ public final class UsageStatisticsLogic {
 
     /**
      * Gets the list of statistics objects between start time and end time.
+     *
+     * <p>The daily and weekly statistics objects rolled up from them are excluded.
      */
     public List<UsageStatisticsAttributes> getUsageStatisticsForTimeRange(Instant startTime, Instant endTime) {
-        return usageStatisticsDb.getUsageStatisticsForTimeRange(startTime, endTime);
+        return usageStatisticsDb.getUsageStatisticsForTimeRange(startTime, endTime).stream()
+                .filter(statistics -> !isRollupTimePeriod(statistics.getTimePeriod()))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Gets the list of statistics objects of the given time period, i.e. {@link #HOURLY_TIME_PERIOD},
+     * {@link #DAILY_TIME_PERIOD} or {@link #WEEKLY_TIME_PERIOD}, covering the time range, sorted by start time.
+     *
+     * <p>The time range is extended to whole time periods, e.g. the daily statistics object of the day
+     * in which the start time falls is included.
+     */
+    public List<UsageStatisticsAttributes> getUsageStatisticsForTimeRange(Instant startTime, Instant endTime,
+                                                                          int timePeriod) {
+        return usageStatisticsDb.getUsageStatisticsForTimeRange(
+                getTimePeriodStart(startTime, timePeriod), endTime, timePeriod);
+    }
+
+    /**
+     * Gets the shortest time period, among {@link #HOURLY_TIME_PERIOD}, {@link #DAILY_TIME_PERIOD} and
+     * {@link #WEEKLY_TIME_PERIOD}, with which the time range is covered by at most the given number of
+     * statistics objects. If there is none, {@link #WEEKLY_TIME_PERIOD} is returned.
+     */
+    public int getTimePeriodForTimeRange(Instant startTime, Instant endTime, int maxNumStatistics) {
+        for (int timePeriod : new int[] { HOURLY_TIME_PERIOD, DAILY_TIME_PERIOD }) {
+            long timePeriodMillis = Duration.ofMinutes(timePeriod).toMillis();
+            long coveredMillis = endTime.toEpochMilli() - getTimePeriodStart(startTime, timePeriod).toEpochMilli();
+            long numStatistics = (coveredMillis + timePeriodMillis - 1) / timePeriodMillis;
+            if (numStatistics <= maxNumStatistics) {
+                return timePeriod;
+            }
+        }
+        return WEEKLY_TIME_PERIOD;
+    }
+
+    /**
+     * Returns the start of the time period, i.e. {@link #HOURLY_TIME_PERIOD}, {@link #DAILY_TIME_PERIOD} or
+     * {@link #WEEKLY_TIME_PERIOD}, in which the given time falls.
+     */
+    static Instant getTimePeriodStart(Instant time, int timePeriod) {
+        switch (timePeriod) {
+        case HOURLY_TIME_PERIOD:
+            return time.truncatedTo(ChronoUnit.HOURS);
+        case DAILY_TIME_PERIOD:
+            return time.truncatedTo(ChronoUnit.DAYS);
+        case WEEKLY_TIME_PERIOD:
+            return time.atZone(ZoneOffset.UTC)
+                    .truncatedTo(ChronoUnit.DAYS)
+                    .with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY))
+                    .toInstant();
+        default:
+            throw new IllegalArgumentException("Unsupported time period: " + timePeriod);
+        }
+    }
+
+    private static boolean isRollupTimePeriod(int timePeriod) {
+        return timePeriod == DAILY_TIME_PERIOD || timePeriod == WEEKLY_TIME_PERIOD;
+    }
+
+    /**
+     * Starts counting created entities: the time from which this instance counts is recorded, and the counters
+     * are flushed in the background every 30 seconds, or as soon as {@value #MAX_PENDING_ENTITIES} entities
+     * are recorded, so that flushing does not add to the latency of the requests which create entities.
+     */
+    public void startCounting() {
+        Instant countingStartTime = Instant.now();
+        synchronized (countsLock) {
+            if (flushExecutor != null) {
+                return;
+            }
+            flushExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "usage-statistics-flusher");
+                thread.setDaemon(true);
+                return thread;
+            });
+            flushExecutor.execute(() -> {
+                try {
+                    OfyHelper.runWithContext(() -> usageStatisticsDb.recordCountingStartTime(countingStartTime));
+                } catch (RuntimeException e) {
+                    log.severe("Failed to record the start time of counting created entities", e);
+                }
+            });
+            flushExecutor.scheduleWithFixedDelay(this::flushCountersInBackground,
+                    FLUSH_INTERVAL_MILLIS, FLUSH_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Stops flushing the counters in the background, and flushes the entities recorded so far.
+     */
+    public void stopCounting() {
+        ScheduledExecutorService executor;
+        synchronized (countsLock) {
+            executor = flushExecutor;
+            flushExecutor = null;
+        }
+        if (executor != null) {
+            executor.shutdownNow();
+            flushCountersInBackground();
+        }
+    }
+
+    private void flushCountersInBackground() {
+        try {
+            OfyHelper.runWithContext(this::flushCounters);
+        } catch (RuntimeException e) {
+            log.severe("Failed to flush usage statistics counters", e);
+        }
+    }
+
+    /**
+     * Records that an entity of the given type is created at the given time.
+     *
+     * <p>The record is kept in memory until the next {@link #flushCounters()}, which is done in the background
+     * once counting is started. The records are flushed when the instance is shut down, but not when it is
+     * killed, in which case the counters miss the entities created on the instance since the last flush,
+     * i.e. within the last 30 seconds and fewer than {@value #MAX_PENDING_ENTITIES} of them.
+     *
+     * <p>Deleted entities are not subtracted from the counters, i.e. the counters count the entities created
+     * in each period, whereas {@link #calculateEntitiesStatisticsForTimeRange(Instant, Instant)} counts
+     * the entities created in the period which still exist.
+     */
+    void recordEntityCreated(CountedEntityType entityType, Instant createdAt) {
+        long createdAtMillis = createdAt == null ? System.currentTimeMillis() : createdAt.toEpochMilli();
+        long periodStartTime = Math.floorDiv(createdAtMillis, COUNTER_TIME_PERIOD_MILLIS) * COUNTER_TIME_PERIOD_MILLIS;
+        synchronized (countsLock) {
+            int[] counts = pendingCounts.computeIfAbsent(periodStartTime,
+                    k -> new int[CountedEntityType.values().length]);
+            counts[entityType.ordinal()]++;
+            numPendingEntities++;
+            if (numPendingEntities >= MAX_PENDING_ENTITIES && flushExecutor != null && !isFlushRequested) {
+                isFlushRequested = true;
+                flushExecutor.execute(this::flushCountersInBackground);
+            }
+        }
+    }
+
+    /**
+     * Adds the numbers of created entities recorded by this instance to the counters in the database.
+     *
+     * <p>Each period is added to a random shard of its counter. Numbers which fail to be added are kept
+     * for the next flush.
+     */
+    public void flushCounters() {
+        Map<Long, int[]> countsToFlush;
+        synchronized (countsLock) {
+            if (pendingCounts.isEmpty()) {
+                return;
+            }
+            countsToFlush = pendingCounts;
+            pendingCounts = new HashMap<>();
+            numPendingEntities = 0;
+            isFlushRequested = false;
+        }
+
+        for (Map.Entry<Long, int[]> periodCounts : countsToFlush.entrySet()) {
+            int[] counts = periodCounts.getValue();
+            UsageStatisticsAttributes countsToAdd =
+                    UsageStatisticsAttributes.builder(Instant.ofEpochMilli(periodCounts.getKey()), COUNTER_TIME_PERIOD)
+                            .withNumResponses(counts[CountedEntityType.RESPONSE.ordinal()])
+                            .withNumCourses(counts[CountedEntityType.COURSE.ordinal()])
+                            .withNumStudents(counts[CountedEntityType.STUDENT.ordinal()])
+                            .withNumInstructors(counts[CountedEntityType.INSTRUCTOR.ordinal()])
+                            .withNumAccountRequests(counts[CountedEntityType.ACCOUNT_REQUEST.ordinal()])
+                            .build();
+            try {
+                usageStatisticsDb.incrementCounter(countsToAdd,
+                        ThreadLocalRandom.current().nextInt(NUM_COUNTER_SHARDS));
+            } catch (RuntimeException e) {
+                log.warning("Failed to flush usage statistics counters, will retry in the next flush", e);
+                restorePendingCounts(periodCounts.getKey(), counts);
+            }
+        }
+    }
+
+    private void restorePendingCounts(long periodStartTime, int[] counts) {
+        synchronized (countsLock) {
+            int[] pending = pendingCounts.computeIfAbsent(periodStartTime, k -> new int[counts.length]);
+            for (int i = 0; i < counts.length; i++) {
+                pending[i] += counts[i];
+                numPendingEntities += counts[i];
+            }
+        }
+    }
+
+    /**
+     * Gets the statistics of created entities for the given time range from the counters of created entities.
+     *
+     * <p>The start time and end time should be multiples of {@value #COUNTER_TIME_PERIOD} minutes.
+     * The part of the time range which is not fully covered by the counters, i.e. up to the hour after
+     * counting is started, is calculated from the entities themselves.
+     */
+    public UsageStatisticsAttributes getEntitiesStatisticsForTimeRange(Instant startTime, Instant endTime) {
+        flushCounters();
+
+        Instant countingStartTime = usageStatisticsDb.getCountingStartTime();
+        if (countingStartTime == null) {
+            return calculateEntitiesStatisticsForTimeRange(startTime, endTime);
+        }
+        Instant coveredStartTime = getTimePeriodStart(countingStartTime.plus(COUNTING_START_MARGIN), HOURLY_TIME_PERIOD)
+                .plus(Duration.ofMinutes(HOURLY_TIME_PERIOD));
+        if (!endTime.isAfter(coveredStartTime)) {
+            return calculateEntitiesStatisticsForTimeRange(startTime, endTime);
+        }
+        if (!startTime.isBefore(coveredStartTime)) {
+            return sumCountersForTimeRange(startTime, endTime);
+        }
+        return sum(calculateEntitiesStatisticsForTimeRange(startTime, coveredStartTime),
+                sumCountersForTimeRange(coveredStartTime, endTime));
+    }
+
+    private UsageStatisticsAttributes sumCountersForTimeRange(Instant startTime, Instant endTime) {
+        List<UsageStatisticsAttributes> counters =
+                usageStatisticsDb.getCountersForTimeRange(startTime, endTime, COUNTER_TIME_PERIOD);
+
+        int numResponses = 0;
+        int numCourses = 0;
+        int numStudents = 0;
+        int numInstructors = 0;
+        int numAccountRequests = 0;
+        for (UsageStatisticsAttributes counter : counters) {
+            numResponses += counter.getNumResponses();
+            numCourses += counter.getNumCourses();
+            numStudents += counter.getNumStudents();
+            numInstructors += counter.getNumInstructors();
+            numAccountRequests += counter.getNumAccountRequests();
+        }
+
+        return UsageStatisticsAttributes.builder(startTime, 1) // both startTime and timePeriod do not matter here
+                .withNumResponses(numResponses)
+                .withNumCourses(numCourses)
+                .withNumStudents(numStudents)
+                .withNumInstructors(numInstructors)
+                .withNumAccountRequests(numAccountRequests)
+                .build();
+    }
+
+    private static UsageStatisticsAttributes sum(UsageStatisticsAttributes first, UsageStatisticsAttributes second) {
+        return UsageStatisticsAttributes.builder(first.getStartTime(), 1) // timePeriod does not matter here
+                .withNumResponses(first.getNumResponses() + second.getNumResponses())
+                .withNumCourses(first.getNumCourses() + second.getNumCourses())
+                .withNumStudents(first.getNumStudents() + second.getNumStudents())
+                .withNumInstructors(first.getNumInstructors() + second.getNumInstructors())
+                .withNumAccountRequests(first.getNumAccountRequests() + second.getNumAccountRequests())
+                .build();
+    }
+
+    /**
+     * Deletes the counters of created entities of all periods starting before the given time.
+     */
+    public void deleteCountersBefore(Instant time) {
+        usageStatisticsDb.deleteCountersBefore(time);
     }
 
     /**
-     * Calculates the statistics of created entities for the given time range.
+     * Calculates the statistics of created entities for the given time range by querying the entities.
+     *
+     * <p>This is used for the time range before the counters are complete, and can be used to reconcile
+     * the counters, which may miss a few entities if an instance is killed.
      */
     public UsageStatisticsAttributes calculateEntitiesStatisticsForTimeRange(Instant startTime, Instant endTime) {
         int numResponses = feedbackResponsesLogic.getNumFeedbackResponsesByTimeRange(startTime, endTime);
@@ -69,7 +393,11 @@ public final class UsageStatisticsLogic {
     }
 
     /**
-     * Creates a statistics object.
+     * Creates a statistics object, and adds it to the daily and weekly statistics objects which cover it,
+     * all in one transaction.
+     *
+     * <p>The time period of the statistics object should be shorter than a day and should not cross
+     * the start of a day.
      *
      * @return the created statistics object
      * @throws InvalidParametersException if the statistics object is not valid
@@ -77,7 +405,26 @@ public final class UsageStatisticsLogic {
      */
     public UsageStatisticsAttributes createUsageStatistics(UsageStatisticsAttributes attributes)
             throws EntityAlreadyExistsException, InvalidParametersException {
-        return usageStatisticsDb.createEntity(attributes);
+        assert attributes.getTimePeriod() < DAILY_TIME_PERIOD;
+
+        Map<Integer, Instant> rollupStartTimes = new LinkedHashMap<>();
+        for (int rollupTimePeriod : new int[] { DAILY_TIME_PERIOD, WEEKLY_TIME_PERIOD }) {
+            rollupStartTimes.put(rollupTimePeriod, getTimePeriodStart(attributes.getStartTime(), rollupTimePeriod));
+        }
+        return usageStatisticsDb.createUsageStatisticsWithRollups(attributes, rollupStartTimes);
+    }
+
+    /**
+     * The types of entities whose creation is counted.
+     */
+    enum CountedEntityType {
+        // CHECKSTYLE.OFF:JavadocVariable
+        RESPONSE,
+        COURSE,
+        STUDENT,
+        INSTRUCTOR,
+        ACCOUNT_REQUEST
+        // CHECKSTYLE.ON:JavadocVariable
     }
 
 }
@@ -0,0 +1,93 @@
+package teammates.logic.core;
+
+import java.time.Duration;
+
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+
+/**
+ * Caches the instructor and student roles of users, keyed by google ID.
+ *
+ * <p>The roles are looked up for every authenticated request. Entries expire after a short time
+ * and are invalidated whenever instructors or students are created, deleted or join a course.
+ */
+public final class UserRolesCache {
+
+    private static final long MAX_CACHED_USERS = 10_000L;
+    private static final Duration TIME_TO_LIVE = Duration.ofSeconds(60);
+
+    private static final UserRolesCache instance = new UserRolesCache();
+
+    private final LoadingCache<String, UserRoles> cache = CacheBuilder.newBuilder()
+            .maximumSize(MAX_CACHED_USERS)
+            .expireAfterWrite(TIME_TO_LIVE)
+            .build(CacheLoader.from(this::loadUserRoles));
+
+    private InstructorsLogic instructorsLogic;
+    private StudentsLogic studentsLogic;
+
+    private UserRolesCache() {
+        // prevent initialization
+    }
+
+    public static UserRolesCache inst() {
+        return instance;
+    }
+
+    void initLogicDependencies() {
+        instructorsLogic = InstructorsLogic.inst();
+        studentsLogic = StudentsLogic.inst();
+    }
+
+    /**
+     * Returns true if the user associated with the googleId is an instructor in any course in the system.
+     */
+    public boolean isInstructorInAnyCourse(String googleId) {
+        return cache.getUnchecked(googleId).isInstructor;
+    }
+
+    /**
+     * Returns true if the user associated with the googleId is a student in any course in the system.
+     */
+    public boolean isStudentInAnyCourse(String googleId) {
+        return cache.getUnchecked(googleId).isStudent;
+    }
+
+    /**
+     * Discards the cached roles of the user associated with the googleId.
+     *
+     * <p>Does nothing if the googleId is null.
+     */
+    void invalidate(String googleId) {
+        if (googleId == null) {
+            return;
+        }
+        cache.invalidate(googleId);
+    }
+
+    /**
+     * Discards the cached roles of all users.
+     *
+     * <p>Used when the affected google IDs are not known, e.g. when deleting all users of a course.
+     */
+    void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    private UserRoles loadUserRoles(String googleId) {
+        return new UserRoles(instructorsLogic.isInstructorInAnyCourse(googleId),
+                studentsLogic.isStudentInAnyCourse(googleId));
+    }
+
+    private static class UserRoles {
+        private final boolean isInstructor;
+        private final boolean isStudent;
+
+        private UserRoles(boolean isInstructor, boolean isStudent) {
+            this.isInstructor = isInstructor;
+            this.isStudent = isStudent;
+        }
+    }
+
+}
@@ -0,0 +1,100 @@
+package teammates.logic.external;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import teammates.common.exception.EmailSendingException;
+import teammates.common.util.EmailSendingStatus;
+import teammates.common.util.EmailWrapper;
+
+/**
+ * Groups emails which differ only in their recipients, so that each group can be sent with one call
+ * to an email service supporting multiple recipients who do not see each other.
+ */
+final class EmailBatcher {
+
+    private EmailBatcher() {
+        // utility class
+    }
+
+    /**
+     * Groups the emails which have the same sender, reply-to address, subject and content,
+     * with at most {@code maxGroupSize} emails in each group.
+     *
+     * <p>Emails with a BCC recipient are always put in their own group.
+     *
+     * @return the indices of the emails in each group, in the order they first appear
+     */
+    static List<List<Integer>> groupIdenticalEmails(List<EmailWrapper> wrappers, int maxGroupSize) {
+        assert maxGroupSize > 0;
+
+        List<List<Integer>> groups = new ArrayList<>();
+        Map<List<String>, List<Integer>> openGroups = new LinkedHashMap<>();
+        for (int i = 0; i < wrappers.size(); i++) {
+            EmailWrapper wrapper = wrappers.get(i);
+            if (wrapper.getBcc() != null && !wrapper.getBcc().isEmpty()) {
+                groups.add(List.of(i));
+                continue;
+            }
+
+            List<String> groupKey = Arrays.asList(wrapper.getSenderName(), wrapper.getSenderEmail(),
+                    wrapper.getReplyTo(), wrapper.getSubject(), wrapper.getContent());
+            List<Integer> group = openGroups.computeIfAbsent(groupKey, k -> {
+                List<Integer> newGroup = new ArrayList<>();
+                groups.add(newGroup);
+                return newGroup;
+            });
+            group.add(i);
+            if (group.size() == maxGroupSize) {
+                openGroups.remove(groupKey);
+            }
+        }
+        return groups;
+    }
+
+    /**
+     * Sends the emails in groups of identical emails using {@code groupSender}.
+     *
+     * @return the sending status of each email, in the same order as {@code wrappers}
+     */
+    static List<EmailSendingStatus> sendInGroups(List<EmailWrapper> wrappers, int maxGroupSize,
+                                                 GroupSender groupSender) {
+        EmailSendingStatus[] statuses = new EmailSendingStatus[wrappers.size()];
+        for (List<Integer> group : groupIdenticalEmails(wrappers, maxGroupSize)) {
+            List<EmailWrapper> groupWrappers = new ArrayList<>();
+            for (int index : group) {
+                groupWrappers.add(wrappers.get(index));
+            }
+
+            EmailSendingStatus status;
+            try {
+                status = groupSender.send(groupWrappers);
+            } catch (EmailSendingException e) {
+                status = new EmailSendingStatus(e.getStatusCode(), e.getMessage());
+            }
+            for (int index : group) {
+                statuses[index] = status;
+            }
+        }
+        assert Arrays.stream(statuses).allMatch(Objects::nonNull);
+        return Arrays.asList(statuses);
+    }
+
+    /**
+     * Sends a group of emails which differ only in their recipients.
+     */
+    @FunctionalInterface
+    interface GroupSender {
+
+        /**
+         * Sends the group of emails with one call to the email service.
+         */
+        EmailSendingStatus send(List<EmailWrapper> group) throws EmailSendingException;
+
+    }
+
+}
@@ -1,5 +1,7 @@
 package teammates.logic.external;
 
+import java.util.List;
+
 import teammates.common.exception.EmailSendingException;
 import teammates.common.util.EmailSendingStatus;
 import teammates.common.util.EmailWrapper;
@@ -20,4 +22,13 @@ public interface EmailSenderService {
      */
     EmailSendingStatus sendEmail(EmailWrapper wrapper) throws EmailSendingException;
 
+    /**
+     * Sends the emails packaged as {@code wrappers} with as few calls to the service as possible.
+     *
+     * <p>A failure to send some of the emails does not prevent the others from being sent.
+     *
+     * @return the sending status of each email, in the same order as {@code wrappers}
+     */
+    List<EmailSendingStatus> sendEmails(List<EmailWrapper> wrappers);
+
 }
@@ -84,8 +84,8 @@ public class GoogleCloudLoggingService implements LogService {
             }
             logEntries.add(logEntry);
         }
-        boolean hasNextPage = logEntriesInPage.getNextPageToken() != null;
-        return new QueryLogsResults(logEntries, hasNextPage);
+        String nextPageToken = logEntriesInPage.getNextPageToken();
+        return new QueryLogsResults(logEntries, nextPageToken != null, nextPageToken);
     }
 
     private LogSeverity convertSeverity(Severity severity) {
@@ -267,6 +267,10 @@ public class GoogleCloudLoggingService implements LogService {
             entryListOptions.add(EntryListOption.pageSize(pageSize));
         }
 
+        if (q.getPageToken() != null) {
+            entryListOptions.add(EntryListOption.pageToken(q.getPageToken()));
+        }
+
         if (q.getOrder() != null) {
             if (ASCENDING_ORDER.equals(q.getOrder())) {
                 entryListOptions.add(EntryListOption.sortOrder(SortingField.TIMESTAMP, SortingOrder.ASCENDING));
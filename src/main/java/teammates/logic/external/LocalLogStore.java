@@ -0,0 +1,346 @@
+package teammates.logic.external;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.NavigableSet;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Predicate;
+
+import teammates.common.datatransfer.logs.GeneralLogEntry;
+import teammates.common.datatransfer.logs.LogDetails;
+import teammates.common.datatransfer.logs.LogEvent;
+import teammates.common.datatransfer.logs.QueryLogsParams;
+import teammates.common.datatransfer.logs.RequestLogDetails;
+import teammates.common.datatransfer.logs.RequestLogUser;
+
+/**
+ * In-memory store of log entries which supports the queries of {@link LocalLoggingService}.
+ *
+ * <p>Entries are kept in segments which each span a fixed period of time, so that a query only visits
+ * the segments which overlap its time range. Within a segment, entries are sorted by timestamp and indexed by
+ * severity, trace ID, action class and user, so that a query with any of these filters only visits
+ * the entries which match the most selective of them.
+ *
+ * <p>Query results are paged with a cursor, which is the position of the last entry of a page and is not affected
+ * by entries with the same timestamp or by entries appended between pages.
+ *
+ * <p>Whole segments are discarded once all their entries are older than the retention period, or, oldest first,
+ * when the store holds more than its maximum number of entries.
+ *
+ * <p>This class is thread-safe.
+ */
+final class LocalLogStore {
+
+    private static final Comparator<StoredEntry> ENTRY_ORDER = Comparator
+            .comparingLong((StoredEntry e) -> e.timestamp)
+            .thenComparingLong(e -> e.sequenceNumber);
+
+    private final long segmentMillis;
+    private final long retentionMillis;
+    private final int maxEntries;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final NavigableMap<Long, Segment> segments = new TreeMap<>();
+    private long nextSequenceNumber;
+    private int size;
+
+    LocalLogStore(long segmentMillis, long retentionMillis, int maxEntries) {
+        assert segmentMillis > 0;
+        assert retentionMillis > 0;
+        assert maxEntries > 0;
+
+        this.segmentMillis = segmentMillis;
+        this.retentionMillis = retentionMillis;
+        this.maxEntries = maxEntries;
+    }
+
+    /**
+     * Appends the entry to the store, and discards the entries which are no longer retained.
+     */
+    void append(GeneralLogEntry entry) {
+        append(entry, System.currentTimeMillis());
+    }
+
+    /**
+     * Appends the entry to the store at the given time, and discards the entries which are no longer retained.
+     */
+    void append(GeneralLogEntry entry, long nowMillis) {
+        lock.writeLock().lock();
+        try {
+            StoredEntry storedEntry = new StoredEntry(entry.getTimestamp(), nextSequenceNumber, entry);
+            nextSequenceNumber++;
+            segments.computeIfAbsent(getSegmentStart(entry.getTimestamp()), k -> new Segment()).add(storedEntry);
+            size++;
+            applyRetention(nowMillis);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Discards the segments whose entries are all older than the retention period at the given time, and then
+     * the oldest segments until the store holds no more than its maximum number of entries.
+     * The latest segment is never discarded for exceeding the maximum number of entries.
+     */
+    void applyRetention(long nowMillis) {
+        lock.writeLock().lock();
+        try {
+            long oldestRetainedSegmentStart = getSegmentStart(nowMillis - retentionMillis);
+            while (!segments.isEmpty() && segments.firstKey() < oldestRetainedSegmentStart) {
+                size -= segments.pollFirstEntry().getValue().entries.size();
+            }
+            while (size > maxEntries && segments.size() > 1) {
+                size -= segments.pollFirstEntry().getValue().entries.size();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the number of entries in the store.
+     */
+    int size() {
+        lock.readLock().lock();
+        try {
+            return size;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns a page of the entries within the time range of the query which satisfy the filter.
+     *
+     * <p>The indexed filters of the query (severity, trace ID, action class and user) are used to narrow down
+     * the entries to visit; the filter is expected to check all filters of the query, including the indexed ones.
+     *
+     * @throws IllegalArgumentException if the page token of the query is not a token returned by this store
+     */
+    Page query(QueryLogsParams queryLogsParams, Predicate<GeneralLogEntry> filter, int pageSize) {
+        boolean isAscending = "asc".equals(queryLogsParams.getOrder());
+        // the start time is exclusive and the end time is inclusive, as in Cloud Logging
+        StoredEntry lowerBound = new StoredEntry(queryLogsParams.getStartTime(), Long.MAX_VALUE, null);
+        StoredEntry upperBound = new StoredEntry(queryLogsParams.getEndTime(), Long.MAX_VALUE, null);
+        boolean isUpperInclusive = true;
+
+        StoredEntry cursor = parsePageToken(queryLogsParams.getPageToken());
+        if (cursor != null) {
+            if (isAscending && ENTRY_ORDER.compare(cursor, lowerBound) > 0) {
+                lowerBound = cursor;
+            } else if (!isAscending && ENTRY_ORDER.compare(cursor, upperBound) <= 0) {
+                upperBound = cursor;
+                isUpperInclusive = false;
+            }
+        }
+        List<String> indexKeys = getIndexKeys(queryLogsParams);
+
+        if (ENTRY_ORDER.compare(lowerBound, upperBound) >= 0) {
+            return new Page(new ArrayList<>(), null);
+        }
+
+        List<StoredEntry> matches = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            NavigableMap<Long, Segment> overlappingSegments = segments.subMap(
+                    getSegmentStart(lowerBound.timestamp), true, getSegmentStart(upperBound.timestamp), true);
+            Collection<Segment> segmentsInOrder = isAscending
+                    ? overlappingSegments.values()
+                    : overlappingSegments.descendingMap().values();
+
+            for (Segment segment : segmentsInOrder) {
+                NavigableSet<StoredEntry> candidates = segment.getCandidates(indexKeys);
+                if (candidates == null) {
+                    continue;
+                }
+                NavigableSet<StoredEntry> candidatesInRange =
+                        candidates.subSet(lowerBound, false, upperBound, isUpperInclusive);
+                Iterator<StoredEntry> iterator = isAscending
+                        ? candidatesInRange.iterator()
+                        : candidatesInRange.descendingIterator();
+                while (iterator.hasNext() && matches.size() <= pageSize) {
+                    StoredEntry candidate = iterator.next();
+                    if (filter.test(candidate.entry)) {
+                        matches.add(candidate);
+                    }
+                }
+                if (matches.size() > pageSize) {
+                    break;
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        if (matches.size() <= pageSize) {
+            return new Page(toLogEntries(matches), null);
+        }
+        List<StoredEntry> pageEntries = matches.subList(0, pageSize);
+        StoredEntry lastEntry = pageEntries.get(pageEntries.size() - 1);
+        return new Page(toLogEntries(pageEntries), lastEntry.timestamp + "_" + lastEntry.sequenceNumber);
+    }
+
+    private long getSegmentStart(long timestamp) {
+        return Math.floorDiv(timestamp, segmentMillis) * segmentMillis;
+    }
+
+    private static StoredEntry parsePageToken(String pageToken) {
+        if (pageToken == null) {
+            return null;
+        }
+        String[] parts = pageToken.split("_");
+        try {
+            if (parts.length == 2) {
+                return new StoredEntry(Long.parseLong(parts[0]), Long.parseLong(parts[1]), null);
+            }
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid page token: " + pageToken, e);
+        }
+        throw new IllegalArgumentException("Invalid page token: " + pageToken);
+    }
+
+    private static List<GeneralLogEntry> toLogEntries(List<StoredEntry> storedEntries) {
+        List<GeneralLogEntry> entries = new ArrayList<>();
+        for (StoredEntry storedEntry : storedEntries) {
+            entries.add(storedEntry.entry);
+        }
+        return entries;
+    }
+
+    /**
+     * Returns the index keys which all entries satisfying the query have.
+     */
+    private static List<String> getIndexKeys(QueryLogsParams queryLogsParams) {
+        List<String> keys = new ArrayList<>();
+        if (queryLogsParams.getSeverity() != null) {
+            keys.add("severity:" + queryLogsParams.getSeverity());
+        }
+        if (queryLogsParams.getTraceId() != null) {
+            keys.add("trace:" + queryLogsParams.getTraceId());
+        }
+        if (queryLogsParams.getActionClass() != null) {
+            keys.add("actionClass:" + queryLogsParams.getActionClass());
+        }
+        RequestLogUser userInfo = queryLogsParams.getUserInfoParams();
+        if (userInfo != null) {
+            addUserIndexKeys(keys, userInfo);
+        }
+        return keys;
+    }
+
+    /**
+     * Returns the index keys of the entry.
+     */
+    private static List<String> getIndexKeys(GeneralLogEntry entry) {
+        List<String> keys = new ArrayList<>();
+        keys.add("severity:" + entry.getSeverity());
+        if (entry.getTrace() != null) {
+            keys.add("trace:" + entry.getTrace());
+        }
+        LogDetails details = entry.getDetails();
+        if (details != null && details.getEvent() == LogEvent.REQUEST_LOG) {
+            RequestLogDetails requestDetails = (RequestLogDetails) details;
+            if (requestDetails.getActionClass() != null) {
+                keys.add("actionClass:" + requestDetails.getActionClass());
+            }
+            if (requestDetails.getUserInfo() != null) {
+                addUserIndexKeys(keys, requestDetails.getUserInfo());
+            }
+        }
+        return keys;
+    }
+
+    private static void addUserIndexKeys(List<String> keys, RequestLogUser userInfo) {
+        if (userInfo.getGoogleId() != null) {
+            keys.add("googleId:" + userInfo.getGoogleId());
+        }
+        if (userInfo.getEmail() != null) {
+            keys.add("email:" + userInfo.getEmail());
+        }
+        if (userInfo.getRegkey() != null) {
+            keys.add("regkey:" + userInfo.getRegkey());
+        }
+    }
+
+    /**
+     * A page of query results.
+     */
+    static final class Page {
+        private final List<GeneralLogEntry> entries;
+        private final String nextPageToken;
+
+        Page(List<GeneralLogEntry> entries, String nextPageToken) {
+            this.entries = entries;
+            this.nextPageToken = nextPageToken;
+        }
+
+        List<GeneralLogEntry> getEntries() {
+            return entries;
+        }
+
+        /**
+         * Returns the token of the next page, or null if this is the last page.
+         */
+        String getNextPageToken() {
+            return nextPageToken;
+        }
+    }
+
+    /**
+     * The entries within the period of time of a segment, together with their indexes.
+     */
+    private static final class Segment {
+        private final NavigableSet<StoredEntry> entries = new TreeSet<>(ENTRY_ORDER);
+        private final Map<String, NavigableSet<StoredEntry>> indexes = new HashMap<>();
+
+        private void add(StoredEntry storedEntry) {
+            entries.add(storedEntry);
+            for (String key : getIndexKeys(storedEntry.entry)) {
+                indexes.computeIfAbsent(key, k -> new TreeSet<>(ENTRY_ORDER)).add(storedEntry);
+            }
+        }
+
+        /**
+         * Returns the smallest set of entries which have all the given index keys,
+         * or null if no entry has one of the keys.
+         */
+        private NavigableSet<StoredEntry> getCandidates(List<String> indexKeys) {
+            NavigableSet<StoredEntry> candidates = entries;
+            for (String key : indexKeys) {
+                NavigableSet<StoredEntry> indexedEntries = indexes.get(key);
+                if (indexedEntries == null) {
+                    return null;
+                }
+                if (indexedEntries.size() < candidates.size()) {
+                    candidates = indexedEntries;
+                }
+            }
+            return candidates;
+        }
+    }
+
+    /**
+     * An entry in the store, ordered by its timestamp and then by the order it is appended.
+     */
+    private static final class StoredEntry {
+        private final long timestamp;
+        private final long sequenceNumber;
+        private final GeneralLogEntry entry;
+
+        private StoredEntry(long timestamp, long sequenceNumber, GeneralLogEntry entry) {
+            this.timestamp = timestamp;
+            this.sequenceNumber = sequenceNumber;
+            this.entry = entry;
+        }
+    }
+
+}
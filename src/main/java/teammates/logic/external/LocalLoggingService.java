@@ -4,6 +4,7 @@ import java.lang.reflect.Type;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
@@ -25,6 +26,7 @@ import teammates.common.datatransfer.logs.LogEvent;
 import teammates.common.datatransfer.logs.QueryLogsParams;
 import teammates.common.datatransfer.logs.RequestLogDetails;
 import teammates.common.datatransfer.logs.RequestLogUser;
+import teammates.common.datatransfer.logs.SourceLocation;
 import teammates.common.util.FileHelper;
 import teammates.common.util.JsonUtils;
 
@@ -32,76 +34,86 @@ import teammates.common.util.JsonUtils;
  * Holds functions for operations related to logs reading/writing in local dev environment.
  *
  * <p>The current implementation uses an in-memory storage of logs to simulate the logs
- * retention locally for feedback session logs only. It is not meant as a replacement but
- * merely for testing purposes.
+ * retention locally. General logs are kept in an indexed {@link LocalLogStore}, which pages
+ * query results with a cursor like Cloud Logging does.
  */
 public class LocalLoggingService implements LogService {
 
     private static final Map<String, List<FeedbackSessionLogEntry>> FEEDBACK_SESSION_LOG_ENTRIES = new ConcurrentHashMap<>();
-    private static final List<GeneralLogEntry> LOCAL_LOG_ENTRIES = loadLocalLogEntries();
-    private static final String ASCENDING_ORDER = "asc";
 
-    private static List<GeneralLogEntry> loadLocalLogEntries() {
+    private static final long LOG_SEGMENT_MILLIS = 60 * 60 * 1000L;
+    private static final long LOG_RETENTION_MILLIS = 30L * 24 * 60 * 60 * 1000;
+    private static final int MAX_LOG_ENTRIES = 500_000;
+    private static final LocalLogStore LOCAL_LOG_STORE = loadLocalLogStore();
+
+    /**
+     * The page size of queries which do not specify one. It is set as a small value to test loading of more logs.
+     */
+    private static final int DEFAULT_PAGE_SIZE = 10;
+
+    private static LocalLogStore loadLocalLogStore() {
+        LocalLogStore logStore = new LocalLogStore(LOG_SEGMENT_MILLIS, LOG_RETENTION_MILLIS, MAX_LOG_ENTRIES);
         // Timestamp of logs are randomly created to be within the last one hour
         long currentTimestamp = Instant.now().toEpochMilli();
         long earliestTimestamp = currentTimestamp - 60 * 60 * 1000;
+        Collection<GeneralLogEntry> logEntriesCollection;
         try {
             String jsonString = FileHelper.readResourceFile("logsForLocalDev.json");
             Type type = new TypeToken<Collection<GeneralLogEntry>>(){}.getType();
-            Collection<GeneralLogEntry> logEntriesCollection = JsonUtils.fromJson(jsonString, type);
-            return logEntriesCollection.stream()
-                    .map(log -> {
-                        long timestamp = new RandomDataGenerator().nextLong(earliestTimestamp, currentTimestamp);
-                        GeneralLogEntry logEntryWithUpdatedTimestamp = new GeneralLogEntry(
-                                log.getSeverity(), log.getTrace(), log.getInsertId(), log.getResourceIdentifier(),
-                                log.getSourceLocation(), timestamp);
-                        logEntryWithUpdatedTimestamp.setDetails(log.getDetails());
-                        logEntryWithUpdatedTimestamp.setMessage(log.getMessage());
-                        return logEntryWithUpdatedTimestamp;
-                    })
-                    .collect(Collectors.toList());
+            logEntriesCollection = JsonUtils.fromJson(jsonString, type);
         } catch (JsonParseException e) {
-            return new ArrayList<>();
+            logEntriesCollection = new ArrayList<>();
         }
+        for (GeneralLogEntry log : logEntriesCollection) {
+            long timestamp = new RandomDataGenerator().nextLong(earliestTimestamp, currentTimestamp);
+            GeneralLogEntry logEntryWithUpdatedTimestamp = new GeneralLogEntry(
+                    log.getSeverity(), log.getTrace(), log.getInsertId(), log.getResourceIdentifier(),
+                    log.getSourceLocation(), timestamp);
+            logEntryWithUpdatedTimestamp.setDetails(log.getDetails());
+            logEntryWithUpdatedTimestamp.setMessage(log.getMessage());
+            logStore.append(logEntryWithUpdatedTimestamp);
+        }
+        return logStore;
     }
 
     @Override
     public QueryLogsResults queryLogs(QueryLogsParams queryLogsParams) {
-        // Page size is set as a small value to test loading of more logs
-        int pageSize = 10;
-
-        List<GeneralLogEntry> result = LOCAL_LOG_ENTRIES.stream()
-                .sorted((x, y) -> {
-                    String order = queryLogsParams.getOrder();
-                    if (ASCENDING_ORDER.equals(order)) {
-                        return Long.compare(x.getTimestamp(), y.getTimestamp());
-                    } else {
-                        return Long.compare(y.getTimestamp(), x.getTimestamp());
-                    }
-                })
-                .filter(log -> queryLogsParams.getSeverity() == null
-                        || log.getSeverity().equals(queryLogsParams.getSeverity()))
-                .filter(log -> queryLogsParams.getMinSeverity() == null
-                        || log.getSeverity().getSeverityLevel()
-                            >= queryLogsParams.getMinSeverity().getSeverityLevel())
-                .filter(log -> log.getTimestamp() > queryLogsParams.getStartTime())
-                .filter(log -> log.getTimestamp() <= queryLogsParams.getEndTime())
-                .filter(log -> queryLogsParams.getTraceId() == null
-                        || queryLogsParams.getTraceId().equals(log.getTrace()))
-                .filter(log -> queryLogsParams.getVersion() == null
-                        || queryLogsParams.getVersion().equals(log.getResourceIdentifier().get("version_id")))
-                .filter(log -> queryLogsParams.getSourceLocation().getFile() == null
-                        || log.getSourceLocation().getFile().equals(queryLogsParams.getSourceLocation().getFile()))
-                .filter(log -> queryLogsParams.getSourceLocation().getFunction() == null
-                        || log.getSourceLocation().getFunction().equals(queryLogsParams.getSourceLocation().getFunction()))
-                .filter(log -> isEventBasedFilterSatisfied(log, queryLogsParams))
-                .limit(pageSize)
-                .collect(Collectors.toList());
-
-        List<GeneralLogEntry> copiedResults = deepCopyLogEntries(result);
-        boolean hasNextPage = copiedResults.size() == pageSize;
-
-        return new QueryLogsResults(copiedResults, hasNextPage);
+        int pageSize = queryLogsParams.getPageSize() == null ? DEFAULT_PAGE_SIZE : queryLogsParams.getPageSize();
+
+        LocalLogStore.Page page = LOCAL_LOG_STORE.query(queryLogsParams,
+                log -> isLogFilterSatisfied(log, queryLogsParams), pageSize);
+
+        List<GeneralLogEntry> copiedResults = deepCopyLogEntries(page.getEntries());
+        String nextPageToken = page.getNextPageToken();
+
+        return new QueryLogsResults(copiedResults, nextPageToken != null, nextPageToken);
+    }
+
+    private boolean isLogFilterSatisfied(GeneralLogEntry log, QueryLogsParams queryLogsParams) {
+        if (queryLogsParams.getSeverity() != null && !log.getSeverity().equals(queryLogsParams.getSeverity())) {
+            return false;
+        }
+        if (queryLogsParams.getMinSeverity() != null
+                && log.getSeverity().getSeverityLevel() < queryLogsParams.getMinSeverity().getSeverityLevel()) {
+            return false;
+        }
+        if (queryLogsParams.getTraceId() != null && !queryLogsParams.getTraceId().equals(log.getTrace())) {
+            return false;
+        }
+        if (queryLogsParams.getVersion() != null
+                && !queryLogsParams.getVersion().equals(log.getResourceIdentifier().get("version_id"))) {
+            return false;
+        }
+        SourceLocation sourceLocationFilter = queryLogsParams.getSourceLocation();
+        if (sourceLocationFilter.getFile() != null
+                && !log.getSourceLocation().getFile().equals(sourceLocationFilter.getFile())) {
+            return false;
+        }
+        if (sourceLocationFilter.getFunction() != null
+                && !log.getSourceLocation().getFunction().equals(sourceLocationFilter.getFunction())) {
+            return false;
+        }
+        return isEventBasedFilterSatisfied(log, queryLogsParams);
     }
 
     private boolean isEventBasedFilterSatisfied(GeneralLogEntry log, QueryLogsParams queryLogsParams) {
@@ -205,20 +217,26 @@ public class LocalLoggingService implements LogService {
     public void createFeedbackSessionLog(String courseId, String email, String fsName, String fslType) {
         FeedbackSessionLogEntry logEntry = new FeedbackSessionLogEntry(email, fsName,
                 fslType, Instant.now().toEpochMilli());
-        FEEDBACK_SESSION_LOG_ENTRIES.computeIfAbsent(courseId, k -> new ArrayList<>()).add(logEntry);
+        FEEDBACK_SESSION_LOG_ENTRIES
+                .computeIfAbsent(courseId, k -> Collections.synchronizedList(new ArrayList<>()))
+                .add(logEntry);
     }
 
     @Override
     public List<FeedbackSessionLogEntry> getFeedbackSessionLogs(String courseId, String email,
             long startTime, long endTime, String fsName) {
-        return FEEDBACK_SESSION_LOG_ENTRIES
-                .getOrDefault(courseId, new ArrayList<>())
-                .stream()
-                .filter(log -> email == null || log.getStudentEmail().equals(email))
-                .filter(log -> fsName == null || log.getFeedbackSessionName().equals(fsName))
-                .filter(log -> log.getTimestamp() >= startTime)
-                .filter(log -> log.getTimestamp() <= endTime)
-                .collect(Collectors.toList());
+        List<FeedbackSessionLogEntry> logEntries = FEEDBACK_SESSION_LOG_ENTRIES.get(courseId);
+        if (logEntries == null) {
+            return new ArrayList<>();
+        }
+        synchronized (logEntries) {
+            return logEntries.stream()
+                    .filter(log -> email == null || log.getStudentEmail().equals(email))
+                    .filter(log -> fsName == null || log.getFeedbackSessionName().equals(fsName))
+                    .filter(log -> log.getTimestamp() >= startTime)
+                    .filter(log -> log.getTimestamp() <= endTime)
+                    .collect(Collectors.toList());
+        }
     }
 
     private List<GeneralLogEntry> deepCopyLogEntries(List<GeneralLogEntry> logEntries) {
@@ -0,0 +1,370 @@
+package teammates.logic.external;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+
+import javax.annotation.Nullable;
+
+import teammates.common.util.Const.TaskQueue;
+import teammates.common.util.Logger;
+import teammates.common.util.TaskWrapper;
+
+/**
+ * In-process task queue which runs tasks on a bounded pool of worker threads.
+ *
+ * <p>Tasks are run after their countdown, no faster than the rate of their queue, and are retried with
+ * exponential backoff when they fail, following the queue configuration in {@code queue.yaml}.
+ *
+ * <p>If a journal is given, tasks are recorded in it until they are done, together with their retry count
+ * and the time of their next attempt, so that tasks which are pending when the server stops are run again,
+ * with the same backoff, when it starts.
+ */
+final class LocalTaskQueue {
+
+    /**
+     * The number of retries of a failed task in queues which have no retry limit in {@code queue.yaml}.
+     */
+    static final int DEFAULT_RETRY_LIMIT = 5;
+
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 10;
+
+    private static final QueueSettings DEFAULT_SETTINGS = new QueueSettings(5, 5);
+
+    private static final Map<String, QueueSettings> QUEUE_SETTINGS = Map.of(
+            TaskQueue.FEEDBACK_SESSION_AUTOMATED_EMAIL_QUEUE_NAME, new QueueSettings(5, 5).withRetryLimit(2),
+            TaskQueue.FEEDBACK_SESSION_PUBLISHED_EMAIL_QUEUE_NAME, new QueueSettings(1, 1),
+            TaskQueue.FEEDBACK_SESSION_RESEND_PUBLISHED_EMAIL_QUEUE_NAME,
+            new QueueSettings(5, 5).withRetryLimit(2),
+            TaskQueue.FEEDBACK_SESSION_REMIND_EMAIL_QUEUE_NAME, new QueueSettings(5, 5).withRetryLimit(2),
+            TaskQueue.FEEDBACK_SESSION_REMIND_PARTICULAR_USERS_EMAIL_QUEUE_NAME,
+            new QueueSettings(5, 5).withRetryLimit(2),
+            TaskQueue.FEEDBACK_SESSION_UNPUBLISHED_EMAIL_QUEUE_NAME, new QueueSettings(1, 1),
+            TaskQueue.INSTRUCTOR_COURSE_JOIN_EMAIL_QUEUE_NAME,
+            new QueueSettings(5, 20).withRetryParameters(3, 5_000, 40_000, 2),
+            TaskQueue.SEND_EMAIL_QUEUE_NAME, new QueueSettings(10, 20).withRetryParameters(5, 30_000, 300_000, 0),
+            TaskQueue.STUDENT_COURSE_JOIN_EMAIL_QUEUE_NAME,
+            new QueueSettings(5, 20).withRetryParameters(3, 5_000, 40_000, 2),
+            TaskQueue.SEARCH_INDEXING_QUEUE_NAME,
+            new QueueSettings(50, 10).withRetryParameters(DEFAULT_RETRY_LIMIT, 1_000, 3_600_000, 16));
+
+    private static final Logger log = Logger.getLogger();
+
+    private final ScheduledExecutorService executor;
+    private final LongSupplier clock;
+    private final TaskDispatcher dispatcher;
+    private final Map<String, QueueSettings> queueSettings;
+    private final Map<String, TokenBucket> rateLimiters = new ConcurrentHashMap<>();
+    @Nullable
+    private final LocalTaskQueueJournal journal;
+
+    LocalTaskQueue(int numWorkers, TaskDispatcher dispatcher, @Nullable LocalTaskQueueJournal journal) {
+        this(createWorkerPool(numWorkers), System::currentTimeMillis, dispatcher, journal, QUEUE_SETTINGS);
+    }
+
+    /**
+     * Creates a queue which runs tasks on {@code executor} and reads the current time from {@code clock},
+     * in milliseconds since the epoch.
+     */
+    LocalTaskQueue(ScheduledExecutorService executor, LongSupplier clock, TaskDispatcher dispatcher,
+                   @Nullable LocalTaskQueueJournal journal, Map<String, QueueSettings> queueSettings) {
+        this.executor = executor;
+        this.clock = clock;
+        this.dispatcher = dispatcher;
+        this.journal = journal;
+        this.queueSettings = queueSettings;
+
+        if (journal != null) {
+            List<PendingTask> recoveredTasks = journal.getPendingTasks();
+            if (!recoveredTasks.isEmpty()) {
+                log.info("Recovered " + recoveredTasks.size() + " pending tasks from the task queue journal");
+            }
+            long now = clock.getAsLong();
+            for (PendingTask task : recoveredTasks) {
+                schedule(task, task.getEtaMillis() - now);
+            }
+        }
+    }
+
+    /**
+     * Creates a pool of {@code numWorkers} daemon threads to run tasks on.
+     */
+    static ScheduledExecutorService createWorkerPool(int numWorkers) {
+        AtomicInteger numThreads = new AtomicInteger();
+        return Executors.newScheduledThreadPool(numWorkers, runnable -> {
+            Thread thread = new Thread(runnable, "local-task-queue-" + numThreads.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Gets the settings of the queue with the given name, as in {@code queue.yaml}.
+     *
+     * @return null if there is no such queue
+     */
+    static QueueSettings getQueueSettings(String queueName) {
+        return QUEUE_SETTINGS.get(queueName);
+    }
+
+    /**
+     * Gets the number of queues which have settings.
+     */
+    static int getNumQueues() {
+        return QUEUE_SETTINGS.size();
+    }
+
+    /**
+     * Adds the given task, to be run after {@code countdownTime} milliseconds.
+     */
+    void addTask(TaskWrapper task, long countdownTime) {
+        long delay = Math.max(0, countdownTime);
+        PendingTask pendingTask =
+                new PendingTask(UUID.randomUUID().toString(), task, clock.getAsLong() + delay, 0);
+        if (journal != null) {
+            journal.recordPending(pendingTask);
+        }
+        schedule(pendingTask, delay);
+    }
+
+    /**
+     * Stops the worker threads after the tasks which are running are done.
+     * Tasks which have not been run are kept in the journal, if any.
+     */
+    void shutdown() {
+        executor.shutdownNow();
+        try {
+            if (!executor.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                log.warning("Task queue workers did not stop within " + SHUTDOWN_TIMEOUT_SECONDS + " seconds");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (journal != null) {
+            journal.close();
+        }
+    }
+
+    private void schedule(PendingTask task, long delay) {
+        try {
+            executor.schedule(() -> run(task), Math.max(0, delay), TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            log.warning("Task queue is shut down; task to " + task.getTask().getWorkerUrl() + " is not run");
+        }
+    }
+
+    private void run(PendingTask task) {
+        String queueName = task.getTask().getQueueName();
+        QueueSettings settings = queueSettings.getOrDefault(queueName, DEFAULT_SETTINGS);
+
+        long waitTime = rateLimiters
+                .computeIfAbsent(queueName, name -> new TokenBucket(settings.rate, settings.bucketSize, clock.getAsLong()))
+                .tryAcquire(clock.getAsLong());
+        if (waitTime > 0) {
+            schedule(task, waitTime);
+            return;
+        }
+
+        boolean isSuccessful;
+        try {
+            isSuccessful = dispatcher.dispatch(task.getTask());
+        } catch (RuntimeException e) {
+            log.severe("Unexpected error while running task to " + task.getTask().getWorkerUrl(), e);
+            isSuccessful = false;
+        }
+
+        if (!isSuccessful && task.getRetryCount() < settings.retryLimit) {
+            long backoff = settings.getBackoffMillis(task.getRetryCount());
+            PendingTask retry = task.toRetry(clock.getAsLong() + backoff);
+            if (journal != null) {
+                // so that the backoff is kept if the server restarts before the retry
+                journal.recordPending(retry);
+            }
+            schedule(retry, backoff);
+            return;
+        }
+
+        if (!isSuccessful) {
+            log.severe("Task to " + task.getTask().getWorkerUrl() + " in " + queueName + " failed after "
+                    + (task.getRetryCount() + 1) + " attempts and is dropped");
+        }
+        if (journal != null) {
+            journal.recordDone(task.getId());
+        }
+    }
+
+    /**
+     * Runs a task, e.g. by sending the request to its worker.
+     */
+    interface TaskDispatcher {
+
+        /**
+         * Runs the given task.
+         *
+         * @return true if the task is successful, false if it should be retried
+         */
+        boolean dispatch(TaskWrapper task);
+
+    }
+
+    /**
+     * A task which has been added to the queue and is not done yet.
+     */
+    static final class PendingTask {
+
+        private final String id;
+        private final TaskWrapper task;
+        private final long etaMillis;
+        private final int retryCount;
+
+        PendingTask(String id, TaskWrapper task, long etaMillis, int retryCount) {
+            this.id = id;
+            this.task = task;
+            this.etaMillis = etaMillis;
+            this.retryCount = retryCount;
+        }
+
+        String getId() {
+            return id;
+        }
+
+        TaskWrapper getTask() {
+            return task;
+        }
+
+        long getEtaMillis() {
+            return etaMillis;
+        }
+
+        int getRetryCount() {
+            return retryCount;
+        }
+
+        PendingTask toRetry(long newEtaMillis) {
+            return new PendingTask(id, task, newEtaMillis, retryCount + 1);
+        }
+
+    }
+
+    /**
+     * The rate limit and retry parameters of a queue, as in {@code queue.yaml}.
+     */
+    static final class QueueSettings {
+
+        private final double rate;
+        private final int bucketSize;
+        private final int retryLimit;
+        private final long minBackoffMillis;
+        private final long maxBackoffMillis;
+        private final int maxDoublings;
+
+        QueueSettings(double rate, int bucketSize) {
+            this(rate, bucketSize, DEFAULT_RETRY_LIMIT, 100, 3_600_000, 16);
+        }
+
+        private QueueSettings(double rate, int bucketSize, int retryLimit,
+                              long minBackoffMillis, long maxBackoffMillis, int maxDoublings) {
+            assert rate > 0;
+            assert bucketSize > 0;
+            this.rate = rate;
+            this.bucketSize = bucketSize;
+            this.retryLimit = retryLimit;
+            this.minBackoffMillis = minBackoffMillis;
+            this.maxBackoffMillis = maxBackoffMillis;
+            this.maxDoublings = maxDoublings;
+        }
+
+        double getRate() {
+            return rate;
+        }
+
+        int getBucketSize() {
+            return bucketSize;
+        }
+
+        int getRetryLimit() {
+            return retryLimit;
+        }
+
+        long getMinBackoffMillis() {
+            return minBackoffMillis;
+        }
+
+        long getMaxBackoffMillis() {
+            return maxBackoffMillis;
+        }
+
+        int getMaxDoublings() {
+            return maxDoublings;
+        }
+
+        QueueSettings withRetryLimit(int newRetryLimit) {
+            return withRetryParameters(newRetryLimit, minBackoffMillis, maxBackoffMillis, maxDoublings);
+        }
+
+        QueueSettings withRetryParameters(int newRetryLimit, long newMinBackoffMillis, long newMaxBackoffMillis,
+                                          int newMaxDoublings) {
+            return new QueueSettings(rate, bucketSize, newRetryLimit,
+                    newMinBackoffMillis, newMaxBackoffMillis, newMaxDoublings);
+        }
+
+        /**
+         * Gets the time to wait before the next attempt of a task which has been retried {@code retryCount} times.
+         *
+         * <p>The backoff starts at the minimum backoff and doubles for each retry, at most {@code maxDoublings}
+         * times, up to the maximum backoff.
+         */
+        long getBackoffMillis(int retryCount) {
+            long backoff = minBackoffMillis << Math.min(Math.min(retryCount, maxDoublings), 30);
+            return Math.min(backoff, maxBackoffMillis);
+        }
+
+    }
+
+    /**
+     * Token bucket which allows {@code rate} tasks per second on average, in bursts of up to {@code bucketSize} tasks.
+     */
+    static final class TokenBucket {
+
+        private final Object lock = new Object();
+        private final double tokensPerMilli;
+        private final double capacity;
+        private double tokens;
+        private long lastRefillTime;
+
+        TokenBucket(double rate, int bucketSize, long now) {
+            this.tokensPerMilli = rate / 1000;
+            this.capacity = bucketSize;
+            this.tokens = bucketSize;
+            this.lastRefillTime = now;
+        }
+
+        /**
+         * Takes a token if there is any.
+         *
+         * @return 0 if a token is taken, otherwise the time in milliseconds until the next token is available
+         */
+        long tryAcquire(long now) {
+            synchronized (lock) {
+                if (now > lastRefillTime) {
+                    tokens = Math.min(capacity, tokens + (now - lastRefillTime) * tokensPerMilli);
+                    lastRefillTime = now;
+                }
+                if (tokens >= 1) {
+                    tokens -= 1;
+                    return 0;
+                }
+                return Math.max(1, (long) Math.ceil((1 - tokens) / tokensPerMilli));
+            }
+        }
+
+    }
+
+}
@@ -0,0 +1,184 @@
+package teammates.logic.external;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.google.gson.JsonParseException;
+
+import teammates.common.util.JsonUtils;
+import teammates.common.util.Logger;
+import teammates.common.util.TaskWrapper;
+import teammates.logic.external.LocalTaskQueue.PendingTask;
+
+/**
+ * Append-only file which records the tasks added to a {@link LocalTaskQueue} and the tasks which are done,
+ * so that the tasks which are still pending can be recovered after a restart.
+ *
+ * <p>Each line is either {@code +} followed by the task in JSON, or {@code -} followed by the ID of a task
+ * which is done. A task is written again each time it is rescheduled for a retry, with its retry count and
+ * the time of its next attempt; the last line of each task wins. When the journal is opened, the file is
+ * compacted to contain only the pending tasks.
+ */
+final class LocalTaskQueueJournal {
+
+    private static final String ADDED_PREFIX = "+";
+    private static final String DONE_PREFIX = "-";
+
+    private static final Logger log = Logger.getLogger();
+
+    private final Object lock = new Object();
+    private final Path file;
+    private final List<PendingTask> pendingTasks;
+    private final BufferedWriter writer;
+
+    LocalTaskQueueJournal(Path file) throws IOException {
+        this.file = file;
+        this.pendingTasks = readPendingTasks(file);
+
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+
+        Path compactedFile = file.resolveSibling(file.getFileName() + ".tmp");
+        try (BufferedWriter compactedWriter = Files.newBufferedWriter(compactedFile, StandardCharsets.UTF_8)) {
+            for (PendingTask task : pendingTasks) {
+                writeAdded(compactedWriter, task);
+            }
+        }
+        Files.move(compactedFile, file, StandardCopyOption.REPLACE_EXISTING);
+
+        this.writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+    }
+
+    private static List<PendingTask> readPendingTasks(Path file) throws IOException {
+        if (!Files.exists(file)) {
+            return new ArrayList<>();
+        }
+        Map<String, PendingTask> pendingTasksById = new LinkedHashMap<>();
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            String line = reader.readLine();
+            while (line != null) {
+                if (line.startsWith(ADDED_PREFIX)) {
+                    PendingTask task = parseAddedTask(line.substring(ADDED_PREFIX.length()));
+                    if (task == null) {
+                        // e.g. the last line is incomplete as the server stopped while writing it
+                        log.warning("Skipping unreadable line in the task queue journal: " + line);
+                    } else {
+                        pendingTasksById.put(task.getId(), task);
+                    }
+                } else if (line.startsWith(DONE_PREFIX)) {
+                    pendingTasksById.remove(line.substring(DONE_PREFIX.length()));
+                }
+                line = reader.readLine();
+            }
+        }
+        return new ArrayList<>(pendingTasksById.values());
+    }
+
+    private static PendingTask parseAddedTask(String json) {
+        try {
+            JournalEntry entry = JsonUtils.fromJson(json, JournalEntry.class);
+            return entry == null || entry.id == null ? null : entry.toPendingTask();
+        } catch (JsonParseException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Gets the tasks which were pending when the journal was opened.
+     */
+    List<PendingTask> getPendingTasks() {
+        return pendingTasks;
+    }
+
+    /**
+     * Records that the given task is pending, i.e. it is added or rescheduled for a retry.
+     */
+    void recordPending(PendingTask task) {
+        synchronized (lock) {
+            try {
+                writeAdded(writer, task);
+                writer.flush();
+            } catch (IOException e) {
+                log.warning("Could not write task to the task queue journal: " + file, e);
+            }
+        }
+    }
+
+    /**
+     * Records that the task with the given ID is done, i.e. it does not have to be run again.
+     */
+    void recordDone(String taskId) {
+        synchronized (lock) {
+            try {
+                writer.write(DONE_PREFIX + taskId);
+                writer.newLine();
+                writer.flush();
+            } catch (IOException e) {
+                log.warning("Could not write task to the task queue journal: " + file, e);
+            }
+        }
+    }
+
+    /**
+     * Closes the journal file.
+     */
+    void close() {
+        synchronized (lock) {
+            try {
+                writer.close();
+            } catch (IOException e) {
+                log.warning("Could not close the task queue journal: " + file, e);
+            }
+        }
+    }
+
+    private static void writeAdded(BufferedWriter writer, PendingTask task) throws IOException {
+        writer.write(ADDED_PREFIX + JsonUtils.toCompactJson(new JournalEntry(task)));
+        writer.newLine();
+    }
+
+    /**
+     * The form in which a pending task is written to the journal.
+     */
+    private static final class JournalEntry {
+
+        private final String id;
+        private final String queueName;
+        private final String workerUrl;
+        private final Map<String, String> paramMap;
+        private final String requestBody;
+        private final long etaMillis;
+        private final int retryCount;
+
+        JournalEntry(PendingTask pendingTask) {
+            TaskWrapper task = pendingTask.getTask();
+            this.id = pendingTask.getId();
+            this.queueName = task.getQueueName();
+            this.workerUrl = task.getWorkerUrl();
+            this.paramMap = task.getParamMap();
+            this.requestBody = task.getRequestBody() == null ? null : JsonUtils.toCompactJson(task.getRequestBody());
+            this.etaMillis = pendingTask.getEtaMillis();
+            this.retryCount = pendingTask.getRetryCount();
+        }
+
+        PendingTask toPendingTask() {
+            // the request body is kept as a JSON tree, which is written to the request as is
+            Object body = requestBody == null ? null : JsonUtils.parse(requestBody);
+            return new PendingTask(id, new TaskWrapper(queueName, workerUrl, paramMap, body), etaMillis, retryCount);
+        }
+
+    }
+
+}
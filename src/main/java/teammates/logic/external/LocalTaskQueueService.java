@@ -3,17 +3,20 @@ package teammates.logic.external;
 import java.io.IOException;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 
 import org.apache.http.NameValuePair;
+import org.apache.http.client.methods.CloseableHttpResponse;
 import org.apache.http.client.methods.HttpPost;
 import org.apache.http.client.utils.URIBuilder;
 import org.apache.http.entity.StringEntity;
 import org.apache.http.impl.client.CloseableHttpClient;
 import org.apache.http.impl.client.HttpClients;
 import org.apache.http.message.BasicNameValuePair;
+import org.apache.http.util.EntityUtils;
 
 import teammates.common.util.Config;
 import teammates.common.util.Const;
@@ -23,19 +26,92 @@ import teammates.common.util.TaskWrapper;
 
 /**
  * Holds functions for operations related to task queue in local dev environment.
+ *
+ * <p>Tasks are run asynchronously by an in-process {@link LocalTaskQueue}, which sends each task
+ * as an HTTP request to the worker URL of the dev server.
  */
 public class LocalTaskQueueService implements TaskQueueService {
 
     private static final Logger log = Logger.getLogger();
 
+    /**
+     * Guards the task queue shared by all instances of the service, and the HTTP client used by it.
+     */
+    private static final Object QUEUE_LOCK = new Object();
+
+    private static LocalTaskQueue queue;
+    private static CloseableHttpClient httpClient;
+
     @Override
     public void addDeferredTask(TaskWrapper task, long countdownTime) {
-        // In dev server, task queues are either not active (i.e. they will not be executed even if queued)
-        // or they will be executed immediately without going through any kind of "queue"
+        // In dev server, task queues can be deactivated (i.e. they will not be executed even if queued)
 
         if (!Config.TASKQUEUE_ACTIVE) {
             return;
         }
+        getQueue().addTask(task, countdownTime);
+    }
+
+    /**
+     * Starts the task queue, so that the tasks recovered from its journal are run without waiting
+     * for a new task to be added.
+     */
+    @Override
+    public void start() {
+        if (Config.TASKQUEUE_ACTIVE) {
+            getQueue();
+        }
+    }
+
+    /**
+     * Stops the task queue after the running tasks are done, and closes its journal.
+     * The queue is started again when the next task is added.
+     */
+    @Override
+    public void stop() {
+        synchronized (QUEUE_LOCK) {
+            if (queue == null) {
+                return;
+            }
+            queue.shutdown();
+            try {
+                httpClient.close();
+            } catch (IOException e) {
+                log.warning("Could not close the HTTP client of the task queue", e);
+            }
+            queue = null;
+            httpClient = null;
+        }
+    }
+
+    private static LocalTaskQueue getQueue() {
+        synchronized (QUEUE_LOCK) {
+            if (queue == null) {
+                httpClient = HttpClients.custom()
+                        .setMaxConnTotal(Config.TASKQUEUE_WORKERS)
+                        .setMaxConnPerRoute(Config.TASKQUEUE_WORKERS)
+                        .build();
+                queue = createQueue(httpClient);
+            }
+            return queue;
+        }
+    }
+
+    private static LocalTaskQueue createQueue(CloseableHttpClient httpClient) {
+
+        LocalTaskQueueJournal journal = null;
+        if (!Config.TASKQUEUE_JOURNAL.isEmpty()) {
+            try {
+                journal = new LocalTaskQueueJournal(Paths.get(Config.TASKQUEUE_JOURNAL));
+            } catch (IOException e) {
+                log.severe("Cannot open task queue journal; pending tasks will not be kept across restarts", e);
+            }
+        }
+
+        return new LocalTaskQueue(Config.TASKQUEUE_WORKERS, task -> dispatch(httpClient, task), journal);
+    }
+
+    private static boolean dispatch(CloseableHttpClient httpClient, TaskWrapper task) {
         HttpPost post = new HttpPost(createBasicUri(
                 "http://localhost:" + Config.getPort() + task.getWorkerUrl(), task.getParamMap()));
 
@@ -48,10 +124,13 @@ public class LocalTaskQueueService implements TaskQueueService {
         post.addHeader("X-AppEngine-QueueName", task.getQueueName());
         post.addHeader("X-Google-DevAppserver-SkipAdminCheck", "true");
 
-        try (CloseableHttpClient httpClient = HttpClients.createDefault()) {
-            httpClient.execute(post);
+        try (CloseableHttpResponse response = httpClient.execute(post)) {
+            EntityUtils.consume(response.getEntity());
+            int statusCode = response.getStatusLine().getStatusCode();
+            return statusCode >= 200 && statusCode < 300;
         } catch (IOException e) {
             log.severe("Error when executing HTTP request", e);
+            return false;
         }
     }
 
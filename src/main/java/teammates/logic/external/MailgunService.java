@@ -1,21 +1,30 @@
 package teammates.logic.external;
 
 import java.io.IOException;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 
 import javax.ws.rs.core.MediaType;
 
 import org.apache.http.HttpStatus;
 
 import com.sun.jersey.api.client.Client;
+import com.sun.jersey.api.client.ClientHandlerException;
+import com.sun.jersey.api.client.ClientRequest;
 import com.sun.jersey.api.client.ClientResponse;
 import com.sun.jersey.api.client.WebResource;
+import com.sun.jersey.api.client.filter.ClientFilter;
 import com.sun.jersey.api.client.filter.HTTPBasicAuthFilter;
 import com.sun.jersey.multipart.FormDataMultiPart;
 
 import teammates.common.util.Config;
 import teammates.common.util.EmailSendingStatus;
 import teammates.common.util.EmailWrapper;
+import teammates.common.util.JsonUtils;
 import teammates.common.util.Logger;
+import teammates.common.util.OutboundRequestMetrics;
 
 /**
  * Email sender service provided by Mailgun.
@@ -25,6 +34,11 @@ import teammates.common.util.Logger;
  */
 public class MailgunService implements EmailSenderService {
 
+    /**
+     * The maximum number of recipients of a batch message.
+     */
+    static final int MAX_RECIPIENTS_PER_BATCH = 1000;
+
     private static final Logger log = Logger.getLogger();
 
     /**
@@ -32,6 +46,17 @@ public class MailgunService implements EmailSenderService {
      */
     @Override
     public FormDataMultiPart parseToEmail(EmailWrapper wrapper) {
+        return parseToBatchEmail(List.of(wrapper));
+    }
+
+    /**
+     * Parses a group of emails which differ only in their recipients to a single Mailgun batch message.
+     *
+     * <p>For more than one recipient, recipient variables are included so that each recipient
+     * receives a separate email and does not see the other recipients.
+     */
+    public FormDataMultiPart parseToBatchEmail(List<EmailWrapper> wrappers) {
+        EmailWrapper wrapper = wrappers.get(0);
         FormDataMultiPart formData = new FormDataMultiPart();
 
         String sender = wrapper.getSenderName() == null || wrapper.getSenderName().isEmpty()
@@ -39,7 +64,16 @@ public class MailgunService implements EmailSenderService {
                         : wrapper.getSenderName() + " <" + wrapper.getSenderEmail() + ">";
         formData.field("from", sender);
 
-        formData.field("to", wrapper.getRecipient());
+        for (EmailWrapper recipientWrapper : wrappers) {
+            formData.field("to", recipientWrapper.getRecipient());
+        }
+        if (wrappers.size() > 1) {
+            Map<String, Object> recipientVariables = new LinkedHashMap<>();
+            for (EmailWrapper recipientWrapper : wrappers) {
+                recipientVariables.put(recipientWrapper.getRecipient(), new HashMap<>());
+            }
+            formData.field("recipient-variables", JsonUtils.toCompactJson(recipientVariables));
+        }
 
         if (wrapper.getBcc() != null && !wrapper.getBcc().isEmpty()) {
             formData.field("bcc", wrapper.getBcc());
@@ -54,14 +88,26 @@ public class MailgunService implements EmailSenderService {
 
     @Override
     public EmailSendingStatus sendEmail(EmailWrapper wrapper) {
-        try (FormDataMultiPart email = parseToEmail(wrapper)) {
-            Client client = Client.create();
-            client.addFilter(new HTTPBasicAuthFilter("api", Config.MAILGUN_APIKEY));
-            WebResource webResource =
-                    client.resource("https://api.mailgun.net/v3/" + Config.MAILGUN_DOMAINNAME + "/messages");
+        return send(parseToEmail(wrapper));
+    }
 
-            ClientResponse response = webResource.type(MediaType.MULTIPART_FORM_DATA_TYPE)
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Emails which differ only in their recipients are sent as one batch message.
+     */
+    @Override
+    public List<EmailSendingStatus> sendEmails(List<EmailWrapper> wrappers) {
+        return EmailBatcher.sendInGroups(wrappers, MAX_RECIPIENTS_PER_BATCH,
+                group -> send(parseToBatchEmail(group)));
+    }
+
+    private EmailSendingStatus send(FormDataMultiPart formData) {
+        try (FormDataMultiPart email = formData) {
+            ClientResponse response = ClientHolder.MESSAGES_RESOURCE.type(MediaType.MULTIPART_FORM_DATA_TYPE)
                     .post(ClientResponse.class, email);
+            // closing the response allows its connection to be reused
+            response.close();
 
             return new EmailSendingStatus(response.getStatus(), response.getStatusInfo().getReasonPhrase());
         } catch (IOException e) {
@@ -70,4 +116,41 @@ public class MailgunService implements EmailSenderService {
         }
     }
 
+    /**
+     * Holds the Jersey client, which is thread-safe and is shared so that its connections are kept alive
+     * between requests.
+     */
+    private static final class ClientHolder {
+        private static final WebResource MESSAGES_RESOURCE = createMessagesResource();
+
+        private static WebResource createMessagesResource() {
+            Client client = Client.create();
+            client.setConnectTimeout(Config.HTTP_CONNECT_TIMEOUT_MILLIS);
+            client.setReadTimeout(Config.HTTP_SOCKET_TIMEOUT_MILLIS);
+            client.addFilter(new HTTPBasicAuthFilter("api", Config.MAILGUN_APIKEY));
+            client.addFilter(new MetricsFilter());
+            return client.resource("https://api.mailgun.net/v3/" + Config.MAILGUN_DOMAINNAME + "/messages");
+        }
+    }
+
+    /**
+     * Records the latency and outcome of requests in {@link OutboundRequestMetrics}.
+     */
+    private static final class MetricsFilter extends ClientFilter {
+        @Override
+        public ClientResponse handle(ClientRequest request) {
+            String host = request.getURI().getHost();
+            long startTime = System.currentTimeMillis();
+            try {
+                ClientResponse response = getNext().handle(request);
+                OutboundRequestMetrics.recordResponse(
+                        host, response.getStatus(), System.currentTimeMillis() - startTime);
+                return response;
+            } catch (ClientHandlerException e) {
+                OutboundRequestMetrics.recordFailure(host);
+                throw e;
+            }
+        }
+    }
+
 }
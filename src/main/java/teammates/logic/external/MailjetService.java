@@ -1,21 +1,29 @@
 package teammates.logic.external;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
 import org.apache.http.HttpStatus;
 import org.json.JSONArray;
+import org.json.JSONException;
 import org.json.JSONObject;
 import org.jsoup.Jsoup;
 
+import com.google.common.collect.Lists;
 import com.mailjet.client.ClientOptions;
 import com.mailjet.client.MailjetClient;
 import com.mailjet.client.MailjetRequest;
 import com.mailjet.client.MailjetResponse;
 import com.mailjet.client.errors.MailjetException;
 import com.mailjet.client.resource.Email;
+import com.mailjet.client.resource.Emailv31;
 
 import teammates.common.exception.EmailSendingException;
 import teammates.common.util.Config;
 import teammates.common.util.EmailSendingStatus;
 import teammates.common.util.EmailWrapper;
+import teammates.common.util.OutboundRequestMetrics;
 
 /**
  * Email sender service provided by Mailjet.
@@ -27,6 +35,13 @@ import teammates.common.util.EmailWrapper;
  */
 public class MailjetService implements EmailSenderService {
 
+    /**
+     * The maximum number of messages in one request to the Send API.
+     */
+    static final int MAX_MESSAGES_PER_REQUEST = 50;
+
+    private static final String MAILJET_HOST = "api.mailjet.com";
+
     /**
      * {@inheritDoc}
      */
@@ -50,17 +65,116 @@ public class MailjetService implements EmailSenderService {
         return request;
     }
 
+    /**
+     * Parses the emails to a single request to the Send API v3.1, with one message for each email.
+     */
+    public MailjetRequest parseToBatchEmail(List<EmailWrapper> wrappers) {
+        JSONArray messages = new JSONArray();
+        for (EmailWrapper wrapper : wrappers) {
+            JSONObject from = new JSONObject().put("Email", wrapper.getSenderEmail());
+            if (wrapper.getSenderName() != null && !wrapper.getSenderName().isEmpty()) {
+                from.put("Name", wrapper.getSenderName());
+            }
+
+            JSONArray to = new JSONArray().put(new JSONObject().put("Email", wrapper.getRecipient()));
+            JSONObject message = new JSONObject()
+                    .put(Emailv31.Message.FROM, from)
+                    .put(Emailv31.Message.TO, to)
+                    .put(Emailv31.Message.REPLYTO, new JSONObject().put("Email", wrapper.getReplyTo()))
+                    .put(Emailv31.Message.SUBJECT, wrapper.getSubject())
+                    .put(Emailv31.Message.HTMLPART, wrapper.getContent())
+                    .put(Emailv31.Message.TEXTPART, Jsoup.parse(wrapper.getContent()).text());
+            if (wrapper.getBcc() != null && !wrapper.getBcc().isEmpty()) {
+                message.put(Emailv31.Message.BCC, new JSONArray().put(new JSONObject().put("Email", wrapper.getBcc())));
+            }
+            messages.put(message);
+        }
+        return new MailjetRequest(Emailv31.resource).property(Emailv31.MESSAGES, messages);
+    }
+
     @Override
     public EmailSendingStatus sendEmail(EmailWrapper wrapper) throws EmailSendingException {
         MailjetRequest email = parseToEmail(wrapper);
-        MailjetClient mailjet = new MailjetClient(
-                ClientOptions.builder().apiKey(Config.MAILJET_APIKEY).apiSecretKey(Config.MAILJET_SECRETKEY).build());
         try {
-            MailjetResponse response = mailjet.post(email);
+            MailjetResponse response = post(email);
             return new EmailSendingStatus(response.getStatus(), response.getData().toString());
         } catch (MailjetException e) {
             throw new EmailSendingException(e, HttpStatus.SC_BAD_GATEWAY);
         }
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * <p>The emails are sent with the Send API v3.1 in requests of up to {@value #MAX_MESSAGES_PER_REQUEST} messages,
+     * which reports the sending status of each message separately.
+     */
+    @Override
+    public List<EmailSendingStatus> sendEmails(List<EmailWrapper> wrappers) {
+        List<EmailSendingStatus> statuses = new ArrayList<>();
+        for (List<EmailWrapper> chunk : Lists.partition(wrappers, MAX_MESSAGES_PER_REQUEST)) {
+            try {
+                MailjetResponse response = post(parseToBatchEmail(chunk));
+                statuses.addAll(parseBatchResponse(response.getStatus(), response.getRawResponseContent(),
+                        chunk.size()));
+            } catch (MailjetException e) {
+                statuses.addAll(Collections.nCopies(chunk.size(),
+                        new EmailSendingStatus(HttpStatus.SC_BAD_GATEWAY, e.getMessage())));
+            }
+        }
+        return statuses;
+    }
+
+    /**
+     * Parses the response of the Send API v3.1 to the sending status of each of the {@code numMessages} messages.
+     */
+    static List<EmailSendingStatus> parseBatchResponse(int statusCode, String responseContent, int numMessages) {
+        JSONArray messageResults;
+        try {
+            messageResults = new JSONObject(responseContent).getJSONArray("Messages");
+        } catch (JSONException e) {
+            return Collections.nCopies(numMessages, new EmailSendingStatus(statusCode, responseContent));
+        }
+        if (messageResults.length() != numMessages) {
+            return Collections.nCopies(numMessages, new EmailSendingStatus(statusCode, responseContent));
+        }
+
+        List<EmailSendingStatus> statuses = new ArrayList<>();
+        for (int i = 0; i < numMessages; i++) {
+            JSONObject messageResult = messageResults.getJSONObject(i);
+            if ("success".equals(messageResult.optString("Status"))) {
+                statuses.add(new EmailSendingStatus(HttpStatus.SC_OK, messageResult.toString()));
+            } else {
+                int messageStatusCode = HttpStatus.SC_BAD_REQUEST;
+                JSONArray errors = messageResult.optJSONArray("Errors");
+                if (errors != null && errors.length() > 0) {
+                    messageStatusCode = errors.getJSONObject(0).optInt("StatusCode", messageStatusCode);
+                }
+                statuses.add(new EmailSendingStatus(messageStatusCode, messageResult.toString()));
+            }
+        }
+        return statuses;
+    }
+
+    private MailjetResponse post(MailjetRequest request) throws MailjetException {
+        long startTime = System.currentTimeMillis();
+        try {
+            MailjetResponse response = ClientHolder.MAILJET.post(request);
+            OutboundRequestMetrics.recordResponse(MAILJET_HOST, response.getStatus(),
+                    System.currentTimeMillis() - startTime);
+            return response;
+        } catch (MailjetException e) {
+            OutboundRequestMetrics.recordFailure(MAILJET_HOST);
+            throw e;
+        }
+    }
+
+    /**
+     * Holds the Mailjet client, which keeps its connections alive between requests.
+     */
+    private static final class ClientHolder {
+        private static final MailjetClient MAILJET = new MailjetClient(
+                ClientOptions.builder().apiKey(Config.MAILJET_APIKEY).apiSecretKey(Config.MAILJET_SECRETKEY).build());
+    }
+
 }
@@ -1,10 +1,12 @@
 package teammates.logic.external;
 
 import java.io.IOException;
+import java.util.List;
 
 import org.apache.http.HttpStatus;
 import org.jsoup.Jsoup;
 
+import com.sendgrid.Client;
 import com.sendgrid.Method;
 import com.sendgrid.Request;
 import com.sendgrid.Response;
@@ -18,6 +20,7 @@ import teammates.common.exception.EmailSendingException;
 import teammates.common.util.Config;
 import teammates.common.util.EmailSendingStatus;
 import teammates.common.util.EmailWrapper;
+import teammates.common.util.PooledHttpClient;
 
 /**
  * Email sender service provided by SendGrid.
@@ -27,11 +30,25 @@ import teammates.common.util.EmailWrapper;
  */
 public class SendgridService implements EmailSenderService {
 
+    /**
+     * The maximum number of personalizations, i.e. separate emails, in one request.
+     */
+    static final int MAX_PERSONALIZATIONS_PER_REQUEST = 1000;
+
     /**
      * {@inheritDoc}
      */
     @Override
     public Mail parseToEmail(EmailWrapper wrapper) {
+        return parseToBatchEmail(List.of(wrapper));
+    }
+
+    /**
+     * Parses a group of emails which differ only in their recipients to a single SendGrid email
+     * with one personalization for each recipient.
+     */
+    public Mail parseToBatchEmail(List<EmailWrapper> wrappers) {
+        EmailWrapper wrapper = wrappers.get(0);
         Mail email = new Mail();
         Email sender;
         if (wrapper.getSenderName() == null || wrapper.getSenderName().isEmpty()) {
@@ -41,12 +58,14 @@ public class SendgridService implements EmailSenderService {
         }
         email.setFrom(sender);
         email.setReplyTo(new Email(wrapper.getReplyTo()));
-        Personalization personalization = new Personalization();
-        personalization.addTo(new Email(wrapper.getRecipient()));
-        if (wrapper.getBcc() != null && !wrapper.getBcc().isEmpty()) {
-            personalization.addBcc(new Email(wrapper.getBcc()));
+        for (EmailWrapper recipientWrapper : wrappers) {
+            Personalization personalization = new Personalization();
+            personalization.addTo(new Email(recipientWrapper.getRecipient()));
+            if (recipientWrapper.getBcc() != null && !recipientWrapper.getBcc().isEmpty()) {
+                personalization.addBcc(new Email(recipientWrapper.getBcc()));
+            }
+            email.addPersonalization(personalization);
         }
-        email.addPersonalization(personalization);
         email.setSubject(wrapper.getSubject());
         email.addContent(new Content("text/plain", Jsoup.parse(wrapper.getContent()).text()));
         email.addContent(new Content("text/html", wrapper.getContent()));
@@ -55,18 +74,39 @@ public class SendgridService implements EmailSenderService {
 
     @Override
     public EmailSendingStatus sendEmail(EmailWrapper wrapper) throws EmailSendingException {
-        Mail email = parseToEmail(wrapper);
-        SendGrid sendgrid = new SendGrid(Config.SENDGRID_APIKEY);
+        return send(parseToEmail(wrapper));
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Emails which differ only in their recipients are sent in one request, with one personalization each.
+     */
+    @Override
+    public List<EmailSendingStatus> sendEmails(List<EmailWrapper> wrappers) {
+        return EmailBatcher.sendInGroups(wrappers, MAX_PERSONALIZATIONS_PER_REQUEST,
+                group -> send(parseToBatchEmail(group)));
+    }
+
+    private EmailSendingStatus send(Mail email) throws EmailSendingException {
         Request request = new Request();
         request.setMethod(Method.POST);
         request.setEndpoint("mail/send");
         try {
             request.setBody(email.build());
-            Response response = sendgrid.api(request);
+            Response response = ClientHolder.SENDGRID.api(request);
             return new EmailSendingStatus(response.getStatusCode(), response.getBody());
         } catch (IOException e) {
             throw new EmailSendingException(e, HttpStatus.SC_BAD_GATEWAY);
         }
     }
 
+    /**
+     * Holds the SendGrid client, which sends requests through the shared connection pool.
+     */
+    private static final class ClientHolder {
+        private static final SendGrid SENDGRID =
+                new SendGrid(Config.SENDGRID_APIKEY, new Client(PooledHttpClient.getClient()));
+    }
+
 }
@@ -15,4 +15,18 @@ public interface TaskQueueService {
      */
     void addDeferredTask(TaskWrapper task, long countdownTime);
 
+    /**
+     * Starts running tasks in the application, if tasks are run by the application itself.
+     */
+    default void start() {
+        // tasks are run outside of the application by default
+    }
+
+    /**
+     * Stops running tasks in the application, keeping the tasks which are not run yet if possible.
+     */
+    default void stop() {
+        // tasks are run outside of the application by default
+    }
+
 }
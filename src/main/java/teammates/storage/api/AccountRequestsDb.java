@@ -1,7 +1,5 @@
 package teammates.storage.api;
 
-import static com.googlecode.objectify.ObjectifyService.ofy;
-
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Collections;
@@ -147,7 +145,7 @@ public final class AccountRequestsDb extends EntitiesDb<AccountRequest, AccountR
 
     @Override
     LoadType<AccountRequest> load() {
-        return ofy().load().type(AccountRequest.class);
+        return load(AccountRequest.class);
     }
 
     @Override
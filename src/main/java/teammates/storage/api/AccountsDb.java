@@ -1,7 +1,5 @@
 package teammates.storage.api;
 
-import static com.googlecode.objectify.ObjectifyService.ofy;
-
 import java.time.Instant;
 import java.util.List;
 import java.util.Map;
@@ -108,7 +106,7 @@ public final class AccountsDb extends EntitiesDb<Account, AccountAttributes> {
 
     @Override
     LoadType<Account> load() {
-        return ofy().load().type(Account.class);
+        return load(Account.class);
     }
 
     @Override
@@ -1,7 +1,5 @@
 package teammates.storage.api;
 
-import static com.googlecode.objectify.ObjectifyService.ofy;
-
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
@@ -139,7 +137,7 @@ public final class CoursesDb extends EntitiesDb<Course, CourseAttributes> {
 
     @Override
     LoadType<Course> load() {
-        return ofy().load().type(Course.class);
+        return load(Course.class);
     }
 
     @Override
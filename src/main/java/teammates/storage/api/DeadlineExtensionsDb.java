@@ -1,7 +1,5 @@
 package teammates.storage.api;
 
-import static com.googlecode.objectify.ObjectifyService.ofy;
-
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
@@ -205,9 +203,24 @@ public final class DeadlineExtensionsDb extends EntitiesDb<DeadlineExtension, De
                 .list();
     }
 
+    /**
+     * Gets a list of deadline extensions with endTime in the future
+     * and possibly need a closing email to be sent.
+     */
+    public List<DeadlineExtensionAttributes> getUpcomingDeadlineExtensionsPossiblyNeedingClosingEmail() {
+        return new ArrayList<>(makeAttributes(getUpcomingDeadlineExtensionEntitiesPossiblyNeedingClosingEmail()));
+    }
+
+    private List<DeadlineExtension> getUpcomingDeadlineExtensionEntitiesPossiblyNeedingClosingEmail() {
+        return load()
+                .filter("endTime >=", Instant.now())
+                .filter("sentClosingEmail =", false)
+                .list();
+    }
+
     @Override
     LoadType<DeadlineExtension> load() {
-        return ofy().load().type(DeadlineExtension.class);
+        return load(DeadlineExtension.class);
     }
 
     @Override
@@ -11,6 +11,7 @@ import java.util.Optional;
 
 import com.google.common.base.Objects;
 import com.googlecode.objectify.Key;
+import com.googlecode.objectify.Work;
 import com.googlecode.objectify.cmd.LoadType;
 
 import teammates.common.datatransfer.attributes.EntityAttributes;
@@ -18,6 +19,7 @@ import teammates.common.exception.EntityAlreadyExistsException;
 import teammates.common.exception.InvalidParametersException;
 import teammates.common.util.JsonUtils;
 import teammates.common.util.Logger;
+import teammates.common.util.RequestTracer;
 import teammates.storage.entity.BaseEntity;
 
 /**
@@ -63,8 +65,9 @@ abstract class EntitiesDb<E extends BaseEntity, A extends EntityAttributes<E>> {
 
         entityToAdd.sanitizeForSaving();
 
-        if (!entityToAdd.isValid()) {
-            throw new InvalidParametersException(entityToAdd.getInvalidityInfo());
+        List<String> invalidityInfo = entityToAdd.getInvalidityInfo();
+        if (!invalidityInfo.isEmpty()) {
+            throw new InvalidParametersException(invalidityInfo);
         }
 
         if (shouldCheckExistence && hasExistingEntities(entityToAdd)) {
@@ -74,7 +77,9 @@ abstract class EntitiesDb<E extends BaseEntity, A extends EntityAttributes<E>> {
 
         E entity = convertToEntityForSaving(entityToAdd);
 
+        long startTime = System.currentTimeMillis();
         ofy().save().entity(entity).now();
+        recordWrite(Collections.singletonList(entity), startTime);
         log.info("Entity created: " + JsonUtils.toJson(entityToAdd));
 
         return makeAttributes(entity);
@@ -117,23 +122,27 @@ abstract class EntitiesDb<E extends BaseEntity, A extends EntityAttributes<E>> {
     public List<A> putEntities(Collection<A> entitiesToAdd) throws InvalidParametersException {
         assert entitiesToAdd != null;
 
-        List<E> entities = new ArrayList<>();
-
+        // validate all entities before converting any of them, and report the first invalid one
         for (A entityToAdd : entitiesToAdd) {
             entityToAdd.sanitizeForSaving();
 
-            if (!entityToAdd.isValid()) {
-                throw new InvalidParametersException(entityToAdd.getInvalidityInfo());
+            List<String> invalidityInfo = entityToAdd.getInvalidityInfo();
+            if (!invalidityInfo.isEmpty()) {
+                throw new InvalidParametersException(invalidityInfo);
             }
+        }
 
-            E entity = entityToAdd.toEntity();
-            entities.add(entity);
+        List<E> entities = new ArrayList<>(entitiesToAdd.size());
+        for (A entityToAdd : entitiesToAdd) {
+            entities.add(entityToAdd.toEntity());
         }
 
         for (A attributes : entitiesToAdd) {
             log.info("Entity created: " + JsonUtils.toJson(attributes));
         }
+        long startTime = System.currentTimeMillis();
         ofy().save().entities(entities).now();
+        recordWrite(entities, startTime);
 
         return makeAttributes(entities);
     }
@@ -147,13 +156,17 @@ abstract class EntitiesDb<E extends BaseEntity, A extends EntityAttributes<E>> {
 
     /**
      * Saves an entity.
+     *
+     * <p>The entity may be of another class than the main entity class of this object, e.g. a counter.
      */
-    void saveEntity(E entityToSave) {
+    <T> void saveEntity(T entityToSave) {
         assert entityToSave != null;
 
         log.info("Entity saved: " + JsonUtils.toJson(entityToSave));
 
+        long startTime = System.currentTimeMillis();
         ofy().save().entity(entityToSave).now();
+        recordWrite(Collections.singletonList(entityToSave), startTime);
     }
 
     /**
@@ -164,13 +177,15 @@ abstract class EntitiesDb<E extends BaseEntity, A extends EntityAttributes<E>> {
             log.info("Entity saved: " + JsonUtils.toJson(entityToSave));
         }
 
+        long startTime = System.currentTimeMillis();
         ofy().save().entities(entitiesToSave).now();
+        recordWrite(entitiesToSave, startTime);
     }
 
     /**
      * Deletes entity by key.
      */
-    void deleteEntity(Key<E> key) {
+    <T> void deleteEntity(Key<T> key) {
         assert key != null;
         deleteEntity(Collections.singletonList(key));
     }
@@ -178,15 +193,63 @@ abstract class EntitiesDb<E extends BaseEntity, A extends EntityAttributes<E>> {
     /**
      * Deletes entities by keys.
      */
-    void deleteEntity(List<Key<E>> keys) {
+    <T> void deleteEntity(List<Key<T>> keys) {
         assert keys != null;
         assert !keys.contains(null);
 
-        for (Key<E> key : keys) {
+        for (Key<T> key : keys) {
             log.info(String.format("Delete entity %s of key (id: %d, name: %s)",
                     key.getKind(), key.getRaw().getId(), key.getName()));
         }
+        long startTime = System.currentTimeMillis();
         ofy().delete().keys(keys).now();
+        if (!keys.isEmpty()) {
+            RequestTracer.recordDatastoreWrite(keys.get(0).getKind(), System.currentTimeMillis() - startTime);
+        }
+        RequestTracer.clearMemo();
+    }
+
+    /**
+     * Records a completed save in the current request trace and discards the values memoized for the request.
+     */
+    private <T> void recordWrite(Collection<T> savedEntities, long startTime) {
+        if (!savedEntities.isEmpty()) {
+            String entityType = savedEntities.iterator().next().getClass().getSimpleName();
+            RequestTracer.recordDatastoreWrite(entityType, System.currentTimeMillis() - startTime);
+        }
+        RequestTracer.clearMemo();
+    }
+
+    /**
+     * Starts a load command for entities of the given class, recording the read in the current request trace.
+     *
+     * <p>All reads should go through this or {@link #loadEntity(Key)} so that the datastore calls of each request
+     * can be accounted for. The latency of the read is not recorded, as Objectify runs the query lazily.
+     */
+    <T> LoadType<T> load(Class<T> entityClass) {
+        RequestTracer.recordDatastoreRead(entityClass.getSimpleName());
+        return ofy().load().type(entityClass);
+    }
+
+    /**
+     * Loads the entity with the given key, recording the read and its latency in the current request trace.
+     *
+     * @return null if there is no such entity
+     */
+    <T> T loadEntity(Key<T> key) {
+        long startTime = System.currentTimeMillis();
+        T entity = ofy().load().key(key).now();
+        RequestTracer.recordDatastoreRead(key.getKind(), System.currentTimeMillis() - startTime);
+        return entity;
+    }
+
+    /**
+     * Runs the given work in a transaction, retrying it if the transaction fails due to contention.
+     *
+     * <p>The reads and writes within the work should go through the helpers of this class as well.
+     */
+    <R> R transact(Work<R> work) {
+        return ofy().transact(work);
     }
 
     abstract LoadType<E> load();
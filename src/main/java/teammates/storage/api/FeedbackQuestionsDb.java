@@ -1,7 +1,5 @@
 package teammates.storage.api;
 
-import static com.googlecode.objectify.ObjectifyService.ofy;
-
 import java.util.List;
 
 import com.googlecode.objectify.cmd.LoadType;
@@ -181,7 +179,7 @@ public final class FeedbackQuestionsDb extends EntitiesDb<FeedbackQuestion, Feed
         assert feedbackQuestionId != null;
 
         return makeKeyFromWebSafeString(feedbackQuestionId)
-                .map(key -> ofy().load().key(key).now())
+                .map(this::loadEntity)
                 .orElse(null);
     }
 
@@ -227,7 +225,7 @@ public final class FeedbackQuestionsDb extends EntitiesDb<FeedbackQuestion, Feed
 
     @Override
     LoadType<FeedbackQuestion> load() {
-        return ofy().load().type(FeedbackQuestion.class);
+        return load(FeedbackQuestion.class);
     }
 
     @Override
@@ -1,7 +1,5 @@
 package teammates.storage.api;
 
-import static com.googlecode.objectify.ObjectifyService.ofy;
-
 import java.time.Instant;
 import java.util.Collection;
 import java.util.HashMap;
@@ -387,7 +385,7 @@ public final class FeedbackResponseCommentsDb
 
     @Override
     LoadType<FeedbackResponseComment> load() {
-        return ofy().load().type(FeedbackResponseComment.class);
+        return load(FeedbackResponseComment.class);
     }
 
     @Override
@@ -1,7 +1,5 @@
 package teammates.storage.api;
 
-import static com.googlecode.objectify.ObjectifyService.ofy;
-
 import java.time.Instant;
 import java.util.Collection;
 import java.util.HashMap;
@@ -411,7 +409,7 @@ public final class FeedbackResponsesDb extends EntitiesDb<FeedbackResponse, Feed
 
     @Override
     LoadType<FeedbackResponse> load() {
-        return ofy().load().type(FeedbackResponse.class);
+        return load(FeedbackResponse.class);
     }
 
     @Override
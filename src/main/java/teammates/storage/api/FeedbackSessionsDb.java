@@ -1,7 +1,5 @@
 package teammates.storage.api;
 
-import static com.googlecode.objectify.ObjectifyService.ofy;
-
 import java.time.Instant;
 import java.util.List;
 import java.util.Map;
@@ -395,7 +393,7 @@ public final class FeedbackSessionsDb extends EntitiesDb<FeedbackSession, Feedba
 
     @Override
     LoadType<FeedbackSession> load() {
-        return ofy().load().type(FeedbackSession.class);
+        return load(FeedbackSession.class);
     }
 
     @Override
@@ -1,7 +1,5 @@
 package teammates.storage.api;
 
-import static com.googlecode.objectify.ObjectifyService.ofy;
-
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -420,7 +418,7 @@ public final class InstructorsDb extends EntitiesDb<Instructor, InstructorAttrib
 
     @Override
     LoadType<Instructor> load() {
-        return ofy().load().type(Instructor.class);
+        return load(Instructor.class);
     }
 
     @Override
@@ -1,7 +1,5 @@
 package teammates.storage.api;
 
-import static com.googlecode.objectify.ObjectifyService.ofy;
-
 import java.time.Instant;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -58,6 +56,17 @@ public final class NotificationsDb extends EntitiesDb<Notification, Notification
      * @return a list of notifications for the specified targetUser.
      */
     public List<NotificationAttributes> getActiveNotificationsByTargetUser(NotificationTargetUser targetUser) {
+        return getUnexpiredNotificationsByTargetUser(targetUser).stream()
+                .filter(notification -> notification.getStartTime().isBefore(Instant.now()))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Gets notifications by {@code targetUser} which have not ended yet, including the ones yet to start.
+     *
+     * @return a list of unexpired notifications for the specified targetUser, latest start time first.
+     */
+    public List<NotificationAttributes> getUnexpiredNotificationsByTargetUser(NotificationTargetUser targetUser) {
         assert targetUser != null;
 
         List<Notification> endEntities = load()
@@ -72,12 +81,7 @@ public final class NotificationsDb extends EntitiesDb<Notification, Notification
                     .list());
         }
 
-        List<Notification> ongoingNotifications = endEntities.stream()
-                .filter(notification ->
-                   notification.getStartTime().isBefore(Instant.now()))
-                .collect(Collectors.toList());
-
-        List<NotificationAttributes> notificationAttributes = makeAttributes(ongoingNotifications);
+        List<NotificationAttributes> notificationAttributes = makeAttributes(endEntities);
         NotificationAttributes.sortByStartTime(notificationAttributes);
         return notificationAttributes;
     }
@@ -136,7 +140,7 @@ public final class NotificationsDb extends EntitiesDb<Notification, Notification
 
     @Override
     LoadType<Notification> load() {
-        return ofy().load().type(Notification.class);
+        return load(Notification.class);
     }
 
     @Override
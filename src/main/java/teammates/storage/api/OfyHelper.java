@@ -21,6 +21,8 @@ import teammates.storage.entity.FeedbackSession;
 import teammates.storage.entity.Instructor;
 import teammates.storage.entity.Notification;
 import teammates.storage.entity.UsageStatistics;
+import teammates.storage.entity.UsageStatisticsCounter;
+import teammates.storage.entity.UsageStatisticsCountingStart;
 
 /**
  * Setup in web.xml to register Objectify at application startup.
@@ -49,12 +51,27 @@ public class OfyHelper implements ServletContextListener {
         ObjectifyService.register(Instructor.class);
         ObjectifyService.register(AccountRequest.class);
         ObjectifyService.register(UsageStatistics.class);
+        ObjectifyService.register(UsageStatisticsCounter.class);
+        ObjectifyService.register(UsageStatisticsCountingStart.class);
         ObjectifyService.register(DeadlineExtension.class);
         ObjectifyService.register(Notification.class);
         // enable the ability to use java.time.Instant to issue query
         ObjectifyService.factory().getTranslators().add(new BaseEntity.InstantTranslatorFactory());
     }
 
+    /**
+     * Runs the given operation in an Objectify context.
+     *
+     * <p>Operations which access the datastore outside of a request, e.g. in a background thread,
+     * must be run with this method.
+     */
+    public static void runWithContext(Runnable operation) {
+        ObjectifyService.run(() -> {
+            operation.run();
+            return null;
+        });
+    }
+
     @Override
     public void contextInitialized(ServletContextEvent event) {
         // Invoked by Jetty at application startup.
@@ -1,7 +1,5 @@
 package teammates.storage.api;
 
-import static com.googlecode.objectify.ObjectifyService.ofy;
-
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -431,7 +429,7 @@ public final class StudentsDb extends EntitiesDb<CourseStudent, StudentAttribute
 
     @Override
     LoadType<CourseStudent> load() {
-        return ofy().load().type(CourseStudent.class);
+        return load(CourseStudent.class);
     }
 
     @Override
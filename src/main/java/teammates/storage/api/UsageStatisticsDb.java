@@ -1,15 +1,20 @@
 package teammates.storage.api;
 
-import static com.googlecode.objectify.ObjectifyService.ofy;
-
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 import com.googlecode.objectify.Key;
 import com.googlecode.objectify.cmd.LoadType;
 
 import teammates.common.datatransfer.attributes.UsageStatisticsAttributes;
+import teammates.common.exception.EntityAlreadyExistsException;
+import teammates.common.exception.InvalidParametersException;
+import teammates.common.util.JsonUtils;
 import teammates.storage.entity.UsageStatistics;
+import teammates.storage.entity.UsageStatisticsCounter;
+import teammates.storage.entity.UsageStatisticsCountingStart;
 
 /**
  * Handles CRUD operations for system usage statistics objects.
@@ -40,14 +45,185 @@ public final class UsageStatisticsDb extends EntitiesDb<UsageStatistics, UsageSt
         return makeAttributes(entities);
     }
 
+    /**
+     * Gets a list of statistics objects of the given time period between start time and end time,
+     * sorted by start time.
+     */
+    public List<UsageStatisticsAttributes> getUsageStatisticsForTimeRange(Instant startTime, Instant endTime,
+                                                                          int timePeriod) {
+        List<UsageStatistics> entities = load()
+                .filter("timePeriod =", timePeriod)
+                .filter("startTime >=", startTime)
+                .filter("startTime <", endTime)
+                .order("startTime")
+                .list();
+        return makeAttributes(entities);
+    }
+
+    /**
+     * Creates a statistics object, and adds it to the statistics objects of the longer time periods
+     * which cover it, creating the latter if they do not exist.
+     *
+     * <p>All writes are done in one transaction, so that the statistics object is never created
+     * without being added to all of the longer time periods.
+     *
+     * @param rollupStartTimes the start time of the statistics object of each longer time period,
+     *                         by the length of the time period
+     * @return the created statistics object
+     * @throws InvalidParametersException if the statistics object is not valid
+     * @throws EntityAlreadyExistsException if the statistics object already exists in the database
+     */
+    public UsageStatisticsAttributes createUsageStatisticsWithRollups(UsageStatisticsAttributes statistics,
+                                                                      Map<Integer, Instant> rollupStartTimes)
+            throws InvalidParametersException, EntityAlreadyExistsException {
+        assert statistics != null;
+
+        statistics.sanitizeForSaving();
+
+        List<String> invalidityInfo = statistics.getInvalidityInfo();
+        if (!invalidityInfo.isEmpty()) {
+            throw new InvalidParametersException(invalidityInfo);
+        }
+
+        UsageStatistics entity = statistics.toEntity();
+        Key<UsageStatistics> key = Key.create(entity);
+        boolean isCreated = transact(() -> {
+            if (loadEntity(key) != null) {
+                return false;
+            }
+            saveEntity(entity);
+            for (Map.Entry<Integer, Instant> rollupStartTime : rollupStartTimes.entrySet()) {
+                addToRollup(entity, rollupStartTime.getValue(), rollupStartTime.getKey());
+            }
+            return true;
+        });
+
+        if (!isCreated) {
+            throw new EntityAlreadyExistsException(String.format(ERROR_CREATE_ENTITY_ALREADY_EXISTS, statistics));
+        }
+        log.info("Entity created: " + JsonUtils.toJson(statistics));
+
+        return makeAttributes(entity);
+    }
+
+    private void addToRollup(UsageStatistics statistics, Instant rollupStartTime, int rollupTimePeriod) {
+        UsageStatistics rollup = loadEntity(
+                Key.create(UsageStatistics.class, UsageStatistics.generateId(rollupStartTime, rollupTimePeriod)));
+        if (rollup == null) {
+            rollup = new UsageStatistics(rollupStartTime, rollupTimePeriod, 0, 0, 0, 0, 0, 0, 0);
+        }
+        saveEntity(new UsageStatistics(rollupStartTime, rollupTimePeriod,
+                rollup.getNumResponses() + statistics.getNumResponses(),
+                rollup.getNumCourses() + statistics.getNumCourses(),
+                rollup.getNumStudents() + statistics.getNumStudents(),
+                rollup.getNumInstructors() + statistics.getNumInstructors(),
+                rollup.getNumAccountRequests() + statistics.getNumAccountRequests(),
+                rollup.getNumEmails() + statistics.getNumEmails(),
+                rollup.getNumSubmissions() + statistics.getNumSubmissions()));
+    }
+
+    /**
+     * Deletes the statistics object of the given time period starting at the given start time.
+     *
+     * <p>Fails silently if there is no such statistics object.
+     */
+    public void deleteUsageStatistics(Instant startTime, int timePeriod) {
+        deleteEntity(Key.create(UsageStatistics.class, UsageStatistics.generateId(startTime, timePeriod)));
+    }
+
+    /**
+     * Adds the numbers of created entities in the given statistics object to a shard of the counter
+     * of the period starting at the start time of the statistics object.
+     */
+    public void incrementCounter(UsageStatisticsAttributes counts, int shard) {
+        Key<UsageStatisticsCounter> key = Key.create(UsageStatisticsCounter.class,
+                UsageStatisticsCounter.generateId(counts.getStartTime(), shard));
+        transact(() -> {
+            UsageStatisticsCounter counter = loadEntity(key);
+            if (counter == null) {
+                counter = new UsageStatisticsCounter(counts.getStartTime(), shard);
+            }
+            counter.increment(counts.getNumResponses(), counts.getNumCourses(), counts.getNumStudents(),
+                    counts.getNumInstructors(), counts.getNumAccountRequests());
+            saveEntity(counter);
+            return null;
+        });
+    }
+
+    /**
+     * Gets the shards of the counters of all periods starting between start time and end time.
+     *
+     * <p>Each shard is returned as a statistics object with the start time and length of its period.
+     */
+    public List<UsageStatisticsAttributes> getCountersForTimeRange(Instant startTime, Instant endTime,
+                                                                   int counterTimePeriod) {
+        List<UsageStatisticsCounter> counters = load(UsageStatisticsCounter.class)
+                .filter("startTime >=", startTime)
+                .filter("startTime <", endTime)
+                .list();
+        List<UsageStatisticsAttributes> counts = new ArrayList<>();
+        for (UsageStatisticsCounter counter : counters) {
+            counts.add(UsageStatisticsAttributes.builder(counter.getStartTime(), counterTimePeriod)
+                    .withNumResponses(counter.getNumResponses())
+                    .withNumCourses(counter.getNumCourses())
+                    .withNumStudents(counter.getNumStudents())
+                    .withNumInstructors(counter.getNumInstructors())
+                    .withNumAccountRequests(counter.getNumAccountRequests())
+                    .build());
+        }
+        return counts;
+    }
+
+    /**
+     * Deletes the shards of the counters of all periods starting before the given time.
+     */
+    public void deleteCountersBefore(Instant time) {
+        List<Key<UsageStatisticsCounter>> keys = load(UsageStatisticsCounter.class)
+                .filter("startTime <", time)
+                .keys()
+                .list();
+        if (keys.isEmpty()) {
+            return;
+        }
+        deleteEntity(keys);
+    }
+
+    /**
+     * Gets the time from which created entities are counted by the counters.
+     *
+     * @return null if the time has not been recorded
+     */
+    public Instant getCountingStartTime() {
+        UsageStatisticsCountingStart countingStart =
+                loadEntity(Key.create(UsageStatisticsCountingStart.class, UsageStatisticsCountingStart.ID));
+        return countingStart == null ? null : countingStart.getStartTime();
+    }
+
+    /**
+     * Records the given time as the time from which created entities are counted by the counters,
+     * unless an earlier time has been recorded.
+     */
+    public void recordCountingStartTime(Instant time) {
+        Key<UsageStatisticsCountingStart> key =
+                Key.create(UsageStatisticsCountingStart.class, UsageStatisticsCountingStart.ID);
+        transact(() -> {
+            UsageStatisticsCountingStart countingStart = loadEntity(key);
+            if (countingStart == null || time.isBefore(countingStart.getStartTime())) {
+                saveEntity(new UsageStatisticsCountingStart(time));
+            }
+            return null;
+        });
+    }
+
     @Override
     LoadType<UsageStatistics> load() {
-        return ofy().load().type(UsageStatistics.class);
+        return load(UsageStatistics.class);
     }
 
     @Override
     boolean hasExistingEntities(UsageStatisticsAttributes entityToCreate) {
-        Key<UsageStatistics> keyToFind = Key.create(UsageStatistics.class, entityToCreate.getStartTime().toEpochMilli());
+        Key<UsageStatistics> keyToFind = Key.create(UsageStatistics.class,
+                UsageStatistics.generateId(entityToCreate.getStartTime(), entityToCreate.getTimePeriod()));
         return !load().filterKey(keyToFind).keys().list().isEmpty();
     }
 
@@ -0,0 +1,99 @@
+package teammates.storage.entity;
+
+import java.time.Instant;
+
+import com.googlecode.objectify.annotation.Entity;
+import com.googlecode.objectify.annotation.Id;
+import com.googlecode.objectify.annotation.Index;
+import com.googlecode.objectify.annotation.Translate;
+import com.googlecode.objectify.annotation.Unindex;
+
+/**
+ * Represents a shard of the counter of entities created within a short period of time.
+ *
+ * <p>The counter of each period is split into shards which are incremented independently,
+ * so that concurrent increments do not contend on a single entity.
+ * The total of a period is the sum of all its shards.
+ */
+@Entity
+@Unindex
+public class UsageStatisticsCounter extends BaseEntity {
+
+    @Id
+    private String id;
+
+    @Index
+    @Translate(InstantTranslatorFactory.class)
+    private Instant startTime;
+
+    private int shard;
+
+    private int numResponses;
+    private int numCourses;
+    private int numStudents;
+    private int numInstructors;
+    private int numAccountRequests;
+
+    @SuppressWarnings("unused")
+    private UsageStatisticsCounter() {
+        // required by Objectify
+    }
+
+    public UsageStatisticsCounter(Instant startTime, int shard) {
+        this.id = generateId(startTime, shard);
+        this.startTime = startTime;
+        this.shard = shard;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public Instant getStartTime() {
+        return startTime;
+    }
+
+    public int getShard() {
+        return shard;
+    }
+
+    public int getNumResponses() {
+        return numResponses;
+    }
+
+    public int getNumCourses() {
+        return numCourses;
+    }
+
+    public int getNumStudents() {
+        return numStudents;
+    }
+
+    public int getNumInstructors() {
+        return numInstructors;
+    }
+
+    public int getNumAccountRequests() {
+        return numAccountRequests;
+    }
+
+    /**
+     * Adds the given numbers of created entities to the counter.
+     */
+    public void increment(int numResponses, int numCourses, int numStudents, int numInstructors,
+                          int numAccountRequests) {
+        this.numResponses += numResponses;
+        this.numCourses += numCourses;
+        this.numStudents += numStudents;
+        this.numInstructors += numInstructors;
+        this.numAccountRequests += numAccountRequests;
+    }
+
+    /**
+     * Generates a unique ID for the shard of the counter.
+     */
+    public static String generateId(Instant startTime, int shard) {
+        return startTime.toEpochMilli() + "%" + shard;
+    }
+
+}
@@ -0,0 +1,48 @@
+package teammates.storage.entity;
+
+import java.time.Instant;
+
+import com.googlecode.objectify.annotation.Entity;
+import com.googlecode.objectify.annotation.Id;
+import com.googlecode.objectify.annotation.Translate;
+import com.googlecode.objectify.annotation.Unindex;
+
+/**
+ * Represents the time from which created entities are counted by the counters of created entities.
+ *
+ * <p>There is at most one such entity. Entities created before this time are not covered by the counters.
+ */
+@Entity
+@Unindex
+public class UsageStatisticsCountingStart extends BaseEntity {
+
+    /**
+     * The ID of the only entity of this kind.
+     */
+    public static final String ID = "countingStart";
+
+    @Id
+    private String id;
+
+    @Translate(InstantTranslatorFactory.class)
+    private Instant startTime;
+
+    @SuppressWarnings("unused")
+    private UsageStatisticsCountingStart() {
+        // required by Objectify
+    }
+
+    public UsageStatisticsCountingStart(Instant startTime) {
+        this.id = ID;
+        this.startTime = startTime;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public Instant getStartTime() {
+        return startTime;
+    }
+
+}
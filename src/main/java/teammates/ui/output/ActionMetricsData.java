@@ -0,0 +1,75 @@
+package teammates.ui.output;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+import teammates.common.util.LatencyHistogram;
+import teammates.common.util.RequestMetrics;
+
+/**
+ * The API output format of {@link RequestMetrics.ActionMetrics}.
+ */
+public class ActionMetricsData extends ApiOutput {
+
+    private final String actionClass;
+    private final long numRequests;
+    private final int numInFlightRequests;
+    private final long meanLatency;
+    private final long p50Latency;
+    private final long p90Latency;
+    private final long p99Latency;
+    private final long maxLatency;
+    private final Map<String, Long> statusCodeCounts = new TreeMap<>();
+
+    public ActionMetricsData(RequestMetrics.ActionMetrics actionMetrics) {
+        LatencyHistogram histogram = actionMetrics.getLatencyHistogram();
+        this.actionClass = actionMetrics.getActionClass();
+        this.numRequests = histogram.getTotalCount();
+        this.numInFlightRequests = actionMetrics.getInFlightCount();
+        this.meanLatency = numRequests == 0 ? 0 : histogram.getTotalValue() / numRequests;
+        this.p50Latency = histogram.getValueAtPercentile(50);
+        this.p90Latency = histogram.getValueAtPercentile(90);
+        this.p99Latency = histogram.getValueAtPercentile(99);
+        this.maxLatency = histogram.getMaxValue();
+        actionMetrics.getStatusCodeCounts().forEach((statusCode, count) -> {
+            this.statusCodeCounts.put(String.valueOf(statusCode), count);
+        });
+    }
+
+    public String getActionClass() {
+        return actionClass;
+    }
+
+    public long getNumRequests() {
+        return numRequests;
+    }
+
+    public int getNumInFlightRequests() {
+        return numInFlightRequests;
+    }
+
+    public long getMeanLatency() {
+        return meanLatency;
+    }
+
+    public long getP50Latency() {
+        return p50Latency;
+    }
+
+    public long getP90Latency() {
+        return p90Latency;
+    }
+
+    public long getP99Latency() {
+        return p99Latency;
+    }
+
+    public long getMaxLatency() {
+        return maxLatency;
+    }
+
+    public Map<String, Long> getStatusCodeCounts() {
+        return statusCodeCounts;
+    }
+
+}
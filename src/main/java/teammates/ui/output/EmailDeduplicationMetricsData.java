@@ -0,0 +1,33 @@
+package teammates.ui.output;
+
+import teammates.common.util.EmailDeduplicationMetrics;
+import teammates.common.util.EmailType;
+
+/**
+ * The API output format of {@link EmailDeduplicationMetrics.EmailTypeMetrics}.
+ */
+public class EmailDeduplicationMetricsData extends ApiOutput {
+
+    private final EmailType emailType;
+    private final long numEmailsAllowed;
+    private final long numDuplicatesSuppressed;
+
+    public EmailDeduplicationMetricsData(EmailDeduplicationMetrics.EmailTypeMetrics emailTypeMetrics) {
+        this.emailType = emailTypeMetrics.getEmailType();
+        this.numEmailsAllowed = emailTypeMetrics.getNumEmailsAllowed();
+        this.numDuplicatesSuppressed = emailTypeMetrics.getNumDuplicatesSuppressed();
+    }
+
+    public EmailType getEmailType() {
+        return emailType;
+    }
+
+    public long getNumEmailsAllowed() {
+        return numEmailsAllowed;
+    }
+
+    public long getNumDuplicatesSuppressed() {
+        return numDuplicatesSuppressed;
+    }
+
+}
@@ -1,9 +1,14 @@
 package teammates.ui.output;
 
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
+import java.util.TreeMap;
 import java.util.stream.Collectors;
 
+import javax.annotation.Nullable;
+
 import teammates.common.datatransfer.FeedbackSessionLogEntry;
 import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
 import teammates.common.datatransfer.attributes.StudentAttributes;
@@ -14,15 +19,54 @@ import teammates.common.datatransfer.attributes.StudentAttributes;
 public class FeedbackSessionLogData {
     private final FeedbackSessionData feedbackSessionData;
     private final List<FeedbackSessionLogEntryData> feedbackSessionLogEntries;
+    @Nullable
+    private final List<FeedbackSessionLogSummaryData> feedbackSessionLogSummaries;
+    private final int numLogEntries;
 
     public FeedbackSessionLogData(FeedbackSessionAttributes feedbackSession, List<FeedbackSessionLogEntry> logEntries,
             Map<String, StudentAttributes> studentsMap) {
-        FeedbackSessionData fsData = new FeedbackSessionData(feedbackSession);
-        List<FeedbackSessionLogEntryData> fsLogEntryDatas = logEntries.stream()
+        this(feedbackSession, logEntries, studentsMap, Integer.MAX_VALUE, false);
+    }
+
+    /**
+     * Creates the response log of a feedback session.
+     *
+     * @param maxNumLogEntries the maximum number of log entries to include; only the latest entries are included
+     *                         if there are more
+     * @param isSummary whether to include a summary of the log entries of each student instead of the log entries
+     */
+    public FeedbackSessionLogData(FeedbackSessionAttributes feedbackSession, List<FeedbackSessionLogEntry> logEntries,
+            Map<String, StudentAttributes> studentsMap, int maxNumLogEntries, boolean isSummary) {
+        this.feedbackSessionData = new FeedbackSessionData(feedbackSession);
+        this.numLogEntries = logEntries.size();
+        if (isSummary) {
+            this.feedbackSessionLogEntries = new ArrayList<>();
+            this.feedbackSessionLogSummaries = summarizeLogEntries(logEntries, studentsMap);
+            return;
+        }
+        List<FeedbackSessionLogEntry> includedLogEntries = logEntries;
+        if (logEntries.size() > maxNumLogEntries) {
+            includedLogEntries = logEntries.stream()
+                    .sorted(Comparator.comparingLong(FeedbackSessionLogEntry::getTimestamp))
+                    .skip(logEntries.size() - maxNumLogEntries)
+                    .collect(Collectors.toList());
+        }
+        this.feedbackSessionLogEntries = includedLogEntries.stream()
                 .map(log -> new FeedbackSessionLogEntryData(log, studentsMap.get(log.getStudentEmail())))
                 .collect(Collectors.toList());
-        this.feedbackSessionData = fsData;
-        this.feedbackSessionLogEntries = fsLogEntryDatas;
+        this.feedbackSessionLogSummaries = null;
+    }
+
+    private static List<FeedbackSessionLogSummaryData> summarizeLogEntries(List<FeedbackSessionLogEntry> logEntries,
+            Map<String, StudentAttributes> studentsMap) {
+        Map<String, FeedbackSessionLogSummaryData> summariesByEmail = new TreeMap<>();
+        for (FeedbackSessionLogEntry logEntry : logEntries) {
+            String email = logEntry.getStudentEmail();
+            summariesByEmail
+                    .computeIfAbsent(email, k -> new FeedbackSessionLogSummaryData(studentsMap.get(email)))
+                    .addLogEntry(logEntry);
+        }
+        return new ArrayList<>(summariesByEmail.values());
     }
 
     public FeedbackSessionData getFeedbackSessionData() {
@@ -30,9 +74,23 @@ public class FeedbackSessionLogData {
     }
 
     /**
-     * Returns all feedback session log entries.
+     * Returns all feedback session log entries included in the response.
      */
     public List<FeedbackSessionLogEntryData> getFeedbackSessionLogEntries() {
         return feedbackSessionLogEntries;
     }
+
+    /**
+     * Returns the summary of the log entries of each student, or null if the summaries are not requested.
+     */
+    public List<FeedbackSessionLogSummaryData> getFeedbackSessionLogSummaries() {
+        return feedbackSessionLogSummaries;
+    }
+
+    /**
+     * Returns the number of log entries of the feedback session, including those not included in the response.
+     */
+    public int getNumLogEntries() {
+        return numLogEntries;
+    }
 }
@@ -0,0 +1,65 @@
+package teammates.ui.output;
+
+import javax.annotation.Nullable;
+
+import teammates.common.datatransfer.FeedbackSessionLogEntry;
+import teammates.common.datatransfer.attributes.StudentAttributes;
+import teammates.common.datatransfer.logs.FeedbackSessionLogType;
+
+/**
+ * The summary of the session logs of a student for a single feedback session.
+ */
+public class FeedbackSessionLogSummaryData {
+    private final StudentData studentData;
+    private int numLogEntries;
+    @Nullable
+    private Long lastAccessTimestamp;
+    @Nullable
+    private Long lastSubmissionTimestamp;
+    @Nullable
+    private Long lastViewResultTimestamp;
+
+    public FeedbackSessionLogSummaryData(StudentAttributes student) {
+        this.studentData = new StudentData(student);
+    }
+
+    /**
+     * Adds the log entry of the student to the summary.
+     */
+    void addLogEntry(FeedbackSessionLogEntry logEntry) {
+        numLogEntries++;
+        long timestamp = logEntry.getTimestamp();
+        FeedbackSessionLogType logType = FeedbackSessionLogType.valueOfLabel(logEntry.getFeedbackSessionLogType());
+        if (logType == FeedbackSessionLogType.ACCESS) {
+            lastAccessTimestamp = getLater(lastAccessTimestamp, timestamp);
+        } else if (logType == FeedbackSessionLogType.SUBMISSION) {
+            lastSubmissionTimestamp = getLater(lastSubmissionTimestamp, timestamp);
+        } else if (logType == FeedbackSessionLogType.VIEW_RESULT) {
+            lastViewResultTimestamp = getLater(lastViewResultTimestamp, timestamp);
+        }
+    }
+
+    private static Long getLater(Long currentTimestamp, long timestamp) {
+        return currentTimestamp == null ? timestamp : Math.max(currentTimestamp, timestamp);
+    }
+
+    public StudentData getStudentData() {
+        return studentData;
+    }
+
+    public int getNumLogEntries() {
+        return numLogEntries;
+    }
+
+    public Long getLastAccessTimestamp() {
+        return lastAccessTimestamp;
+    }
+
+    public Long getLastSubmissionTimestamp() {
+        return lastSubmissionTimestamp;
+    }
+
+    public Long getLastViewResultTimestamp() {
+        return lastViewResultTimestamp;
+    }
+}
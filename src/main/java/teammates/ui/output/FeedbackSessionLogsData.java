@@ -17,11 +17,18 @@ public class FeedbackSessionLogsData extends ApiOutput {
 
     public FeedbackSessionLogsData(Map<String, List<FeedbackSessionLogEntry>> groupedEntries,
             Map<String, StudentAttributes> studentsMap, Map<String, FeedbackSessionAttributes> sessionsMap) {
+        this(groupedEntries, studentsMap, sessionsMap, Integer.MAX_VALUE, false);
+    }
+
+    public FeedbackSessionLogsData(Map<String, List<FeedbackSessionLogEntry>> groupedEntries,
+            Map<String, StudentAttributes> studentsMap, Map<String, FeedbackSessionAttributes> sessionsMap,
+            int maxNumLogEntriesPerSession, boolean isSummary) {
         this.feedbackSessionLogs = groupedEntries.entrySet().stream()
                 .map(entry -> {
                     FeedbackSessionAttributes feedbackSession = sessionsMap.get(entry.getKey());
                     List<FeedbackSessionLogEntry> logEntries = entry.getValue();
-                    return new FeedbackSessionLogData(feedbackSession, logEntries, studentsMap);
+                    return new FeedbackSessionLogData(feedbackSession, logEntries, studentsMap,
+                            maxNumLogEntriesPerSession, isSummary);
                 })
                 .collect(Collectors.toList());
     }
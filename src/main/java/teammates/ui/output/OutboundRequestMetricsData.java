@@ -0,0 +1,76 @@
+package teammates.ui.output;
+
+import teammates.common.util.LatencyHistogram;
+import teammates.common.util.OutboundRequestMetrics;
+
+/**
+ * The API output format of {@link OutboundRequestMetrics.HostMetrics}.
+ */
+public class OutboundRequestMetricsData extends ApiOutput {
+
+    private final String host;
+    private final long numRequests;
+    private final long numErrorResponses;
+    private final long numFailures;
+    private final long numConnectionsOpened;
+    private final long meanLatency;
+    private final long p50Latency;
+    private final long p90Latency;
+    private final long p99Latency;
+    private final long maxLatency;
+
+    public OutboundRequestMetricsData(OutboundRequestMetrics.HostMetrics hostMetrics) {
+        LatencyHistogram histogram = hostMetrics.getLatencyHistogram();
+        this.host = hostMetrics.getHost();
+        this.numRequests = histogram.getTotalCount();
+        this.numErrorResponses = hostMetrics.getNumErrorResponses();
+        this.numFailures = hostMetrics.getNumFailures();
+        this.numConnectionsOpened = hostMetrics.getNumConnectionsOpened();
+        this.meanLatency = numRequests == 0 ? 0 : histogram.getTotalValue() / numRequests;
+        this.p50Latency = histogram.getValueAtPercentile(50);
+        this.p90Latency = histogram.getValueAtPercentile(90);
+        this.p99Latency = histogram.getValueAtPercentile(99);
+        this.maxLatency = histogram.getMaxValue();
+    }
+
+    public String getHost() {
+        return host;
+    }
+
+    public long getNumRequests() {
+        return numRequests;
+    }
+
+    public long getNumErrorResponses() {
+        return numErrorResponses;
+    }
+
+    public long getNumFailures() {
+        return numFailures;
+    }
+
+    public long getNumConnectionsOpened() {
+        return numConnectionsOpened;
+    }
+
+    public long getMeanLatency() {
+        return meanLatency;
+    }
+
+    public long getP50Latency() {
+        return p50Latency;
+    }
+
+    public long getP90Latency() {
+        return p90Latency;
+    }
+
+    public long getP99Latency() {
+        return p99Latency;
+    }
+
+    public long getMaxLatency() {
+        return maxLatency;
+    }
+
+}
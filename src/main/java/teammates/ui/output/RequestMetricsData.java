@@ -0,0 +1,44 @@
+package teammates.ui.output;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import teammates.common.util.EmailDeduplicationMetrics;
+import teammates.common.util.OutboundRequestMetrics;
+import teammates.common.util.RequestMetrics;
+
+/**
+ * The API output format of the request metrics of all action classes and of all external hosts,
+ * and the deduplication metrics of all email types.
+ */
+public class RequestMetricsData extends ApiOutput {
+
+    private final List<ActionMetricsData> actionMetrics;
+    private final List<OutboundRequestMetricsData> outboundRequestMetrics;
+    private final List<EmailDeduplicationMetricsData> emailDeduplicationMetrics;
+
+    public RequestMetricsData(List<RequestMetrics.ActionMetrics> actionMetrics,
+                              List<OutboundRequestMetrics.HostMetrics> outboundRequestMetrics,
+                              List<EmailDeduplicationMetrics.EmailTypeMetrics> emailDeduplicationMetrics) {
+        this.actionMetrics = actionMetrics.stream().map(ActionMetricsData::new).collect(Collectors.toList());
+        this.outboundRequestMetrics = outboundRequestMetrics.stream()
+                .map(OutboundRequestMetricsData::new)
+                .collect(Collectors.toList());
+        this.emailDeduplicationMetrics = emailDeduplicationMetrics.stream()
+                .map(EmailDeduplicationMetricsData::new)
+                .collect(Collectors.toList());
+    }
+
+    public List<ActionMetricsData> getActionMetrics() {
+        return actionMetrics;
+    }
+
+    public List<OutboundRequestMetricsData> getOutboundRequestMetrics() {
+        return outboundRequestMetrics;
+    }
+
+    public List<EmailDeduplicationMetricsData> getEmailDeduplicationMetrics() {
+        return emailDeduplicationMetrics;
+    }
+
+}
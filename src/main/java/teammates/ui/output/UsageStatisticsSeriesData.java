@@ -0,0 +1,76 @@
+package teammates.ui.output;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import teammates.common.datatransfer.attributes.UsageStatisticsAttributes;
+
+/**
+ * The API output format of a list of {@link UsageStatisticsAttributes} of the same time period, in columns.
+ *
+ * <p>The i-th element of each column belongs to the statistics object starting at the i-th start time.
+ * Time periods without a statistics object are omitted.
+ */
+public class UsageStatisticsSeriesData extends ApiOutput {
+
+    private final int timePeriod;
+    private final List<Long> startTimes = new ArrayList<>();
+    private final List<Integer> numResponses = new ArrayList<>();
+    private final List<Integer> numCourses = new ArrayList<>();
+    private final List<Integer> numStudents = new ArrayList<>();
+    private final List<Integer> numInstructors = new ArrayList<>();
+    private final List<Integer> numAccountRequests = new ArrayList<>();
+    private final List<Integer> numEmails = new ArrayList<>();
+    private final List<Integer> numSubmissions = new ArrayList<>();
+
+    public UsageStatisticsSeriesData(int timePeriod, List<UsageStatisticsAttributes> usageStatistics) {
+        this.timePeriod = timePeriod;
+        for (UsageStatisticsAttributes statistics : usageStatistics) {
+            startTimes.add(statistics.getStartTime().toEpochMilli());
+            numResponses.add(statistics.getNumResponses());
+            numCourses.add(statistics.getNumCourses());
+            numStudents.add(statistics.getNumStudents());
+            numInstructors.add(statistics.getNumInstructors());
+            numAccountRequests.add(statistics.getNumAccountRequests());
+            numEmails.add(statistics.getNumEmails());
+            numSubmissions.add(statistics.getNumSubmissions());
+        }
+    }
+
+    public int getTimePeriod() {
+        return timePeriod;
+    }
+
+    public List<Long> getStartTimes() {
+        return startTimes;
+    }
+
+    public List<Integer> getNumResponses() {
+        return numResponses;
+    }
+
+    public List<Integer> getNumCourses() {
+        return numCourses;
+    }
+
+    public List<Integer> getNumStudents() {
+        return numStudents;
+    }
+
+    public List<Integer> getNumInstructors() {
+        return numInstructors;
+    }
+
+    public List<Integer> getNumAccountRequests() {
+        return numAccountRequests;
+    }
+
+    public List<Integer> getNumEmails() {
+        return numEmails;
+    }
+
+    public List<Integer> getNumSubmissions() {
+        return numSubmissions;
+    }
+
+}
@@ -0,0 +1,29 @@
+package teammates.ui.request;
+
+import java.util.List;
+
+import teammates.common.util.EmailWrapper;
+
+/**
+ * The request of sending a batch of emails.
+ */
+public class SendEmailBatchRequest extends BasicRequest {
+    private final List<EmailWrapper> emails;
+
+    public SendEmailBatchRequest(List<EmailWrapper> emails) {
+        this.emails = emails;
+    }
+
+    public List<EmailWrapper> getEmails() {
+        return emails;
+    }
+
+    @Override
+    public void validate() throws InvalidHttpRequestBodyException {
+        assertTrue(emails != null && !emails.isEmpty(), "Emails cannot be empty");
+        for (EmailWrapper email : emails) {
+            new SendEmailRequest(email).validate();
+        }
+    }
+
+}
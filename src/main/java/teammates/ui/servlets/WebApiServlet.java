@@ -12,7 +12,10 @@ import com.google.cloud.datastore.DatastoreException;
 
 import teammates.common.datatransfer.logs.RequestLogUser;
 import teammates.common.exception.DeadlineExceededException;
+import teammates.common.util.Config;
 import teammates.common.util.Logger;
+import teammates.common.util.RequestMetrics;
+import teammates.common.util.RequestTracer;
 import teammates.ui.request.InvalidHttpRequestBodyException;
 import teammates.ui.webapi.Action;
 import teammates.ui.webapi.ActionFactory;
@@ -57,6 +60,8 @@ public class WebApiServlet extends HttpServlet {
         Action action = null;
         try {
             action = ActionFactory.getAction(req, req.getMethod());
+            RequestMetrics.recordRequestStart(action.getClass().getSimpleName());
+            RequestTracer.setDatastoreCallBudget(Config.getDatastoreCallBudget(action.getClass().getSimpleName()));
             action.init(req);
             action.checkAccessControl();
 
@@ -105,6 +110,7 @@ public class WebApiServlet extends HttpServlet {
                 }
                 actionClass = action.getClass().getSimpleName();
                 userInfo = action.getUserInfoForLogging();
+                RequestMetrics.recordRequestEnd(actionClass, statusCode, RequestTracer.getTimeElapsedMillis());
             }
 
             log.request(req, statusCode, actionClass, userInfo, requestBody, actionClass);
@@ -16,6 +16,7 @@ import teammates.common.util.TimeHelper;
 public class CalculateUsageStatisticsAction extends AdminOnlyAction {
 
     static final int COLLECTION_TIME_PERIOD = 60; // represents one hour
+    static final int COUNTER_RETENTION_PERIOD = 7 * 24 * 60; // represents one week
     private static final Logger log = Logger.getLogger();
 
     @Override
@@ -23,7 +24,7 @@ public class CalculateUsageStatisticsAction extends AdminOnlyAction {
         Instant endTime = TimeHelper.getInstantNearestHourBefore(Instant.now());
         Instant startTime = endTime.minus(COLLECTION_TIME_PERIOD, ChronoUnit.MINUTES);
 
-        UsageStatisticsAttributes entitiesStats = logic.calculateEntitiesStatisticsForTimeRange(startTime, endTime);
+        UsageStatisticsAttributes entitiesStats = logic.getEntitiesStatisticsForTimeRange(startTime, endTime);
 
         int numEmailsSent = logsProcessor.getNumberOfLogsForEvent(startTime, endTime, LogEvent.EMAIL_SENT, "");
         int numSubmissions = logsProcessor.getNumberOfLogsForEvent(startTime, endTime, LogEvent.FEEDBACK_SESSION_AUDIT,
@@ -44,6 +45,9 @@ public class CalculateUsageStatisticsAction extends AdminOnlyAction {
         } catch (InvalidParametersException | EntityAlreadyExistsException e) {
             log.severe("Unexpected error", e);
         }
+
+        // The counters are kept for a while after they are collected, so that recent periods can be recollected
+        logic.deleteUsageStatisticsCountersBefore(startTime.minus(COUNTER_RETENTION_PERIOD, ChronoUnit.MINUTES));
         return new JsonResult("Successful");
     }
 
@@ -12,8 +12,6 @@ import org.apache.http.HttpStatus;
 import org.apache.http.client.methods.CloseableHttpResponse;
 import org.apache.http.client.methods.HttpPost;
 import org.apache.http.entity.StringEntity;
-import org.apache.http.impl.client.CloseableHttpClient;
-import org.apache.http.impl.client.HttpClients;
 
 import com.google.auth.oauth2.GoogleCredentials;
 
@@ -21,6 +19,7 @@ import teammates.common.util.Config;
 import teammates.common.util.Const;
 import teammates.common.util.JsonUtils;
 import teammates.common.util.Logger;
+import teammates.common.util.PooledHttpClient;
 
 /**
  * Cron job: performs Datastore backup.
@@ -66,8 +65,7 @@ class DatastoreBackupAction extends AdminOnlyAction {
         StringEntity entity = new StringEntity(JsonUtils.toCompactJson(body), Const.ENCODING);
         post.setEntity(entity);
 
-        try (CloseableHttpClient client = HttpClients.createDefault();
-                CloseableHttpResponse resp = client.execute(post);
+        try (CloseableHttpResponse resp = PooledHttpClient.getClient().execute(post);
                 BufferedReader br = new BufferedReader(
                         new InputStreamReader(resp.getEntity().getContent(), Const.ENCODING))) {
             String output = br.lines().collect(Collectors.joining(System.lineSeparator()));
@@ -0,0 +1,213 @@
+package teammates.ui.webapi;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+import teammates.common.datatransfer.attributes.DeadlineExtensionAttributes;
+import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
+import teammates.common.exception.EntityDoesNotExistException;
+import teammates.common.exception.InvalidParametersException;
+import teammates.common.util.Const.ParamsNames;
+import teammates.common.util.EmailType;
+import teammates.common.util.EmailWrapper;
+import teammates.common.util.Logger;
+import teammates.common.util.TimeHelper;
+
+/**
+ * Task queue worker action: prepares the automated opening, opening soon, closing, closed or published emails
+ * for a particular session to be sent.
+ *
+ * <p>Whether the email is due (i.e. not sent yet and within its time window) is checked before any email
+ * is generated, so that a task which is run again or is outdated (e.g. because the cron job and
+ * the session event scheduler both found the session) does not send the emails twice.
+ *
+ * <p>A closing email task also sends the closing emails of the deadline extensions of the session
+ * which end within the next 24 hours.
+ *
+ * <p>Each email is given an idempotency key made up of its type, session, recipient and the time of the session
+ * which it is about (its send window), so that an email which is scheduled twice, e.g. by two tasks which
+ * run at the same time, is sent only once unless the time of the session is changed in between.
+ */
+class FeedbackSessionAutomatedEmailWorkerAction extends AdminOnlyAction {
+
+    private static final Set<EmailType> AUTOMATED_EMAIL_TYPES = EnumSet.of(EmailType.FEEDBACK_OPENING,
+            EmailType.FEEDBACK_OPENING_SOON, EmailType.FEEDBACK_CLOSING, EmailType.FEEDBACK_CLOSED,
+            EmailType.FEEDBACK_PUBLISHED);
+
+    private static final Logger log = Logger.getLogger();
+
+    @Override
+    public JsonResult execute() {
+        String feedbackSessionName = getNonNullRequestParamValue(ParamsNames.FEEDBACK_SESSION_NAME);
+        String courseId = getNonNullRequestParamValue(ParamsNames.COURSE_ID);
+        String emailTypeString = getNonNullRequestParamValue(ParamsNames.EMAIL_TYPE);
+        EmailType emailType = getAutomatedEmailType(emailTypeString);
+
+        FeedbackSessionAttributes session = feedbackSessionsLogic.getFeedbackSession(feedbackSessionName, courseId);
+        if (session == null) {
+            log.severe("Feedback session object for feedback session name: " + feedbackSessionName
+                       + " for course: " + courseId + " could not be fetched.");
+            return new JsonResult("Failure");
+        }
+        if (feedbackSessionsLogic.isAutomatedEmailDue(session, emailType)) {
+            List<EmailWrapper> emailsToBeSent = generateEmails(session, emailType);
+            Instant sendWindow = getSendWindow(session, emailType);
+            setIdempotencyKeys(emailsToBeSent, session, email -> sendWindow);
+            try {
+                taskQueuer.scheduleEmailsForSending(emailsToBeSent);
+                feedbackSessionsLogic.updateFeedbackSession(getSentEmailUpdateOptions(session, emailType));
+            } catch (Exception e) {
+                log.severe("Unexpected error", e);
+            }
+        } else {
+            log.info(emailType + " emails for feedback session: " + feedbackSessionName
+                     + " for course: " + courseId + " are not due to be sent.");
+        }
+
+        if (emailType == EmailType.FEEDBACK_CLOSING) {
+            sendClosingEmailsForDeadlineExtensions(session);
+        }
+        return new JsonResult("Successful");
+    }
+
+    private EmailType getAutomatedEmailType(String emailTypeString) {
+        EmailType emailType;
+        try {
+            emailType = EmailType.valueOf(emailTypeString);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidHttpParameterException("Email type " + emailTypeString + " not accepted", e);
+        }
+        if (!AUTOMATED_EMAIL_TYPES.contains(emailType)) {
+            throw new InvalidHttpParameterException("Email type " + emailTypeString + " not accepted");
+        }
+        return emailType;
+    }
+
+    private List<EmailWrapper> generateEmails(FeedbackSessionAttributes session, EmailType emailType) {
+        switch (emailType) {
+        case FEEDBACK_OPENING:
+            return emailGenerator.generateFeedbackSessionOpeningEmails(session);
+        case FEEDBACK_OPENING_SOON:
+            return emailGenerator.generateFeedbackSessionOpeningSoonEmails(session);
+        case FEEDBACK_CLOSING:
+            return emailGenerator.generateFeedbackSessionClosingEmails(session);
+        case FEEDBACK_CLOSED:
+            return emailGenerator.generateFeedbackSessionClosedEmails(session);
+        case FEEDBACK_PUBLISHED:
+            return emailGenerator.generateFeedbackSessionPublishedEmails(session);
+        default:
+            throw new AssertionError("Unexpected email type " + emailType);
+        }
+    }
+
+    private Instant getSendWindow(FeedbackSessionAttributes session, EmailType emailType) {
+        switch (emailType) {
+        case FEEDBACK_OPENING:
+        case FEEDBACK_OPENING_SOON:
+            return session.getStartTime();
+        case FEEDBACK_CLOSING:
+        case FEEDBACK_CLOSED:
+            return session.getEndTime();
+        case FEEDBACK_PUBLISHED:
+            return session.getResultsVisibleFromTime();
+        default:
+            throw new AssertionError("Unexpected email type " + emailType);
+        }
+    }
+
+    private void setIdempotencyKeys(List<EmailWrapper> emails, FeedbackSessionAttributes session,
+            Function<EmailWrapper, Instant> sendWindowGetter) {
+        for (EmailWrapper email : emails) {
+            email.setIdempotencyKey(String.join("|", email.getType().name(), session.getCourseId(),
+                    session.getFeedbackSessionName(), email.getRecipient(), String.valueOf(email.getIsCopy()),
+                    String.valueOf(sendWindowGetter.apply(email).toEpochMilli())));
+        }
+    }
+
+    private FeedbackSessionAttributes.UpdateOptions getSentEmailUpdateOptions(
+            FeedbackSessionAttributes session, EmailType emailType) {
+        FeedbackSessionAttributes.UpdateOptions.Builder builder = FeedbackSessionAttributes
+                .updateOptionsBuilder(session.getFeedbackSessionName(), session.getCourseId());
+        switch (emailType) {
+        case FEEDBACK_OPENING:
+            return builder.withSentOpenEmail(true).build();
+        case FEEDBACK_OPENING_SOON:
+            return builder.withSentOpeningSoonEmail(true).build();
+        case FEEDBACK_CLOSING:
+            return builder.withSentClosingEmail(true).build();
+        case FEEDBACK_CLOSED:
+            return builder.withSentClosedEmail(true).build();
+        case FEEDBACK_PUBLISHED:
+            return builder.withSentPublishedEmail(true).build();
+        default:
+            throw new AssertionError("Unexpected email type " + emailType);
+        }
+    }
+
+    /**
+     * Sends the closing emails of the deadline extensions of the session which end within the next 24 hours.
+     *
+     * <p>Deadline extensions may not be synced up with the deadlines in the feedback session.
+     * The deadlines in the feedback session are treated as the single source of truth, and only the deadline
+     * extensions which match them are considered.
+     */
+    private void sendClosingEmailsForDeadlineExtensions(FeedbackSessionAttributes session) {
+        if (!session.isClosingEmailEnabled()) {
+            return;
+        }
+
+        List<DeadlineExtensionAttributes> deadlineExtensions = new ArrayList<>();
+        addDeadlineExtensionsClosingSoon(deadlineExtensions, session, session.getStudentDeadlines(), false);
+        addDeadlineExtensionsClosingSoon(deadlineExtensions, session, session.getInstructorDeadlines(), true);
+        if (deadlineExtensions.isEmpty()) {
+            return;
+        }
+
+        List<EmailWrapper> emailsToBeSent =
+                emailGenerator.generateFeedbackSessionClosingWithExtensionEmails(session, deadlineExtensions);
+        Map<String, Instant> extendedDeadlines = new HashMap<>();
+        for (DeadlineExtensionAttributes deadlineExtension : deadlineExtensions) {
+            extendedDeadlines.put(deadlineExtension.getUserEmail(), deadlineExtension.getEndTime());
+        }
+        setIdempotencyKeys(emailsToBeSent, session,
+                email -> extendedDeadlines.getOrDefault(email.getRecipient(), session.getEndTime()));
+        taskQueuer.scheduleEmailsForSending(emailsToBeSent);
+
+        try {
+            for (DeadlineExtensionAttributes deadlineExtension : deadlineExtensions) {
+                DeadlineExtensionAttributes.UpdateOptions updateOptions = DeadlineExtensionAttributes
+                        .updateOptionsBuilder(session.getCourseId(), session.getFeedbackSessionName(),
+                                deadlineExtension.getUserEmail(), deadlineExtension.getIsInstructor())
+                        .withSentClosingEmail(true)
+                        .build();
+                logic.updateDeadlineExtension(updateOptions);
+            }
+        } catch (InvalidParametersException | EntityDoesNotExistException e) {
+            log.severe("Unexpected error", e);
+        }
+    }
+
+    private void addDeadlineExtensionsClosingSoon(List<DeadlineExtensionAttributes> deadlineExtensions,
+            FeedbackSessionAttributes session, Map<String, Instant> deadlines, boolean isInstructor) {
+        Instant now = Instant.now();
+        Instant closingSoonLimit = TimeHelper.getInstantDaysOffsetFromNow(1);
+        deadlines.forEach((userEmail, deadline) -> {
+            if (deadline.isBefore(now) || deadline.isAfter(closingSoonLimit)) {
+                return;
+            }
+            DeadlineExtensionAttributes deadlineExtension = logic.getDeadlineExtension(
+                    session.getCourseId(), session.getFeedbackSessionName(), userEmail, isInstructor);
+            if (deadlineExtension != null && !deadlineExtension.getSentClosingEmail()
+                    && deadline.equals(deadlineExtension.getEndTime())) {
+                deadlineExtensions.add(deadlineExtension);
+            }
+        });
+    }
+
+}
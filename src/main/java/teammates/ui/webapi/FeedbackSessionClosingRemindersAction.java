@@ -1,105 +1,46 @@
 package teammates.ui.webapi;
 
-import java.time.Instant;
-import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
-import java.util.Map;
-import java.util.stream.Collectors;
+import java.util.Set;
 
 import teammates.common.datatransfer.attributes.DeadlineExtensionAttributes;
 import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
-import teammates.common.exception.EntityDoesNotExistException;
-import teammates.common.exception.InvalidParametersException;
-import teammates.common.util.EmailWrapper;
-import teammates.common.util.Logger;
+import teammates.common.util.EmailType;
 import teammates.common.util.RequestTracer;
 
 /**
  * Cron job: schedules feedback session closing emails to be sent.
+ *
+ * <p>The emails of each session, including the emails of its deadline extensions, are generated by
+ * a separate task in {@link FeedbackSessionAutomatedEmailWorkerAction}.
  */
 class FeedbackSessionClosingRemindersAction extends AdminOnlyAction {
 
-    private static final Logger log = Logger.getLogger();
-
     @Override
     public JsonResult execute() {
         List<FeedbackSessionAttributes> sessions = feedbackSessionsLogic.getFeedbackSessionsClosingWithinTimeLimit();
+        Set<String> scheduledSessionKeys = new HashSet<>();
 
         for (FeedbackSessionAttributes session : sessions) {
             RequestTracer.checkRemainingTime();
-            List<EmailWrapper> emailsToBeSent = emailGenerator.generateFeedbackSessionClosingEmails(session);
-            try {
-                taskQueuer.scheduleEmailsForSending(emailsToBeSent);
-                feedbackSessionsLogic.updateFeedbackSession(
-                        FeedbackSessionAttributes
-                                .updateOptionsBuilder(session.getFeedbackSessionName(), session.getCourseId())
-                                .withSentClosingEmail(true)
-                                .build());
-            } catch (Exception e) {
-                log.severe("Unexpected error", e);
-            }
+            scheduleClosingEmail(scheduledSessionKeys, session.getCourseId(), session.getFeedbackSessionName());
         }
 
-        // group deadline extensions by courseId and feedbackSessionName
-        Collection<List<DeadlineExtensionAttributes>> groupedDeadlineExtensions =
-                logic.getDeadlineExtensionsPossiblyNeedingClosingEmail()
-                        .stream()
-                        .collect(Collectors.groupingBy(de -> de.getCourseId() + "%" + de.getFeedbackSessionName()))
-                        .values();
-
-        for (var deadlineExtensions : groupedDeadlineExtensions) {
+        // sessions with deadline extensions closing soon
+        for (DeadlineExtensionAttributes deadlineExtension : logic.getDeadlineExtensionsPossiblyNeedingClosingEmail()) {
             RequestTracer.checkRemainingTime();
-            String feedbackSessionName = deadlineExtensions.get(0).getFeedbackSessionName();
-            String courseId = deadlineExtensions.get(0).getCourseId();
-            FeedbackSessionAttributes feedbackSession = feedbackSessionsLogic.getFeedbackSession(feedbackSessionName, courseId);
-            if (feedbackSession == null || !feedbackSession.isClosingEmailEnabled()) {
-                continue;
-            }
-
-            List<DeadlineExtensionAttributes> validDeadlineExtensions =
-                    filterValidDeadlineExtensions(deadlineExtensions, feedbackSession);
-            List<EmailWrapper> emailsToBeSent = emailGenerator
-                    .generateFeedbackSessionClosingWithExtensionEmails(feedbackSession, validDeadlineExtensions);
-            taskQueuer.scheduleEmailsForSending(emailsToBeSent);
-
-            try {
-                for (var deadlineExtension : validDeadlineExtensions) {
-                    DeadlineExtensionAttributes.UpdateOptions updateOptions = DeadlineExtensionAttributes
-                            .updateOptionsBuilder(courseId, feedbackSessionName,
-                                    deadlineExtension.getUserEmail(), deadlineExtension.getIsInstructor())
-                            .withSentClosingEmail(true)
-                            .build();
-                    logic.updateDeadlineExtension(updateOptions);
-                }
-            } catch (InvalidParametersException | EntityDoesNotExistException e) {
-                log.severe("Unexpected error", e);
-            }
+            scheduleClosingEmail(scheduledSessionKeys,
+                    deadlineExtension.getCourseId(), deadlineExtension.getFeedbackSessionName());
         }
 
         return new JsonResult("Successful");
     }
 
-    /**
-     * Remove invalid deadline extensions from the given {@code deadlineExtensions}.
-     *
-     * <p>Deadline Extensions may not be synced up with the deadlines in feedback session.
-     * Treat deadlines in feedback session as the single source of truth and verify their existence before sending emails.
-     */
-    private List<DeadlineExtensionAttributes> filterValidDeadlineExtensions(
-            List<DeadlineExtensionAttributes> deadlineExtensions, FeedbackSessionAttributes session) {
-        Map<String, Instant> studentDeadlines = session.getStudentDeadlines();
-        Map<String, Instant> instructorDeadlines = session.getInstructorDeadlines();
-
-        return deadlineExtensions.stream()
-                .filter(de ->
-                    de.getIsInstructor() && isValidDeadlineExtension(de, instructorDeadlines)
-                            || !de.getIsInstructor() && isValidDeadlineExtension(de, studentDeadlines))
-                .collect(Collectors.toList());
-    }
-
-    private boolean isValidDeadlineExtension(DeadlineExtensionAttributes deadlineExtension,
-            Map<String, Instant> actualDeadlines) {
-        return deadlineExtension.getEndTime().equals(actualDeadlines.get(deadlineExtension.getUserEmail()));
+    private void scheduleClosingEmail(Set<String> scheduledSessionKeys, String courseId, String feedbackSessionName) {
+        if (scheduledSessionKeys.add(courseId + "%" + feedbackSessionName)) {
+            taskQueuer.scheduleFeedbackSessionAutomatedEmail(courseId, feedbackSessionName, EmailType.FEEDBACK_CLOSING);
+        }
     }
 
 }
@@ -1,7 +1,6 @@
 package teammates.ui.webapi;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
 import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
 import teammates.common.datatransfer.attributes.InstructorAttributes;
@@ -30,13 +29,10 @@ class FeedbackSessionRemindEmailWorkerAction extends AdminOnlyAction {
 
             InstructorAttributes instructorToNotify = instructorsLogic.getInstructorForGoogleId(courseId, instructorId);
 
-            List<StudentAttributes> studentsToRemindList = studentList.stream().filter(student ->
-                    !feedbackSessionsLogic.isFeedbackSessionAttemptedByStudent(session, student.getEmail(), student.getTeam())
-            ).collect(Collectors.toList());
-
-            List<InstructorAttributes> instructorsToRemindList = instructorList.stream().filter(instructor ->
-                    !feedbackSessionsLogic.isFeedbackSessionAttemptedByInstructor(session, instructor.getEmail())
-            ).collect(Collectors.toList());
+            List<StudentAttributes> studentsToRemindList =
+                    feedbackSessionsLogic.getStudentsWhoHaveNotAttempted(session, studentList);
+            List<InstructorAttributes> instructorsToRemindList =
+                    feedbackSessionsLogic.getInstructorsWhoHaveNotAttempted(session, instructorList);
 
             List<EmailWrapper> emails = emailGenerator.generateFeedbackSessionReminderEmails(
                     session, studentsToRemindList, instructorsToRemindList, instructorToNotify);
@@ -1,10 +1,12 @@
 package teammates.ui.webapi;
 
 import java.util.ArrayList;
+import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import teammates.common.datatransfer.FeedbackSessionLogEntry;
@@ -53,28 +55,22 @@ public class GetFeedbackSessionLogsAction extends Action {
             throw new EntityNotFoundException("Course not found");
         }
         String email = getRequestParamValue(Const.ParamsNames.STUDENT_EMAIL);
-        if (email != null && studentsLogic.getStudentForEmail(courseId, email) == null) {
-            throw new EntityNotFoundException("Student not found");
+        StudentAttributes queriedStudent = null;
+        if (email != null) {
+            queriedStudent = studentsLogic.getStudentForEmail(courseId, email);
+            if (queriedStudent == null) {
+                throw new EntityNotFoundException("Student not found");
+            }
         }
         String feedbackSessionName = getRequestParamValue(Const.ParamsNames.FEEDBACK_SESSION_NAME);
 
         if (feedbackSessionName != null && feedbackSessionsLogic.getFeedbackSession(feedbackSessionName, courseId) == null) {
             throw new EntityNotFoundException("Feedback session not found");
         }
-        String fslTypes = getRequestParamValue(Const.ParamsNames.FEEDBACK_SESSION_LOG_TYPE);
-        List<FeedbackSessionLogType> convertedFslTypes = new ArrayList<>();
-        if (fslTypes != null) {
-            // Multiple log types are separated by a comma e.g access,submission
-            for (String fslType : fslTypes.split(",")) {
-                FeedbackSessionLogType convertedFslType = FeedbackSessionLogType.valueOfLabel(fslType);
-
-                if (convertedFslType == null) {
-                    throw new InvalidHttpParameterException("Invalid log type");
-                }
-
-                convertedFslTypes.add(convertedFslType);
-            }
-        }
+        Set<FeedbackSessionLogType> queriedLogTypes =
+                parseFeedbackSessionLogTypes(getRequestParamValue(Const.ParamsNames.FEEDBACK_SESSION_LOG_TYPE));
+        int maxNumLogEntriesPerSession = parseLimit(getRequestParamValue(Const.ParamsNames.LIMIT));
+        boolean isSummary = Boolean.parseBoolean(getRequestParamValue(Const.ParamsNames.FEEDBACK_SESSION_LOG_IS_SUMMARY));
 
         String startTimeStr = getNonNullRequestParamValue(Const.ParamsNames.FEEDBACK_SESSION_LOG_STARTTIME);
         String endTimeStr = getNonNullRequestParamValue(Const.ParamsNames.FEEDBACK_SESSION_LOG_ENDTIME);
@@ -102,40 +98,78 @@ public class GetFeedbackSessionLogsAction extends Action {
 
         List<FeedbackSessionLogEntry> fsLogEntries =
                 logsProcessor.getFeedbackSessionLogs(courseId, email, startTime, endTime, feedbackSessionName);
+
+        // The students are loaded at once instead of for each email in the logs
         Map<String, StudentAttributes> studentsMap = new HashMap<>();
+        if (queriedStudent == null) {
+            studentsLogic.getStudentsForCourse(courseId).forEach(student -> studentsMap.put(student.getEmail(), student));
+        } else {
+            studentsMap.put(queriedStudent.getEmail(), queriedStudent);
+        }
         Map<String, FeedbackSessionAttributes> sessionsMap = new HashMap<>();
         List<FeedbackSessionAttributes> feedbackSessions = feedbackSessionsLogic.getFeedbackSessionsForCourse(courseId);
         feedbackSessions.forEach(fs -> sessionsMap.put(fs.getFeedbackSessionName(), fs));
 
-        fsLogEntries = fsLogEntries.stream().filter(logEntry -> {
-            String logType = logEntry.getFeedbackSessionLogType();
-            FeedbackSessionLogType convertedLogType = FeedbackSessionLogType.valueOfLabel(logType);
-            if (convertedLogType == null || fslTypes != null && !convertedFslTypes.contains(convertedLogType)) {
-                // If the feedback session log type retrieved from the log is invalid
-                // or not the type being queried, ignore the log
-                return false;
-            }
-
-            if (!studentsMap.containsKey(logEntry.getStudentEmail())) {
-                StudentAttributes student = studentsLogic.getStudentForEmail(courseId, logEntry.getStudentEmail());
-                if (student == null) {
-                    // If the student email retrieved from the log is invalid, ignore the log
-                    return false;
-                }
-                studentsMap.put(logEntry.getStudentEmail(), student);
-            }
-            // If the feedback session retrieved from the log is invalid, ignore the log
-            return sessionsMap.containsKey(logEntry.getFeedbackSessionName());
-        }).collect(Collectors.toList());
+        // Logs of an invalid type, student or feedback session, or not of the type being queried, are ignored
+        fsLogEntries = fsLogEntries.stream()
+                .filter(logEntry -> {
+                    String logType = logEntry.getFeedbackSessionLogType();
+                    FeedbackSessionLogType convertedLogType = FeedbackSessionLogType.valueOfLabel(logType);
+                    return convertedLogType != null && queriedLogTypes.contains(convertedLogType);
+                })
+                .filter(logEntry -> studentsMap.containsKey(logEntry.getStudentEmail()))
+                .filter(logEntry -> sessionsMap.containsKey(logEntry.getFeedbackSessionName()))
+                .collect(Collectors.toList());
 
         Map<String, List<FeedbackSessionLogEntry>> groupedEntries =
                 groupFeedbackSessionLogEntries(fsLogEntries);
         feedbackSessions.forEach(fs -> groupedEntries.putIfAbsent(fs.getFeedbackSessionName(), new ArrayList<>()));
 
-        FeedbackSessionLogsData fslData = new FeedbackSessionLogsData(groupedEntries, studentsMap, sessionsMap);
+        FeedbackSessionLogsData fslData = new FeedbackSessionLogsData(groupedEntries, studentsMap, sessionsMap,
+                maxNumLogEntriesPerSession, isSummary);
         return new JsonResult(fslData);
     }
 
+    /**
+     * Parses the queried log types, which are separated by a comma e.g access,submission.
+     * All log types are queried if none is specified.
+     */
+    private Set<FeedbackSessionLogType> parseFeedbackSessionLogTypes(String fslTypes) {
+        if (fslTypes == null) {
+            return EnumSet.allOf(FeedbackSessionLogType.class);
+        }
+        Set<FeedbackSessionLogType> convertedFslTypes = EnumSet.noneOf(FeedbackSessionLogType.class);
+        for (String fslType : fslTypes.split(",")) {
+            FeedbackSessionLogType convertedFslType = FeedbackSessionLogType.valueOfLabel(fslType);
+
+            if (convertedFslType == null) {
+                throw new InvalidHttpParameterException("Invalid log type");
+            }
+
+            convertedFslTypes.add(convertedFslType);
+        }
+        return convertedFslTypes;
+    }
+
+    /**
+     * Parses the maximum number of log entries to return for each feedback session, which is unlimited by default.
+     */
+    private int parseLimit(String limit) {
+        if (limit == null) {
+            return Integer.MAX_VALUE;
+        }
+        int parsedLimit;
+        try {
+            parsedLimit = Integer.parseInt(limit);
+        } catch (NumberFormatException e) {
+            throw new InvalidHttpParameterException("Invalid limit", e);
+        }
+        if (parsedLimit <= 0) {
+            throw new InvalidHttpParameterException("The limit should be positive.");
+        }
+        return parsedLimit;
+    }
+
     private Map<String, List<FeedbackSessionLogEntry>> groupFeedbackSessionLogEntries(
             List<FeedbackSessionLogEntry> fsLogEntries) {
         Map<String, List<FeedbackSessionLogEntry>> groupedEntries = new LinkedHashMap<>();
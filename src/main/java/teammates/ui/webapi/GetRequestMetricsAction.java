@@ -0,0 +1,34 @@
+package teammates.ui.webapi;
+
+import teammates.common.util.Const;
+import teammates.common.util.EmailDeduplicationMetrics;
+import teammates.common.util.OutboundRequestMetrics;
+import teammates.common.util.RequestMetrics;
+import teammates.ui.output.RequestMetricsData;
+
+/**
+ * Gets the latency, status code and in-flight metrics of requests served by this instance, per action class,
+ * the metrics of requests made by this instance to external hosts, and the number of duplicate emails
+ * not sent by this instance, per email type.
+ */
+class GetRequestMetricsAction extends AdminOnlyAction {
+
+    static final String PROMETHEUS_FORMAT = "prometheus";
+
+    private static final String PROMETHEUS_CONTENT_TYPE = "text/plain; version=0.0.4";
+
+    @Override
+    public ActionResult execute() {
+        String format = getRequestParamValue(Const.ParamsNames.METRICS_FORMAT);
+        if (PROMETHEUS_FORMAT.equals(format)) {
+            return new TextResult(RequestMetrics.toPrometheusText() + OutboundRequestMetrics.toPrometheusText()
+                    + EmailDeduplicationMetrics.toPrometheusText(), PROMETHEUS_CONTENT_TYPE);
+        }
+        if (format != null) {
+            throw new InvalidHttpParameterException("Unknown metrics format: " + format);
+        }
+        return new JsonResult(new RequestMetricsData(RequestMetrics.getAllActionMetrics(),
+                OutboundRequestMetrics.getAllHostMetrics(), EmailDeduplicationMetrics.getAllEmailTypeMetrics()));
+    }
+
+}
@@ -7,6 +7,7 @@ import java.util.List;
 import teammates.common.datatransfer.attributes.UsageStatisticsAttributes;
 import teammates.common.util.Const;
 import teammates.ui.output.UsageStatisticsRangeData;
+import teammates.ui.output.UsageStatisticsSeriesData;
 
 /**
  * Gets usage statistics for a specified time period.
@@ -57,6 +58,26 @@ class GetUsageStatisticsAction extends Action {
                     + MAX_SEARCH_WINDOW.toDays() + " full days.");
         }
 
+        String maxPointsString = getRequestParamValue(Const.ParamsNames.USAGE_STATISTICS_MAX_POINTS);
+        if (maxPointsString != null) {
+            // Rolled-up statistics in columns, for ranges too long to be shown hour by hour
+            int maxPoints;
+            try {
+                maxPoints = Integer.parseInt(maxPointsString);
+            } catch (NumberFormatException e) {
+                throw new InvalidHttpParameterException("Invalid maxpoints parameter", e);
+            }
+            if (maxPoints <= 0) {
+                throw new InvalidHttpParameterException("The maximum number of points should be positive.");
+            }
+
+            int timePeriod = logic.getUsageStatisticsTimePeriodForTimeRange(
+                    Instant.ofEpochMilli(startTime), Instant.ofEpochMilli(endTime), maxPoints);
+            List<UsageStatisticsAttributes> usageStatisticsInRange = logic.getUsageStatisticsForTimeRange(
+                    Instant.ofEpochMilli(startTime), Instant.ofEpochMilli(endTime), timePeriod);
+            return new JsonResult(new UsageStatisticsSeriesData(timePeriod, usageStatisticsInRange));
+        }
+
         List<UsageStatisticsAttributes> usageStatisticsInRange =
                 logic.getUsageStatisticsForTimeRange(Instant.ofEpochMilli(startTime), Instant.ofEpochMilli(endTime));
 
@@ -0,0 +1,54 @@
+package teammates.ui.webapi;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import teammates.common.util.EmailSendingStatus;
+import teammates.common.util.EmailWrapper;
+import teammates.ui.request.InvalidHttpRequestBodyException;
+import teammates.ui.request.SendEmailBatchRequest;
+
+/**
+ * Task queue worker action: sends a queued batch of emails.
+ *
+ * <p>Emails which fail to send are queued again individually, so that each of them is retried separately.
+ * Emails with an idempotency key which have been sent recently are not sent again.
+ */
+class SendEmailBatchWorkerAction extends AdminOnlyAction {
+
+    @Override
+    public JsonResult execute() throws InvalidHttpRequestBodyException {
+        SendEmailBatchRequest emailBatchRequest = getAndValidateRequestBody(SendEmailBatchRequest.class);
+        List<EmailWrapper> emails = emailBatchRequest.getEmails();
+        List<EmailWrapper> emailsToSend = new ArrayList<>();
+        for (EmailWrapper email : emails) {
+            if (emailSender.claimSending(email)) {
+                emailsToSend.add(email);
+            }
+        }
+        List<EmailSendingStatus> statuses;
+        try {
+            statuses = emailsToSend.isEmpty() ? new ArrayList<>() : emailSender.sendEmails(emailsToSend);
+        } catch (RuntimeException e) {
+            // none of the emails is known to be sent, so the retried task should be allowed to send all of them
+            emailsToSend.forEach(emailSender::releaseSending);
+            throw e;
+        }
+
+        List<EmailWrapper> failedEmails = new ArrayList<>();
+        for (int i = 0; i < emailsToSend.size(); i++) {
+            if (!statuses.get(i).isSuccess()) {
+                emailSender.releaseSending(emailsToSend.get(i));
+                failedEmails.add(emailsToSend.get(i));
+            }
+        }
+        if (failedEmails.isEmpty()) {
+            return new JsonResult("Successful");
+        }
+
+        // The batch itself is not retried, as the emails which have been sent successfully should not be sent again
+        taskQueuer.scheduleEmailsForRetry(failedEmails);
+        return new JsonResult(failedEmails.size() + " of " + emails.size() + " emails failed and are rescheduled");
+    }
+
+}
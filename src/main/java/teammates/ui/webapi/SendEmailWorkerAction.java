@@ -9,6 +9,8 @@ import teammates.ui.request.SendEmailRequest;
 
 /**
  * Task queue worker action: sends queued email.
+ *
+ * <p>An email with an idempotency key which has been sent recently is not sent again.
  */
 class SendEmailWorkerAction extends AdminOnlyAction {
 
@@ -16,8 +18,19 @@ class SendEmailWorkerAction extends AdminOnlyAction {
     public JsonResult execute() throws InvalidHttpRequestBodyException {
         SendEmailRequest emailRequest = getAndValidateRequestBody(SendEmailRequest.class);
         EmailWrapper email = emailRequest.getEmail();
-        EmailSendingStatus status = emailSender.sendEmail(email);
+        if (!emailSender.claimSending(email)) {
+            return new JsonResult("Duplicate email not sent");
+        }
+        EmailSendingStatus status;
+        try {
+            status = emailSender.sendEmail(email);
+        } catch (RuntimeException e) {
+            // the email may not have been sent, so the retried task should be allowed to send it
+            emailSender.releaseSending(email);
+            throw e;
+        }
         if (!status.isSuccess()) {
+            emailSender.releaseSending(email);
             // Set an arbitrary retry code outside of the range 200-299 so Cloud Tasks will automatically retry upon failure
             return new JsonResult("Failure", HttpStatus.SC_BAD_GATEWAY);
         }
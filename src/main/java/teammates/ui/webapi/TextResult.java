@@ -0,0 +1,35 @@
+package teammates.ui.webapi;
+
+import java.io.IOException;
+
+import javax.servlet.http.HttpServletResponse;
+
+import org.apache.http.HttpStatus;
+
+/**
+ * Action result in form of plain text.
+ */
+class TextResult extends ActionResult {
+
+    private final String content;
+    private final String contentType;
+
+    TextResult(String content, String contentType) {
+        super(HttpStatus.SC_OK);
+        this.content = content;
+        this.contentType = contentType;
+    }
+
+    String getContent() {
+        return content;
+    }
+
+    @Override
+    public void send(HttpServletResponse resp) throws IOException {
+        resp.setStatus(getStatusCode());
+        resp.setContentType(contentType);
+        resp.setCharacterEncoding("UTF-8");
+        resp.getWriter().write(content);
+    }
+
+}
@@ -477,6 +477,8 @@ public class ArchitectureTest {
     public void testArchitecture_externalApi_loggingApiCanOnlyBeAccessedByLogger() {
         noClasses().that().doNotHaveSimpleName("Logger")
                 .and().doNotHaveSimpleName("StdOutConsoleHandler")
+                // a log handler, and its test with the nested handler it publishes to
+                .and().haveNameNotMatching("teammates\\.common\\.util\\.AsyncLogHandler(Test)?(\\$.*)?")
                 .should().accessClassesThat().resideInAPackage("java.util.logging..")
                 .check(ALL_CLASSES);
     }
@@ -532,6 +534,7 @@ public class ArchitectureTest {
     @Test
     public void testArchitecture_externalApi_jettyApiCanOnlyBeAccessedBySomePackages() {
         noClasses().that().resideOutsideOfPackage(MAIN_PACKAGE)
+                .and().doNotHaveSimpleName("LNPInProcessServer")
                 .should().accessClassesThat().haveFullyQualifiedName("org.eclipse.jetty..")
                 .check(ALL_CLASSES);
     }
@@ -3,6 +3,7 @@ package teammates.common.datatransfer;
 import org.testng.annotations.Test;
 
 import teammates.common.util.Const;
+import teammates.common.util.JsonUtils;
 import teammates.test.BaseTestCase;
 
 /**
@@ -287,6 +288,72 @@ public class InstructorPrivilegesTest extends BaseTestCase {
                 sectionId, sessionId, Const.InstructorPermissions.CAN_VIEW_SESSION_IN_SECTIONS));
     }
 
+    @Test
+    public void testIsAllowedForPrivilege_afterChanges() {
+        InstructorPrivileges privileges =
+                new InstructorPrivileges(Const.InstructorPermissionRoleNames.INSTRUCTOR_PERMISSION_ROLE_OBSERVER);
+        String sectionId = "sectionId";
+        String sessionId = "sessionId";
+
+        ______TS("lookups reflect changes in each level made after earlier lookups");
+
+        assertFalse(privileges.isAllowedForPrivilege(Const.InstructorPermissions.CAN_MODIFY_SESSION));
+        privileges.updatePrivilege(Const.InstructorPermissions.CAN_MODIFY_SESSION, true);
+        assertTrue(privileges.isAllowedForPrivilege(Const.InstructorPermissions.CAN_MODIFY_SESSION));
+
+        assertTrue(privileges.isAllowedForPrivilege(
+                sectionId, Const.InstructorPermissions.CAN_VIEW_STUDENT_IN_SECTIONS));
+        privileges.updatePrivilege(sectionId, Const.InstructorPermissions.CAN_VIEW_STUDENT_IN_SECTIONS, false);
+        assertFalse(privileges.isAllowedForPrivilege(
+                sectionId, Const.InstructorPermissions.CAN_VIEW_STUDENT_IN_SECTIONS));
+
+        assertFalse(privileges.isAllowedForPrivilege(
+                sectionId, sessionId, Const.InstructorPermissions.CAN_MODIFY_SESSION_COMMENT_IN_SECTIONS));
+        privileges.updatePrivilege(sectionId, sessionId,
+                Const.InstructorPermissions.CAN_MODIFY_SESSION_COMMENT_IN_SECTIONS, true);
+        privileges.updatePrivilege(sectionId, sessionId, Const.InstructorPermissions.CAN_VIEW_SESSION_IN_SECTIONS, false);
+        assertTrue(privileges.isAllowedForPrivilege(
+                sectionId, sessionId, Const.InstructorPermissions.CAN_MODIFY_SESSION_COMMENT_IN_SECTIONS));
+        assertFalse(privileges.isAllowedForPrivilege(
+                sectionId, sessionId, Const.InstructorPermissions.CAN_VIEW_SESSION_IN_SECTIONS));
+
+        privileges.validatePrivileges();
+        assertTrue(privileges.isAllowedForPrivilege(
+                sectionId, sessionId, Const.InstructorPermissions.CAN_VIEW_SESSION_IN_SECTIONS));
+
+        privileges.setDefaultPrivilegesForCoowner();
+        assertTrue(privileges.isAllowedForPrivilege(Const.InstructorPermissions.CAN_MODIFY_COURSE));
+
+        ______TS("lookups for any section only consider sections with specific privileges");
+
+        InstructorPrivileges tutorPrivileges =
+                new InstructorPrivileges(Const.InstructorPermissionRoleNames.INSTRUCTOR_PERMISSION_ROLE_TUTOR);
+        assertFalse(tutorPrivileges.isAllowedForPrivilegeAnySection(
+                sessionId, Const.InstructorPermissions.CAN_SUBMIT_SESSION_IN_SECTIONS));
+
+        tutorPrivileges.updatePrivilege(sectionId, Const.InstructorPermissions.CAN_SUBMIT_SESSION_IN_SECTIONS, false);
+        assertFalse(tutorPrivileges.isAllowedForPrivilegeAnySection(
+                sessionId, Const.InstructorPermissions.CAN_SUBMIT_SESSION_IN_SECTIONS));
+
+        tutorPrivileges.updatePrivilege("sectionId2", sessionId,
+                Const.InstructorPermissions.CAN_SUBMIT_SESSION_IN_SECTIONS, false);
+        assertFalse(tutorPrivileges.isAllowedForPrivilegeAnySection(
+                sessionId, Const.InstructorPermissions.CAN_SUBMIT_SESSION_IN_SECTIONS));
+        assertTrue(tutorPrivileges.isAllowedForPrivilegeAnySection(
+                "otherSessionId", Const.InstructorPermissions.CAN_SUBMIT_SESSION_IN_SECTIONS));
+
+        tutorPrivileges.updatePrivilege(sectionId, sessionId,
+                Const.InstructorPermissions.CAN_SUBMIT_SESSION_IN_SECTIONS, true);
+        assertTrue(tutorPrivileges.isAllowedForPrivilegeAnySection(
+                sessionId, Const.InstructorPermissions.CAN_SUBMIT_SESSION_IN_SECTIONS));
+
+        ______TS("lookups do not change the stored format");
+
+        InstructorPrivileges restored = new InstructorPrivileges(tutorPrivileges.toLegacyFormat());
+        assertEquals(tutorPrivileges, restored);
+        assertEquals(JsonUtils.toJson(tutorPrivileges.toLegacyFormat()), JsonUtils.toJson(restored.toLegacyFormat()));
+    }
+
     @Test
     public void testValidatePrivileges() {
         InstructorPrivileges privileges =
@@ -31,6 +31,24 @@ public class CourseAttributesTest extends BaseTestCase {
         assertEquals(typicalInstant, courseAttributes.getDeletedAt());
     }
 
+    @Test
+    public void testGetCopy_typicalData_createsCopyCorrectly() {
+        Instant typicalInstant = Instant.now();
+        CourseAttributes course = CourseAttributes.valueOf(
+                new Course("testId", "testName", "UTC", "institute", typicalInstant, typicalInstant));
+
+        CourseAttributes copy = course.getCopy();
+
+        assertNotSame(course, copy);
+
+        assertEquals(course.getId(), copy.getId());
+        assertEquals(course.getName(), copy.getName());
+        assertEquals(course.getTimeZone(), copy.getTimeZone());
+        assertEquals(course.getInstitute(), copy.getInstitute());
+        assertEquals(course.getCreatedAt(), copy.getCreatedAt());
+        assertEquals(course.getDeletedAt(), copy.getDeletedAt());
+    }
+
     @Test
     public void testValueOf_withInvalidTimezoneStr_shouldFallbackToDefaultTimezone() {
         Instant typicalInstant = Instant.now();
@@ -0,0 +1,100 @@
+package teammates.common.util;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+
+import org.testng.annotations.Test;
+
+import teammates.test.BaseTestCase;
+
+/**
+ * SUT: {@link AsyncLogHandler}.
+ */
+public class AsyncLogHandlerTest extends BaseTestCase {
+
+    @Test
+    public void testPublish() {
+        RecordingHandler delegate = new RecordingHandler();
+        AsyncLogHandler handler = new AsyncLogHandler(delegate, 1000, () -> true);
+
+        ______TS("records are published in order after flushing");
+
+        for (int i = 0; i < 100; i++) {
+            handler.publish(new LogRecord(Level.INFO, "message " + i));
+        }
+        handler.flush();
+
+        assertEquals(100, delegate.messages.size());
+        for (int i = 0; i < 100; i++) {
+            assertEquals("message " + i, delegate.messages.get(i));
+        }
+
+        ______TS("records below the level of the delegate are not published");
+
+        delegate.setLevel(Level.WARNING);
+        handler.publish(new LogRecord(Level.INFO, "ignored"));
+        handler.flush();
+
+        assertEquals(100, delegate.messages.size());
+
+        ______TS("records are published synchronously after closing");
+
+        handler.close();
+        handler.publish(new LogRecord(Level.WARNING, "after close"));
+
+        assertEquals(101, delegate.messages.size());
+        assertEquals("after close", delegate.messages.get(100));
+        assertTrue(delegate.isClosed);
+    }
+
+    @Test
+    public void testPublish_asyncDisabled_shouldPublishSynchronously() {
+        RecordingHandler delegate = new RecordingHandler();
+        AtomicBoolean isAsyncEnabled = new AtomicBoolean();
+        AsyncLogHandler handler = new AsyncLogHandler(delegate, 1000, isAsyncEnabled::get);
+
+        ______TS("records are published before returning while disabled");
+
+        handler.publish(new LogRecord(Level.INFO, "sync"));
+
+        assertEquals(List.of("sync"), delegate.messages);
+
+        ______TS("records are handed over once enabled, without creating a new handler");
+
+        isAsyncEnabled.set(true);
+        handler.publish(new LogRecord(Level.INFO, "async"));
+        handler.flush();
+
+        assertEquals(List.of("sync", "async"), delegate.messages);
+
+        handler.close();
+    }
+
+    private static class RecordingHandler extends Handler {
+        private final List<String> messages = Collections.synchronizedList(new ArrayList<>());
+        private boolean isClosed;
+
+        @Override
+        public void publish(LogRecord record) {
+            if (isLoggable(record)) {
+                messages.add(record.getMessage());
+            }
+        }
+
+        @Override
+        public void flush() {
+            // nothing to flush
+        }
+
+        @Override
+        public void close() {
+            isClosed = true;
+        }
+    }
+
+}
@@ -1,5 +1,7 @@
 package teammates.common.util;
 
+import java.util.Map;
+
 import org.testng.annotations.Test;
 
 import teammates.test.BaseTestCase;
@@ -16,4 +18,15 @@ public class BuildPropertiesTest extends BaseTestCase {
         assertFalse(frontEndUrl.isBlank());
     }
 
+    @Test
+    public void testParseDatastoreCallBudgetOverrides() {
+        assertTrue(Config.parseDatastoreCallBudgetOverrides("").isEmpty());
+
+        Map<String, Integer> overrides = Config.parseDatastoreCallBudgetOverrides(
+                "GetSessionResultsAction:500, FeedbackSessionRemindEmailWorkerAction:1000,Malformed,Invalid:abc");
+        assertEquals(2, overrides.size());
+        assertEquals(500, (int) overrides.get("GetSessionResultsAction"));
+        assertEquals(1000, (int) overrides.get("FeedbackSessionRemindEmailWorkerAction"));
+    }
+
 }
@@ -0,0 +1,83 @@
+package teammates.common.util;
+
+import org.testng.annotations.Test;
+
+import teammates.common.util.Templates.EmailTemplates;
+import teammates.test.BaseTestCase;
+
+/**
+ * SUT: {@link CompiledTemplate}.
+ */
+public class CompiledTemplateTest extends BaseTestCase {
+
+    @Test
+    public void testRender() {
+        CompiledTemplate template =
+                CompiledTemplate.compile("Hello ${userName}, welcome to ${courseName}! -${userName}");
+
+        ______TS("all placeholders filled");
+
+        assertEquals("Hello Alice, welcome to CS101! -Alice",
+                template.render("${userName}", "Alice", "${courseName}", "CS101"));
+
+        ______TS("placeholders without values are kept");
+
+        assertEquals("Hello Alice, welcome to ${courseName}! -Alice", template.render("${userName}", "Alice"));
+        assertEquals(template.getTemplate(), template.render());
+
+        ______TS("first value of a repeated key is used");
+
+        assertEquals("Hello Alice, welcome to ${courseName}! -Alice",
+                template.render("${userName}", "Alice", "${userName}", "Bob"));
+
+        ______TS("placeholders in a value are filled by subsequent keys only");
+
+        CompiledTemplate outer = CompiledTemplate.compile("<p>${joinFragment}</p><a>${joinUrl}</a>");
+        assertEquals("<p>Join at http://join</p><a>http://join</a>",
+                outer.render("${joinFragment}", "Join at ${joinUrl}", "${joinUrl}", "http://join"));
+        assertEquals("<p>Join at ${joinUrl}</p><a>http://join</a>",
+                outer.render("${joinUrl}", "http://join", "${joinFragment}", "Join at ${joinUrl}"));
+
+        ______TS("unclosed placeholders and stray characters are treated as literals");
+
+        CompiledTemplate strayTemplate = CompiledTemplate.compile("$ { } ${a ${b} ${c");
+        assertEquals("$ { } ${a B ${c", strayTemplate.render("${b}", "B", "${c}", "C"));
+
+        ______TS("same result as replacing each placeholder in turn");
+
+        String emailTemplate = EmailTemplates.USER_FEEDBACK_SESSION;
+        String[] keyValuePairs = {
+                "${status}", "is now open",
+                "${userName}", "Alice",
+                "${courseName}", "CS101",
+                "${courseId}", "CS101-2023",
+                "${feedbackSessionName}", "Session ${courseName}",
+                "${additionalContactInformation}", EmailTemplates.FRAGMENT_SESSION_ADDITIONAL_CONTACT_INFORMATION,
+                "${supportEmail}", "support@example.com",
+        };
+        String expected = emailTemplate;
+        for (int i = 0; i < keyValuePairs.length; i += 2) {
+            expected = expected.replace(keyValuePairs[i], keyValuePairs[i + 1]);
+        }
+        assertEquals(expected, CompiledTemplate.compile(emailTemplate).render(keyValuePairs));
+    }
+
+    @Test
+    public void testAppendTo() {
+        CompiledTemplate template = CompiledTemplate.compile("[${name}]");
+        StringBuilder out = new StringBuilder("Sessions: ");
+        template.appendTo(out, "${name}", "Session 1");
+        template.appendTo(out, "${name}", "Session 2");
+
+        assertEquals("Sessions: [Session 1][Session 2]", out.toString());
+    }
+
+    @Test
+    public void testIsPlaceholder() {
+        assertTrue(CompiledTemplate.isPlaceholder("${userName}"));
+        assertFalse(CompiledTemplate.isPlaceholder("demo.course"));
+        assertFalse(CompiledTemplate.isPlaceholder("${a}${b}"));
+        assertFalse(CompiledTemplate.isPlaceholder("${a} "));
+    }
+
+}
@@ -0,0 +1,59 @@
+package teammates.common.util;
+
+import org.testng.annotations.Test;
+
+import teammates.test.BaseTestCase;
+
+/**
+ * SUT: {@link IdempotencyStore}.
+ */
+public class IdempotencyStoreTest extends BaseTestCase {
+
+    @Test
+    public void testTryAcquire() {
+        IdempotencyStore store = new IdempotencyStore(1000, 10);
+
+        ______TS("key not acquired before: acquired");
+
+        assertTrue(store.tryAcquire("key1", 0));
+        assertTrue(store.tryAcquire("key2", 500));
+        assertEquals(2, store.size());
+
+        ______TS("key acquired and not expired: not acquired again");
+
+        assertFalse(store.tryAcquire("key1", 999));
+        assertFalse(store.tryAcquire("key2", 1499));
+
+        ______TS("key expired: acquired again and expired keys are discarded");
+
+        assertTrue(store.tryAcquire("key1", 1000));
+        assertEquals(2, store.size());
+        assertFalse(store.tryAcquire("key1", 1999));
+        assertTrue(store.tryAcquire("key3", 1999));
+        assertEquals(2, store.size());
+
+        ______TS("key released: acquired again");
+
+        store.release("key3");
+        assertTrue(store.tryAcquire("key3", 1999));
+
+        ______TS("store cleared: all keys acquired again");
+
+        store.clear();
+        assertEquals(0, store.size());
+        assertTrue(store.tryAcquire("key1", 1999));
+    }
+
+    @Test
+    public void testTryAcquire_storeFull_shouldDiscardOldestKeys() {
+        IdempotencyStore store = new IdempotencyStore(1000, 3);
+        for (int i = 0; i < 5; i++) {
+            assertTrue(store.tryAcquire("key" + i, i));
+        }
+
+        assertEquals(3, store.size());
+        assertTrue(store.tryAcquire("key0", 10));
+        assertFalse(store.tryAcquire("key4", 10));
+    }
+
+}
@@ -0,0 +1,54 @@
+package teammates.common.util;
+
+import org.testng.annotations.Test;
+
+import teammates.test.BaseTestCase;
+
+/**
+ * SUT: {@link LatencyHistogram}.
+ */
+public class LatencyHistogramTest extends BaseTestCase {
+
+    @Test
+    public void testGetValueAtPercentile() {
+        LatencyHistogram histogram = new LatencyHistogram();
+
+        ______TS("no recorded values");
+
+        assertEquals(0, histogram.getTotalCount());
+        assertEquals(0, histogram.getValueAtPercentile(50));
+
+        ______TS("small values are recorded exactly");
+
+        for (int i = 1; i <= 20; i++) {
+            histogram.record(i);
+        }
+        assertEquals(20, histogram.getTotalCount());
+        assertEquals(210, histogram.getTotalValue());
+        assertEquals(10, histogram.getValueAtPercentile(50));
+        assertEquals(20, histogram.getValueAtPercentile(100));
+        assertEquals(20, histogram.getMaxValue());
+
+        ______TS("large values are recorded within the expected relative error");
+
+        histogram = new LatencyHistogram();
+        for (int i = 1; i <= 1000; i++) {
+            histogram.record(i);
+        }
+        assertEquals(1000, histogram.getTotalCount());
+        assertEquals(500_500, histogram.getTotalValue());
+        assertTrue(Math.abs(histogram.getValueAtPercentile(50) - 500) <= 500 / 16);
+        assertTrue(Math.abs(histogram.getValueAtPercentile(99) - 990) <= 990 / 16);
+        assertEquals(1000, histogram.getValueAtPercentile(100));
+
+        ______TS("out of range values are bounded");
+
+        histogram = new LatencyHistogram();
+        histogram.record(-1);
+        histogram.record(LatencyHistogram.MAX_TRACKABLE_VALUE + 1000);
+        assertEquals(0, histogram.getValueAtPercentile(50));
+        assertEquals(LatencyHistogram.MAX_TRACKABLE_VALUE, histogram.getMaxValue());
+        assertEquals(LatencyHistogram.MAX_TRACKABLE_VALUE, histogram.getValueAtPercentile(100));
+    }
+
+}
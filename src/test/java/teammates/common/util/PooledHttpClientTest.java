@@ -0,0 +1,201 @@
+package teammates.common.util;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.SocketTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.http.HttpStatus;
+import org.apache.http.NoHttpResponseException;
+import org.apache.http.client.methods.CloseableHttpResponse;
+import org.apache.http.client.methods.HttpGet;
+import org.apache.http.client.methods.HttpPost;
+import org.apache.http.client.methods.HttpUriRequest;
+import org.apache.http.entity.StringEntity;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.apache.http.util.EntityUtils;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import teammates.test.BaseTestCase;
+
+/**
+ * SUT: {@link PooledHttpClient}.
+ *
+ * <p>The throughput compared to a new client per request is measured by {@code PooledHttpClientBenchmark}.
+ */
+public class PooledHttpClientTest extends BaseTestCase {
+
+    private static final String NODELAY_PROPERTY = "sun.net.httpserver.nodelay";
+    private static final int NUM_SENDS = 20;
+    private static final int SOCKET_TIMEOUT_MILLIS = 200;
+    private static final String EMAIL_JSON = "{\"to\":\"student@example.com\",\"subject\":\"Feedback session reminder\"}";
+
+    private final AtomicInteger numFlakyRequests = new AtomicInteger();
+    private final CountDownLatch slowRequestReleased = new CountDownLatch(1);
+
+    private String originalNodelay;
+    private ExecutorService stubServerExecutor;
+    private HttpServer stubServer;
+    private String stubServerUrl;
+
+    @BeforeClass
+    public void startStubServer() throws IOException {
+        // without this, responses on a kept-alive connection are delayed by Nagle's algorithm in the stub server
+        originalNodelay = System.getProperty(NODELAY_PROPERTY);
+        System.setProperty(NODELAY_PROPERTY, "true");
+
+        stubServer = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        stubServer.createContext("/send", this::respondAccepted);
+        stubServer.createContext("/slow", exchange -> {
+            try {
+                slowRequestReleased.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            respondAccepted(exchange);
+        });
+        stubServer.createContext("/flaky", exchange -> {
+            if (numFlakyRequests.incrementAndGet() == 1) {
+                // closes the connection without a response
+                exchange.close();
+                return;
+            }
+            respondAccepted(exchange);
+        });
+        // the slow handler must not hold up the other requests
+        stubServerExecutor = Executors.newCachedThreadPool();
+        stubServer.setExecutor(stubServerExecutor);
+        stubServer.start();
+        stubServerUrl = "http://localhost:" + stubServer.getAddress().getPort();
+    }
+
+    @BeforeMethod
+    public void resetMetrics() {
+        OutboundRequestMetrics.reset();
+        numFlakyRequests.set(0);
+    }
+
+    @AfterClass
+    public void stopStubServer() {
+        slowRequestReleased.countDown();
+        stubServer.stop(0);
+        stubServerExecutor.shutdownNow();
+        OutboundRequestMetrics.reset();
+        if (originalNodelay == null) {
+            System.clearProperty(NODELAY_PROPERTY);
+        } else {
+            System.setProperty(NODELAY_PROPERTY, originalNodelay);
+        }
+    }
+
+    @Test
+    public void testSequentialSends_pooledClient_shouldReuseConnection() throws IOException {
+        PoolingHttpClientConnectionManager connectionManager = PooledHttpClient.createConnectionManager(10, 5);
+
+        try (CloseableHttpClient client = createClient(connectionManager)) {
+            for (int i = 0; i < NUM_SENDS; i++) {
+                assertEquals(HttpStatus.SC_ACCEPTED, execute(client, createPost("/send")));
+            }
+
+            OutboundRequestMetrics.HostMetrics metrics = getLocalhostMetrics();
+            assertEquals(NUM_SENDS, metrics.getLatencyHistogram().getTotalCount());
+            assertEquals(0, metrics.getNumErrorResponses());
+            assertEquals(0, metrics.getNumFailures());
+            // all requests are sent through a single kept-alive connection, which is returned to the pool
+            assertEquals(1, metrics.getNumConnectionsOpened());
+            assertEquals(0, connectionManager.getTotalStats().getLeased());
+            assertEquals(1, connectionManager.getTotalStats().getAvailable());
+        }
+    }
+
+    @Test
+    public void testSend_slowServer_shouldTimeOut() throws IOException {
+        PoolingHttpClientConnectionManager connectionManager = PooledHttpClient.createConnectionManager(10, 5);
+
+        try (CloseableHttpClient client = createClient(connectionManager)) {
+            assertThrows(SocketTimeoutException.class, () -> execute(client, createPost("/slow")));
+
+            OutboundRequestMetrics.HostMetrics metrics = getLocalhostMetrics();
+            assertEquals(0, metrics.getLatencyHistogram().getTotalCount());
+            assertEquals(1, metrics.getNumFailures());
+            // the timed out connection is not returned to the pool
+            assertEquals(0, connectionManager.getTotalStats().getLeased());
+            assertEquals(0, connectionManager.getTotalStats().getAvailable());
+        }
+    }
+
+    @Test
+    public void testSend_connectionClosedWithoutResponse_shouldRetryIdempotentRequestsOnly() throws IOException {
+        PoolingHttpClientConnectionManager connectionManager = PooledHttpClient.createConnectionManager(10, 5);
+
+        try (CloseableHttpClient client = createClient(connectionManager)) {
+            ______TS("idempotent request is retried on a new connection");
+
+            assertEquals(HttpStatus.SC_ACCEPTED, execute(client, new HttpGet(stubServerUrl + "/flaky")));
+
+            OutboundRequestMetrics.HostMetrics metrics = getLocalhostMetrics();
+            assertEquals(2, numFlakyRequests.get());
+            assertEquals(1, metrics.getLatencyHistogram().getTotalCount());
+            assertEquals(1, metrics.getNumFailures());
+            assertEquals(2, metrics.getNumConnectionsOpened());
+
+            ______TS("non-idempotent request is not retried, as it may have been processed");
+
+            numFlakyRequests.set(0);
+
+            assertThrows(NoHttpResponseException.class, () -> execute(client, createPost("/flaky")));
+
+            assertEquals(1, numFlakyRequests.get());
+            assertEquals(2, metrics.getNumFailures());
+        }
+    }
+
+    private CloseableHttpClient createClient(PoolingHttpClientConnectionManager connectionManager) {
+        return PooledHttpClient.createClient(connectionManager, SOCKET_TIMEOUT_MILLIS, SOCKET_TIMEOUT_MILLIS);
+    }
+
+    private HttpPost createPost(String path) {
+        HttpPost post = new HttpPost(stubServerUrl + path);
+        post.setEntity(new StringEntity(EMAIL_JSON, Const.ENCODING));
+        return post;
+    }
+
+    private int execute(CloseableHttpClient client, HttpUriRequest request) throws IOException {
+        try (CloseableHttpResponse response = client.execute(request)) {
+            EntityUtils.consume(response.getEntity());
+            return response.getStatusLine().getStatusCode();
+        }
+    }
+
+    private OutboundRequestMetrics.HostMetrics getLocalhostMetrics() {
+        OutboundRequestMetrics.HostMetrics metrics = OutboundRequestMetrics.getAllHostMetrics().get(0);
+        assertEquals("localhost", metrics.getHost());
+        return metrics;
+    }
+
+    private void respondAccepted(HttpExchange exchange) throws IOException {
+        try (InputStream requestBody = exchange.getRequestBody()) {
+            requestBody.readAllBytes();
+        }
+        byte[] response = "{\"message\":\"Queued\"}".getBytes(StandardCharsets.UTF_8);
+        exchange.sendResponseHeaders(HttpStatus.SC_ACCEPTED, response.length);
+        try (OutputStream responseBody = exchange.getResponseBody()) {
+            responseBody.write(response);
+        }
+    }
+
+}
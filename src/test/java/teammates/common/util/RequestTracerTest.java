@@ -0,0 +1,103 @@
+package teammates.common.util;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.Test;
+
+import teammates.test.BaseTestCase;
+
+/**
+ * SUT: {@link RequestTracer}.
+ */
+public class RequestTracerTest extends BaseTestCase {
+
+    @AfterMethod
+    public void clearRequestTrace() {
+        RequestTracer.clear();
+    }
+
+    @Test
+    public void testMemoize() {
+        AtomicInteger numLoads = new AtomicInteger();
+
+        ______TS("no current request: value is loaded every time");
+
+        assertEquals("value", RequestTracer.memoize("key", () -> loadValue(numLoads, "value")));
+        assertEquals("value", RequestTracer.memoize("key", () -> loadValue(numLoads, "value")));
+        assertEquals(2, numLoads.get());
+        assertEquals(0, RequestTracer.getNumSavedReads());
+
+        ______TS("within a request: value is loaded once");
+
+        RequestTracer.init("traceId", null, 60);
+        numLoads.set(0);
+
+        assertEquals("value", RequestTracer.memoize("key", () -> loadValue(numLoads, "value")));
+        assertEquals("value", RequestTracer.memoize("key", () -> loadValue(numLoads, "other value")));
+        assertEquals(1, numLoads.get());
+        assertEquals(1, RequestTracer.getNumSavedReads());
+
+        ______TS("within a request: null value is memoized");
+
+        assertNull(RequestTracer.memoize("nullKey", () -> loadValue(numLoads, null)));
+        assertNull(RequestTracer.memoize("nullKey", () -> loadValue(numLoads, "value")));
+        assertEquals(2, numLoads.get());
+        assertEquals(2, RequestTracer.getNumSavedReads());
+
+        ______TS("within a request: value is loaded again after memo is cleared");
+
+        RequestTracer.clearMemo();
+
+        assertEquals("new value", RequestTracer.memoize("key", () -> loadValue(numLoads, "new value")));
+        assertEquals(3, numLoads.get());
+        assertEquals(2, RequestTracer.getNumSavedReads());
+
+        ______TS("new request: memo starts empty");
+
+        RequestTracer.init("anotherTraceId", null, 60);
+
+        assertEquals("value", RequestTracer.memoize("key", () -> loadValue(numLoads, "value")));
+        assertEquals(4, numLoads.get());
+        assertEquals(0, RequestTracer.getNumSavedReads());
+    }
+
+    @Test
+    public void testRecordDatastoreCalls() {
+
+        ______TS("no current request: calls are not recorded");
+
+        RequestTracer.recordDatastoreRead("Course");
+        assertEquals(0, RequestTracer.getNumDatastoreCalls());
+        assertNull(RequestTracer.getDatastoreCallSummary());
+
+        ______TS("within a request: calls are summarized per entity type");
+
+        RequestTracer.init("traceId", null, 60);
+        assertNull(RequestTracer.getDatastoreCallSummary());
+
+        RequestTracer.setDatastoreCallBudget(3);
+        RequestTracer.recordDatastoreRead("CourseStudent", 2);
+        RequestTracer.recordDatastoreRead("Course");
+        RequestTracer.recordDatastoreRead("CourseStudent", 3);
+        RequestTracer.recordDatastoreWrite("CourseStudent", 5);
+        RequestTracer.recordDatastoreWrite("FeedbackResponse", 7);
+
+        assertEquals(5, RequestTracer.getNumDatastoreCalls());
+        assertEquals("Course: 1r/0ms, CourseStudent: 2r/5ms 1w/5ms, FeedbackResponse: 1w/7ms",
+                RequestTracer.getDatastoreCallSummary());
+
+        ______TS("new request: counts start from zero");
+
+        RequestTracer.init("anotherTraceId", null, 60);
+
+        assertEquals(0, RequestTracer.getNumDatastoreCalls());
+        assertNull(RequestTracer.getDatastoreCallSummary());
+    }
+
+    private String loadValue(AtomicInteger numLoads, String value) {
+        numLoads.incrementAndGet();
+        return value;
+    }
+
+}
@@ -121,6 +121,18 @@ public class SanitizationHelperTest extends BaseTestCase {
                 + "<code>System.out.println(&#34;Hello World&#34;);</code>";
         sanitized = SanitizationHelper.sanitizeForRichText(actualRichText);
         assertEquals(expectedRichText, sanitized);
+
+        ______TS("sanitizing the same rich text again gives the same result");
+        assertEquals(expectedRichText, SanitizationHelper.sanitizeForRichText(actualRichText));
+
+        ______TS("plain text without markup is only trimmed");
+        assertEquals("Great work, Bob! Contributed 50% (of the code);\n\tcould test more: [see #12] ~Amy",
+                SanitizationHelper.sanitizeForRichText(
+                        "  Great work, Bob! Contributed 50% (of the code);\n\tcould test more: [see #12] ~Amy  "));
+        assertEquals("Très bien, 谢谢", SanitizationHelper.sanitizeForRichText("Très bien, 谢谢"));
+
+        ______TS("plain text with characters encoded by the policy is still sanitized");
+        assertEquals("f(x) &#61; &#34;x&#34;", SanitizationHelper.sanitizeForRichText("f(x) = \"x\""));
     }
 
 }
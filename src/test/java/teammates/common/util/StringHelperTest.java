@@ -1,6 +1,7 @@
 package teammates.common.util;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 import javax.crypto.Cipher;
@@ -138,6 +139,26 @@ public class StringHelperTest extends BaseTestCase {
         }
     }
 
+    @Test
+    public void testKeyEncryption_afterInvalidCiphertext_shouldStillDecrypt() throws Exception {
+        String msg = "Test decryption";
+        String ciphertext = StringHelper.encrypt(msg);
+
+        assertThrows(InvalidParametersException.class, () -> StringHelper.decrypt("AAAAAAAAAABBBBBBBBBBCCCCCCCCCC"));
+        assertEquals(msg, StringHelper.decrypt(ciphertext));
+        assertEquals(ciphertext, StringHelper.encrypt(msg));
+    }
+
+    @Test
+    public void testHexStringConversion() {
+        byte[] bytes = {0, 1, 15, 16, 127, -128, -1};
+        assertEquals("00010F107F80FF", StringHelper.byteArrayToHexString(bytes));
+        assertTrue(Arrays.equals(bytes, StringHelper.hexStringToByteArray("00010F107F80FF")));
+        assertTrue(Arrays.equals(bytes, StringHelper.hexStringToByteArray("00010f107f80ff")));
+        assertEquals("", StringHelper.byteArrayToHexString(new byte[0]));
+        assertThrows(NumberFormatException.class, () -> StringHelper.hexStringToByteArray("0G"));
+    }
+
     @Test
     public void testRemoveExtraSpace() {
 
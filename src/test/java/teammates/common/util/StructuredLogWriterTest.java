@@ -0,0 +1,67 @@
+package teammates.common.util;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.testng.annotations.Test;
+
+import com.google.common.reflect.TypeToken;
+
+import teammates.common.datatransfer.logs.LogSeverity;
+import teammates.common.datatransfer.logs.RequestLogDetails;
+import teammates.common.datatransfer.logs.SourceLocation;
+import teammates.test.BaseTestCase;
+
+/**
+ * SUT: {@link StructuredLogWriter}.
+ */
+public class StructuredLogWriterTest extends BaseTestCase {
+
+    @Test
+    public void testToJson() {
+        Map<String, Object> basePayload = new LinkedHashMap<>();
+        basePayload.put("message", "Test message");
+        basePayload.put("severity", LogSeverity.INFO);
+        basePayload.put("logging.googleapis.com/sourceLocation",
+                new SourceLocation("teammates.SomeClass", 10L, "someMethod"));
+
+        RequestLogDetails details = new RequestLogDetails();
+        details.setResponseStatus(200);
+        details.setActionClass("GetCourseAction");
+        details.setRequestParams(Map.of("courseid", "idOfTypicalCourse1"));
+
+        ______TS("no details: only base payload is written");
+
+        assertEquals("{\"message\":\"Test message\",\"severity\":\"INFO\","
+                + "\"logging.googleapis.com/sourceLocation\":"
+                + "{\"file\":\"teammates.SomeClass\",\"line\":10,\"function\":\"someMethod\"}}",
+                StructuredLogWriter.toJson(basePayload, null));
+
+        ______TS("with details: same payload as merging the details into the base payload");
+
+        String json = StructuredLogWriter.toJson(basePayload, details);
+
+        assertEquals(getMergedPayload(basePayload, details), parse(json));
+        assertEquals("Test message", parse(json).get("message"));
+
+        ______TS("with details: fields of details take precedence over base payload");
+
+        details.setMessage("Details message");
+        json = StructuredLogWriter.toJson(basePayload, details);
+
+        assertEquals(getMergedPayload(basePayload, details), parse(json));
+        assertEquals("Details message", parse(json).get("message"));
+        assertEquals(1, json.split("\"message\"", -1).length - 1);
+    }
+
+    private Map<String, Object> getMergedPayload(Map<String, Object> basePayload, RequestLogDetails details) {
+        Map<String, Object> payload = parse(JsonUtils.toCompactJson(basePayload));
+        payload.putAll(parse(JsonUtils.toCompactJson(details)));
+        return payload;
+    }
+
+    private Map<String, Object> parse(String json) {
+        return JsonUtils.fromJson(json, new TypeToken<Map<String, Object>>(){}.getType());
+    }
+
+}
@@ -0,0 +1,97 @@
+package teammates.common.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeMap;
+
+import org.testng.annotations.Test;
+
+import teammates.test.BaseTestCase;
+
+/**
+ * SUT: {@link TimingWheel}.
+ */
+public class TimingWheelTest extends BaseTestCase {
+
+    private static final long TICK_MILLIS = 1000L;
+    private static final long START_MILLIS = 1_700_000_000_000L;
+
+    @Test
+    public void testAdvanceTo_keysInLowestLevel_shouldFireAfterFireTime() {
+        TimingWheel<String> wheel = new TimingWheel<>(TICK_MILLIS, 8, 3, START_MILLIS);
+        wheel.schedule("a", START_MILLIS + 2500);
+        wheel.schedule("b", START_MILLIS + 1000);
+
+        assertEquals(2, wheel.size());
+        assertTrue(wheel.advanceTo(START_MILLIS + 1000).isEmpty());
+        assertEquals(List.of("b"), wheel.advanceTo(START_MILLIS + 2000));
+        assertTrue(wheel.advanceTo(START_MILLIS + 2999).isEmpty());
+        assertEquals(List.of("a"), wheel.advanceTo(START_MILLIS + 3000));
+        assertEquals(0, wheel.size());
+        assertFalse(wheel.isScheduled("a"));
+    }
+
+    @Test
+    public void testAdvanceTo_keysInHigherLevelsAndOverflow_shouldCascadeAndFireInOrder() {
+        // 3 levels of 8 buckets cover 512 ticks
+        TimingWheel<String> wheel = new TimingWheel<>(TICK_MILLIS, 8, 3, START_MILLIS);
+        wheel.schedule("overflow", START_MILLIS + 2000 * TICK_MILLIS);
+        wheel.schedule("level2", START_MILLIS + 300 * TICK_MILLIS);
+        wheel.schedule("level1", START_MILLIS + 20 * TICK_MILLIS);
+
+        assertEquals(List.of("level1"), wheel.advanceTo(START_MILLIS + 100 * TICK_MILLIS));
+        assertEquals(List.of("level2"), wheel.advanceTo(START_MILLIS + 1000 * TICK_MILLIS));
+        assertTrue(wheel.advanceTo(START_MILLIS + 2000 * TICK_MILLIS).isEmpty());
+        assertEquals(List.of("overflow"), wheel.advanceTo(START_MILLIS + 2001 * TICK_MILLIS));
+    }
+
+    @Test
+    public void testSchedule_pastFireTime_shouldFireOnNextAdvance() {
+        TimingWheel<String> wheel = new TimingWheel<>(TICK_MILLIS, 8, 3, START_MILLIS);
+        wheel.schedule("past", START_MILLIS - 60_000);
+
+        assertEquals(List.of("past"), wheel.advanceTo(START_MILLIS));
+        assertTrue(wheel.advanceTo(START_MILLIS).isEmpty());
+    }
+
+    @Test
+    public void testScheduleAndCancel_existingKey_shouldReplaceOrRemoveSchedule() {
+        TimingWheel<String> wheel = new TimingWheel<>(TICK_MILLIS, 8, 3, START_MILLIS);
+        wheel.schedule("moved", START_MILLIS + 5 * TICK_MILLIS);
+        wheel.schedule("moved", START_MILLIS + 100 * TICK_MILLIS);
+        wheel.schedule("cancelled", START_MILLIS + 5 * TICK_MILLIS);
+
+        assertEquals(2, wheel.size());
+        assertTrue(wheel.cancel("cancelled"));
+        assertFalse(wheel.cancel("cancelled"));
+        assertFalse(wheel.cancel("never scheduled"));
+
+        assertTrue(wheel.advanceTo(START_MILLIS + 50 * TICK_MILLIS).isEmpty());
+        assertEquals(List.of("moved"), wheel.advanceTo(START_MILLIS + 101 * TICK_MILLIS));
+    }
+
+    @Test
+    public void testAdvanceTo_randomSchedules_shouldFireSameKeysAsSortedMap() {
+        Random random = new Random(37);
+        TimingWheel<Integer> wheel = new TimingWheel<>(TICK_MILLIS, 4, 3, START_MILLIS);
+        TreeMap<Long, List<Integer>> expected = new TreeMap<>();
+        for (int key = 0; key < 500; key++) {
+            long fireAtMillis = START_MILLIS + random.nextInt(200 * (int) TICK_MILLIS);
+            wheel.schedule(key, fireAtMillis);
+            expected.computeIfAbsent(fireAtMillis / TICK_MILLIS + 1, tick -> new ArrayList<>()).add(key);
+        }
+
+        for (long now = START_MILLIS; now <= START_MILLIS + 210 * TICK_MILLIS; now += 7 * TICK_MILLIS) {
+            List<Integer> expectedKeys = new ArrayList<>();
+            expected.headMap(now / TICK_MILLIS, true).values().forEach(expectedKeys::addAll);
+            expected.headMap(now / TICK_MILLIS, true).clear();
+
+            List<Integer> firedKeys = wheel.advanceTo(now);
+            assertEquals(expectedKeys.size(), firedKeys.size());
+            assertTrue(firedKeys.containsAll(expectedKeys));
+        }
+        assertEquals(0, wheel.size());
+    }
+
+}
@@ -1,5 +1,7 @@
 package teammates.logic.api;
 
+import java.util.List;
+
 import org.json.JSONArray;
 import org.json.JSONObject;
 import org.jsoup.Jsoup;
@@ -7,6 +9,7 @@ import org.testng.annotations.Test;
 
 import com.mailjet.client.MailjetRequest;
 import com.mailjet.client.resource.Email;
+import com.mailjet.client.resource.Emailv31;
 import com.sendgrid.helpers.mail.Mail;
 import com.sun.jersey.multipart.FormDataMultiPart;
 
@@ -64,6 +67,23 @@ public class EmailSenderTest extends BaseLogicTest {
         assertEquals(wrapper.getContent(), email.getContent().get(1).getValue());
     }
 
+    @Test
+    public void testConvertToSendgridBatch() {
+        EmailWrapper wrapper = getTypicalEmailWrapper();
+        EmailWrapper otherWrapper = getTypicalEmailWrapper();
+        otherWrapper.setRecipient("other.recipient@email.com");
+        otherWrapper.setBcc(null);
+        Mail email = new SendgridService().parseToBatchEmail(List.of(wrapper, otherWrapper));
+
+        assertEquals(wrapper.getSenderEmail(), email.getFrom().getEmail());
+        assertEquals(2, email.personalization.size());
+        assertEquals(wrapper.getRecipient(), email.personalization.get(0).getTos().get(0).getEmail());
+        assertEquals(wrapper.getBcc(), email.personalization.get(0).getBccs().get(0).getEmail());
+        assertEquals(otherWrapper.getRecipient(), email.personalization.get(1).getTos().get(0).getEmail());
+        assertEquals(wrapper.getSubject(), email.getSubject());
+        assertEquals(wrapper.getContent(), email.getContent().get(1).getValue());
+    }
+
     @Test
     public void testConvertToMailgun() throws Exception {
         EmailWrapper wrapper = getTypicalEmailWrapper();
@@ -79,6 +99,27 @@ public class EmailSenderTest extends BaseLogicTest {
         }
     }
 
+    @Test
+    public void testConvertToMailgunBatch() throws Exception {
+        EmailWrapper wrapper = getTypicalEmailWrapper();
+        wrapper.setBcc(null);
+        EmailWrapper otherWrapper = getTypicalEmailWrapper();
+        otherWrapper.setRecipient("other.recipient@email.com");
+        otherWrapper.setBcc(null);
+        try (FormDataMultiPart formData = new MailgunService().parseToBatchEmail(List.of(wrapper, otherWrapper))) {
+
+            assertEquals(2, formData.getFields("to").size());
+            assertEquals(wrapper.getRecipient(), formData.getFields("to").get(0).getValue());
+            assertEquals(otherWrapper.getRecipient(), formData.getFields("to").get(1).getValue());
+            JSONObject recipientVariables = new JSONObject(formData.getField("recipient-variables").getValue());
+            assertTrue(recipientVariables.has(wrapper.getRecipient()));
+            assertTrue(recipientVariables.has(otherWrapper.getRecipient()));
+            assertNull(formData.getField("bcc"));
+            assertEquals(wrapper.getSubject(), formData.getField("subject").getValue());
+            assertEquals(wrapper.getContent(), formData.getField("html").getValue());
+        }
+    }
+
     @Test
     public void testConvertToMailjet() {
         EmailWrapper wrapper = getTypicalEmailWrapper();
@@ -97,4 +138,33 @@ public class EmailSenderTest extends BaseLogicTest {
         assertEquals(wrapper.getContent(), email.get(Email.HTMLPART));
     }
 
+    @Test
+    public void testConvertToMailjetBatch() {
+        EmailWrapper wrapper = getTypicalEmailWrapper();
+        EmailWrapper otherWrapper = getTypicalEmailWrapper();
+        otherWrapper.setRecipient("other.recipient@email.com");
+        otherWrapper.setSubject("Other subject");
+        otherWrapper.setBcc(null);
+        MailjetRequest request = new MailjetService().parseToBatchEmail(List.of(wrapper, otherWrapper));
+        JSONArray messages = new JSONObject(request.getBody()).getJSONArray(Emailv31.MESSAGES);
+
+        assertEquals(2, messages.length());
+        JSONObject message = messages.getJSONObject(0);
+        assertEquals(wrapper.getSenderEmail(), message.getJSONObject(Emailv31.Message.FROM).get("Email"));
+        assertEquals(wrapper.getSenderName(), message.getJSONObject(Emailv31.Message.FROM).get("Name"));
+        assertEquals(wrapper.getRecipient(),
+                     message.getJSONArray(Emailv31.Message.TO).getJSONObject(0).get("Email"));
+        assertEquals(wrapper.getBcc(),
+                     message.getJSONArray(Emailv31.Message.BCC).getJSONObject(0).get("Email"));
+        assertEquals(wrapper.getReplyTo(), message.getJSONObject(Emailv31.Message.REPLYTO).get("Email"));
+        assertEquals(wrapper.getSubject(), message.get(Emailv31.Message.SUBJECT));
+        assertEquals(wrapper.getContent(), message.get(Emailv31.Message.HTMLPART));
+
+        JSONObject otherMessage = messages.getJSONObject(1);
+        assertEquals(otherWrapper.getRecipient(),
+                     otherMessage.getJSONArray(Emailv31.Message.TO).getJSONObject(0).get("Email"));
+        assertFalse(otherMessage.has(Emailv31.Message.BCC));
+        assertEquals(otherWrapper.getSubject(), otherMessage.get(Emailv31.Message.SUBJECT));
+    }
+
 }
@@ -1,10 +1,14 @@
 package teammates.logic.api;
 
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 import org.apache.http.HttpStatus;
 
+import com.sun.jersey.api.client.ClientHandlerException;
+
 import teammates.common.util.EmailSendingStatus;
 import teammates.common.util.EmailWrapper;
 
@@ -17,13 +21,45 @@ import teammates.common.util.EmailWrapper;
 public class MockEmailSender extends EmailSender {
 
     private List<EmailWrapper> sentEmails = new ArrayList<>();
+    private Set<String> failingRecipients = new HashSet<>();
+    private Set<String> throwingRecipients = new HashSet<>();
 
     @Override
     public EmailSendingStatus sendEmail(EmailWrapper email) {
+        if (throwingRecipients.contains(email.getRecipient())) {
+            throw new ClientHandlerException("Read timed out");
+        }
+        if (failingRecipients.contains(email.getRecipient())) {
+            return new EmailSendingStatus(HttpStatus.SC_BAD_GATEWAY, "Failure");
+        }
         sentEmails.add(email);
         return new EmailSendingStatus(HttpStatus.SC_OK, null);
     }
 
+    @Override
+    public List<EmailSendingStatus> sendEmails(List<EmailWrapper> emails) {
+        List<EmailSendingStatus> statuses = new ArrayList<>();
+        for (EmailWrapper email : emails) {
+            statuses.add(sendEmail(email));
+        }
+        return statuses;
+    }
+
+    /**
+     * Makes the sending of all subsequent emails to {@code recipient} fail.
+     */
+    public void failEmailsTo(String recipient) {
+        failingRecipients.add(recipient);
+    }
+
+    /**
+     * Makes the sending of all subsequent emails to {@code recipient} throw an exception,
+     * as the email service does on a network timeout.
+     */
+    public void throwOnEmailsTo(String recipient) {
+        throwingRecipients.add(recipient);
+    }
+
     /**
      * Gets the emails sent.
      */
@@ -36,6 +72,8 @@ public class MockEmailSender extends EmailSender {
      */
     public void clearEmails() {
         sentEmails.clear();
+        failingRecipients.clear();
+        throwingRecipients.clear();
     }
 
 }
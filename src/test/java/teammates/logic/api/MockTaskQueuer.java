@@ -5,7 +5,10 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
+import teammates.common.util.EmailWrapper;
 import teammates.common.util.TaskWrapper;
+import teammates.ui.request.SendEmailBatchRequest;
+import teammates.ui.request.SendEmailRequest;
 
 /**
  * Allows mocking of the {@link TaskQueuer} API used in production.
@@ -46,6 +49,21 @@ public class MockTaskQueuer extends TaskQueuer {
         return numberOfTasksAdded;
     }
 
+    /**
+     * Gets the emails scheduled for sending, whether individually or in batches.
+     */
+    public List<EmailWrapper> getEmailsScheduledForSending() {
+        List<EmailWrapper> emails = new ArrayList<>();
+        for (TaskWrapper task : tasksAdded) {
+            if (task.getRequestBody() instanceof SendEmailRequest) {
+                emails.add(((SendEmailRequest) task.getRequestBody()).getEmail());
+            } else if (task.getRequestBody() instanceof SendEmailBatchRequest) {
+                emails.addAll(((SendEmailBatchRequest) task.getRequestBody()).getEmails());
+            }
+        }
+        return emails;
+    }
+
     /**
      * Clears the list of tasks added.
      */
@@ -0,0 +1,100 @@
+package teammates.logic.api;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.testng.annotations.Test;
+
+import teammates.common.util.Const;
+import teammates.common.util.EmailWrapper;
+import teammates.common.util.JsonUtils;
+import teammates.common.util.TaskWrapper;
+import teammates.test.BaseTestCase;
+import teammates.ui.request.SendEmailBatchRequest;
+import teammates.ui.request.SendEmailRequest;
+
+/**
+ * SUT: {@link TaskQueuer}.
+ */
+public class TaskQueuerTest extends BaseTestCase {
+
+    /**
+     * The maximum size of a task in Cloud Tasks.
+     */
+    private static final int MAX_TASK_BYTES = 1024 * 1024;
+
+    @Test
+    public void testScheduleEmailsForSending_smallEmails_shouldBatchByCount() {
+        MockTaskQueuer taskQueuer = new MockTaskQueuer();
+        List<EmailWrapper> emails = createEmails(120, 100);
+
+        taskQueuer.scheduleEmailsForSending(emails);
+
+        assertEquals(List.of(50, 50, 20), getBatchSizes(taskQueuer.getTasksAdded()));
+        assertEquals(emails, taskQueuer.getEmailsScheduledForSending());
+    }
+
+    @Test
+    public void testScheduleEmailsForSending_largeEmails_shouldBatchBySize() {
+        ______TS("batches are split before they exceed the byte limit");
+
+        MockTaskQueuer taskQueuer = new MockTaskQueuer();
+        List<EmailWrapper> emails = createEmails(10, 200_000);
+
+        taskQueuer.scheduleEmailsForSending(emails);
+
+        assertEquals(List.of(4, 4, 2), getBatchSizes(taskQueuer.getTasksAdded()));
+        assertEquals(emails, taskQueuer.getEmailsScheduledForSending());
+        for (TaskWrapper task : taskQueuer.getTasksAdded()) {
+            assertTrue(getSerializedBytes(task.getRequestBody()) < MAX_TASK_BYTES);
+        }
+
+        ______TS("email larger than the byte limit is sent by a task of its own");
+
+        taskQueuer = new MockTaskQueuer();
+        List<EmailWrapper> mixedEmails = new ArrayList<>(createEmails(2, 100));
+        mixedEmails.add(1, createEmail("large@email.com", TaskQueuer.EMAIL_BATCH_MAX_BYTES));
+
+        taskQueuer.scheduleEmailsForSending(mixedEmails);
+
+        assertEquals(List.of(1, 1, 1), getBatchSizes(taskQueuer.getTasksAdded()));
+        assertEquals(mixedEmails, taskQueuer.getEmailsScheduledForSending());
+    }
+
+    private List<EmailWrapper> createEmails(int numEmails, int contentLength) {
+        List<EmailWrapper> emails = new ArrayList<>();
+        for (int i = 0; i < numEmails; i++) {
+            emails.add(createEmail("recipient" + i + "@email.com", contentLength));
+        }
+        return emails;
+    }
+
+    private EmailWrapper createEmail(String recipient, int contentLength) {
+        EmailWrapper email = new EmailWrapper();
+        email.setSenderEmail("sender@email.com");
+        email.setRecipient(recipient);
+        email.setSubject("Test subject");
+        email.setContent("a".repeat(contentLength));
+        return email;
+    }
+
+    private List<Integer> getBatchSizes(List<TaskWrapper> tasks) {
+        List<Integer> batchSizes = new ArrayList<>();
+        for (TaskWrapper task : tasks) {
+            if (task.getRequestBody() instanceof SendEmailBatchRequest) {
+                assertEquals(Const.TaskQueue.SEND_EMAIL_BATCH_WORKER_URL, task.getWorkerUrl());
+                batchSizes.add(((SendEmailBatchRequest) task.getRequestBody()).getEmails().size());
+            } else {
+                assertTrue(task.getRequestBody() instanceof SendEmailRequest);
+                batchSizes.add(1);
+            }
+        }
+        return batchSizes;
+    }
+
+    private int getSerializedBytes(Object requestBody) {
+        return JsonUtils.toCompactJson(requestBody).getBytes(StandardCharsets.UTF_8).length;
+    }
+
+}
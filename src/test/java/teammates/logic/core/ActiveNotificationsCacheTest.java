@@ -0,0 +1,129 @@
+package teammates.logic.core;
+
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.testng.annotations.Test;
+
+import teammates.common.datatransfer.NotificationStyle;
+import teammates.common.datatransfer.NotificationTargetUser;
+import teammates.common.datatransfer.attributes.NotificationAttributes;
+import teammates.test.ThreadHelper;
+
+/**
+ * SUT: {@link ActiveNotificationsCache}.
+ */
+public class ActiveNotificationsCacheTest extends BaseLogicTest {
+
+    private final ActiveNotificationsCache activeNotificationsCache = ActiveNotificationsCache.inst();
+    private final NotificationsLogic notificationsLogic = NotificationsLogic.inst();
+
+    @Test
+    public void testGetActiveNotifications() {
+        for (NotificationTargetUser targetUser : NotificationTargetUser.values()) {
+            verifyActiveNotifications(targetUser, activeNotificationsCache.getActiveNotifications(targetUser));
+        }
+
+        ______TS("cached notifications cannot be modified through the returned list");
+
+        List<NotificationAttributes> actual =
+                activeNotificationsCache.getActiveNotifications(NotificationTargetUser.STUDENT);
+        String title = actual.get(0).getTitle();
+        actual.get(0).setTitle("modified title");
+        actual.clear();
+
+        actual = activeNotificationsCache.getActiveNotifications(NotificationTargetUser.STUDENT);
+        verifyActiveNotifications(NotificationTargetUser.STUDENT, actual);
+        assertEquals(title, actual.get(0).getTitle());
+    }
+
+    @Test
+    public void testInvalidation() throws Exception {
+        NotificationAttributes notification = NotificationAttributes.builder("ActiveNotificationsCacheTest.notification")
+                .withStartTime(Instant.now().minusSeconds(60))
+                .withEndTime(Instant.now().plusSeconds(3600))
+                .withStyle(NotificationStyle.PRIMARY)
+                .withTargetUser(NotificationTargetUser.STUDENT)
+                .withTitle("title")
+                .withMessage("message")
+                .build();
+
+        ______TS("cached notifications are invalidated when a notification is created");
+
+        assertFalse(activeNotificationsCache.getActiveNotifications(NotificationTargetUser.STUDENT)
+                .contains(notification));
+
+        notificationsLogic.createNotification(notification);
+
+        assertTrue(activeNotificationsCache.getActiveNotifications(NotificationTargetUser.STUDENT)
+                .contains(notification));
+        assertFalse(activeNotificationsCache.getActiveNotifications(NotificationTargetUser.INSTRUCTOR)
+                .contains(notification));
+
+        ______TS("cached notifications are invalidated when a notification is updated");
+
+        notificationsLogic.updateNotification(
+                NotificationAttributes.updateOptionsBuilder(notification.getNotificationId())
+                        .withTitle("new title")
+                        .build());
+
+        List<NotificationAttributes> actual =
+                activeNotificationsCache.getActiveNotifications(NotificationTargetUser.STUDENT);
+        assertEquals("new title", actual.get(actual.indexOf(notification)).getTitle());
+
+        ______TS("cached notifications are invalidated when a notification is deleted");
+
+        notificationsLogic.deleteNotification(notification.getNotificationId());
+
+        assertFalse(activeNotificationsCache.getActiveNotifications(NotificationTargetUser.STUDENT)
+                .contains(notification));
+    }
+
+    @Test
+    public void testVisibilityBoundaries() throws Exception {
+        NotificationAttributes notification = NotificationAttributes.builder("ActiveNotificationsCacheTest.upcoming")
+                .withStartTime(Instant.now().plusSeconds(1))
+                .withEndTime(Instant.now().plusSeconds(3))
+                .withStyle(NotificationStyle.PRIMARY)
+                .withTargetUser(NotificationTargetUser.INSTRUCTOR)
+                .withTitle("title")
+                .withMessage("message")
+                .build();
+        notificationsLogic.createNotification(notification);
+
+        ______TS("upcoming notification is not active yet");
+
+        assertFalse(activeNotificationsCache.getActiveNotifications(NotificationTargetUser.INSTRUCTOR)
+                .contains(notification));
+
+        ______TS("notification becomes active at its start time without any change");
+
+        ThreadHelper.waitFor(1500);
+        assertTrue(activeNotificationsCache.getActiveNotifications(NotificationTargetUser.INSTRUCTOR)
+                .contains(notification));
+
+        ______TS("notification becomes inactive at its end time without any change");
+
+        ThreadHelper.waitFor(2000);
+        assertFalse(activeNotificationsCache.getActiveNotifications(NotificationTargetUser.INSTRUCTOR)
+                .contains(notification));
+
+        notificationsLogic.deleteNotification(notification.getNotificationId());
+    }
+
+    private void verifyActiveNotifications(NotificationTargetUser targetUser, List<NotificationAttributes> actual) {
+        Instant now = Instant.now();
+        List<NotificationAttributes> expected = notificationsLogic.getAllNotifications().stream()
+                .filter(notification -> notification.getTargetUser() == targetUser
+                        || notification.getTargetUser() == NotificationTargetUser.GENERAL)
+                .filter(notification -> notification.getStartTime().isBefore(now)
+                        && notification.getEndTime().isAfter(now))
+                .collect(Collectors.toList());
+
+        assertEquals(expected.size(), actual.size());
+        assertEquals(new HashSet<>(expected), new HashSet<>(actual));
+    }
+
+}
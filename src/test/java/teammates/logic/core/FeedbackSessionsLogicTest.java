@@ -41,6 +41,8 @@ public class FeedbackSessionsLogicTest extends BaseLogicTest {
     private final FeedbackQuestionsLogic fqLogic = FeedbackQuestionsLogic.inst();
     private final FeedbackResponsesLogic frLogic = FeedbackResponsesLogic.inst();
     private final FeedbackResponseCommentsLogic frcLogic = FeedbackResponseCommentsLogic.inst();
+    private final StudentsLogic studentsLogic = StudentsLogic.inst();
+    private final InstructorsLogic instructorsLogic = InstructorsLogic.inst();
 
     @Override
     protected void prepareTestData() {
@@ -162,6 +164,8 @@ public class FeedbackSessionsLogicTest extends BaseLogicTest {
 
         testIsFeedbackSessionAttemptedByStudent();
         testIsFeedbackSessionAttemptedByInstructor();
+        testGetStudentsWhoHaveNotAttempted();
+        testGetInstructorsWhoHaveNotAttempted();
 
         testMoveFeedbackSessionToRecycleBin();
         testRestoreFeedbackSessionFromRecycleBin();
@@ -1002,6 +1006,68 @@ public class FeedbackSessionsLogicTest extends BaseLogicTest {
         assertTrue(fsLogic.isFeedbackSessionAttemptedByStudent(fs, student.getEmail(), student.getTeam()));
     }
 
+    private void testGetStudentsWhoHaveNotAttempted() {
+
+        ______TS("success: empty session");
+
+        FeedbackSessionAttributes fs = dataBundle.feedbackSessions.get("empty.session");
+        List<StudentAttributes> students = studentsLogic.getStudentsForCourse(fs.getCourseId());
+
+        assertTrue(fsLogic.getStudentsWhoHaveNotAttempted(fs, students).isEmpty());
+
+        ______TS("success: grace period session (all team questions)");
+
+        fs = dataBundle.feedbackSessions.get("gracePeriodSession");
+        List<StudentAttributes> nonResponders = fsLogic.getStudentsWhoHaveNotAttempted(fs, students);
+
+        // student whose team has not answered team question
+        String student5Email = dataBundle.students.get("student5InCourse1").getEmail();
+        assertTrue(nonResponders.stream().anyMatch(student -> student5Email.equals(student.getEmail())));
+        verifyStudentsWhoHaveNotAttempted(fs, students, nonResponders);
+
+        ______TS("success: second feedback session (both team and individual questions)");
+
+        fs = dataBundle.feedbackSessions.get("session2InCourse1");
+        nonResponders = fsLogic.getStudentsWhoHaveNotAttempted(fs, students);
+
+        verifyStudentsWhoHaveNotAttempted(fs, students, nonResponders);
+    }
+
+    private void verifyStudentsWhoHaveNotAttempted(FeedbackSessionAttributes fs, List<StudentAttributes> students,
+            List<StudentAttributes> nonResponders) {
+        List<StudentAttributes> expected = students.stream()
+                .filter(student ->
+                        !fsLogic.isFeedbackSessionAttemptedByStudent(fs, student.getEmail(), student.getTeam()))
+                .collect(Collectors.toList());
+        assertEquals(expected, nonResponders);
+    }
+
+    private void testGetInstructorsWhoHaveNotAttempted() {
+
+        ______TS("success: empty session");
+
+        FeedbackSessionAttributes fs = dataBundle.feedbackSessions.get("empty.session");
+        List<InstructorAttributes> instructors = instructorsLogic.getInstructorsForCourse(fs.getCourseId());
+
+        verifyInstructorsWhoHaveNotAttempted(fs, instructors);
+
+        ______TS("success: sessions with questions for instructors");
+
+        fs = dataBundle.feedbackSessions.get("session1InCourse1");
+        verifyInstructorsWhoHaveNotAttempted(fs, instructors);
+
+        fs = dataBundle.feedbackSessions.get("session2InCourse1");
+        verifyInstructorsWhoHaveNotAttempted(fs, instructors);
+    }
+
+    private void verifyInstructorsWhoHaveNotAttempted(FeedbackSessionAttributes fs,
+            List<InstructorAttributes> instructors) {
+        List<InstructorAttributes> expected = instructors.stream()
+                .filter(instructor -> !fsLogic.isFeedbackSessionAttemptedByInstructor(fs, instructor.getEmail()))
+                .collect(Collectors.toList());
+        assertEquals(expected, fsLogic.getInstructorsWhoHaveNotAttempted(fs, instructors));
+    }
+
     private FeedbackSessionAttributes getNewFeedbackSession() {
         return FeedbackSessionAttributes.builder("fsTest1", "testCourse")
                 .withCreatorEmail("valid@email.tmt")
@@ -0,0 +1,183 @@
+package teammates.logic.core;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import teammates.common.datatransfer.attributes.DeadlineExtensionAttributes;
+import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
+
+/**
+ * SUT: {@link SessionEventScheduler}.
+ */
+public class SessionEventSchedulerTest extends BaseLogicTest {
+
+    private final SessionEventScheduler sessionEventScheduler = SessionEventScheduler.inst();
+    private final FeedbackSessionsLogic fsLogic = FeedbackSessionsLogic.inst();
+
+    private final List<String> dispatchedEvents = new ArrayList<>();
+    private Instant now;
+
+    @BeforeMethod
+    public void setUpWheel() {
+        now = Instant.now();
+        resetWheel();
+    }
+
+    @AfterMethod
+    public void tearDownWheel() {
+        sessionEventScheduler.stop();
+    }
+
+    @Test
+    public void testRegisterSession_unsentEmails_shouldDispatchEachEmailTypeWhenDue() {
+        FeedbackSessionAttributes session = getSession("course", "session");
+        sessionEventScheduler.registerSession(session);
+
+        ______TS("opening soon email became due before the wheel started: dispatched on the first tick");
+
+        assertEquals(List.of("course/session/FEEDBACK_OPENING_SOON"), dispatchUntil(now));
+
+        ______TS("other emails: dispatched once their instants are passed, and only once");
+
+        assertEquals(List.of(), dispatchUntil(now.plus(Duration.ofHours(2))));
+        assertEquals(List.of("course/session/FEEDBACK_OPENING"),
+                dispatchUntil(now.plus(Duration.ofHours(2)).plusSeconds(1)));
+        assertEquals(List.of("course/session/FEEDBACK_CLOSING"), dispatchUntil(now.plus(Duration.ofHours(7))));
+        assertEquals(List.of("course/session/FEEDBACK_CLOSED"), dispatchUntil(now.plus(Duration.ofHours(31))));
+        assertEquals(List.of("course/session/FEEDBACK_PUBLISHED"), dispatchUntil(now.plus(Duration.ofHours(41))));
+        assertEquals(List.of(), dispatchUntil(now.plus(Duration.ofDays(30))));
+    }
+
+    @Test
+    public void testRegisterSession_sessionChanged_shouldReplaceEvents() {
+        FeedbackSessionAttributes session = getSession("course", "session");
+        session.setSentOpeningSoonEmail(true);
+        sessionEventScheduler.registerSession(session);
+
+        ______TS("emails sent or disabled: events are cancelled");
+
+        session.setSentOpenEmail(true);
+        session.setClosingEmailEnabled(false);
+        sessionEventScheduler.registerSession(session);
+
+        assertEquals(List.of("course/session/FEEDBACK_PUBLISHED"), dispatchUntil(now.plus(Duration.ofHours(41))));
+
+        ______TS("session moved to a later time: events are moved accordingly");
+
+        resetWheel();
+        session = getSession("course", "session");
+        session.setSentOpeningSoonEmail(true);
+        sessionEventScheduler.registerSession(session);
+        session.setStartTime(now.plus(Duration.ofDays(3)));
+        session.setEndTime(now.plus(Duration.ofDays(5)));
+        sessionEventScheduler.registerSession(session);
+
+        assertEquals(List.of(), dispatchUntil(now.plus(Duration.ofDays(2))));
+        assertEquals(List.of("course/session/FEEDBACK_OPENING"), dispatchUntil(now.plus(Duration.ofHours(73))));
+
+        ______TS("session deleted: events are cancelled");
+
+        resetWheel();
+        session = getSession("course", "session");
+        session.setSentOpeningSoonEmail(true);
+        sessionEventScheduler.registerSession(session);
+        sessionEventScheduler.unregisterSession("course", "session");
+
+        assertEquals(List.of(), dispatchUntil(now.plus(Duration.ofDays(30))));
+    }
+
+    @Test
+    public void testRegisterDeadlineExtension_sameSession_shouldDispatchClosingEmailOnceForSession() {
+        Instant extendedEndTime = now.plus(Duration.ofHours(25));
+        sessionEventScheduler.registerDeadlineExtension(getDeadlineExtension("student1@example.com", extendedEndTime));
+        sessionEventScheduler.registerDeadlineExtension(getDeadlineExtension("student2@example.com", extendedEndTime));
+        sessionEventScheduler.registerDeadlineExtension(getDeadlineExtension("student3@example.com", extendedEndTime));
+        sessionEventScheduler.unregisterDeadlineExtension("course", "session", "student3@example.com", false);
+
+        assertEquals(List.of(), dispatchUntil(now.plus(Duration.ofMinutes(59))));
+        assertEquals(List.of("course/session/FEEDBACK_CLOSING"), dispatchUntil(now.plus(Duration.ofMinutes(61))));
+
+        ______TS("closing email already sent: not dispatched");
+
+        DeadlineExtensionAttributes deadlineExtension = DeadlineExtensionAttributes
+                .builder("course", "session", "student1@example.com", false)
+                .withEndTime(now.plus(Duration.ofHours(30)))
+                .withSentClosingEmail(true)
+                .build();
+        sessionEventScheduler.registerDeadlineExtension(deadlineExtension);
+
+        assertEquals(List.of(), dispatchUntil(now.plus(Duration.ofDays(2))));
+    }
+
+    @Test
+    public void testSessionWrites_shouldUpdateEvents() throws Exception {
+        FeedbackSessionAttributes session1 = dataBundle.feedbackSessions.get("session1InCourse1");
+        String eventPrefix = session1.getCourseId() + "/" + session1.getFeedbackSessionName() + "/";
+
+        ______TS("session updated to close in 25 hours: closing email is dispatched in 1 hour");
+
+        FeedbackSessionAttributes updatedSession = fsLogic.updateFeedbackSession(
+                FeedbackSessionAttributes
+                        .updateOptionsBuilder(session1.getFeedbackSessionName(), session1.getCourseId())
+                        .withEndTime(now.plus(Duration.ofHours(25)))
+                        .build());
+        assertFalse(updatedSession.isSentClosingEmail());
+
+        assertEquals(List.of(eventPrefix + "FEEDBACK_CLOSING"), dispatchUntil(now.plus(Duration.ofMinutes(61))));
+
+        ______TS("session moved to recycle bin: closed email is not dispatched");
+
+        fsLogic.moveFeedbackSessionToRecycleBin(session1.getFeedbackSessionName(), session1.getCourseId());
+
+        assertEquals(List.of(), dispatchUntil(now.plus(Duration.ofHours(26))));
+
+        fsLogic.restoreFeedbackSessionFromRecycleBin(session1.getFeedbackSessionName(), session1.getCourseId());
+    }
+
+    @Test
+    public void testRegisterSession_schedulerStopped_shouldIgnore() {
+        sessionEventScheduler.stop();
+        sessionEventScheduler.registerSession(getSession("course", "session"));
+        sessionEventScheduler.dispatchDueEvents(now.plus(Duration.ofDays(30)).toEpochMilli());
+
+        assertTrue(dispatchedEvents.isEmpty());
+    }
+
+    private void resetWheel() {
+        dispatchedEvents.clear();
+        sessionEventScheduler.initWheel(now.toEpochMilli(), (courseId, feedbackSessionName, emailType) ->
+                dispatchedEvents.add(courseId + "/" + feedbackSessionName + "/" + emailType));
+    }
+
+    private List<String> dispatchUntil(Instant time) {
+        dispatchedEvents.clear();
+        sessionEventScheduler.dispatchDueEvents(time.toEpochMilli());
+        return new ArrayList<>(dispatchedEvents);
+    }
+
+    /**
+     * Returns a session opening in 2 hours, closing in 30 hours and publishing its results in 40 hours.
+     */
+    private FeedbackSessionAttributes getSession(String courseId, String feedbackSessionName) {
+        return FeedbackSessionAttributes.builder(feedbackSessionName, courseId)
+                .withCreatorEmail("instructor@example.com")
+                .withStartTime(now.plus(Duration.ofHours(2)))
+                .withEndTime(now.plus(Duration.ofHours(30)))
+                .withSessionVisibleFromTime(now.minus(Duration.ofDays(1)))
+                .withResultsVisibleFromTime(now.plus(Duration.ofHours(40)))
+                .build();
+    }
+
+    private DeadlineExtensionAttributes getDeadlineExtension(String userEmail, Instant endTime) {
+        return DeadlineExtensionAttributes.builder("course", "session", userEmail, false)
+                .withEndTime(endTime)
+                .build();
+    }
+
+}
@@ -1,11 +1,19 @@
 package teammates.logic.core;
 
+import java.time.Duration;
 import java.time.Instant;
+import java.util.List;
 
+import org.testng.annotations.AfterMethod;
 import org.testng.annotations.Test;
 
+import teammates.common.datatransfer.attributes.CourseAttributes;
 import teammates.common.datatransfer.attributes.UsageStatisticsAttributes;
+import teammates.common.exception.EntityAlreadyExistsException;
 import teammates.common.util.TimeHelper;
+import teammates.logic.core.UsageStatisticsLogic.CountedEntityType;
+import teammates.storage.api.UsageStatisticsDb;
+import teammates.test.ThreadHelper;
 
 /**
  * SUT: {@link UsageStatisticsLogic}.
@@ -13,6 +21,7 @@ import teammates.common.util.TimeHelper;
 public class UsageStatisticsLogicTest extends BaseLogicTest {
 
     private final UsageStatisticsLogic usageStatisticsLogic = UsageStatisticsLogic.inst();
+    private final UsageStatisticsDb usageStatisticsDb = UsageStatisticsDb.inst();
 
     @Test
     public void testCalculateEntitiesStatisticsForTimeRange() {
@@ -44,4 +53,258 @@ public class UsageStatisticsLogicTest extends BaseLogicTest {
 
     }
 
+    @Test
+    public void testGetEntitiesStatisticsForTimeRange() {
+        Instant periodStart = Instant.parse("2015-06-01T00:00:00Z");
+        Duration periodLength = Duration.ofMinutes(UsageStatisticsLogic.COUNTER_TIME_PERIOD);
+        Instant countingStartTime = Instant.parse("2012-06-01T00:20:00Z");
+        usageStatisticsDb.recordCountingStartTime(countingStartTime);
+
+        ______TS("time range before counting is started: calculated from the entities");
+
+        Instant distantPast = Instant.parse("2011-01-01T00:00:00Z");
+        UsageStatisticsAttributes stats = usageStatisticsLogic.getEntitiesStatisticsForTimeRange(
+                distantPast, distantPast.plus(Duration.ofHours(1)));
+        UsageStatisticsAttributes expectedStats = usageStatisticsLogic.calculateEntitiesStatisticsForTimeRange(
+                distantPast, distantPast.plus(Duration.ofHours(1)));
+
+        assertTrue(stats.getNumCourses() > 0);
+        assertEquals(expectedStats.getNumCourses(), stats.getNumCourses());
+        assertEquals(expectedStats.getNumAccountRequests(), stats.getNumAccountRequests());
+
+        ______TS("hour in which counting is started: calculated from the entities, later hours from the counters");
+
+        Instant countingStartHour = Instant.parse("2012-06-01T00:00:00Z");
+        Instant nextHour = countingStartHour.plus(Duration.ofHours(1));
+        usageStatisticsLogic.recordEntityCreated(CountedEntityType.RESPONSE, countingStartTime.plusSeconds(1));
+        usageStatisticsLogic.recordEntityCreated(CountedEntityType.RESPONSE, nextHour.plusSeconds(1));
+
+        stats = usageStatisticsLogic.getEntitiesStatisticsForTimeRange(
+                countingStartHour, nextHour.plus(Duration.ofHours(1)));
+        expectedStats = usageStatisticsLogic.calculateEntitiesStatisticsForTimeRange(countingStartHour, nextHour);
+
+        assertEquals(expectedStats.getNumResponses() + 1, stats.getNumResponses());
+        assertEquals(expectedStats.getNumCourses(), stats.getNumCourses());
+
+        stats = usageStatisticsLogic.getEntitiesStatisticsForTimeRange(countingStartHour, nextHour);
+
+        assertEquals(expectedStats.getNumResponses(), stats.getNumResponses());
+
+        ______TS("no counter within a time range after counting is started: nothing is created");
+
+        stats = usageStatisticsLogic.getEntitiesStatisticsForTimeRange(periodStart, periodStart.plus(periodLength));
+
+        assertEquals(0, stats.getNumResponses());
+        assertEquals(0, stats.getNumCourses());
+
+        ______TS("created entities are counted after they are flushed");
+
+        usageStatisticsLogic.recordEntityCreated(CountedEntityType.RESPONSE, periodStart.plusSeconds(1));
+        usageStatisticsLogic.recordEntityCreated(CountedEntityType.RESPONSE, periodStart.plusSeconds(2));
+        usageStatisticsLogic.recordEntityCreated(CountedEntityType.COURSE, periodStart.plusSeconds(3));
+        usageStatisticsLogic.recordEntityCreated(CountedEntityType.STUDENT, periodStart.plus(periodLength));
+        usageStatisticsLogic.flushCounters();
+
+        // each flush adds to a random shard of the counter
+        usageStatisticsLogic.recordEntityCreated(CountedEntityType.RESPONSE, periodStart.plusSeconds(4));
+        usageStatisticsLogic.recordEntityCreated(CountedEntityType.INSTRUCTOR, periodStart.plusSeconds(5));
+        usageStatisticsLogic.recordEntityCreated(CountedEntityType.ACCOUNT_REQUEST, periodStart.plusSeconds(6));
+        usageStatisticsLogic.flushCounters();
+
+        stats = usageStatisticsLogic.getEntitiesStatisticsForTimeRange(periodStart, periodStart.plus(periodLength));
+
+        assertEquals(3, stats.getNumResponses());
+        assertEquals(1, stats.getNumCourses());
+        assertEquals(0, stats.getNumStudents());
+        assertEquals(1, stats.getNumInstructors());
+        assertEquals(1, stats.getNumAccountRequests());
+
+        ______TS("counters of all periods within the time range are summed up");
+
+        stats = usageStatisticsLogic.getEntitiesStatisticsForTimeRange(periodStart, periodStart.plus(Duration.ofHours(1)));
+
+        assertEquals(3, stats.getNumResponses());
+        assertEquals(1, stats.getNumStudents());
+
+        ______TS("entities recorded but not flushed yet are flushed before reading");
+
+        usageStatisticsLogic.recordEntityCreated(CountedEntityType.STUDENT, periodStart.plus(periodLength));
+
+        stats = usageStatisticsLogic.getEntitiesStatisticsForTimeRange(periodStart, periodStart.plus(Duration.ofHours(1)));
+
+        assertEquals(2, stats.getNumStudents());
+
+        ______TS("deleted counters are no longer counted");
+
+        usageStatisticsLogic.deleteCountersBefore(periodStart.plus(periodLength));
+
+        stats = usageStatisticsLogic.getEntitiesStatisticsForTimeRange(periodStart, periodStart.plus(Duration.ofHours(1)));
+
+        assertEquals(0, stats.getNumResponses());
+        assertEquals(2, stats.getNumStudents());
+    }
+
+    @Test
+    public void testCreateEntities_shouldRecordCreatedEntities() throws Exception {
+        Instant now = Instant.now();
+        Instant periodStart = Instant.ofEpochMilli(now.toEpochMilli()
+                - now.toEpochMilli() % Duration.ofMinutes(UsageStatisticsLogic.COUNTER_TIME_PERIOD).toMillis());
+        // ensures that the time range is covered by the counters, so that the statistics are read from the counters
+        usageStatisticsDb.recordCountingStartTime(Instant.parse("2013-01-01T00:00:00Z"));
+        UsageStatisticsAttributes statsBefore = usageStatisticsLogic.getEntitiesStatisticsForTimeRange(
+                periodStart, periodStart.plus(Duration.ofHours(1)));
+
+        CoursesLogic.inst().createCourse(CourseAttributes.builder("usage-statistics-course")
+                .withName("Usage Statistics Course")
+                .withTimezone("UTC")
+                .withInstitute("Test Institute")
+                .build());
+
+        UsageStatisticsAttributes statsAfter = usageStatisticsLogic.getEntitiesStatisticsForTimeRange(
+                periodStart, periodStart.plus(Duration.ofHours(1)));
+
+        assertEquals(statsBefore.getNumCourses() + 1, statsAfter.getNumCourses());
+
+        CoursesLogic.inst().deleteCourseCascade("usage-statistics-course");
+    }
+
+    @Test
+    public void testStartCounting_shouldFlushCountersInBackground() {
+        Instant periodStart = Instant.parse("2015-07-01T00:00:00Z");
+        Duration periodLength = Duration.ofMinutes(UsageStatisticsLogic.COUNTER_TIME_PERIOD);
+
+        usageStatisticsLogic.startCounting();
+        try {
+            ______TS("counters are flushed once enough entities are recorded");
+
+            for (int i = 0; i < UsageStatisticsLogic.MAX_PENDING_ENTITIES; i++) {
+                usageStatisticsLogic.recordEntityCreated(CountedEntityType.RESPONSE, periodStart);
+            }
+
+            int numFlushed = 0;
+            for (int i = 0; i < 50 && numFlushed < UsageStatisticsLogic.MAX_PENDING_ENTITIES; i++) {
+                ThreadHelper.waitFor(100);
+                numFlushed = usageStatisticsDb.getCountersForTimeRange(periodStart, periodStart.plus(periodLength),
+                        UsageStatisticsLogic.COUNTER_TIME_PERIOD).stream()
+                        .mapToInt(UsageStatisticsAttributes::getNumResponses)
+                        .sum();
+            }
+            assertEquals(UsageStatisticsLogic.MAX_PENDING_ENTITIES, numFlushed);
+
+            ______TS("the time from which entities are counted is recorded");
+
+            assertNotNull(usageStatisticsDb.getCountingStartTime());
+        } finally {
+            usageStatisticsLogic.stopCounting();
+        }
+
+        ______TS("entities recorded before counting is stopped are flushed");
+
+        usageStatisticsLogic.recordEntityCreated(CountedEntityType.COURSE, periodStart);
+        usageStatisticsLogic.startCounting();
+        usageStatisticsLogic.stopCounting();
+
+        int numCourses = usageStatisticsDb.getCountersForTimeRange(periodStart, periodStart.plus(periodLength),
+                UsageStatisticsLogic.COUNTER_TIME_PERIOD).stream()
+                .mapToInt(UsageStatisticsAttributes::getNumCourses)
+                .sum();
+        assertEquals(1, numCourses);
+    }
+
+    @Test
+    public void testCreateUsageStatistics_shouldMaintainRollups() throws Exception {
+        Instant sunday = Instant.parse("2015-03-01T23:00:00Z");
+        Instant monday = Instant.parse("2015-03-02T00:00:00Z");
+        List<Instant> hours = List.of(sunday, monday, monday.plus(Duration.ofHours(1)));
+        for (int i = 0; i < hours.size(); i++) {
+            usageStatisticsLogic.createUsageStatistics(UsageStatisticsAttributes.builder(hours.get(i), 60)
+                    .withNumResponses(i + 1)
+                    .withNumEmails(10)
+                    .build());
+        }
+
+        try {
+            ______TS("hourly statistics: rollups are excluded from the raw statistics");
+
+            List<UsageStatisticsAttributes> stats = usageStatisticsLogic.getUsageStatisticsForTimeRange(
+                    sunday, monday.plus(Duration.ofDays(1)));
+            assertEquals(3, stats.size());
+            assertTrue(stats.stream().allMatch(s -> s.getTimePeriod() == UsageStatisticsLogic.HOURLY_TIME_PERIOD));
+
+            ______TS("daily statistics: the range is extended to whole days");
+
+            stats = usageStatisticsLogic.getUsageStatisticsForTimeRange(sunday.plus(Duration.ofMinutes(30)),
+                    monday.plus(Duration.ofHours(5)), UsageStatisticsLogic.DAILY_TIME_PERIOD);
+            assertEquals(2, stats.size());
+            assertEquals(Instant.parse("2015-03-01T00:00:00Z"), stats.get(0).getStartTime());
+            assertEquals(1, stats.get(0).getNumResponses());
+            assertEquals(10, stats.get(0).getNumEmails());
+            assertEquals(monday, stats.get(1).getStartTime());
+            assertEquals(2 + 3, stats.get(1).getNumResponses());
+            assertEquals(20, stats.get(1).getNumEmails());
+
+            ______TS("weekly statistics: weeks start on Monday");
+
+            stats = usageStatisticsLogic.getUsageStatisticsForTimeRange(sunday, monday.plus(Duration.ofHours(5)),
+                    UsageStatisticsLogic.WEEKLY_TIME_PERIOD);
+            assertEquals(2, stats.size());
+            assertEquals(Instant.parse("2015-02-23T00:00:00Z"), stats.get(0).getStartTime());
+            assertEquals(1, stats.get(0).getNumResponses());
+            assertEquals(monday, stats.get(1).getStartTime());
+            assertEquals(2 + 3, stats.get(1).getNumResponses());
+
+            ______TS("statistics object already exists: neither the statistics object nor the rollups are updated");
+
+            assertThrows(EntityAlreadyExistsException.class,
+                    () -> usageStatisticsLogic.createUsageStatistics(UsageStatisticsAttributes.builder(monday, 60)
+                            .withNumResponses(100)
+                            .build()));
+            stats = usageStatisticsLogic.getUsageStatisticsForTimeRange(monday, monday.plus(Duration.ofHours(1)),
+                    UsageStatisticsLogic.DAILY_TIME_PERIOD);
+            assertEquals(2 + 3, stats.get(0).getNumResponses());
+            stats = usageStatisticsLogic.getUsageStatisticsForTimeRange(monday, monday.plus(Duration.ofHours(1)),
+                    UsageStatisticsLogic.WEEKLY_TIME_PERIOD);
+            assertEquals(2 + 3, stats.get(0).getNumResponses());
+            assertEquals(2, usageStatisticsLogic.getUsageStatisticsForTimeRange(
+                    monday, monday.plus(Duration.ofHours(1))).get(0).getNumResponses());
+        } finally {
+            for (Instant hour : hours) {
+                usageStatisticsDb.deleteUsageStatistics(hour, UsageStatisticsLogic.HOURLY_TIME_PERIOD);
+            }
+            usageStatisticsDb.deleteUsageStatistics(Instant.parse("2015-03-01T00:00:00Z"),
+                    UsageStatisticsLogic.DAILY_TIME_PERIOD);
+            usageStatisticsDb.deleteUsageStatistics(monday, UsageStatisticsLogic.DAILY_TIME_PERIOD);
+            usageStatisticsDb.deleteUsageStatistics(Instant.parse("2015-02-23T00:00:00Z"),
+                    UsageStatisticsLogic.WEEKLY_TIME_PERIOD);
+            usageStatisticsDb.deleteUsageStatistics(monday, UsageStatisticsLogic.WEEKLY_TIME_PERIOD);
+        }
+    }
+
+    @Test
+    public void testGetTimePeriodForTimeRange() {
+        Instant startTime = Instant.parse("2015-03-02T00:00:00Z");
+
+        ______TS("hourly statistics fit into the budget");
+
+        assertEquals(UsageStatisticsLogic.HOURLY_TIME_PERIOD, usageStatisticsLogic.getTimePeriodForTimeRange(
+                startTime, startTime.plus(Duration.ofHours(24)), 24));
+
+        ______TS("the budget counts the partial time periods at both ends of the range");
+
+        assertEquals(UsageStatisticsLogic.DAILY_TIME_PERIOD, usageStatisticsLogic.getTimePeriodForTimeRange(
+                startTime.plus(Duration.ofMinutes(30)), startTime.plus(Duration.ofMinutes(24 * 60 + 30)), 24));
+
+        ______TS("coarsest time period if nothing fits into the budget");
+
+        assertEquals(UsageStatisticsLogic.WEEKLY_TIME_PERIOD, usageStatisticsLogic.getTimePeriodForTimeRange(
+                startTime, startTime.plus(Duration.ofDays(180)), 100));
+        assertEquals(UsageStatisticsLogic.WEEKLY_TIME_PERIOD, usageStatisticsLogic.getTimePeriodForTimeRange(
+                startTime, startTime.plus(Duration.ofDays(180)), 1));
+    }
+
+    @AfterMethod
+    public void deleteCounters() {
+        usageStatisticsLogic.deleteCountersBefore(Instant.parse("2016-01-01T00:00:00Z"));
+    }
+
 }
@@ -0,0 +1,83 @@
+package teammates.logic.core;
+
+import org.testng.annotations.Test;
+
+import teammates.common.datatransfer.attributes.InstructorAttributes;
+import teammates.common.datatransfer.attributes.StudentAttributes;
+
+/**
+ * SUT: {@link UserRolesCache}.
+ */
+public class UserRolesCacheTest extends BaseLogicTest {
+
+    private final UserRolesCache userRolesCache = UserRolesCache.inst();
+    private final StudentsLogic studentsLogic = StudentsLogic.inst();
+    private final InstructorsLogic instructorsLogic = InstructorsLogic.inst();
+
+    @Test
+    public void testGetRoles() {
+
+        ______TS("instructor");
+
+        InstructorAttributes instructor = dataBundle.instructors.get("instructor1OfCourse1");
+        assertTrue(userRolesCache.isInstructorInAnyCourse(instructor.getGoogleId()));
+        assertFalse(userRolesCache.isStudentInAnyCourse(instructor.getGoogleId()));
+
+        ______TS("student");
+
+        StudentAttributes student = dataBundle.students.get("student1InCourse1");
+        assertFalse(userRolesCache.isInstructorInAnyCourse(student.getGoogleId()));
+        assertTrue(userRolesCache.isStudentInAnyCourse(student.getGoogleId()));
+
+        ______TS("unregistered");
+
+        assertFalse(userRolesCache.isInstructorInAnyCourse("unknown"));
+        assertFalse(userRolesCache.isStudentInAnyCourse("unknown"));
+    }
+
+    @Test
+    public void testInvalidation() throws Exception {
+        String googleId = "UserRolesCacheTest.newUser";
+
+        ______TS("cached negative result is invalidated when a student is created");
+
+        assertFalse(userRolesCache.isStudentInAnyCourse(googleId));
+
+        StudentAttributes student = StudentAttributes
+                .builder("idOfTypicalCourse1", "UserRolesCacheTest.student@email.tmt")
+                .withName("name")
+                .withSectionName("sectionName")
+                .withTeamName("teamName")
+                .withComment("")
+                .withGoogleId(googleId)
+                .build();
+        studentsLogic.createStudent(student);
+
+        assertTrue(userRolesCache.isStudentInAnyCourse(googleId));
+
+        ______TS("cached positive result is invalidated when the student is deleted");
+
+        studentsLogic.deleteStudentCascade(student.getCourse(), student.getEmail());
+
+        assertFalse(userRolesCache.isStudentInAnyCourse(googleId));
+
+        ______TS("cached negative result is invalidated when an instructor joins");
+
+        InstructorAttributes instructor = dataBundle.instructors.get("instructorNotYetJoinCourse1");
+        assertFalse(userRolesCache.isInstructorInAnyCourse(googleId));
+
+        instructorsLogic.updateInstructorByEmail(
+                InstructorAttributes.updateOptionsWithEmailBuilder(instructor.getCourseId(), instructor.getEmail())
+                        .withGoogleId(googleId)
+                        .build());
+
+        assertTrue(userRolesCache.isInstructorInAnyCourse(googleId));
+
+        ______TS("cached positive result is invalidated when the instructor google ID is reset");
+
+        instructorsLogic.resetInstructorGoogleId(instructor.getEmail(), instructor.getCourseId());
+
+        assertFalse(userRolesCache.isInstructorInAnyCourse(googleId));
+    }
+
+}
@@ -0,0 +1,84 @@
+package teammates.logic.external;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.http.HttpStatus;
+import org.testng.annotations.Test;
+
+import teammates.common.exception.EmailSendingException;
+import teammates.common.util.EmailSendingStatus;
+import teammates.common.util.EmailWrapper;
+import teammates.test.BaseTestCase;
+
+/**
+ * SUT: {@link EmailBatcher}.
+ */
+public class EmailBatcherTest extends BaseTestCase {
+
+    @Test
+    public void testGroupIdenticalEmails() {
+        ______TS("emails differing only in recipients are grouped together");
+
+        List<EmailWrapper> emails = List.of(
+                getEmail("a@email.com", "Subject 1"),
+                getEmail("b@email.com", "Subject 2"),
+                getEmail("c@email.com", "Subject 1"),
+                getEmail("d@email.com", "Subject 2"));
+
+        assertEquals(List.of(List.of(0, 2), List.of(1, 3)), EmailBatcher.groupIdenticalEmails(emails, 10));
+
+        ______TS("groups are capped at the maximum group size");
+
+        emails = List.of(
+                getEmail("a@email.com", "Subject 1"),
+                getEmail("b@email.com", "Subject 1"),
+                getEmail("c@email.com", "Subject 1"));
+
+        assertEquals(List.of(List.of(0, 1), List.of(2)), EmailBatcher.groupIdenticalEmails(emails, 2));
+
+        ______TS("emails with BCC recipients are put in their own groups");
+
+        EmailWrapper emailWithBcc = getEmail("b@email.com", "Subject 1");
+        emailWithBcc.setBcc("bcc@email.com");
+        emails = List.of(getEmail("a@email.com", "Subject 1"), emailWithBcc, getEmail("c@email.com", "Subject 1"));
+
+        assertEquals(List.of(List.of(0, 2), List.of(1)), EmailBatcher.groupIdenticalEmails(emails, 10));
+    }
+
+    @Test
+    public void testSendInGroups() {
+        List<EmailWrapper> emails = List.of(
+                getEmail("a@email.com", "Subject 1"),
+                getEmail("b@email.com", "Subject 2"),
+                getEmail("c@email.com", "Subject 1"));
+        List<List<EmailWrapper>> groupsSent = new ArrayList<>();
+
+        List<EmailSendingStatus> statuses = EmailBatcher.sendInGroups(emails, 10, group -> {
+            groupsSent.add(group);
+            if ("Subject 2".equals(group.get(0).getSubject())) {
+                throw new EmailSendingException(new RuntimeException("Failure"), HttpStatus.SC_BAD_GATEWAY);
+            }
+            return new EmailSendingStatus(HttpStatus.SC_OK, null);
+        });
+
+        assertEquals(2, groupsSent.size());
+        assertEquals(3, statuses.size());
+        assertTrue(statuses.get(0).isSuccess());
+        assertFalse(statuses.get(1).isSuccess());
+        assertEquals(HttpStatus.SC_BAD_GATEWAY, statuses.get(1).getStatusCode());
+        assertTrue(statuses.get(2).isSuccess());
+    }
+
+    private EmailWrapper getEmail(String recipient, String subject) {
+        EmailWrapper email = new EmailWrapper();
+        email.setSenderName("Sender Name");
+        email.setSenderEmail("sender@email.com");
+        email.setReplyTo("replyto@email.com");
+        email.setRecipient(recipient);
+        email.setSubject(subject);
+        email.setContent("<p>This is a test content</p>");
+        return email;
+    }
+
+}
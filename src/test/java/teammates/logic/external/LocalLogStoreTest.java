@@ -0,0 +1,203 @@
+package teammates.logic.external;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import org.testng.annotations.Test;
+
+import teammates.common.datatransfer.logs.GeneralLogEntry;
+import teammates.common.datatransfer.logs.LogSeverity;
+import teammates.common.datatransfer.logs.QueryLogsParams;
+import teammates.common.datatransfer.logs.RequestLogDetails;
+import teammates.common.datatransfer.logs.RequestLogUser;
+import teammates.common.datatransfer.logs.SourceLocation;
+import teammates.test.BaseTestCase;
+
+/**
+ * SUT: {@link LocalLogStore}.
+ */
+public class LocalLogStoreTest extends BaseTestCase {
+
+    private static final long SEGMENT_MILLIS = 100;
+    private static final long DAY_MILLIS = 24 * 60 * 60 * 1000L;
+
+    @Test
+    public void testQuery_timeRangeAndOrder_shouldReturnEntriesAcrossSegments() {
+        LocalLogStore store = new LocalLogStore(SEGMENT_MILLIS, DAY_MILLIS, 1000);
+        for (long timestamp : new long[] { 250, 50, 150, 99, 100 }) {
+            store.append(getLogEntry("log" + timestamp, LogSeverity.INFO, timestamp), 0);
+        }
+
+        ______TS("descending order by default; start time exclusive and end time inclusive");
+
+        LocalLogStore.Page page = store.query(QueryLogsParams.builder(50, 150).build(), log -> true, 10);
+        assertEquals(List.of("log150", "log100", "log99"), getInsertIds(page));
+        assertNull(page.getNextPageToken());
+
+        ______TS("ascending order");
+
+        page = store.query(QueryLogsParams.builder(0, 1000).withOrder("asc").build(), log -> true, 10);
+        assertEquals(List.of("log50", "log99", "log100", "log150", "log250"), getInsertIds(page));
+
+        ______TS("filter: entries not satisfying it are skipped");
+
+        page = store.query(QueryLogsParams.builder(0, 1000).build(),
+                log -> !"log150".equals(log.getInsertId()), 10);
+        assertEquals(List.of("log250", "log100", "log99", "log50"), getInsertIds(page));
+    }
+
+    @Test
+    public void testQuery_indexedFilters_shouldReturnMatchingEntries() {
+        LocalLogStore store = new LocalLogStore(SEGMENT_MILLIS, DAY_MILLIS, 1000);
+        store.append(getRequestLogEntry("log1", "trace1", "GetCourseAction", "user1", 10), 0);
+        store.append(getRequestLogEntry("log2", "trace2", "GetCourseAction", "user2", 20), 0);
+        store.append(getRequestLogEntry("log3", "trace2", "GetStudentAction", "user1", 120), 0);
+        store.append(getLogEntry("log4", LogSeverity.ERROR, 130), 0);
+
+        // the indexes only narrow down the entries to visit; the filters are checked by the given filter
+        Predicate<GeneralLogEntry> noFilter = log -> true;
+
+        LocalLogStore.Page page = store.query(QueryLogsParams.builder(0, 1000).withTraceId("trace2").build(),
+                noFilter, 10);
+        assertEquals(List.of("log3", "log2"), getInsertIds(page));
+
+        page = store.query(QueryLogsParams.builder(0, 1000).withActionClass("GetCourseAction").build(),
+                noFilter, 10);
+        assertEquals(List.of("log2", "log1"), getInsertIds(page));
+
+        RequestLogUser userInfo = new RequestLogUser();
+        userInfo.setGoogleId("user1");
+        page = store.query(QueryLogsParams.builder(0, 1000).withUserInfo(userInfo).build(), noFilter, 10);
+        assertEquals(List.of("log3", "log1"), getInsertIds(page));
+
+        page = store.query(QueryLogsParams.builder(0, 1000).withSeverityLevel(LogSeverity.ERROR).build(),
+                noFilter, 10);
+        assertEquals(List.of("log4"), getInsertIds(page));
+
+        ______TS("multiple indexed filters: only entries matching all of them are visited");
+
+        page = store.query(QueryLogsParams.builder(0, 1000).withTraceId("trace2").withActionClass("GetCourseAction")
+                .build(), log -> "GetCourseAction".equals(((RequestLogDetails) log.getDetails()).getActionClass()), 10);
+        assertEquals(List.of("log2"), getInsertIds(page));
+
+        page = store.query(QueryLogsParams.builder(0, 1000).withTraceId("unknown").build(), noFilter, 10);
+        assertTrue(page.getEntries().isEmpty());
+    }
+
+    @Test
+    public void testQuery_pageToken_shouldContinueFromLastEntryOfPage() {
+        LocalLogStore store = new LocalLogStore(SEGMENT_MILLIS, DAY_MILLIS, 1000);
+        // entries with the same timestamp are not skipped or repeated across pages
+        for (int i = 0; i < 5; i++) {
+            store.append(getLogEntry("log" + i, LogSeverity.INFO, 100), 0);
+        }
+        store.append(getLogEntry("log5", LogSeverity.INFO, 200), 0);
+
+        for (String order : new String[] { "asc", "desc" }) {
+            List<String> insertIds = new ArrayList<>();
+            String pageToken = null;
+            int numPages = 0;
+            do {
+                QueryLogsParams params = QueryLogsParams.builder(0, 1000)
+                        .withOrder(order)
+                        .withPageToken(pageToken)
+                        .build();
+                LocalLogStore.Page page = store.query(params, log -> true, 2);
+                insertIds.addAll(getInsertIds(page));
+                pageToken = page.getNextPageToken();
+                numPages++;
+
+                // entries appended between pages do not affect the next page
+                store.append(getLogEntry("later" + numPages, LogSeverity.INFO, 2000), 0);
+            } while (pageToken != null);
+
+            assertEquals(3, numPages);
+            List<String> expectedInsertIds = List.of("log0", "log1", "log2", "log3", "log4", "log5");
+            if ("desc".equals(order)) {
+                expectedInsertIds = List.of("log5", "log4", "log3", "log2", "log1", "log0");
+            }
+            assertEquals(expectedInsertIds, insertIds);
+        }
+
+        ______TS("invalid page token");
+
+        assertThrows(IllegalArgumentException.class,
+                () -> store.query(QueryLogsParams.builder(0, 1000).withPageToken("invalid").build(), log -> true, 2));
+    }
+
+    @Test
+    public void testApplyRetention_shouldDiscardOldSegments() {
+        ______TS("entries older than the retention period");
+
+        LocalLogStore store = new LocalLogStore(SEGMENT_MILLIS, 1000, 1000);
+        store.append(getLogEntry("log1", LogSeverity.INFO, 50), 0);
+        store.append(getLogEntry("log2", LogSeverity.INFO, 150), 0);
+        store.append(getLogEntry("log3", LogSeverity.INFO, 1150), 0);
+        assertEquals(3, store.size());
+
+        store.applyRetention(1199);
+
+        assertEquals(2, store.size());
+        LocalLogStore.Page page = store.query(QueryLogsParams.builder(0, 2000).build(), log -> true, 10);
+        assertEquals(List.of("log3", "log2"), getInsertIds(page));
+
+        ______TS("more entries than the maximum number of entries");
+
+        store = new LocalLogStore(SEGMENT_MILLIS, DAY_MILLIS, 3);
+        for (int i = 0; i < 4; i++) {
+            store.append(getLogEntry("log" + i, LogSeverity.INFO, i * SEGMENT_MILLIS), 0);
+        }
+
+        assertEquals(3, store.size());
+        page = store.query(QueryLogsParams.builder(-1, 2000).withOrder("asc").build(), log -> true, 10);
+        assertEquals(List.of("log1", "log2", "log3"), getInsertIds(page));
+    }
+
+    @Test
+    public void testAppend_concurrentAppends_shouldKeepAllEntries() throws Exception {
+        LocalLogStore store = new LocalLogStore(SEGMENT_MILLIS, DAY_MILLIS, 100_000);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        for (int i = 0; i < 4; i++) {
+            int thread = i;
+            executor.execute(() -> {
+                for (int j = 0; j < 1000; j++) {
+                    store.append(getLogEntry("log" + thread + "-" + j, LogSeverity.INFO, j), 0);
+                    store.query(QueryLogsParams.builder(0, 1000).build(), log -> true, 10);
+                }
+            });
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(30, TimeUnit.SECONDS));
+
+        assertEquals(4000, store.size());
+    }
+
+    private List<String> getInsertIds(LocalLogStore.Page page) {
+        return page.getEntries().stream().map(GeneralLogEntry::getInsertId).collect(Collectors.toList());
+    }
+
+    private GeneralLogEntry getLogEntry(String insertId, LogSeverity severity, long timestamp) {
+        return new GeneralLogEntry(severity, "trace", insertId, Map.of(),
+                new SourceLocation("file", 1L, "function"), timestamp);
+    }
+
+    private GeneralLogEntry getRequestLogEntry(String insertId, String trace, String actionClass, String googleId,
+            long timestamp) {
+        GeneralLogEntry logEntry = new GeneralLogEntry(LogSeverity.INFO, trace, insertId, Map.of(),
+                new SourceLocation("file", 1L, "function"), timestamp);
+        RequestLogDetails details = new RequestLogDetails();
+        details.setActionClass(actionClass);
+        RequestLogUser userInfo = new RequestLogUser();
+        userInfo.setGoogleId(googleId);
+        details.setUserInfo(userInfo);
+        logEntry.setDetails(details);
+        return logEntry;
+    }
+
+}
@@ -0,0 +1,433 @@
+package teammates.logic.external;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.Test;
+
+import teammates.common.util.JsonUtils;
+import teammates.common.util.TaskWrapper;
+import teammates.logic.external.LocalTaskQueue.PendingTask;
+import teammates.logic.external.LocalTaskQueue.QueueSettings;
+import teammates.logic.external.LocalTaskQueue.TokenBucket;
+import teammates.test.BaseTestCase;
+
+/**
+ * SUT: {@link LocalTaskQueue}, {@link LocalTaskQueueJournal}.
+ */
+public class LocalTaskQueueTest extends BaseTestCase {
+
+    private static final String QUEUE_NAME = "test-queue";
+    private static final long TIMEOUT_SECONDS = 10;
+
+    private final List<LocalTaskQueue> queuesToShutDown = new ArrayList<>();
+
+    @AfterMethod
+    public void shutDownQueues() {
+        queuesToShutDown.forEach(LocalTaskQueue::shutdown);
+        queuesToShutDown.clear();
+    }
+
+    @Test
+    public void testAddTask_withCountdown_shouldRunAfterCountdown() {
+        VirtualTimeScheduler scheduler = new VirtualTimeScheduler();
+        List<Long> attemptTimes = new ArrayList<>();
+        LocalTaskQueue queue = createQueue(scheduler, task -> {
+            attemptTimes.add(scheduler.currentTimeMillis());
+            return true;
+        }, new QueueSettings(100, 100), null);
+
+        queue.addTask(getTask("/worker/test"), 300);
+        scheduler.runUntil(299);
+
+        assertTrue(attemptTimes.isEmpty());
+
+        scheduler.runAll();
+
+        assertEquals(List.of(300L), attemptTimes);
+    }
+
+    @Test
+    public void testAddTask_failingTask_shouldRetryUpToRetryLimit() {
+        ______TS("task which succeeds after failing is not retried again");
+
+        VirtualTimeScheduler scheduler = new VirtualTimeScheduler();
+        List<Long> attemptTimes = new ArrayList<>();
+        LocalTaskQueue queue = createQueue(scheduler, task -> {
+            attemptTimes.add(scheduler.currentTimeMillis());
+            return attemptTimes.size() >= 3;
+        }, new QueueSettings(100, 100).withRetryParameters(5, 10, 100, 2), null);
+
+        queue.addTask(getTask("/worker/test"), 0);
+        scheduler.runAll();
+
+        // the backoff starts at 10ms and doubles for each retry
+        assertEquals(List.of(0L, 10L, 30L), attemptTimes);
+
+        ______TS("task which keeps failing is dropped after the retry limit");
+
+        VirtualTimeScheduler failingScheduler = new VirtualTimeScheduler();
+        List<Long> failedAttemptTimes = new ArrayList<>();
+        queue = createQueue(failingScheduler, task -> {
+            failedAttemptTimes.add(failingScheduler.currentTimeMillis());
+            return false;
+        }, new QueueSettings(100, 100).withRetryParameters(2, 10, 100, 2), null);
+
+        queue.addTask(getTask("/worker/test"), 0);
+        failingScheduler.runAll();
+
+        assertEquals(List.of(0L, 10L, 30L), failedAttemptTimes);
+
+        ______TS("task which throws is retried");
+
+        VirtualTimeScheduler throwingScheduler = new VirtualTimeScheduler();
+        List<Long> thrownAttemptTimes = new ArrayList<>();
+        queue = createQueue(throwingScheduler, task -> {
+            thrownAttemptTimes.add(throwingScheduler.currentTimeMillis());
+            throw new IllegalStateException("unexpected");
+        }, new QueueSettings(100, 100).withRetryParameters(1, 10, 100, 2), null);
+
+        queue.addTask(getTask("/worker/test"), 0);
+        throwingScheduler.runAll();
+
+        assertEquals(List.of(0L, 10L), thrownAttemptTimes);
+    }
+
+    @Test
+    public void testAddTask_manyTasks_shouldRunAtQueueRate() {
+        VirtualTimeScheduler scheduler = new VirtualTimeScheduler();
+        List<Long> attemptTimes = new ArrayList<>();
+        LocalTaskQueue queue = createQueue(scheduler, task -> {
+            attemptTimes.add(scheduler.currentTimeMillis());
+            return true;
+        }, new QueueSettings(10, 1), null);
+
+        for (int i = 0; i < 5; i++) {
+            queue.addTask(getTask("/worker/test"), 0);
+        }
+        scheduler.runAll();
+
+        // the first task is run immediately, the others are run 100ms apart
+        assertEquals(List.of(0L, 100L, 200L, 300L, 400L), attemptTimes);
+    }
+
+    @Test
+    public void testJournal_pendingTasks_shouldBeRunAfterRestart() throws Exception {
+        Path journalFile = Files.createTempFile("local-task-queue", ".journal");
+        try {
+            ______TS("tasks which are done are not recovered");
+
+            CountDownLatch firstTaskDone = new CountDownLatch(1);
+            LocalTaskQueue queue = createQueue(task -> {
+                firstTaskDone.countDown();
+                return true;
+            }, new QueueSettings(100, 100), new LocalTaskQueueJournal(journalFile));
+
+            queue.addTask(getTask("/worker/done"), 0);
+            assertTrue(firstTaskDone.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+            queue.addTask(new TaskWrapper(QUEUE_NAME, "/worker/pending", Map.of("courseid", "course1"),
+                    Map.of("emails", List.of("a@email.com", "b@email.com"))), 60_000);
+            queue.shutdown();
+
+            ______TS("tasks which are pending are recovered with their details");
+
+            LocalTaskQueueJournal journal = new LocalTaskQueueJournal(journalFile);
+            List<PendingTask> pendingTasks = journal.getPendingTasks();
+            journal.close();
+
+            assertEquals(1, pendingTasks.size());
+            TaskWrapper recoveredTask = pendingTasks.get(0).getTask();
+            assertEquals(QUEUE_NAME, recoveredTask.getQueueName());
+            assertEquals("/worker/pending", recoveredTask.getWorkerUrl());
+            assertEquals(Map.of("courseid", "course1"), recoveredTask.getParamMap());
+            assertEquals("{\"emails\":[\"a@email.com\",\"b@email.com\"]}",
+                    JsonUtils.toCompactJson(recoveredTask.getRequestBody()));
+            assertTrue(pendingTasks.get(0).getEtaMillis() > System.currentTimeMillis());
+
+            ______TS("recovered tasks are run by the new queue");
+
+            List<String> runTasks = Collections.synchronizedList(new ArrayList<>());
+            CountDownLatch recoveredTaskDone = new CountDownLatch(1);
+            Files.writeString(journalFile, "+{\"id\":\"task-1\",\"queueName\":\"" + QUEUE_NAME
+                    + "\",\"workerUrl\":\"/worker/recovered\",\"paramMap\":{},\"etaMillis\":0}\n+{\"id\":\"task-2\"");
+            createQueue(task -> {
+                runTasks.add(task.getWorkerUrl());
+                recoveredTaskDone.countDown();
+                return true;
+            }, new QueueSettings(100, 100), new LocalTaskQueueJournal(journalFile));
+
+            assertTrue(recoveredTaskDone.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+            assertEquals(List.of("/worker/recovered"), runTasks);
+        } finally {
+            shutDownQueues();
+            Files.deleteIfExists(journalFile);
+        }
+    }
+
+    @Test
+    public void testJournal_retriedTask_shouldKeepBackoffAfterRestart() throws Exception {
+        Path journalFile = Files.createTempFile("local-task-queue", ".journal");
+        try {
+            VirtualTimeScheduler scheduler = new VirtualTimeScheduler();
+            LocalTaskQueue queue = createQueue(scheduler, task -> false,
+                    new QueueSettings(100, 100).withRetryParameters(5, 10, 100, 2),
+                    new LocalTaskQueueJournal(journalFile));
+
+            queue.addTask(getTask("/worker/failing"), 0);
+            // the first attempt fails, and the second one is due at 10ms
+            scheduler.runUntil(0);
+            queue.shutdown();
+
+            LocalTaskQueueJournal journal = new LocalTaskQueueJournal(journalFile);
+            List<PendingTask> pendingTasks = journal.getPendingTasks();
+            journal.close();
+
+            assertEquals(1, pendingTasks.size());
+            assertEquals("/worker/failing", pendingTasks.get(0).getTask().getWorkerUrl());
+            assertEquals(1, pendingTasks.get(0).getRetryCount());
+            assertEquals(10, pendingTasks.get(0).getEtaMillis());
+        } finally {
+            Files.deleteIfExists(journalFile);
+        }
+    }
+
+    @Test
+    public void testQueueSettings_shouldMatchQueueYaml() throws Exception {
+        Map<String, QueueSettings> settingsInYaml = readQueueYaml(Paths.get("src/main/appengine/queue.yaml"));
+
+        assertEquals(settingsInYaml.size(), LocalTaskQueue.getNumQueues());
+        settingsInYaml.forEach((queueName, expected) -> {
+            QueueSettings actual = LocalTaskQueue.getQueueSettings(queueName);
+            assertNotNull("No settings for " + queueName, actual);
+            assertEquals(expected.getRate(), actual.getRate(), 0);
+            assertEquals(expected.getBucketSize(), actual.getBucketSize());
+            assertEquals(expected.getRetryLimit(), actual.getRetryLimit());
+            assertEquals(expected.getMinBackoffMillis(), actual.getMinBackoffMillis());
+            assertEquals(expected.getMaxBackoffMillis(), actual.getMaxBackoffMillis());
+            assertEquals(expected.getMaxDoublings(), actual.getMaxDoublings());
+        });
+    }
+
+    @Test
+    public void testQueueSettings_getBackoffMillis() {
+        QueueSettings settings = new QueueSettings(1, 1).withRetryParameters(5, 5_000, 40_000, 2);
+
+        assertEquals(5_000, settings.getBackoffMillis(0));
+        assertEquals(10_000, settings.getBackoffMillis(1));
+        assertEquals(20_000, settings.getBackoffMillis(2));
+        assertEquals(20_000, settings.getBackoffMillis(3));
+
+        settings = new QueueSettings(1, 1).withRetryParameters(5, 30_000, 300_000, 0);
+
+        assertEquals(30_000, settings.getBackoffMillis(0));
+        assertEquals(30_000, settings.getBackoffMillis(4));
+
+        settings = new QueueSettings(1, 1).withRetryParameters(5, 100, 1_000, 16);
+
+        assertEquals(1_000, settings.getBackoffMillis(10));
+    }
+
+    @Test
+    public void testTokenBucket_tryAcquire() {
+        long now = System.currentTimeMillis();
+        TokenBucket bucket = new TokenBucket(10, 2, now);
+
+        ______TS("tokens in the bucket can be taken at once");
+
+        assertEquals(0, bucket.tryAcquire(now));
+        assertEquals(0, bucket.tryAcquire(now));
+
+        ______TS("empty bucket gives the time until the next token");
+
+        assertEquals(100, bucket.tryAcquire(now));
+        assertEquals(50, bucket.tryAcquire(now + 50));
+
+        ______TS("bucket is refilled at the rate up to the bucket size");
+
+        assertEquals(0, bucket.tryAcquire(now + 100));
+        assertEquals(0, bucket.tryAcquire(now + 10_000));
+        assertEquals(0, bucket.tryAcquire(now + 10_000));
+        assertEquals(100, bucket.tryAcquire(now + 10_000));
+    }
+
+    private LocalTaskQueue createQueue(LocalTaskQueue.TaskDispatcher dispatcher, QueueSettings settings,
+                                       LocalTaskQueueJournal journal) {
+        LocalTaskQueue queue = new LocalTaskQueue(LocalTaskQueue.createWorkerPool(2), System::currentTimeMillis,
+                dispatcher, journal, Map.of(QUEUE_NAME, settings));
+        queuesToShutDown.add(queue);
+        return queue;
+    }
+
+    private LocalTaskQueue createQueue(VirtualTimeScheduler scheduler, LocalTaskQueue.TaskDispatcher dispatcher,
+                                       QueueSettings settings, LocalTaskQueueJournal journal) {
+        LocalTaskQueue queue = new LocalTaskQueue(scheduler, scheduler::currentTimeMillis,
+                dispatcher, journal, Map.of(QUEUE_NAME, settings));
+        queuesToShutDown.add(queue);
+        return queue;
+    }
+
+    /**
+     * Reads the settings of each queue in {@code queue.yaml}, applying the same defaults as Cloud Tasks
+     * except for the retry limit, which is capped locally.
+     */
+    private static Map<String, QueueSettings> readQueueYaml(Path file) throws Exception {
+        Map<String, QueueSettings> settingsByQueue = new HashMap<>();
+        Map<String, String> queueProperties = new HashMap<>();
+        List<String> lines = new ArrayList<>(Files.readAllLines(file));
+        lines.add("- name: end-of-file");
+        for (String line : lines) {
+            String trimmedLine = line.trim();
+            if (trimmedLine.startsWith("#") || !trimmedLine.contains(":")) {
+                continue;
+            }
+            if (trimmedLine.startsWith("- name:") && queueProperties.containsKey("name")) {
+                settingsByQueue.put(queueProperties.get("name"), toQueueSettings(queueProperties));
+                queueProperties.clear();
+            }
+            String[] keyAndValue = trimmedLine.replaceFirst("^- ", "").split(":", 2);
+            queueProperties.put(keyAndValue[0].trim(), keyAndValue[1].trim());
+        }
+        return settingsByQueue;
+    }
+
+    private static QueueSettings toQueueSettings(Map<String, String> properties) {
+        return new QueueSettings(Double.parseDouble(properties.get("rate").replace("/s", "")),
+                Integer.parseInt(properties.get("bucket_size")))
+                .withRetryParameters(
+                        Integer.parseInt(properties.getOrDefault("task_retry_limit",
+                                String.valueOf(LocalTaskQueue.DEFAULT_RETRY_LIMIT))),
+                        (long) (Double.parseDouble(properties.getOrDefault("min_backoff_seconds", "0.1")) * 1000),
+                        (long) (Double.parseDouble(properties.getOrDefault("max_backoff_seconds", "3600")) * 1000),
+                        Integer.parseInt(properties.getOrDefault("max_doublings", "16")));
+    }
+
+    private TaskWrapper getTask(String workerUrl) {
+        return new TaskWrapper(QUEUE_NAME, workerUrl, Map.of(), null);
+    }
+
+    /**
+     * Runs the scheduled commands on the calling thread in the order of their scheduled times, advancing
+     * a virtual clock to the time of each command, so that the tests do not depend on the speed of the machine.
+     */
+    private static final class VirtualTimeScheduler extends AbstractExecutorService
+            implements ScheduledExecutorService {
+
+        private final PriorityQueue<ScheduledCommand> commands = new PriorityQueue<>(
+                Comparator.comparingLong((ScheduledCommand command) -> command.time)
+                        .thenComparingLong(command -> command.sequenceNumber));
+        private long now;
+        private long numScheduledCommands;
+        private boolean isShutdown;
+
+        long currentTimeMillis() {
+            return now;
+        }
+
+        /**
+         * Runs the commands scheduled at or before the given time, including the ones scheduled by them.
+         */
+        void runUntil(long time) {
+            while (!commands.isEmpty() && commands.peek().time <= time) {
+                ScheduledCommand command = commands.poll();
+                now = Math.max(now, command.time);
+                command.runnable.run();
+            }
+        }
+
+        /**
+         * Runs all commands, including the ones scheduled by them, until none is left.
+         */
+        void runAll() {
+            runUntil(Long.MAX_VALUE);
+        }
+
+        @Override
+        public ScheduledFuture<?> schedule(Runnable command, long delay, TimeUnit unit) {
+            if (isShutdown) {
+                throw new RejectedExecutionException("Scheduler is shut down");
+            }
+            commands.add(new ScheduledCommand(now + unit.toMillis(delay), numScheduledCommands++, command));
+            return null; // the future is not used by the task queue
+        }
+
+        @Override
+        public <V> ScheduledFuture<V> schedule(Callable<V> callable, long delay, TimeUnit unit) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public ScheduledFuture<?> scheduleAtFixedRate(Runnable command, long initialDelay, long period,
+                                                      TimeUnit unit) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public ScheduledFuture<?> scheduleWithFixedDelay(Runnable command, long initialDelay, long delay,
+                                                         TimeUnit unit) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void execute(Runnable command) {
+            schedule(command, 0, TimeUnit.MILLISECONDS);
+        }
+
+        @Override
+        public void shutdown() {
+            isShutdown = true;
+        }
+
+        @Override
+        public List<Runnable> shutdownNow() {
+            isShutdown = true;
+            List<Runnable> pendingCommands = new ArrayList<>();
+            commands.forEach(command -> pendingCommands.add(command.runnable));
+            commands.clear();
+            return pendingCommands;
+        }
+
+        @Override
+        public boolean isShutdown() {
+            return isShutdown;
+        }
+
+        @Override
+        public boolean isTerminated() {
+            return isShutdown;
+        }
+
+        @Override
+        public boolean awaitTermination(long timeout, TimeUnit unit) {
+            return true;
+        }
+
+        private static final class ScheduledCommand {
+            private final long time;
+            private final long sequenceNumber;
+            private final Runnable runnable;
+
+            private ScheduledCommand(long time, long sequenceNumber, Runnable runnable) {
+                this.time = time;
+                this.sequenceNumber = sequenceNumber;
+                this.runnable = runnable;
+            }
+        }
+    }
+
+}
@@ -24,6 +24,7 @@ import teammates.common.util.Config;
 import teammates.common.util.Const;
 import teammates.common.util.EmailWrapper;
 import teammates.common.util.JsonUtils;
+import teammates.common.util.TaskWrapper;
 import teammates.logic.api.*;
 import teammates.test.BaseTestCaseWithLocalDatabaseAccess;
 import teammates.test.MockHttpServletRequest;
@@ -93,19 +94,23 @@ public abstract class BaseActionTest<T extends Action> extends BaseTestCaseWithL
         try {
             @SuppressWarnings("unchecked")
             T action = (T) ActionFactory.getAction(req, getRequestMethod());
-            action.setTaskQueuer(mockTaskQueuer);
-            action.setEmailSender(mockEmailSender);
-            action.setLogsProcessor(mockLogsProcessor);
-            action.setUserProvision(mockUserProvision);
-            action.setRecaptchaVerifier(mockRecaptchaVerifier);
-            action.setAuthProxy(mockAuthProxy);
-            action.init(req);
+            initWithMocks(action, req);
             return action;
         } catch (ActionMappingException e) {
             throw new RuntimeException(e);
         }
     }
 
+    private void initWithMocks(Action action, MockHttpServletRequest req) {
+        action.setTaskQueuer(mockTaskQueuer);
+        action.setEmailSender(mockEmailSender);
+        action.setLogsProcessor(mockLogsProcessor);
+        action.setUserProvision(mockUserProvision);
+        action.setRecaptchaVerifier(mockRecaptchaVerifier);
+        action.setAuthProxy(mockAuthProxy);
+        action.init(req);
+    }
+
     /**
      * Gets an action with list of cookies.
      */
@@ -662,6 +667,39 @@ public abstract class BaseActionTest<T extends Action> extends BaseTestCaseWithL
         assertEquals(taskCount, tasksAdded.get(taskName).intValue());
     }
 
+    /**
+     * Runs the background tasks added to the specified queue by the executed action, as the task queue would.
+     *
+     * <p>The tasks added by the worker actions are kept together with the tasks which are run.
+     */
+    protected void runSpecifiedTasksAdded(String taskName) throws Exception {
+        List<TaskWrapper> tasksToRun = new ArrayList<>();
+        for (TaskWrapper task : mockTaskQueuer.getTasksAdded()) {
+            if (task.getQueueName().equals(taskName)) {
+                tasksToRun.add(task);
+            }
+        }
+
+        for (TaskWrapper task : tasksToRun) {
+            MockHttpServletRequest req = new MockHttpServletRequest(POST, task.getWorkerUrl());
+            task.getParamMap().forEach(req::addParam);
+            if (task.getRequestBody() != null) {
+                req.setBody(JsonUtils.toCompactJson(task.getRequestBody()));
+            }
+            Action action = ActionFactory.getAction(req, POST);
+            initWithMocks(action, req);
+            action.execute();
+        }
+    }
+
+    /**
+     * Verifies that the executed action results in the specified number of emails being scheduled for sending,
+     * whether individually or in batches.
+     */
+    protected void verifyNumberOfEmailsScheduledForSending(int emailCount) {
+        assertEquals(emailCount, mockTaskQueuer.getEmailsScheduledForSending().size());
+    }
+
     /**
      * Verifies that the executed action does not result in any email being sent.
      */
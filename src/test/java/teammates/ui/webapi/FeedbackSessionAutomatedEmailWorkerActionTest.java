@@ -0,0 +1,153 @@
+package teammates.ui.webapi;
+
+import org.testng.annotations.Test;
+
+import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
+import teammates.common.util.Const;
+import teammates.common.util.Const.ParamsNames;
+import teammates.common.util.EmailType;
+import teammates.common.util.EmailWrapper;
+import teammates.common.util.TimeHelper;
+import teammates.common.util.TimeHelperExtension;
+import teammates.logic.api.CoursesLogicAPI;
+import teammates.logic.api.FeedbackSessionsLogicAPI;
+import teammates.ui.output.MessageOutput;
+
+/**
+ * SUT: {@link FeedbackSessionAutomatedEmailWorkerAction}.
+ */
+public class FeedbackSessionAutomatedEmailWorkerActionTest
+        extends BaseActionTest<FeedbackSessionAutomatedEmailWorkerAction> {
+    private final FeedbackSessionsLogicAPI feedbackSessionsLogic = FeedbackSessionsLogicAPI.inst();
+    private final CoursesLogicAPI coursesLogic = CoursesLogicAPI.inst();
+
+    @Override
+    protected String getActionUri() {
+        return Const.TaskQueue.FEEDBACK_SESSION_AUTOMATED_EMAIL_WORKER_URL;
+    }
+
+    @Override
+    protected String getRequestMethod() {
+        return POST;
+    }
+
+    @Override
+    @Test
+    protected void testAccessControl() {
+        verifyOnlyAdminCanAccess();
+    }
+
+    @Override
+    @Test
+    public void testExecute() throws Exception {
+        FeedbackSessionAttributes session1 = typicalBundle.feedbackSessions.get("session1InCourse1");
+
+        ______TS("email not due: no emails are scheduled");
+
+        String[] submissionParams = new String[] {
+                ParamsNames.COURSE_ID, session1.getCourseId(),
+                ParamsNames.FEEDBACK_SESSION_NAME, session1.getFeedbackSessionName(),
+                ParamsNames.EMAIL_TYPE, EmailType.FEEDBACK_CLOSED.name(),
+        };
+
+        // session is still open
+        FeedbackSessionAutomatedEmailWorkerAction action = getAction(submissionParams);
+        action.execute();
+
+        verifyNoTasksAdded();
+
+        ______TS("email due: emails are scheduled and session is marked as sent");
+
+        feedbackSessionsLogic.updateFeedbackSession(
+                FeedbackSessionAttributes
+                        .updateOptionsBuilder(session1.getFeedbackSessionName(), session1.getCourseId())
+                        .withTimeZone("UTC")
+                        .withStartTime(TimeHelper.getInstantDaysOffsetFromNow(-2))
+                        .withEndTime(TimeHelperExtension.getInstantHoursOffsetFromNow(-1))
+                        .build());
+
+        action = getAction(submissionParams);
+        action.execute();
+
+        // 3 co-owners in course1
+        verifyNumberOfEmailsScheduledForSending(3);
+
+        FeedbackSessionAttributes updatedSession =
+                feedbackSessionsLogic.getFeedbackSession(session1.getFeedbackSessionName(), session1.getCourseId());
+        String courseName = coursesLogic.getCourse(session1.getCourseId()).getName();
+        for (EmailWrapper email : mockTaskQueuer.getEmailsScheduledForSending()) {
+            String expectedSubject = String.format(EmailType.FEEDBACK_CLOSED.getSubject(),
+                    courseName, session1.getFeedbackSessionName());
+            assertEquals(expectedSubject, email.getSubject());
+            assertEquals("FEEDBACK_CLOSED|" + session1.getCourseId() + "|" + session1.getFeedbackSessionName()
+                    + "|" + email.getRecipient() + "|" + email.getIsCopy() + "|"
+                    + updatedSession.getEndTime().toEpochMilli(), email.getIdempotencyKey());
+        }
+        assertTrue(updatedSession.isSentClosedEmail());
+
+        ______TS("task run again after emails are sent: no emails are scheduled");
+
+        action = getAction(submissionParams);
+        action.execute();
+
+        verifyNoTasksAdded();
+
+        ______TS("email of another type not within its time window: no emails are scheduled");
+
+        action = getAction(
+                ParamsNames.COURSE_ID, session1.getCourseId(),
+                ParamsNames.FEEDBACK_SESSION_NAME, session1.getFeedbackSessionName(),
+                ParamsNames.EMAIL_TYPE, EmailType.FEEDBACK_OPENING.name());
+        action.execute();
+
+        verifyNoTasksAdded();
+
+        ______TS("published email due: emails are scheduled and session is marked as sent");
+
+        feedbackSessionsLogic.updateFeedbackSession(
+                FeedbackSessionAttributes
+                        .updateOptionsBuilder(session1.getFeedbackSessionName(), session1.getCourseId())
+                        .withResultsVisibleFromTime(TimeHelperExtension.getInstantMinutesOffsetFromNow(-1))
+                        .build());
+
+        action = getAction(
+                ParamsNames.COURSE_ID, session1.getCourseId(),
+                ParamsNames.FEEDBACK_SESSION_NAME, session1.getFeedbackSessionName(),
+                ParamsNames.EMAIL_TYPE, EmailType.FEEDBACK_PUBLISHED.name());
+        action.execute();
+
+        assertFalse(mockTaskQueuer.getEmailsScheduledForSending().isEmpty());
+        for (EmailWrapper email : mockTaskQueuer.getEmailsScheduledForSending()) {
+            String expectedSubject = (email.getIsCopy() ? EmailWrapper.EMAIL_COPY_SUBJECT_PREFIX : "")
+                    + String.format(EmailType.FEEDBACK_PUBLISHED.getSubject(),
+                    courseName, session1.getFeedbackSessionName());
+            assertEquals(expectedSubject, email.getSubject());
+        }
+        assertTrue(feedbackSessionsLogic.getFeedbackSession(session1.getFeedbackSessionName(), session1.getCourseId())
+                .isSentPublishedEmail());
+
+        ______TS("non-existent session: no emails are scheduled");
+
+        action = getAction(
+                ParamsNames.COURSE_ID, session1.getCourseId(),
+                ParamsNames.FEEDBACK_SESSION_NAME, "non-existent session",
+                ParamsNames.EMAIL_TYPE, EmailType.FEEDBACK_CLOSING.name());
+        JsonResult result = getJsonResult(action);
+
+        assertEquals("Failure", ((MessageOutput) result.getOutput()).getMessage());
+        verifyNoTasksAdded();
+
+        ______TS("email type which is not sent automatically for a session: invalid parameter");
+
+        verifyHttpParameterFailure(
+                ParamsNames.COURSE_ID, session1.getCourseId(),
+                ParamsNames.FEEDBACK_SESSION_NAME, session1.getFeedbackSessionName(),
+                ParamsNames.EMAIL_TYPE, EmailType.FEEDBACK_UNPUBLISHED.name());
+
+        verifyHttpParameterFailure(
+                ParamsNames.COURSE_ID, session1.getCourseId(),
+                ParamsNames.FEEDBACK_SESSION_NAME, session1.getFeedbackSessionName(),
+                ParamsNames.EMAIL_TYPE, "UNKNOWN_TYPE");
+    }
+
+}
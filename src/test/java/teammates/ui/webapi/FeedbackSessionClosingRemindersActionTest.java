@@ -11,13 +11,11 @@ import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
 import teammates.common.util.Const;
 import teammates.common.util.EmailType;
 import teammates.common.util.EmailWrapper;
-import teammates.common.util.TaskWrapper;
 import teammates.common.util.TimeHelper;
 import teammates.common.util.TimeHelperExtension;
 import teammates.logic.api.CoursesLogicAPI;
 import teammates.logic.api.FeedbackSessionsLogicAPI;
 import teammates.test.ThreadHelper;
-import teammates.ui.request.SendEmailRequest;
 
 /**
  * SUT: {@link FeedbackSessionClosingRemindersAction}.
@@ -116,15 +114,15 @@ public class FeedbackSessionClosingRemindersActionTest
         action = getAction();
         action.execute();
 
+        verifySpecifiedTasksAdded(Const.TaskQueue.FEEDBACK_SESSION_AUTOMATED_EMAIL_QUEUE_NAME, 1);
+        runSpecifiedTasksAdded(Const.TaskQueue.FEEDBACK_SESSION_AUTOMATED_EMAIL_QUEUE_NAME);
+
         // 5 students, 5 instructors, and 3 co-owner instructors in course1
         // 3 students and 2 instructors in session have deadline extensions and should not receive email
-        verifySpecifiedTasksAdded(Const.TaskQueue.SEND_EMAIL_QUEUE_NAME, 8);
+        verifyNumberOfEmailsScheduledForSending(8);
 
         String courseName = coursesLogic.getCourse(session1.getCourseId()).getName();
-        List<TaskWrapper> tasksAdded = mockTaskQueuer.getTasksAdded();
-        for (TaskWrapper task : tasksAdded) {
-            SendEmailRequest requestBody = (SendEmailRequest) task.getRequestBody();
-            EmailWrapper email = requestBody.getEmail();
+        for (EmailWrapper email : mockTaskQueuer.getEmailsScheduledForSending()) {
             String expectedSubject = (email.getIsCopy() ? EmailWrapper.EMAIL_COPY_SUBJECT_PREFIX : "")
                     + String.format(EmailType.FEEDBACK_CLOSING.getSubject(),
                     courseName, session1.getFeedbackSessionName());
@@ -213,16 +211,17 @@ public class FeedbackSessionClosingRemindersActionTest
         action = getAction();
         action.execute();
 
+        // 1 task for each session with deadline extensions closing soon
+        verifySpecifiedTasksAdded(Const.TaskQueue.FEEDBACK_SESSION_AUTOMATED_EMAIL_QUEUE_NAME, 3);
+        runSpecifiedTasksAdded(Const.TaskQueue.FEEDBACK_SESSION_AUTOMATED_EMAIL_QUEUE_NAME);
+
         // sentClosingEmail is true for all sessions, should only send emails to those with extended deadlines
         // 2 students, 1 instructor with valid deadline extensions within time period
         // 1 student in session with reminders disabled
         // 1 student with outdated deadline, 1 student with deleted deadline
-        verifySpecifiedTasksAdded(Const.TaskQueue.SEND_EMAIL_QUEUE_NAME, 3);
+        verifyNumberOfEmailsScheduledForSending(3);
 
-        tasksAdded = mockTaskQueuer.getTasksAdded();
-        for (var task : tasksAdded) {
-            SendEmailRequest requestBody = (SendEmailRequest) task.getRequestBody();
-            EmailWrapper email = requestBody.getEmail();
+        for (EmailWrapper email : mockTaskQueuer.getEmailsScheduledForSending()) {
             String expectedSubjectSession1 = String.format(EmailType.FEEDBACK_CLOSING.getSubject(),
                     courseName, session1.getFeedbackSessionName());
             String expectedSubjectSession3 = String.format(EmailType.FEEDBACK_CLOSING.getSubject(),
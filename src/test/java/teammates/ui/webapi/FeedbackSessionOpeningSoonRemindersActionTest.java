@@ -1,20 +1,16 @@
 package teammates.ui.webapi;
 
-import java.util.List;
-
 import org.testng.annotations.Test;
 
 import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
 import teammates.common.util.Const;
 import teammates.common.util.EmailType;
 import teammates.common.util.EmailWrapper;
-import teammates.common.util.TaskWrapper;
 import teammates.common.util.TimeHelper;
 import teammates.common.util.TimeHelperExtension;
 import teammates.logic.api.CoursesLogicAPI;
 import teammates.logic.api.FeedbackSessionsLogicAPI;
 import teammates.test.ThreadHelper;
-import teammates.ui.request.SendEmailRequest;
 
 /**
  * SUT: {@link FeedbackSessionOpeningSoonRemindersAction}.
@@ -89,15 +85,15 @@ public class FeedbackSessionOpeningSoonRemindersActionTest
         action = getAction();
         action.execute();
 
+        verifySpecifiedTasksAdded(Const.TaskQueue.FEEDBACK_SESSION_AUTOMATED_EMAIL_QUEUE_NAME, 2);
+        runSpecifiedTasksAdded(Const.TaskQueue.FEEDBACK_SESSION_AUTOMATED_EMAIL_QUEUE_NAME);
+
         // 3 co-owners in course1 x 2 sessions
-        verifySpecifiedTasksAdded(Const.TaskQueue.SEND_EMAIL_QUEUE_NAME, 6);
+        verifyNumberOfEmailsScheduledForSending(6);
 
         // check that the subject matches either session 1 or session 2's details
         String courseName = coursesLogic.getCourse(session1.getCourseId()).getName();
-        List<TaskWrapper> tasksAdded = mockTaskQueuer.getTasksAdded();
-        for (TaskWrapper task : tasksAdded) {
-            SendEmailRequest requestBody = (SendEmailRequest) task.getRequestBody();
-            EmailWrapper email = requestBody.getEmail();
+        for (EmailWrapper email : mockTaskQueuer.getEmailsScheduledForSending()) {
             try {
                 assertEquals(String.format(EmailType.FEEDBACK_OPENING_SOON.getSubject(), courseName,
                         session1.getFeedbackSessionName()),
@@ -187,12 +183,12 @@ public class FeedbackSessionOpeningSoonRemindersActionTest
         action = getAction();
         action.execute();
 
-        verifySpecifiedTasksAdded(Const.TaskQueue.SEND_EMAIL_QUEUE_NAME, 3);
+        verifySpecifiedTasksAdded(Const.TaskQueue.FEEDBACK_SESSION_AUTOMATED_EMAIL_QUEUE_NAME, 1);
+        runSpecifiedTasksAdded(Const.TaskQueue.FEEDBACK_SESSION_AUTOMATED_EMAIL_QUEUE_NAME);
 
-        tasksAdded = mockTaskQueuer.getTasksAdded();
-        for (TaskWrapper task : tasksAdded) {
-            SendEmailRequest requestBody = (SendEmailRequest) task.getRequestBody();
-            EmailWrapper email = requestBody.getEmail();
+        verifyNumberOfEmailsScheduledForSending(3);
+
+        for (EmailWrapper email : mockTaskQueuer.getEmailsScheduledForSending()) {
 
             assertEquals(String.format(EmailType.FEEDBACK_OPENING_SOON.getSubject(), courseName,
                     session1.getFeedbackSessionName()),
@@ -229,12 +225,12 @@ public class FeedbackSessionOpeningSoonRemindersActionTest
         action = getAction();
         action.execute();
 
-        verifySpecifiedTasksAdded(Const.TaskQueue.SEND_EMAIL_QUEUE_NAME, 3);
+        verifySpecifiedTasksAdded(Const.TaskQueue.FEEDBACK_SESSION_AUTOMATED_EMAIL_QUEUE_NAME, 1);
+        runSpecifiedTasksAdded(Const.TaskQueue.FEEDBACK_SESSION_AUTOMATED_EMAIL_QUEUE_NAME);
+
+        verifyNumberOfEmailsScheduledForSending(3);
 
-        tasksAdded = mockTaskQueuer.getTasksAdded();
-        for (TaskWrapper task : tasksAdded) {
-            SendEmailRequest requestBody = (SendEmailRequest) task.getRequestBody();
-            EmailWrapper email = requestBody.getEmail();
+        for (EmailWrapper email : mockTaskQueuer.getEmailsScheduledForSending()) {
 
             assertEquals(String.format(EmailType.FEEDBACK_OPENING_SOON.getSubject(), courseName,
                     session1.getFeedbackSessionName()),
@@ -108,6 +108,7 @@ public class GetActionClassesActionTest extends BaseActionTest<GetActionClassesA
                 RemindFeedbackSessionSubmissionAction.class,
                 FeedbackSessionUnpublishedEmailWorkerAction.class,
                 SendEmailWorkerAction.class,
+                SendEmailBatchWorkerAction.class,
                 GetInstructorsAction.class,
                 PutDataBundleDocumentsAction.class,
                 FeedbackSessionResendPublishedEmailWorkerAction.class,
@@ -138,7 +139,9 @@ public class GetActionClassesActionTest extends BaseActionTest<GetActionClassesA
                 MarkNotificationAsReadAction.class,
                 GetReadNotificationsAction.class,
                 GetDeadlineExtensionAction.class,
-                SendLoginEmailAction.class
+                SendLoginEmailAction.class,
+                GetRequestMetricsAction.class,
+                FeedbackSessionAutomatedEmailWorkerAction.class
         );
         List<String> expectedActionClassesNames = expectedActionClasses.stream()
                 .map(Class::getSimpleName)
@@ -13,6 +13,7 @@ import teammates.common.datatransfer.logs.FeedbackSessionLogType;
 import teammates.common.util.Const;
 import teammates.ui.output.FeedbackSessionLogData;
 import teammates.ui.output.FeedbackSessionLogEntryData;
+import teammates.ui.output.FeedbackSessionLogSummaryData;
 import teammates.ui.output.FeedbackSessionLogsData;
 
 /**
@@ -105,6 +106,20 @@ public class GetFeedbackSessionLogsActionTest extends BaseActionTest<GetFeedback
         };
         verifyHttpParameterFailure(paramsInvalid4);
 
+        ______TS("Failure case: invalid log type or limit");
+        verifyHttpParameterFailure(
+                Const.ParamsNames.COURSE_ID, courseId,
+                Const.ParamsNames.FEEDBACK_SESSION_LOG_TYPE, "access,fake-type",
+                Const.ParamsNames.FEEDBACK_SESSION_LOG_STARTTIME, String.valueOf(startTime),
+                Const.ParamsNames.FEEDBACK_SESSION_LOG_ENDTIME, String.valueOf(endTime)
+        );
+        verifyHttpParameterFailure(
+                Const.ParamsNames.COURSE_ID, courseId,
+                Const.ParamsNames.LIMIT, "0",
+                Const.ParamsNames.FEEDBACK_SESSION_LOG_STARTTIME, String.valueOf(startTime),
+                Const.ParamsNames.FEEDBACK_SESSION_LOG_ENDTIME, String.valueOf(endTime)
+        );
+
         ______TS("Failure case: start time is before earliest search time");
         verifyHttpParameterFailure(
                 Const.ParamsNames.COURSE_ID, courseId,
@@ -156,8 +171,77 @@ public class GetFeedbackSessionLogsActionTest extends BaseActionTest<GetFeedback
                 Const.ParamsNames.FEEDBACK_SESSION_LOG_STARTTIME, String.valueOf(startTime),
                 Const.ParamsNames.FEEDBACK_SESSION_LOG_ENDTIME, String.valueOf(endTime),
         };
-        getJsonResult(getAction(paramsSuccessful2));
-        // No need to check output again here, it will be exactly the same as the previous case
+        actionOutput = getJsonResult(getAction(paramsSuccessful2));
+
+        // Logs of other students are ignored
+        fsLogs = ((FeedbackSessionLogsData) actionOutput.getOutput()).getFeedbackSessionLogs();
+        assertEquals(fsLogs.get(0).getFeedbackSessionLogEntries().size(), 1);
+        assertEquals(fsLogs.get(0).getFeedbackSessionLogEntries().get(0).getStudentData().getEmail(), student1Email);
+        assertEquals(fsLogs.get(1).getFeedbackSessionLogEntries().size(), 2);
+
+        ______TS("Success case: should filter by log type");
+        String[] paramsSuccessful3 = {
+                Const.ParamsNames.COURSE_ID, courseId,
+                Const.ParamsNames.FEEDBACK_SESSION_LOG_TYPE, FeedbackSessionLogType.SUBMISSION.getLabel(),
+                Const.ParamsNames.FEEDBACK_SESSION_LOG_STARTTIME, String.valueOf(startTime),
+                Const.ParamsNames.FEEDBACK_SESSION_LOG_ENDTIME, String.valueOf(endTime),
+        };
+        actionOutput = getJsonResult(getAction(paramsSuccessful3));
+
+        fsLogs = ((FeedbackSessionLogsData) actionOutput.getOutput()).getFeedbackSessionLogs();
+        assertEquals(fsLogs.get(0).getFeedbackSessionLogEntries().size(), 1);
+        assertEquals(fsLogs.get(0).getFeedbackSessionLogEntries().get(0).getFeedbackSessionLogType(),
+                FeedbackSessionLogType.SUBMISSION);
+        assertEquals(fsLogs.get(1).getFeedbackSessionLogEntries().size(), 1);
+
+        ______TS("Success case: should return only the latest entries up to the limit");
+        String[] paramsSuccessful4 = {
+                Const.ParamsNames.COURSE_ID, courseId,
+                Const.ParamsNames.LIMIT, "1",
+                Const.ParamsNames.FEEDBACK_SESSION_LOG_STARTTIME, String.valueOf(startTime),
+                Const.ParamsNames.FEEDBACK_SESSION_LOG_ENDTIME, String.valueOf(endTime),
+        };
+        actionOutput = getJsonResult(getAction(paramsSuccessful4));
+
+        fsLogs = ((FeedbackSessionLogsData) actionOutput.getOutput()).getFeedbackSessionLogs();
+        fsLogEntries1 = fsLogs.get(0).getFeedbackSessionLogEntries();
+        assertEquals(fsLogEntries1.size(), 1);
+        assertEquals(fsLogEntries1.get(0).getTimestamp(), startTime + 4000);
+        assertEquals(fsLogs.get(0).getNumLogEntries(), 3);
+        assertNull(fsLogs.get(0).getFeedbackSessionLogSummaries());
+
+        ______TS("Success case: should summarize the entries of each student");
+        String[] paramsSuccessful5 = {
+                Const.ParamsNames.COURSE_ID, courseId,
+                Const.ParamsNames.FEEDBACK_SESSION_LOG_IS_SUMMARY, "true",
+                Const.ParamsNames.FEEDBACK_SESSION_LOG_STARTTIME, String.valueOf(startTime),
+                Const.ParamsNames.FEEDBACK_SESSION_LOG_ENDTIME, String.valueOf(endTime),
+        };
+        actionOutput = getJsonResult(getAction(paramsSuccessful5));
+
+        fsLogs = ((FeedbackSessionLogsData) actionOutput.getOutput()).getFeedbackSessionLogs();
+        assertTrue(fsLogs.get(0).getFeedbackSessionLogEntries().isEmpty());
+        assertEquals(fsLogs.get(0).getNumLogEntries(), 3);
+
+        List<FeedbackSessionLogSummaryData> summaries = fsLogs.get(0).getFeedbackSessionLogSummaries();
+        assertEquals(summaries.size(), 2);
+        FeedbackSessionLogSummaryData summary1 = summaries.stream()
+                .filter(summary -> summary.getStudentData().getEmail().equals(student1Email))
+                .findFirst()
+                .orElseThrow();
+        assertEquals(summary1.getNumLogEntries(), 1);
+        assertEquals(summary1.getLastAccessTimestamp().longValue(), startTime);
+        assertNull(summary1.getLastSubmissionTimestamp());
+        FeedbackSessionLogSummaryData summary2 = summaries.stream()
+                .filter(summary -> summary.getStudentData().getEmail().equals(student2Email))
+                .findFirst()
+                .orElseThrow();
+        assertEquals(summary2.getNumLogEntries(), 2);
+        assertEquals(summary2.getLastAccessTimestamp().longValue(), startTime + 3000);
+        assertEquals(summary2.getLastSubmissionTimestamp().longValue(), startTime + 4000);
+        assertNull(summary2.getLastViewResultTimestamp());
+
+        assertTrue(fsLogs.get(2).getFeedbackSessionLogSummaries().isEmpty());
 
         // TODO: if we restrict the range from start to end time, it should be tested here as well
     }
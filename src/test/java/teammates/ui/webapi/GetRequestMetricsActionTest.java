@@ -0,0 +1,120 @@
+package teammates.ui.webapi;
+
+import java.util.List;
+
+import org.testng.annotations.Test;
+
+import teammates.common.util.Const;
+import teammates.common.util.EmailDeduplicationMetrics;
+import teammates.common.util.EmailType;
+import teammates.common.util.OutboundRequestMetrics;
+import teammates.common.util.RequestMetrics;
+import teammates.ui.output.ActionMetricsData;
+import teammates.ui.output.EmailDeduplicationMetricsData;
+import teammates.ui.output.OutboundRequestMetricsData;
+import teammates.ui.output.RequestMetricsData;
+
+/**
+ * SUT: {@link GetRequestMetricsAction}.
+ */
+public class GetRequestMetricsActionTest extends BaseActionTest<GetRequestMetricsAction> {
+
+    @Override
+    protected String getActionUri() {
+        return Const.ResourceURIs.METRICS;
+    }
+
+    @Override
+    protected String getRequestMethod() {
+        return GET;
+    }
+
+    @Override
+    @Test
+    protected void testExecute() {
+        loginAsAdmin();
+
+        RequestMetrics.reset();
+        RequestMetrics.recordRequestStart("GetCourseAction");
+        RequestMetrics.recordRequestEnd("GetCourseAction", 200, 20);
+        RequestMetrics.recordRequestStart("GetCourseAction");
+        RequestMetrics.recordRequestEnd("GetCourseAction", 404, 10);
+        RequestMetrics.recordRequestStart("GetCourseAction");
+        OutboundRequestMetrics.reset();
+        OutboundRequestMetrics.recordConnectionOpened("api.sendgrid.com");
+        OutboundRequestMetrics.recordResponse("api.sendgrid.com", 202, 40);
+        OutboundRequestMetrics.recordResponse("api.sendgrid.com", 429, 10);
+        OutboundRequestMetrics.recordFailure("api.sendgrid.com");
+        EmailDeduplicationMetrics.reset();
+        EmailDeduplicationMetrics.recordEmailAllowed(EmailType.FEEDBACK_CLOSING);
+        EmailDeduplicationMetrics.recordDuplicateSuppressed(EmailType.FEEDBACK_CLOSING);
+        EmailDeduplicationMetrics.recordDuplicateSuppressed(EmailType.FEEDBACK_CLOSING);
+
+        ______TS("JSON format");
+
+        GetRequestMetricsAction action = getAction();
+        JsonResult result = getJsonResult(action);
+        RequestMetricsData data = (RequestMetricsData) result.getOutput();
+        List<ActionMetricsData> actionMetrics = data.getActionMetrics();
+
+        assertEquals(1, actionMetrics.size());
+        ActionMetricsData courseMetrics = actionMetrics.get(0);
+        assertEquals("GetCourseAction", courseMetrics.getActionClass());
+        assertEquals(2, courseMetrics.getNumRequests());
+        assertEquals(1, courseMetrics.getNumInFlightRequests());
+        assertEquals(15, courseMetrics.getMeanLatency());
+        assertEquals(10, courseMetrics.getP50Latency());
+        assertEquals(20, courseMetrics.getP99Latency());
+        assertEquals(20, courseMetrics.getMaxLatency());
+        assertEquals(1L, (long) courseMetrics.getStatusCodeCounts().get("200"));
+        assertEquals(1L, (long) courseMetrics.getStatusCodeCounts().get("404"));
+
+        List<OutboundRequestMetricsData> outboundRequestMetrics = data.getOutboundRequestMetrics();
+        assertEquals(1, outboundRequestMetrics.size());
+        OutboundRequestMetricsData sendgridMetrics = outboundRequestMetrics.get(0);
+        assertEquals("api.sendgrid.com", sendgridMetrics.getHost());
+        assertEquals(2, sendgridMetrics.getNumRequests());
+        assertEquals(1, sendgridMetrics.getNumErrorResponses());
+        assertEquals(1, sendgridMetrics.getNumFailures());
+        assertEquals(1, sendgridMetrics.getNumConnectionsOpened());
+        assertEquals(25, sendgridMetrics.getMeanLatency());
+
+        List<EmailDeduplicationMetricsData> emailDeduplicationMetrics = data.getEmailDeduplicationMetrics();
+        assertEquals(1, emailDeduplicationMetrics.size());
+        assertEquals(EmailType.FEEDBACK_CLOSING, emailDeduplicationMetrics.get(0).getEmailType());
+        assertEquals(1, emailDeduplicationMetrics.get(0).getNumEmailsAllowed());
+        assertEquals(2, emailDeduplicationMetrics.get(0).getNumDuplicatesSuppressed());
+
+        ______TS("Prometheus format");
+
+        action = getAction(Const.ParamsNames.METRICS_FORMAT, GetRequestMetricsAction.PROMETHEUS_FORMAT);
+        TextResult textResult = (TextResult) action.execute();
+        String content = textResult.getContent();
+
+        assertTrue(content.contains(
+                "teammates_request_latency_milliseconds{action=\"GetCourseAction\",quantile=\"0.99\"} 20\n"));
+        assertTrue(content.contains("teammates_request_latency_milliseconds_count{action=\"GetCourseAction\"} 2\n"));
+        assertTrue(content.contains("teammates_requests_total{action=\"GetCourseAction\",status=\"404\"} 1\n"));
+        assertTrue(content.contains("teammates_requests_in_flight{action=\"GetCourseAction\"} 1\n"));
+        assertTrue(content.contains(
+                "teammates_outbound_request_latency_milliseconds_count{host=\"api.sendgrid.com\"} 2\n"));
+        assertTrue(content.contains("teammates_outbound_error_responses_total{host=\"api.sendgrid.com\"} 1\n"));
+        assertTrue(content.contains("teammates_outbound_connections_opened_total{host=\"api.sendgrid.com\"} 1\n"));
+        assertTrue(content.contains("teammates_email_duplicates_suppressed_total{type=\"FEEDBACK_CLOSING\"} 2\n"));
+
+        ______TS("Unknown format");
+
+        verifyHttpParameterFailure(Const.ParamsNames.METRICS_FORMAT, "unknown");
+
+        RequestMetrics.reset();
+        OutboundRequestMetrics.reset();
+        EmailDeduplicationMetrics.reset();
+    }
+
+    @Override
+    @Test
+    protected void testAccessControl() {
+        verifyOnlyAdminCanAccess();
+    }
+
+}
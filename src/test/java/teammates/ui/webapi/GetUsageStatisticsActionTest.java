@@ -6,6 +6,7 @@ import java.time.Instant;
 import org.testng.annotations.Test;
 
 import teammates.common.util.Const;
+import teammates.ui.output.UsageStatisticsSeriesData;
 
 /**
  * SUT: {@link GetUsageStatisticsAction}.
@@ -94,6 +95,34 @@ public class GetUsageStatisticsActionTest extends BaseActionTest<GetUsageStatist
         // as we do not have means to reliably create test usage attributes data yet.
         getJsonResult(action);
 
+        ______TS("Failure case: invalid maximum number of points");
+
+        verifyHttpParameterFailure(
+                Const.ParamsNames.QUERY_LOGS_STARTTIME, String.valueOf(startTimeForFailCases),
+                Const.ParamsNames.QUERY_LOGS_ENDTIME, String.valueOf(startTimeForFailCases + 1000),
+                Const.ParamsNames.USAGE_STATISTICS_MAX_POINTS, "0"
+        );
+        verifyHttpParameterFailure(
+                Const.ParamsNames.QUERY_LOGS_STARTTIME, String.valueOf(startTimeForFailCases),
+                Const.ParamsNames.QUERY_LOGS_ENDTIME, String.valueOf(startTimeForFailCases + 1000),
+                Const.ParamsNames.USAGE_STATISTICS_MAX_POINTS, "abc"
+        );
+
+        ______TS("Success case: statistics in columns with the time period fitting the maximum number of points");
+
+        long endTime = Instant.now().toEpochMilli();
+        action = getAction(
+                Const.ParamsNames.QUERY_LOGS_STARTTIME, String.valueOf(endTime - Duration.ofDays(30L).toMillis()),
+                Const.ParamsNames.QUERY_LOGS_ENDTIME, String.valueOf(endTime),
+                Const.ParamsNames.USAGE_STATISTICS_MAX_POINTS, "40"
+        );
+        UsageStatisticsSeriesData output = (UsageStatisticsSeriesData) getJsonResult(action).getOutput();
+
+        // 30 days do not fit into 40 hourly points, but fit into 40 daily points
+        assertEquals(24 * 60, output.getTimePeriod());
+        assertEquals(output.getStartTimes().size(), output.getNumResponses().size());
+        assertEquals(output.getStartTimes().size(), output.getNumSubmissions().size());
+
     }
 
 }
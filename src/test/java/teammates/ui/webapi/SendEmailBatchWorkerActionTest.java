@@ -0,0 +1,153 @@
+package teammates.ui.webapi;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.testng.annotations.Test;
+
+import com.sun.jersey.api.client.ClientHandlerException;
+
+import teammates.common.util.Const;
+import teammates.common.util.EmailDeduplicationMetrics;
+import teammates.common.util.EmailType;
+import teammates.common.util.EmailWrapper;
+import teammates.ui.output.MessageOutput;
+import teammates.ui.request.SendEmailBatchRequest;
+
+/**
+ * SUT: {@link SendEmailBatchWorkerAction}.
+ */
+public class SendEmailBatchWorkerActionTest extends BaseActionTest<SendEmailBatchWorkerAction> {
+
+    @Override
+    protected String getActionUri() {
+        return Const.TaskQueue.SEND_EMAIL_BATCH_WORKER_URL;
+    }
+
+    @Override
+    protected String getRequestMethod() {
+        return POST;
+    }
+
+    @Override
+    @Test
+    protected void testAccessControl() {
+        verifyOnlyAdminCanAccess();
+    }
+
+    @Override
+    @Test
+    public void testExecute() {
+        ______TS("Typical case: all emails in the batch are sent");
+
+        List<EmailWrapper> emails = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            emails.add(getTypicalEmail("recipient" + i + "@email.com"));
+        }
+
+        SendEmailBatchWorkerAction action = getAction(new SendEmailBatchRequest(emails));
+        JsonResult result = getJsonResult(action);
+
+        assertEquals("Successful", ((MessageOutput) result.getOutput()).getMessage());
+        verifyNumberOfEmailsSent(3);
+        for (int i = 0; i < 3; i++) {
+            assertEquals(emails.get(i).getRecipient(), getEmailsSent().get(i).getRecipient());
+        }
+        verifyNoTasksAdded();
+
+        ______TS("Failure case: failed emails are rescheduled individually");
+
+        action = getAction(new SendEmailBatchRequest(emails));
+        mockEmailSender.failEmailsTo("recipient1@email.com");
+        result = getJsonResult(action);
+
+        assertEquals("1 of 3 emails failed and are rescheduled", ((MessageOutput) result.getOutput()).getMessage());
+        verifyNumberOfEmailsSent(2);
+        verifySpecifiedTasksAdded(Const.TaskQueue.SEND_EMAIL_QUEUE_NAME, 1);
+        assertEquals(Const.TaskQueue.SEND_EMAIL_WORKER_URL, mockTaskQueuer.getTasksAdded().get(0).getWorkerUrl());
+        assertEquals("recipient1@email.com", mockTaskQueuer.getEmailsScheduledForSending().get(0).getRecipient());
+
+        ______TS("Duplicate case: emails with idempotency keys sent recently are not sent again");
+
+        EmailDeduplicationMetrics.reset();
+        List<EmailWrapper> keyedEmails = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            EmailWrapper email = getTypicalEmail("keyed.recipient" + i + "@email.com");
+            email.setIdempotencyKey("key" + i);
+            keyedEmails.add(email);
+        }
+
+        action = getAction(new SendEmailBatchRequest(keyedEmails));
+        mockEmailSender.failEmailsTo("keyed.recipient1@email.com");
+        result = getJsonResult(action);
+
+        assertEquals("1 of 3 emails failed and are rescheduled", ((MessageOutput) result.getOutput()).getMessage());
+        verifyNumberOfEmailsSent(2);
+
+        // the email which failed to send can be sent again
+        action = getAction(new SendEmailBatchRequest(keyedEmails));
+        result = getJsonResult(action);
+
+        assertEquals("Successful", ((MessageOutput) result.getOutput()).getMessage());
+        verifyNumberOfEmailsSent(1);
+        assertEquals("keyed.recipient1@email.com", getEmailsSent().get(0).getRecipient());
+        verifyNoTasksAdded();
+
+        action = getAction(new SendEmailBatchRequest(keyedEmails));
+        result = getJsonResult(action);
+
+        assertEquals("Successful", ((MessageOutput) result.getOutput()).getMessage());
+        verifyNoEmailsSent();
+
+        EmailDeduplicationMetrics.EmailTypeMetrics metrics = EmailDeduplicationMetrics.getAllEmailTypeMetrics().get(0);
+        assertEquals(EmailType.FEEDBACK_SESSION_REMINDER, metrics.getEmailType());
+        assertEquals(4, metrics.getNumEmailsAllowed());
+        assertEquals(5, metrics.getNumDuplicatesSuppressed());
+        EmailDeduplicationMetrics.reset();
+
+        ______TS("Failure case: email service throws, so the whole batch can be sent when the task is retried");
+
+        List<EmailWrapper> retriedEmails = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            EmailWrapper email = getTypicalEmail("retried.recipient" + i + "@email.com");
+            email.setIdempotencyKey("retriedKey" + i);
+            retriedEmails.add(email);
+        }
+
+        SendEmailBatchWorkerAction throwingAction = getAction(new SendEmailBatchRequest(retriedEmails));
+        mockEmailSender.throwOnEmailsTo("retried.recipient2@email.com");
+        assertThrows(ClientHandlerException.class, () -> getJsonResult(throwingAction));
+
+        action = getAction(new SendEmailBatchRequest(retriedEmails));
+        result = getJsonResult(action);
+
+        assertEquals("Successful", ((MessageOutput) result.getOutput()).getMessage());
+        verifyNumberOfEmailsSent(3);
+        verifyNoTasksAdded();
+        EmailDeduplicationMetrics.reset();
+
+        ______TS("Failure case: empty batch");
+
+        verifyHttpRequestBodyFailure(new SendEmailBatchRequest(new ArrayList<>()));
+
+        ______TS("Failure case: invalid email in batch");
+
+        EmailWrapper invalidEmail = getTypicalEmail("recipient@email.com");
+        invalidEmail.setSubject(null);
+
+        verifyHttpRequestBodyFailure(new SendEmailBatchRequest(List.of(emails.get(0), invalidEmail)));
+    }
+
+    private EmailWrapper getTypicalEmail(String recipient) {
+        EmailWrapper email = new EmailWrapper();
+        email.setType(EmailType.FEEDBACK_SESSION_REMINDER);
+        email.setSenderName("Sender Name");
+        email.setSenderEmail("sender@email.com");
+        email.setReplyTo("replyto@email.com");
+        email.setRecipient(recipient);
+        email.setSubject("Test subject");
+        email.setContent("<p>This is a test content</p>");
+        return email;
+    }
+
+}
@@ -0,0 +1,105 @@
+package teammates.ui.webapi;
+
+import org.apache.http.HttpStatus;
+import org.testng.annotations.Test;
+
+import com.sun.jersey.api.client.ClientHandlerException;
+
+import teammates.common.util.Const;
+import teammates.common.util.EmailType;
+import teammates.common.util.EmailWrapper;
+import teammates.ui.output.MessageOutput;
+import teammates.ui.request.SendEmailRequest;
+
+/**
+ * SUT: {@link SendEmailWorkerAction}.
+ */
+public class SendEmailWorkerActionTest extends BaseActionTest<SendEmailWorkerAction> {
+
+    @Override
+    protected String getActionUri() {
+        return Const.TaskQueue.SEND_EMAIL_WORKER_URL;
+    }
+
+    @Override
+    protected String getRequestMethod() {
+        return POST;
+    }
+
+    @Override
+    @Test
+    protected void testAccessControl() {
+        verifyOnlyAdminCanAccess();
+    }
+
+    @Override
+    @Test
+    public void testExecute() {
+        ______TS("Typical case: email is sent");
+
+        EmailWrapper email = getTypicalEmail("recipient@email.com");
+
+        SendEmailWorkerAction action = getAction(new SendEmailRequest(email));
+        JsonResult result = getJsonResult(action);
+
+        assertEquals("Successful", ((MessageOutput) result.getOutput()).getMessage());
+        verifyNumberOfEmailsSent(1);
+        assertEquals(email.getRecipient(), getEmailsSent().get(0).getRecipient());
+
+        ______TS("Failure case: email fails to send and can be sent when the task is retried");
+
+        EmailWrapper keyedEmail = getTypicalEmail("keyed.recipient@email.com");
+        keyedEmail.setIdempotencyKey("SendEmailWorkerActionTest.failed");
+
+        action = getAction(new SendEmailRequest(keyedEmail));
+        mockEmailSender.failEmailsTo(keyedEmail.getRecipient());
+        result = getJsonResult(action, HttpStatus.SC_BAD_GATEWAY);
+
+        assertEquals("Failure", ((MessageOutput) result.getOutput()).getMessage());
+        verifyNoEmailsSent();
+
+        action = getAction(new SendEmailRequest(keyedEmail));
+        result = getJsonResult(action);
+
+        assertEquals("Successful", ((MessageOutput) result.getOutput()).getMessage());
+        verifyNumberOfEmailsSent(1);
+
+        ______TS("Duplicate case: email with an idempotency key sent recently is not sent again");
+
+        action = getAction(new SendEmailRequest(keyedEmail));
+        result = getJsonResult(action);
+
+        assertEquals("Duplicate email not sent", ((MessageOutput) result.getOutput()).getMessage());
+        verifyNoEmailsSent();
+
+        ______TS("Failure case: email service throws and the email can be sent when the task is retried");
+
+        EmailWrapper timedOutEmail = getTypicalEmail("timed.out.recipient@email.com");
+        timedOutEmail.setIdempotencyKey("SendEmailWorkerActionTest.timedOut");
+
+        SendEmailWorkerAction throwingAction = getAction(new SendEmailRequest(timedOutEmail));
+        mockEmailSender.throwOnEmailsTo(timedOutEmail.getRecipient());
+        assertThrows(ClientHandlerException.class, () -> getJsonResult(throwingAction));
+        verifyNoEmailsSent();
+
+        action = getAction(new SendEmailRequest(timedOutEmail));
+        result = getJsonResult(action);
+
+        assertEquals("Successful", ((MessageOutput) result.getOutput()).getMessage());
+        verifyNumberOfEmailsSent(1);
+        assertEquals(timedOutEmail.getRecipient(), getEmailsSent().get(0).getRecipient());
+    }
+
+    private EmailWrapper getTypicalEmail(String recipient) {
+        EmailWrapper email = new EmailWrapper();
+        email.setType(EmailType.FEEDBACK_SESSION_REMINDER);
+        email.setSenderName("Sender Name");
+        email.setSenderEmail("sender@email.com");
+        email.setReplyTo("replyto@email.com");
+        email.setRecipient(recipient);
+        email.setSubject("Test subject");
+        email.setContent("<p>This is a test content</p>");
+        return email;
+    }
+
+}